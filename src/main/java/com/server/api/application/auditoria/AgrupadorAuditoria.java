@@ -0,0 +1,125 @@
+package com.server.api.application.auditoria;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+/**
+ * Agrupa los accesos exitosos idénticos (mismo usuario, aplicación, acción e IP) que ocurren dentro de
+ * una ventana de tiempo en un solo evento con la cantidad de ocurrencias y las fechas del primero y
+ * del último. Los accesos fallidos nunca se agrupan: pasan de inmediato y de a uno.
+ * <p>
+ * Cada grupo se entrega cuando vence su ventana, contada desde el primer acceso; un acceso posterior
+ * a la ventana cierra el grupo y abre otro. Con la cantidad máxima de grupos abiertos alcanzada,
+ * los accesos nuevos pasan sin agrupar para acotar la memoria.
+ * Los grupos abiertos solo existen en memoria: si el proceso termina sin {@link #vaciar()} se pierden.
+ */
+public class AgrupadorAuditoria {
+
+    private final Duration ventana;
+    private final int maximoGrupos;
+    // En orden de apertura, que aproxima el de vencimiento
+    private final LinkedHashMap<Clave, EventoAuditoria> grupos = new LinkedHashMap<>();
+
+    public AgrupadorAuditoria(Duration ventana, int maximoGrupos) {
+        if (ventana.isNegative() || ventana.isZero() || maximoGrupos < 1) {
+            throw new IllegalArgumentException("La ventana y la cantidad máxima de grupos deben ser positivas");
+        }
+        this.ventana = ventana;
+        this.maximoGrupos = maximoGrupos;
+    }
+
+    /**
+     * Incorpora los eventos a los grupos abiertos.
+     *
+     * @param ahora momento actual, para cerrar los grupos con la ventana vencida
+     * @return eventos listos para escribir: los fallidos, los que no se pudieron agrupar y los grupos cerrados
+     */
+    public synchronized List<EventoAuditoria> agrupar(List<EventoAuditoria> eventos, Instant ahora) {
+        List<EventoAuditoria> listos = new ArrayList<>();
+        for (EventoAuditoria evento : eventos) {
+            if (evento.estado() != EstadoAuditoria.EXITOSO) {
+                listos.add(evento);
+                continue;
+            }
+            Clave clave = Clave.de(evento);
+            EventoAuditoria grupo = grupos.get(clave);
+            if (grupo == null) {
+                if (grupos.size() < maximoGrupos) {
+                    grupos.put(clave, evento);
+                } else {
+                    listos.add(evento);
+                }
+            } else if (Duration.between(grupo.fecha(), evento.fecha()).compareTo(ventana) >= 0) {
+                listos.add(grupos.remove(clave));
+                grupos.put(clave, evento);
+            } else {
+                grupos.put(clave, grupo.agrupar(evento));
+            }
+        }
+        Iterator<EventoAuditoria> abiertos = grupos.values().iterator();
+        while (abiertos.hasNext()) {
+            EventoAuditoria grupo = abiertos.next();
+            if (grupo.fecha().toInstant().plus(ventana).isAfter(ahora)) {
+                break;
+            }
+            listos.add(grupo);
+            abiertos.remove();
+        }
+        return listos;
+    }
+
+    /**
+     * Incorpora un acceso exitoso a su grupo abierto, o le abre uno, sin cerrar ningún grupo.
+     *
+     * @return false si el evento no se puede agrupar sin cerrar un grupo y debe escribirse aparte
+     */
+    public synchronized boolean absorber(EventoAuditoria evento) {
+        if (evento.estado() != EstadoAuditoria.EXITOSO) {
+            return false;
+        }
+        Clave clave = Clave.de(evento);
+        EventoAuditoria grupo = grupos.get(clave);
+        if (grupo == null) {
+            if (grupos.size() >= maximoGrupos) {
+                return false;
+            }
+            grupos.put(clave, evento);
+        } else if (Duration.between(grupo.fecha(), evento.fecha()).compareTo(ventana) >= 0) {
+            return false;
+        } else {
+            grupos.put(clave, grupo.agrupar(evento));
+        }
+        return true;
+    }
+
+    /**
+     * Cierra y entrega todos los grupos abiertos.
+     */
+    public synchronized List<EventoAuditoria> vaciar() {
+        List<EventoAuditoria> abiertos = new ArrayList<>(grupos.values());
+        grupos.clear();
+        return abiertos;
+    }
+
+    /**
+     * Cantidad de grupos abiertos.
+     */
+    public synchronized int grupos() {
+        return grupos.size();
+    }
+
+    private record Clave(UUID usuarioId, String emailUsuario, UUID aplicacionId, UUID accionId, String ipOrigen) {
+
+        static Clave de(EventoAuditoria evento) {
+            return new Clave(evento.usuarioId(), evento.emailUsuario(), evento.aplicacionId(), evento.accionId(),
+                    evento.ipOrigen());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.server.api.application.auditoria;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cola acotada sin bloqueos para varios productores y varios consumidores, sobre un arreglo circular.
+ * Cada casilla lleva un número de secuencia que indica si está libre para el productor de esa vuelta
+ * o lista para su consumidor, de modo que productores y consumidores solo compiten por su propio
+ * contador con una operación CAS y nunca esperan a otro hilo.
+ * La capacidad se redondea a la siguiente potencia de dos.
+ */
+public final class ColaAcotada<E> {
+
+    private final int mascara;
+    private final Object[] elementos;
+    private final AtomicLongArray secuencias;
+    private final AtomicLong siguienteEscritura = new AtomicLong();
+    private final AtomicLong siguienteLectura = new AtomicLong();
+
+    public ColaAcotada(int capacidadMinima) {
+        if (capacidadMinima < 1 || capacidadMinima > (1 << 30)) {
+            throw new IllegalArgumentException("Capacidad fuera de rango: " + capacidadMinima);
+        }
+        int capacidad = Integer.highestOneBit(capacidadMinima);
+        if (capacidad < capacidadMinima) {
+            capacidad <<= 1;
+        }
+        this.mascara = capacidad - 1;
+        this.elementos = new Object[capacidad];
+        this.secuencias = new AtomicLongArray(capacidad);
+        for (int i = 0; i < capacidad; i++) {
+            secuencias.set(i, i);
+        }
+    }
+
+    /**
+     * Agrega el elemento al final de la cola.
+     *
+     * @return false si la cola está llena
+     */
+    public boolean ofrecer(E elemento) {
+        long posicion = siguienteEscritura.get();
+        while (true) {
+            int indice = (int) (posicion & mascara);
+            long diferencia = secuencias.get(indice) - posicion;
+            if (diferencia == 0) {
+                if (siguienteEscritura.compareAndSet(posicion, posicion + 1)) {
+                    elementos[indice] = elemento;
+                    secuencias.set(indice, posicion + 1);
+                    return true;
+                }
+                posicion = siguienteEscritura.get();
+            } else if (diferencia < 0) {
+                return false;
+            } else {
+                posicion = siguienteEscritura.get();
+            }
+        }
+    }
+
+    /**
+     * Extrae el elemento más antiguo.
+     *
+     * @return null si la cola está vacía
+     */
+    @SuppressWarnings("unchecked")
+    public E extraer() {
+        long posicion = siguienteLectura.get();
+        while (true) {
+            int indice = (int) (posicion & mascara);
+            long diferencia = secuencias.get(indice) - (posicion + 1);
+            if (diferencia == 0) {
+                if (siguienteLectura.compareAndSet(posicion, posicion + 1)) {
+                    E elemento = (E) elementos[indice];
+                    elementos[indice] = null;
+                    secuencias.set(indice, posicion + mascara + 1);
+                    return elemento;
+                }
+                posicion = siguienteLectura.get();
+            } else if (diferencia < 0) {
+                return null;
+            } else {
+                posicion = siguienteLectura.get();
+            }
+        }
+    }
+
+    /**
+     * Cantidad aproximada de elementos; puede quedar desfasada mientras otros hilos operan.
+     */
+    public int tamano() {
+        long tamano = siguienteEscritura.get() - siguienteLectura.get();
+        return (int) Math.max(0L, Math.min(tamano, capacidad()));
+    }
+
+    public int capacidad() {
+        return mascara + 1;
+    }
+}
@@ -0,0 +1,57 @@
+package com.server.api.application.auditoria;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posición del último registro entregado en una consulta de auditoría ordenada por
+ * {@code (fecha, id)} descendente. La página siguiente empieza en el primer registro anterior.
+ * Se entrega al cliente como texto opaco: la fecha con precisión de microsegundos, la misma que guarda
+ * la base de datos, y el ID, codificados en base64 URL.
+ */
+public record CursorAuditoria(OffsetDateTime fecha, UUID id) {
+
+    private static final int LONGITUD = Long.BYTES * 3;
+
+    /**
+     * Cursor que apunta al registro indicado.
+     */
+    public static CursorAuditoria de(OffsetDateTime fecha, UUID id) {
+        return new CursorAuditoria(fecha.truncatedTo(ChronoUnit.MICROS).withOffsetSameInstant(ZoneOffset.UTC), id);
+    }
+
+    public String codificar() {
+        Instant instante = fecha.toInstant();
+        ByteBuffer datos = ByteBuffer.allocate(LONGITUD)
+                .putLong(Math.addExact(Math.multiplyExact(instante.getEpochSecond(), 1_000_000L),
+                        instante.getNano() / 1_000L))
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(datos.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException si el texto no es un cursor válido
+     */
+    public static CursorAuditoria decodificar(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        if (bytes.length != LONGITUD) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        ByteBuffer datos = ByteBuffer.wrap(bytes);
+        long micros = datos.getLong();
+        Instant instante = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                Math.floorMod(micros, 1_000_000L) * 1_000L);
+        return new CursorAuditoria(instante.atOffset(ZoneOffset.UTC), new UUID(datos.getLong(), datos.getLong()));
+    }
+}
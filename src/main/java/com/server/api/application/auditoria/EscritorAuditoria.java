@@ -0,0 +1,12 @@
+package com.server.api.application.auditoria;
+
+import java.util.List;
+
+/**
+ * Persiste lotes de eventos de auditoría.
+ * Cada llamada escribe el lote completo en una sola transacción o lanza una excepción sin escribir ninguno.
+ */
+public interface EscritorAuditoria {
+
+    void escribir(List<EventoAuditoria> eventos);
+}
@@ -0,0 +1,58 @@
+package com.server.api.application.auditoria;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Escritor de auditoría que inserta cada lote con un batch JDBC en una sola transacción.
+ * No usa JPA: los eventos no necesitan contexto de persistencia y el batch evita un viaje
+ * a la base de datos por fila.
+ * El estado se guarda con su valor en minúsculas, que es el que admite la restricción de la tabla.
+ * La fecha del último acceso solo se guarda en los eventos que agrupan varios.
+ */
+public class EscritorAuditoriaJdbc implements EscritorAuditoria {
+
+    private static final String INSERTAR = "INSERT INTO auditoria_accesos (id, fecha, usuario_id, email_usuario, "
+            + "aplicacion_id, accion_id, ip_origen, informacion_dispositivo, mensaje, estado, created_at, updated_at, "
+            + "ocurrencias, fecha_ultima) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public EscritorAuditoriaJdbc(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void escribir(List<EventoAuditoria> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        Timestamp ahora = Timestamp.from(Instant.now());
+        transactionTemplate.executeWithoutResult(estado ->
+                jdbcTemplate.batchUpdate(INSERTAR, eventos, eventos.size(), (sentencia, evento) -> {
+                    sentencia.setObject(1, evento.id());
+                    sentencia.setTimestamp(2, Timestamp.from(evento.fecha().toInstant()));
+                    sentencia.setObject(3, evento.usuarioId(), Types.OTHER);
+                    sentencia.setString(4, evento.emailUsuario());
+                    sentencia.setObject(5, evento.aplicacionId());
+                    sentencia.setObject(6, evento.accionId());
+                    sentencia.setString(7, evento.ipOrigen());
+                    sentencia.setString(8, evento.informacionDispositivo());
+                    sentencia.setString(9, evento.mensaje());
+                    sentencia.setString(10, evento.estado().getValor());
+                    sentencia.setTimestamp(11, ahora);
+                    sentencia.setTimestamp(12, ahora);
+                    sentencia.setInt(13, evento.ocurrencias());
+                    sentencia.setTimestamp(14, evento.ocurrencias() > 1
+                            ? Timestamp.from(evento.fechaUltima().toInstant())
+                            : null);
+                }));
+    }
+}
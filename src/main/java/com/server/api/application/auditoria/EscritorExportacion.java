@@ -0,0 +1,88 @@
+package com.server.api.application.auditoria;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.api.domain.dto.auditoria.AuditoriaAccesoResponse;
+
+/**
+ * Escribe registros de auditoría de a uno en el formato de exportación, sin retenerlos.
+ * En CSV los textos van siempre entre comillas y los valores nulos quedan como campo vacío;
+ * en NDJSON cada registro se serializa igual que en la API de consulta.
+ */
+public class EscritorExportacion {
+
+    static final String ENCABEZADO_CSV = "id,fecha,usuario_id,email_usuario,aplicacion_id,accion_id,"
+            + "ip_origen,informacion_dispositivo,mensaje,estado,ocurrencias,fecha_ultima\n";
+
+    private final FormatoExportacion formato;
+    private final Writer salida;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder fila = new StringBuilder(512);
+
+    public EscritorExportacion(FormatoExportacion formato, Writer salida, ObjectMapper objectMapper) {
+        this.formato = formato;
+        this.salida = salida;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Escribe lo que va antes del primer registro, si el formato lo requiere.
+     */
+    public void iniciar() throws IOException {
+        if (formato == FormatoExportacion.CSV) {
+            salida.write(ENCABEZADO_CSV);
+        }
+    }
+
+    public void escribir(AuditoriaAccesoResponse registro) throws IOException {
+        if (formato == FormatoExportacion.NDJSON) {
+            // writeValueAsString evita que Jackson cierre la salida compartida
+            salida.write(objectMapper.writeValueAsString(registro));
+            salida.write('\n');
+            return;
+        }
+        fila.setLength(0);
+        agregar(registro.id());
+        agregar(registro.fecha());
+        agregar(registro.usuarioId());
+        agregarTexto(registro.emailUsuario());
+        agregar(registro.aplicacionId());
+        agregar(registro.accionId());
+        agregarTexto(registro.ipOrigen());
+        agregarTexto(registro.informacionDispositivo());
+        agregarTexto(registro.mensaje());
+        agregar(registro.estado());
+        agregar(registro.ocurrencias());
+        agregar(registro.fechaUltima());
+        fila.setCharAt(fila.length() - 1, '\n');
+        salida.append(fila);
+    }
+
+    private void agregar(Object valor) {
+        if (valor instanceof OffsetDateTime fecha) {
+            fila.append(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(fecha));
+        } else if (valor != null) {
+            fila.append(valor);
+        }
+        fila.append(',');
+    }
+
+    private void agregarTexto(String valor) {
+        if (valor != null) {
+            fila.append('"');
+            for (int i = 0; i < valor.length(); i++) {
+                char caracter = valor.charAt(i);
+                if (caracter == '"') {
+                    fila.append('"');
+                }
+                fila.append(caracter);
+            }
+            fila.append('"');
+        }
+        fila.append(',');
+    }
+}
@@ -0,0 +1,72 @@
+package com.server.api.application.auditoria;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+/**
+ * Acceso a registrar en {@code auditoria_accesos}.
+ * Es inmutable y no referencia entidades, para poder encolarse y escribirse fuera de la
+ * transacción y del hilo que lo originó.
+ * Un evento puede representar varios accesos idénticos agrupados; en ese caso {@code fecha} es la del
+ * primero y {@code fechaUltima} la del último.
+ *
+ * @param usuarioId usuario autenticado; null en intentos fallidos sin usuario conocido
+ * @param ocurrencias cantidad de accesos que representa
+ * @param fechaUltima fecha del último acceso; igual a {@code fecha} si representa uno solo
+ */
+public record EventoAuditoria(
+        UUID id,
+        OffsetDateTime fecha,
+        UUID usuarioId,
+        String emailUsuario,
+        UUID aplicacionId,
+        UUID accionId,
+        String ipOrigen,
+        String informacionDispositivo,
+        String mensaje,
+        EstadoAuditoria estado,
+        int ocurrencias,
+        OffsetDateTime fechaUltima
+) {
+
+    public EventoAuditoria {
+        if (ocurrencias < 1) {
+            throw new IllegalArgumentException("Un evento de auditoría representa al menos un acceso");
+        }
+        if (fechaUltima == null) {
+            fechaUltima = fecha;
+        }
+    }
+
+    /**
+     * Evento de un único acceso.
+     */
+    public EventoAuditoria(UUID id, OffsetDateTime fecha, UUID usuarioId, String emailUsuario, UUID aplicacionId,
+                           UUID accionId, String ipOrigen, String informacionDispositivo, String mensaje,
+                           EstadoAuditoria estado) {
+        this(id, fecha, usuarioId, emailUsuario, aplicacionId, accionId, ipOrigen, informacionDispositivo, mensaje,
+                estado, 1, fecha);
+    }
+
+    /**
+     * Crea el evento con un ID nuevo y la fecha actual.
+     */
+    public static EventoAuditoria nuevo(UUID usuarioId, String emailUsuario, UUID aplicacionId, UUID accionId,
+                                        String ipOrigen, String informacionDispositivo, String mensaje,
+                                        EstadoAuditoria estado) {
+        return new EventoAuditoria(UUID.randomUUID(), OffsetDateTime.now(), usuarioId, emailUsuario, aplicacionId,
+                accionId, ipOrigen, informacionDispositivo, mensaje, estado);
+    }
+
+    /**
+     * Evento que representa los accesos de este y del otro. Conserva el ID y los datos descriptivos de este.
+     */
+    public EventoAuditoria agrupar(EventoAuditoria otro) {
+        OffsetDateTime primera = otro.fecha.isBefore(fecha) ? otro.fecha : fecha;
+        OffsetDateTime ultima = otro.fechaUltima.isAfter(fechaUltima) ? otro.fechaUltima : fechaUltima;
+        return new EventoAuditoria(id, primera, usuarioId, emailUsuario, aplicacionId, accionId, ipOrigen,
+                informacionDispositivo, mensaje, estado, ocurrencias + otro.ocurrencias, ultima);
+    }
+}
@@ -0,0 +1,18 @@
+package com.server.api.application.auditoria;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exportación de auditoría ya validada, lista para escribirse en la salida.
+ */
+@FunctionalInterface
+public interface ExportacionAuditoria {
+
+    /**
+     * Escribe todos los registros a medida que se leen de la base de datos.
+     *
+     * @return cantidad de registros escritos
+     */
+    long escribir(OutputStream salida) throws IOException;
+}
@@ -0,0 +1,11 @@
+package com.server.api.application.auditoria;
+
+/**
+ * Indica que ya se transmite la cantidad máxima de exportaciones de auditoría simultáneas.
+ */
+public class ExportacionesOcupadasException extends RuntimeException {
+
+    public ExportacionesOcupadasException(int maximo) {
+        super("Ya hay " + maximo + " exportaciones de auditoría en curso; reintente más tarde");
+    }
+}
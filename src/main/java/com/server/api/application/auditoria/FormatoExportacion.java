@@ -0,0 +1,59 @@
+package com.server.api.application.auditoria;
+
+import java.util.Locale;
+
+/**
+ * Formatos en los que se puede exportar la auditoría de accesos.
+ */
+public enum FormatoExportacion {
+
+    /**
+     * Valores separados por coma con una fila de encabezado.
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Un objeto JSON por línea.
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String tipoContenido;
+    private final String extension;
+
+    FormatoExportacion(String tipoContenido, String extension) {
+        this.tipoContenido = tipoContenido;
+        this.extension = extension;
+    }
+
+    public String getTipoContenido() {
+        return tipoContenido;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Formato por su nombre, sin distinguir mayúsculas.
+     *
+     * @throws IllegalArgumentException si el formato no existe
+     */
+    public static FormatoExportacion deNombre(String nombre) {
+        for (FormatoExportacion formato : values()) {
+            if (formato.name().equalsIgnoreCase(nombre)) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportación no soportado: " + nombre
+                + ". Formatos disponibles: " + String.join(", ", nombres()));
+    }
+
+    private static String[] nombres() {
+        FormatoExportacion[] formatos = values();
+        String[] nombres = new String[formatos.length];
+        for (int i = 0; i < formatos.length; i++) {
+            nombres[i] = formatos[i].name().toLowerCase(Locale.ROOT);
+        }
+        return nombres;
+    }
+}
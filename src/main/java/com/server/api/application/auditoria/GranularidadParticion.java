@@ -0,0 +1,43 @@
+package com.server.api.application.auditoria;
+
+import java.time.LocalDate;
+
+/**
+ * Período que cubre cada partición de {@code auditoria_accesos}. Los períodos se calculan en UTC.
+ */
+public enum GranularidadParticion {
+
+    DIARIA {
+        @Override
+        public LocalDate inicio(LocalDate fecha) {
+            return fecha;
+        }
+
+        @Override
+        public LocalDate siguiente(LocalDate inicio) {
+            return inicio.plusDays(1);
+        }
+    },
+
+    MENSUAL {
+        @Override
+        public LocalDate inicio(LocalDate fecha) {
+            return fecha.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate siguiente(LocalDate inicio) {
+            return inicio.plusMonths(1);
+        }
+    };
+
+    /**
+     * Primer día del período que contiene la fecha.
+     */
+    public abstract LocalDate inicio(LocalDate fecha);
+
+    /**
+     * Primer día del período posterior al que empieza en {@code inicio}.
+     */
+    public abstract LocalDate siguiente(LocalDate inicio);
+}
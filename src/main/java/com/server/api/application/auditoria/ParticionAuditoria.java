@@ -0,0 +1,88 @@
+package com.server.api.application.auditoria;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partición de {@code auditoria_accesos} que cubre las fechas UTC de {@code desde} (incluida)
+ * a {@code hasta} (excluida).
+ * El nombre codifica el período: {@code auditoria_accesos_p2025_03} para un mes,
+ * {@code auditoria_accesos_p2025_03_14} para un día y {@code auditoria_accesos_p2025_03_17_a_2025_04_01}
+ * para un puente de rango arbitrario, de modo que el rango se deduce del nombre.
+ */
+public record ParticionAuditoria(String nombre, LocalDate desde, LocalDate hasta) {
+
+    public static final String TABLA = "auditoria_accesos";
+
+    private static final Pattern NOMBRE = Pattern.compile(
+            TABLA + "_p(\\d{4})_(\\d{2})(?:_(\\d{2})(?:_a_(\\d{4})_(\\d{2})_(\\d{2}))?)?");
+
+    /**
+     * Partición del período de la granularidad que contiene la fecha.
+     */
+    public static ParticionAuditoria de(GranularidadParticion granularidad, LocalDate fecha) {
+        LocalDate desde = granularidad.inicio(fecha);
+        String nombre = granularidad == GranularidadParticion.DIARIA
+                ? String.format("%s_p%04d_%02d_%02d", TABLA, desde.getYear(), desde.getMonthValue(), desde.getDayOfMonth())
+                : String.format("%s_p%04d_%02d", TABLA, desde.getYear(), desde.getMonthValue());
+        return new ParticionAuditoria(nombre, desde, granularidad.siguiente(desde));
+    }
+
+    /**
+     * Partición puente que cubre un rango que no coincide con un período, como el que queda sin cubrir
+     * al cambiar la granularidad entre particiones ya creadas.
+     */
+    public static ParticionAuditoria puente(LocalDate desde, LocalDate hasta) {
+        if (!desde.isBefore(hasta)) {
+            throw new IllegalArgumentException("Rango de partición vacío: " + desde + " a " + hasta);
+        }
+        String nombre = String.format("%s_p%04d_%02d_%02d_a_%04d_%02d_%02d", TABLA,
+                desde.getYear(), desde.getMonthValue(), desde.getDayOfMonth(),
+                hasta.getYear(), hasta.getMonthValue(), hasta.getDayOfMonth());
+        return new ParticionAuditoria(nombre, desde, hasta);
+    }
+
+    /**
+     * Reconstruye la partición a partir de su nombre; vacío si el nombre no sigue la convención,
+     * en cuyo caso la partición no la administra este servicio.
+     */
+    public static Optional<ParticionAuditoria> deNombre(String nombre) {
+        Matcher coincidencia = NOMBRE.matcher(nombre);
+        if (!coincidencia.matches()) {
+            return Optional.empty();
+        }
+        if (coincidencia.group(4) != null) {
+            return puenteDeNombre(coincidencia);
+        }
+        int anio = Integer.parseInt(coincidencia.group(1));
+        int mes = Integer.parseInt(coincidencia.group(2));
+        GranularidadParticion granularidad = coincidencia.group(3) != null
+                ? GranularidadParticion.DIARIA
+                : GranularidadParticion.MENSUAL;
+        int dia = coincidencia.group(3) != null ? Integer.parseInt(coincidencia.group(3)) : 1;
+        ParticionAuditoria particion = de(granularidad, LocalDate.of(anio, mes, dia));
+        return particion.nombre().equals(nombre) ? Optional.of(particion) : Optional.empty();
+    }
+
+    private static Optional<ParticionAuditoria> puenteDeNombre(Matcher coincidencia) {
+        try {
+            LocalDate desde = LocalDate.of(Integer.parseInt(coincidencia.group(1)),
+                    Integer.parseInt(coincidencia.group(2)), Integer.parseInt(coincidencia.group(3)));
+            LocalDate hasta = LocalDate.of(Integer.parseInt(coincidencia.group(4)),
+                    Integer.parseInt(coincidencia.group(5)), Integer.parseInt(coincidencia.group(6)));
+            return desde.isBefore(hasta) ? Optional.of(puente(desde, hasta)) : Optional.empty();
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Indica si los rangos de ambas particiones se superponen.
+     */
+    public boolean superpone(ParticionAuditoria otra) {
+        return desde.isBefore(otra.hasta()) && otra.desde().isBefore(hasta);
+    }
+}
@@ -0,0 +1,82 @@
+package com.server.api.application.auditoria;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cambios necesarios sobre las particiones de {@code auditoria_accesos}: las que faltan para cubrir
+ * el período actual y los siguientes, y las que ya quedaron fuera de la retención.
+ * Las particiones existentes cuyo nombre no sigue la convención no se crean ni se vencen.
+ * <p>
+ * Tras un cambio de granularidad un período puede quedar cubierto solo en parte por particiones de la
+ * granularidad anterior; como un período no puede crearse superpuesto, los tramos que quedan libres
+ * se cubren con particiones puente. Los tramos ya fuera de la retención no se vuelven a cubrir.
+ */
+public record PlanParticiones(List<ParticionAuditoria> crear, List<ParticionAuditoria> vencidas) {
+
+    /**
+     * @param hoy fecha UTC actual
+     * @param adelanto cantidad de períodos posteriores al actual que deben existir
+     * @param retencionDias días completos que se conservan antes de hoy; 0 conserva todo
+     * @param existentes nombres de las particiones actuales
+     */
+    public static PlanParticiones calcular(LocalDate hoy, GranularidadParticion granularidad, int adelanto,
+                                           int retencionDias, Collection<String> existentes) {
+        List<ParticionAuditoria> actuales = existentes.stream()
+                .map(ParticionAuditoria::deNombre)
+                .flatMap(Optional::stream)
+                .toList();
+
+        LocalDate limite = retencionDias > 0 ? hoy.minusDays(retencionDias) : LocalDate.MIN;
+        List<ParticionAuditoria> crear = new ArrayList<>();
+        LocalDate desde = granularidad.inicio(hoy);
+        for (int i = 0; i <= adelanto; i++) {
+            ParticionAuditoria particion = ParticionAuditoria.de(granularidad, desde);
+            crear.addAll(cubrir(particion, actuales, limite));
+            desde = particion.hasta();
+        }
+
+        List<ParticionAuditoria> vencidas = new ArrayList<>();
+        if (retencionDias > 0) {
+            for (ParticionAuditoria particion : actuales) {
+                if (!particion.hasta().isAfter(limite)) {
+                    vencidas.add(particion);
+                }
+            }
+        }
+        return new PlanParticiones(List.copyOf(crear), List.copyOf(vencidas));
+    }
+
+    /**
+     * Particiones que faltan para cubrir el período sin superponerse a las existentes: el período completo
+     * si está libre, o un puente por cada tramo libre posterior al límite de retención.
+     */
+    private static List<ParticionAuditoria> cubrir(ParticionAuditoria periodo, List<ParticionAuditoria> actuales,
+                                                   LocalDate limite) {
+        List<ParticionAuditoria> ocupadas = actuales.stream()
+                .filter(periodo::superpone)
+                .sorted(Comparator.comparing(ParticionAuditoria::desde))
+                .toList();
+        if (ocupadas.isEmpty()) {
+            return List.of(periodo);
+        }
+        List<ParticionAuditoria> puentes = new ArrayList<>();
+        LocalDate cursor = periodo.desde().isAfter(limite) ? periodo.desde() : limite;
+        for (ParticionAuditoria ocupada : ocupadas) {
+            if (cursor.isBefore(ocupada.desde())) {
+                puentes.add(ParticionAuditoria.puente(cursor, ocupada.desde()));
+            }
+            if (ocupada.hasta().isAfter(cursor)) {
+                cursor = ocupada.hasta();
+            }
+        }
+        if (cursor.isBefore(periodo.hasta())) {
+            puentes.add(ParticionAuditoria.puente(cursor, periodo.hasta()));
+        }
+        return puentes;
+    }
+}
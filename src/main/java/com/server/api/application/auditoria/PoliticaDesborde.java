@@ -0,0 +1,35 @@
+package com.server.api.application.auditoria;
+
+/**
+ * Qué hacer con un evento de auditoría cuando la cola de escritura está llena.
+ */
+public enum PoliticaDesborde {
+
+    /**
+     * Se descarta el evento nuevo; quien registra nunca espera.
+     */
+    DESCARTAR_NUEVO,
+
+    /**
+     * Se descarta el evento más antiguo de la cola para hacer lugar al nuevo.
+     */
+    DESCARTAR_ANTIGUO,
+
+    /**
+     * Quien registra espera hasta que haya lugar, a lo sumo la espera máxima configurada;
+     * si no se libera lugar a tiempo el evento se descarta.
+     */
+    ESPERAR,
+
+    /**
+     * Quien registra escribe el evento directamente en la base de datos, sin pasar por la cola.
+     * No se pierden eventos, a costa de la latencia de la petición que desborda.
+     */
+    ESCRIBIR_DIRECTO,
+
+    /**
+     * Se guarda el evento en el spool en disco, que se reproduce cuando la base de datos se pone al día.
+     * Quien registra no espera a la base de datos ni al disco; si no hay spool o está lleno, se descarta.
+     */
+    ESCRIBIR_SPOOL
+}
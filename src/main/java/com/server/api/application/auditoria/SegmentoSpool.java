@@ -0,0 +1,232 @@
+package com.server.api.application.auditoria;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Archivo de tamaño fijo del spool de auditoría, mapeado en memoria y escrito solo al final.
+ * <p>
+ * Formato: un encabezado con la marca del formato y la posición hasta la que ya se reprodujo, seguido
+ * de registros {@code [longitud][crc32c][datos]}. Una longitud cero marca el fin de los datos, ya que
+ * el archivo nuevo está lleno de ceros. Al abrir un segmento existente se recorren los registros
+ * hasta el primero incompleto o con checksum inválido, que es donde se corta la escritura tras una caída.
+ * No es seguro para uso concurrente: {@link SpoolAuditoria} serializa el acceso.
+ */
+@Slf4j
+final class SegmentoSpool {
+
+    static final int MAGIA = 0x41554453;
+    static final int VERSION = 1;
+    static final int ENCABEZADO = 16;
+    static final int CABECERA_REGISTRO = 8;
+
+    private static final int POSICION_LEIDA = 8;
+    private static final int BLOQUE_PREASIGNACION = 1024 * 1024;
+
+    private final Path archivo;
+    private final FileChannel canal;
+    private final MappedByteBuffer mapa;
+    private int escrito;
+    private int leido;
+    private boolean sucio;
+
+    private SegmentoSpool(Path archivo, FileChannel canal, MappedByteBuffer mapa) {
+        this.archivo = archivo;
+        this.canal = canal;
+        this.mapa = mapa;
+    }
+
+    /**
+     * Crea un segmento vacío del tamaño indicado.
+     */
+    static SegmentoSpool crear(Path archivo, int tamano) throws IOException {
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        SegmentoSpool segmento = new SegmentoSpool(archivo, canal, canal.map(FileChannel.MapMode.READ_WRITE, 0, tamano));
+        segmento.mapa.putInt(0, MAGIA);
+        segmento.mapa.putInt(4, VERSION);
+        segmento.mapa.putLong(POSICION_LEIDA, ENCABEZADO);
+        segmento.escrito = ENCABEZADO;
+        segmento.leido = ENCABEZADO;
+        segmento.sucio = true;
+        return segmento;
+    }
+
+    /**
+     * Asigna en disco todos los bloques del archivo escribiendo ceros, y trae sus páginas a memoria,
+     * para que agregar registros después no espere a que el sistema de archivos reserve espacio.
+     * Solo debe llamarse sobre un segmento recién creado, antes de agregarle registros.
+     */
+    void preasignar() throws IOException {
+        ByteBuffer ceros = ByteBuffer.allocate(BLOQUE_PREASIGNACION);
+        for (long posicion = ENCABEZADO; posicion < mapa.capacity(); posicion += BLOQUE_PREASIGNACION) {
+            ceros.clear().limit((int) Math.min(BLOQUE_PREASIGNACION, mapa.capacity() - posicion));
+            while (ceros.hasRemaining()) {
+                canal.write(ceros, posicion + ceros.position());
+            }
+        }
+        mapa.load();
+    }
+
+    /**
+     * Abre un segmento existente y recupera hasta dónde se escribió y hasta dónde se reprodujo.
+     *
+     * @throws IOException si el archivo no es un segmento de spool
+     */
+    static SegmentoSpool abrir(Path archivo) throws IOException {
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long tamano = canal.size();
+        if (tamano < ENCABEZADO || tamano > Integer.MAX_VALUE) {
+            canal.close();
+            throw new IOException("Tamaño de segmento de spool inválido: " + archivo);
+        }
+        SegmentoSpool segmento = new SegmentoSpool(archivo, canal, canal.map(FileChannel.MapMode.READ_WRITE, 0, tamano));
+        if (segmento.mapa.getInt(0) != MAGIA || segmento.mapa.getInt(4) != VERSION) {
+            segmento.cerrar();
+            throw new IOException("El archivo no es un segmento de spool de auditoría: " + archivo);
+        }
+        segmento.recuperar();
+        return segmento;
+    }
+
+    private void recuperar() {
+        int posicion = ENCABEZADO;
+        int longitud;
+        while ((longitud = longitudEn(posicion)) > 0) {
+            byte[] datos = new byte[longitud];
+            mapa.get(posicion + CABECERA_REGISTRO, datos);
+            if (mapa.getInt(posicion + 4) != checksum(datos)) {
+                log.warn("Registro con checksum inválido en {} (posición {}); se descarta el resto del segmento",
+                        archivo.getFileName(), posicion);
+                break;
+            }
+            posicion += CABECERA_REGISTRO + longitud;
+        }
+        escrito = posicion;
+        long confirmado = mapa.getLong(POSICION_LEIDA);
+        leido = confirmado < ENCABEZADO || confirmado > escrito ? ENCABEZADO : (int) confirmado;
+    }
+
+    /**
+     * Agrega un registro al final.
+     *
+     * @return false si no hay lugar en el segmento
+     */
+    boolean agregar(byte[] datos) {
+        int fin = escrito + CABECERA_REGISTRO + datos.length;
+        if (fin > mapa.capacity()) {
+            return false;
+        }
+        mapa.put(escrito + CABECERA_REGISTRO, datos);
+        mapa.putInt(escrito + 4, checksum(datos));
+        if (fin + 4 <= mapa.capacity()) {
+            // Restos de un registro cortado tras una caída no deben parecer datos válidos
+            mapa.putInt(fin, 0);
+        }
+        // La longitud se escribe al final: hasta entonces el registro no existe para una lectura
+        mapa.putInt(escrito, datos.length);
+        escrito = fin;
+        sucio = true;
+        return true;
+    }
+
+    /**
+     * Registros aún no reproducidos, desde el más antiguo.
+     *
+     * @param maximo cantidad máxima de registros
+     */
+    Lectura leer(int maximo) {
+        List<byte[]> registros = new ArrayList<>(Math.min(maximo, 1024));
+        int posicion = leido;
+        while (registros.size() < maximo && posicion < escrito) {
+            int longitud = mapa.getInt(posicion);
+            byte[] datos = new byte[longitud];
+            mapa.get(posicion + CABECERA_REGISTRO, datos);
+            registros.add(datos);
+            posicion += CABECERA_REGISTRO + longitud;
+        }
+        return new Lectura(registros, posicion);
+    }
+
+    /**
+     * Marca como reproducidos los registros hasta la posición indicada.
+     */
+    void confirmar(int hasta) {
+        leido = hasta;
+        mapa.putLong(POSICION_LEIDA, hasta);
+        sucio = true;
+    }
+
+    /**
+     * Indica si el segmento nunca recibió registros.
+     */
+    boolean vacio() {
+        return escrito == ENCABEZADO;
+    }
+
+    /**
+     * Bytes escritos que aún no se reprodujeron.
+     */
+    int pendientes() {
+        return escrito - leido;
+    }
+
+    Path archivo() {
+        return archivo;
+    }
+
+    /**
+     * Indica si hubo cambios desde la llamada anterior, y los da por sincronizados.
+     */
+    boolean tomarCambios() {
+        boolean cambios = sucio;
+        sucio = false;
+        return cambios;
+    }
+
+    /**
+     * Fuerza al disco las páginas modificadas. Puede llamarse mientras se agregan registros.
+     */
+    void forzar() {
+        mapa.force();
+    }
+
+    void cerrar() throws IOException {
+        forzar();
+        canal.close();
+    }
+
+    void eliminar() throws IOException {
+        canal.close();
+        Files.deleteIfExists(archivo);
+    }
+
+    private int longitudEn(int posicion) {
+        if (posicion + CABECERA_REGISTRO > mapa.capacity()) {
+            return 0;
+        }
+        int longitud = mapa.getInt(posicion);
+        return longitud > 0 && posicion + CABECERA_REGISTRO + longitud <= mapa.capacity() ? longitud : 0;
+    }
+
+    private static int checksum(byte[] datos) {
+        CRC32C crc = new CRC32C();
+        crc.update(datos);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Registros leídos y la posición que sigue al último de ellos.
+     */
+    record Lectura(List<byte[]> registros, int hasta) {}
+}
@@ -0,0 +1,437 @@
+package com.server.api.application.auditoria;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Spool en disco para los eventos de auditoría que no se pueden escribir en la base de datos a tiempo.
+ * Los eventos se agregan al final de segmentos de tamaño fijo mapeados en memoria, por lo que agregar
+ * cuesta una copia en memoria y no espera al disco; el sistema operativo persiste las páginas y
+ * {@link #sincronizar()} las fuerza periódicamente. Cuando el segmento actual se llena se pasa al
+ * siguiente, que un hilo propio ya creó, asignó en disco y mapeó mientras se llenaba el actual, de modo
+ * que quien agrega no paga esa preparación; solo si la reserva falló se crea en el momento. La reserva
+ * cuenta dentro del tamaño máximo y, si queda sin usar al cerrar, se retoma al arrancar.
+ * <p>
+ * La reproducción entrega los eventos en el orden en que se agregaron y avanza la posición confirmada
+ * de cada segmento solo después de que el destino los escribió; los segmentos reproducidos por completo
+ * se eliminan. Al arrancar se retoman los segmentos que quedaron en el directorio. Un evento puede
+ * reproducirse dos veces si el proceso se detiene entre la escritura y la confirmación.
+ */
+@Slf4j
+public class SpoolAuditoria implements Closeable {
+
+    private static final Pattern NOMBRE_SEGMENTO = Pattern.compile("auditoria-(\\d{20})\\.spool");
+
+    private final Path directorio;
+    private final int tamanoSegmento;
+    private final int maximoSegmentos;
+    private final ArrayDeque<SegmentoSpool> segmentos = new ArrayDeque<>();
+    private final ReentrantLock bloqueo = new ReentrantLock();
+    private final ReentrantLock bloqueoReproduccion = new ReentrantLock();
+    private final AtomicLong bytesPendientes = new AtomicLong();
+    private final ExecutorService preparacion = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("auditoria-spool-reserva").daemon(true).factory());
+    private long siguienteSecuencia;
+
+    /**
+     * Próximo segmento, en preparación o listo; null si no hay. Se accede con {@code bloqueo} tomado.
+     */
+    private CompletableFuture<SegmentoSpool> reserva;
+
+    /**
+     * @param tamanoSegmento tamaño de cada archivo de segmento, en bytes
+     * @param tamanoMaximo espacio máximo en disco; al alcanzarlo se rechazan los eventos nuevos
+     */
+    public SpoolAuditoria(Path directorio, int tamanoSegmento, long tamanoMaximo) throws IOException {
+        if (tamanoSegmento <= SegmentoSpool.ENCABEZADO || tamanoMaximo < tamanoSegmento) {
+            throw new IllegalArgumentException("El tamaño máximo del spool debe alcanzar al menos para un segmento");
+        }
+        this.directorio = directorio;
+        this.tamanoSegmento = tamanoSegmento;
+        this.maximoSegmentos = (int) Math.min(Integer.MAX_VALUE, tamanoMaximo / tamanoSegmento);
+        Files.createDirectories(directorio);
+        recuperar();
+        bloqueo.lock();
+        try {
+            prepararReserva();
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Agrega los eventos al final del spool, en orden.
+     *
+     * @return cantidad de eventos agregados; menor que la recibida si el spool alcanzó su tamaño máximo
+     */
+    public int agregar(List<EventoAuditoria> eventos) {
+        List<byte[]> registros = new ArrayList<>(eventos.size());
+        for (EventoAuditoria evento : eventos) {
+            registros.add(codificar(evento));
+        }
+        bloqueo.lock();
+        try {
+            int agregados = 0;
+            for (byte[] registro : registros) {
+                if (!agregarRegistro(registro)) {
+                    break;
+                }
+                bytesPendientes.addAndGet(SegmentoSpool.CABECERA_REGISTRO + registro.length);
+                agregados++;
+            }
+            return agregados;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error creando un segmento del spool de auditoría", e);
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Entrega al destino el siguiente lote de eventos del spool, del más antiguo al más reciente.
+     * Si el destino lanza una excepción el lote queda pendiente y se vuelve a entregar en la próxima llamada.
+     * Solo una reproducción avanza a la vez; las llamadas concurrentes no hacen nada.
+     *
+     * @param maximo cantidad máxima de eventos del lote
+     * @return cantidad de eventos reproducidos
+     */
+    public int reproducir(int maximo, Consumer<List<EventoAuditoria>> destino) {
+        if (bytesPendientes.get() == 0 || !bloqueoReproduccion.tryLock()) {
+            return 0;
+        }
+        try {
+            SegmentoSpool segmento;
+            SegmentoSpool.Lectura lectura;
+            bloqueo.lock();
+            try {
+                segmento = segmentoConPendientes();
+                if (segmento == null) {
+                    return 0;
+                }
+                lectura = segmento.leer(maximo);
+            } finally {
+                bloqueo.unlock();
+            }
+
+            List<EventoAuditoria> eventos = new ArrayList<>(lectura.registros().size());
+            for (byte[] registro : lectura.registros()) {
+                try {
+                    eventos.add(decodificar(registro));
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Evento ilegible en {}; se descarta", segmento.archivo().getFileName(), e);
+                }
+            }
+            if (!eventos.isEmpty()) {
+                destino.accept(eventos);
+            }
+
+            bloqueo.lock();
+            try {
+                int antes = segmento.pendientes();
+                segmento.confirmar(lectura.hasta());
+                bytesPendientes.addAndGet(segmento.pendientes() - antes);
+                if (segmento.pendientes() == 0 && segmento != segmentos.peekLast()) {
+                    retirar(segmento);
+                }
+            } finally {
+                bloqueo.unlock();
+            }
+            return eventos.size();
+        } finally {
+            bloqueoReproduccion.unlock();
+        }
+    }
+
+    /**
+     * Bytes de eventos en el spool que aún no se reprodujeron.
+     */
+    public long bytesPendientes() {
+        return bytesPendientes.get();
+    }
+
+    /**
+     * Fuerza al disco los cambios de los segmentos. No se llama al agregar para no sumar la espera
+     * del disco a quien registra, y la espera ocurre fuera del bloqueo para no demorar a quien agrega.
+     */
+    public void sincronizar() {
+        List<SegmentoSpool> modificados = new ArrayList<>();
+        bloqueo.lock();
+        try {
+            for (SegmentoSpool segmento : segmentos) {
+                if (segmento.tomarCambios()) {
+                    modificados.add(segmento);
+                }
+            }
+        } finally {
+            bloqueo.unlock();
+        }
+        for (SegmentoSpool segmento : modificados) {
+            segmento.forzar();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        bloqueo.lock();
+        try {
+            for (SegmentoSpool segmento : segmentos) {
+                segmento.cerrar();
+            }
+            segmentos.clear();
+            // La reserva queda vacía en el directorio y se retoma como reserva al arrancar
+            SegmentoSpool reservado = tomarReserva();
+            if (reservado != null) {
+                reservado.cerrar();
+            }
+        } finally {
+            bloqueo.unlock();
+            preparacion.shutdownNow();
+        }
+    }
+
+    private boolean agregarRegistro(byte[] registro) throws IOException {
+        SegmentoSpool actual = segmentos.peekLast();
+        if (actual != null && actual.agregar(registro)) {
+            return true;
+        }
+        if (SegmentoSpool.ENCABEZADO + SegmentoSpool.CABECERA_REGISTRO + registro.length > tamanoSegmento) {
+            log.warn("Evento de auditoría de {} bytes no cabe en un segmento del spool; se descarta", registro.length);
+            return false;
+        }
+        if (segmentos.size() >= maximoSegmentos) {
+            return false;
+        }
+        SegmentoSpool nuevo = tomarReserva();
+        if (nuevo == null) {
+            nuevo = SegmentoSpool.crear(directorio.resolve(nombre(siguienteSecuencia++)), tamanoSegmento);
+            log.debug("Segmento de spool de auditoría creado sin reserva: {}", nuevo.archivo().getFileName());
+        }
+        segmentos.addLast(nuevo);
+        prepararReserva();
+        return nuevo.agregar(registro);
+    }
+
+    /**
+     * Empieza a preparar el próximo segmento en segundo plano si no hay uno y el tamaño máximo lo permite.
+     * El nombre se asigna aquí, bajo el bloqueo, para que la reserva siga en orden al segmento actual.
+     */
+    private void prepararReserva() {
+        if (reserva != null || segmentos.size() >= maximoSegmentos) {
+            return;
+        }
+        Path archivo = directorio.resolve(nombre(siguienteSecuencia++));
+        reserva = CompletableFuture.supplyAsync(() -> {
+            try {
+                SegmentoSpool segmento = SegmentoSpool.crear(archivo, tamanoSegmento);
+                try {
+                    segmento.preasignar();
+                } catch (IOException e) {
+                    segmento.eliminar();
+                    throw e;
+                }
+                log.debug("Segmento de spool de auditoría reservado: {}", archivo.getFileName());
+                return segmento;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, preparacion);
+    }
+
+    /**
+     * Entrega la reserva, esperándola si aún se está preparando; null si no hay o si falló.
+     */
+    private SegmentoSpool tomarReserva() {
+        CompletableFuture<SegmentoSpool> pendiente = reserva;
+        reserva = null;
+        if (pendiente == null) {
+            return null;
+        }
+        try {
+            return pendiente.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("No se pudo preparar un segmento de reserva del spool de auditoría", e);
+            return null;
+        }
+    }
+
+    /**
+     * Segmento más antiguo con eventos sin reproducir; retira los ya reproducidos que encuentra antes.
+     */
+    private SegmentoSpool segmentoConPendientes() {
+        SegmentoSpool segmento;
+        while ((segmento = segmentos.peekFirst()) != null) {
+            if (segmento.pendientes() > 0) {
+                return segmento;
+            }
+            if (segmento == segmentos.peekLast()) {
+                return null;
+            }
+            retirar(segmento);
+        }
+        return null;
+    }
+
+    private void retirar(SegmentoSpool segmento) {
+        segmentos.remove(segmento);
+        try {
+            segmento.eliminar();
+            log.debug("Segmento de spool de auditoría reproducido y eliminado: {}", segmento.archivo().getFileName());
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el segmento de spool {}", segmento.archivo(), e);
+        }
+    }
+
+    private void recuperar() throws IOException {
+        TreeMap<Long, Path> archivos = new TreeMap<>();
+        try (Stream<Path> contenido = Files.list(directorio)) {
+            contenido.forEach(archivo -> {
+                Matcher nombre = NOMBRE_SEGMENTO.matcher(archivo.getFileName().toString());
+                if (nombre.matches()) {
+                    archivos.put(Long.parseLong(nombre.group(1)), archivo);
+                }
+            });
+        }
+        // Los segmentos nuevos no reutilizan el nombre de uno ilegible
+        siguienteSecuencia = archivos.isEmpty() ? 0 : archivos.lastKey() + 1;
+        for (var entrada : archivos.entrySet()) {
+            try {
+                SegmentoSpool segmento = SegmentoSpool.abrir(entrada.getValue());
+                if (segmento.vacio() && entrada.getKey().equals(archivos.lastKey())) {
+                    // La reserva que quedó sin usar vuelve a ser la reserva
+                    reserva = CompletableFuture.completedFuture(segmento);
+                    continue;
+                }
+                segmentos.addLast(segmento);
+                bytesPendientes.addAndGet(segmento.pendientes());
+            } catch (IOException e) {
+                log.error("Segmento de spool de auditoría ilegible; se ignora: {}", entrada.getValue(), e);
+            }
+        }
+        if (bytesPendientes.get() > 0) {
+            log.info("Spool de auditoría con {} bytes pendientes en {} segmentos", bytesPendientes.get(),
+                    segmentos.size());
+        }
+    }
+
+    private static String nombre(long secuencia) {
+        return String.format("auditoria-%020d.spool", secuencia);
+    }
+
+    static byte[] codificar(EventoAuditoria evento) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream salida = new DataOutputStream(bytes)) {
+            escribirUuid(salida, evento.id());
+            escribirFecha(salida, evento.fecha());
+            escribirUuid(salida, evento.usuarioId());
+            escribirTexto(salida, evento.emailUsuario());
+            escribirUuid(salida, evento.aplicacionId());
+            escribirUuid(salida, evento.accionId());
+            escribirTexto(salida, evento.ipOrigen());
+            escribirTexto(salida, evento.informacionDispositivo());
+            escribirTexto(salida, evento.mensaje());
+            escribirTexto(salida, evento.estado().getValor());
+            // Campos agregados al final: los registros anteriores, sin ellos, siguen siendo legibles
+            salida.writeInt(evento.ocurrencias());
+            escribirFecha(salida, evento.fechaUltima());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static EventoAuditoria decodificar(byte[] registro) throws IOException {
+        try (DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(registro))) {
+            UUID id = leerUuid(entrada);
+            OffsetDateTime fecha = leerFecha(entrada);
+            UUID usuarioId = leerUuid(entrada);
+            String emailUsuario = leerTexto(entrada);
+            UUID aplicacionId = leerUuid(entrada);
+            UUID accionId = leerUuid(entrada);
+            String ipOrigen = leerTexto(entrada);
+            String informacionDispositivo = leerTexto(entrada);
+            String mensaje = leerTexto(entrada);
+            EstadoAuditoria estado = EstadoAuditoria.deValor(leerTexto(entrada));
+            int ocurrencias = 1;
+            OffsetDateTime fechaUltima = fecha;
+            if (entrada.available() > 0) {
+                ocurrencias = entrada.readInt();
+                fechaUltima = leerFecha(entrada);
+            }
+            return new EventoAuditoria(id, fecha, usuarioId, emailUsuario, aplicacionId, accionId, ipOrigen,
+                    informacionDispositivo, mensaje, estado, ocurrencias, fechaUltima);
+        }
+    }
+
+    private static void escribirFecha(DataOutputStream salida, OffsetDateTime fecha) throws IOException {
+        Instant instante = fecha.toInstant();
+        salida.writeLong(instante.getEpochSecond());
+        salida.writeInt(instante.getNano());
+        salida.writeInt(fecha.getOffset().getTotalSeconds());
+    }
+
+    private static OffsetDateTime leerFecha(DataInputStream entrada) throws IOException {
+        Instant instante = Instant.ofEpochSecond(entrada.readLong(), entrada.readInt());
+        return OffsetDateTime.ofInstant(instante, ZoneOffset.ofTotalSeconds(entrada.readInt()));
+    }
+
+    private static void escribirUuid(DataOutputStream salida, UUID valor) throws IOException {
+        salida.writeBoolean(valor != null);
+        if (valor != null) {
+            salida.writeLong(valor.getMostSignificantBits());
+            salida.writeLong(valor.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID leerUuid(DataInputStream entrada) throws IOException {
+        return entrada.readBoolean() ? new UUID(entrada.readLong(), entrada.readLong()) : null;
+    }
+
+    private static void escribirTexto(DataOutputStream salida, String valor) throws IOException {
+        if (valor == null) {
+            salida.writeInt(-1);
+            return;
+        }
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        salida.writeInt(bytes.length);
+        salida.write(bytes);
+    }
+
+    private static String leerTexto(DataInputStream entrada) throws IOException {
+        int longitud = entrada.readInt();
+        if (longitud < 0) {
+            return null;
+        }
+        return new String(entrada.readNBytes(longitud), StandardCharsets.UTF_8);
+    }
+}
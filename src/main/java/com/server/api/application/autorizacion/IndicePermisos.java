@@ -0,0 +1,418 @@
+package com.server.api.application.autorizacion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Índice inmutable de permisos compilado a partir de aplicaciones, acciones,
+ * tipos de usuario, permisos y asignaciones.
+ * Cada acción recibe un ordinal denso dentro de su aplicación y los permisos de cada
+ * tipo de usuario se guardan como bitset, así que las consultas se resuelven con
+ * búsquedas en mapas y operaciones por palabra, sin acceso a la base de datos.
+ * Cada modificación produce un índice nuevo que comparte las partes no afectadas.
+ */
+public final class IndicePermisos {
+
+    private static final IndicePermisos VACIO = new IndicePermisos(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final Map<String, UUID> aplicacionesPorLlave;
+    private final Map<UUID, CatalogoAplicacion> catalogos;
+    private final Map<UUID, Rol> roles;
+    private final Map<UUID, Set<UUID>> rolesPorUsuario;
+    private final Map<UUID, Long> versiones;
+
+    private IndicePermisos(Map<String, UUID> aplicacionesPorLlave,
+                           Map<UUID, CatalogoAplicacion> catalogos,
+                           Map<UUID, Rol> roles,
+                           Map<UUID, Set<UUID>> rolesPorUsuario,
+                           Map<UUID, Long> versiones) {
+        this.aplicacionesPorLlave = aplicacionesPorLlave;
+        this.catalogos = catalogos;
+        this.roles = roles;
+        this.rolesPorUsuario = rolesPorUsuario;
+        this.versiones = versiones;
+    }
+
+    public static IndicePermisos vacio() {
+        return VACIO;
+    }
+
+    /**
+     * Construye un índice completo.
+     *
+     * @param catalogos catálogo de acciones por aplicación
+     * @param roles tipos de usuario activos con sus permisos codificados
+     * @param rolesPorUsuario tipos de usuario asignados a cada usuario
+     */
+    public static IndicePermisos de(Collection<CatalogoAplicacion> catalogos,
+                                    Collection<Rol> roles,
+                                    Map<UUID, Set<UUID>> rolesPorUsuario) {
+        Map<String, UUID> porLlave = new HashMap<>();
+        Map<UUID, CatalogoAplicacion> porId = new HashMap<>();
+        for (CatalogoAplicacion catalogo : catalogos) {
+            porLlave.put(catalogo.llaveIdentificadora(), catalogo.aplicacionId());
+            porId.put(catalogo.aplicacionId(), catalogo);
+        }
+        Map<UUID, Rol> rolesPorId = new HashMap<>();
+        for (Rol rol : roles) {
+            rolesPorId.put(rol.id(), rol);
+        }
+        Map<UUID, Set<UUID>> asignaciones = new HashMap<>();
+        rolesPorUsuario.forEach((usuarioId, ids) -> asignaciones.put(usuarioId, Set.copyOf(ids)));
+        return new IndicePermisos(Map.copyOf(porLlave), Map.copyOf(porId), Map.copyOf(rolesPorId), Map.copyOf(asignaciones), Map.of());
+    }
+
+    /**
+     * Indica si el usuario puede ejecutar la acción en la aplicación identificada por la llave.
+     * La acción puede indicarse por su ID o por su nombre (sin distinguir mayúsculas).
+     */
+    public boolean permite(UUID usuarioId, String llaveIdentificadora, String accion) {
+        CatalogoAplicacion catalogo = catalogoPorLlave(llaveIdentificadora);
+        if (catalogo == null || accion == null) {
+            return false;
+        }
+        int[] ordinales = catalogo.resolver(accion);
+        if (ordinales.length == 0) {
+            return false;
+        }
+        long[] efectivos = permisosEfectivos(usuarioId, catalogo);
+        for (int ordinal : ordinales) {
+            if (PermisosBitset.contiene(efectivos, ordinal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evalúa varias acciones contra este mismo índice calculando los permisos efectivos una sola vez.
+     * El bit {@code i} del resultado indica si la acción en la posición {@code i} está permitida.
+     */
+    public long[] permiteLote(UUID usuarioId, String llaveIdentificadora, List<String> acciones) {
+        long[] resultado = PermisosBitset.crear(acciones.size());
+        CatalogoAplicacion catalogo = catalogoPorLlave(llaveIdentificadora);
+        if (catalogo == null) {
+            return resultado;
+        }
+        long[] efectivos = permisosEfectivos(usuarioId, catalogo);
+        if (PermisosBitset.cardinalidad(efectivos) == 0) {
+            return resultado;
+        }
+        for (int i = 0; i < acciones.size(); i++) {
+            String accion = acciones.get(i);
+            if (accion == null) {
+                continue;
+            }
+            for (int ordinal : catalogo.resolver(accion)) {
+                if (PermisosBitset.contiene(efectivos, ordinal)) {
+                    PermisosBitset.activar(resultado, i);
+                    break;
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula los permisos efectivos del usuario en la aplicación como la unión (OR)
+     * de los bitsets de sus tipos de usuario en esa aplicación.
+     */
+    public long[] permisosEfectivos(UUID usuarioId, CatalogoAplicacion catalogo) {
+        long[] efectivos = PermisosBitset.crear(catalogo.totalAcciones());
+        for (UUID rolId : rolesPorUsuario.getOrDefault(usuarioId, Set.of())) {
+            Rol rol = roles.get(rolId);
+            if (rol != null && rol.aplicacionId().equals(catalogo.aplicacionId())) {
+                PermisosBitset.unir(efectivos, rol.permisos());
+            }
+        }
+        return efectivos;
+    }
+
+    public CatalogoAplicacion catalogoPorLlave(String llaveIdentificadora) {
+        UUID aplicacionId = llaveIdentificadora != null ? aplicacionesPorLlave.get(llaveIdentificadora) : null;
+        return aplicacionId != null ? catalogos.get(aplicacionId) : null;
+    }
+
+    public CatalogoAplicacion catalogo(UUID aplicacionId) {
+        return catalogos.get(aplicacionId);
+    }
+
+    public Set<UUID> rolesDeUsuario(UUID usuarioId) {
+        return rolesPorUsuario.getOrDefault(usuarioId, Set.of());
+    }
+
+    /**
+     * Tipos de usuario del usuario que pertenecen a la aplicación, ordenados por ID.
+     */
+    public List<Rol> rolesDeUsuario(UUID usuarioId, UUID aplicacionId) {
+        List<Rol> resultado = new ArrayList<>();
+        for (UUID rolId : rolesPorUsuario.getOrDefault(usuarioId, Set.of())) {
+            Rol rol = roles.get(rolId);
+            if (rol != null && rol.aplicacionId().equals(aplicacionId)) {
+                resultado.add(rol);
+            }
+        }
+        resultado.sort(Comparator.comparing(Rol::id));
+        return resultado;
+    }
+
+    /**
+     * Tipos de usuario activos de la aplicación.
+     */
+    public List<Rol> rolesDeAplicacion(UUID aplicacionId) {
+        return roles.values().stream()
+                .filter(rol -> rol.aplicacionId().equals(aplicacionId))
+                .toList();
+    }
+
+    /**
+     * Versión de permisos de la aplicación con la que se construyó este índice; 0 si nunca cambió.
+     */
+    public long version(UUID aplicacionId) {
+        return versiones.getOrDefault(aplicacionId, 0L);
+    }
+
+    /**
+     * IDs de las aplicaciones cuyo catálogo incluye acciones de la sección.
+     */
+    public List<UUID> aplicacionesConSeccion(UUID seccionId) {
+        return catalogos.values().stream()
+                .filter(catalogo -> catalogo.contieneSeccion(seccionId))
+                .map(CatalogoAplicacion::aplicacionId)
+                .toList();
+    }
+
+    public Rol rol(UUID tipoUsuarioId) {
+        return roles.get(tipoUsuarioId);
+    }
+
+    public int totalAplicaciones() {
+        return catalogos.size();
+    }
+
+    public int totalRoles() {
+        return roles.size();
+    }
+
+    public int totalUsuarios() {
+        return rolesPorUsuario.size();
+    }
+
+    /**
+     * Devuelve un índice con el catálogo de la aplicación y sus tipos de usuario reemplazados.
+     * Los ordinales se reasignan con el nuevo catálogo, por lo que los bitsets de todos los
+     * tipos de usuario de la aplicación se reemplazan a la vez. Un catálogo null elimina la aplicación.
+     */
+    public IndicePermisos conAplicacion(UUID aplicacionId, CatalogoAplicacion catalogo, Collection<Rol> rolesDeAplicacion) {
+        Map<String, UUID> porLlave = new HashMap<>(aplicacionesPorLlave);
+        Map<UUID, CatalogoAplicacion> porId = new HashMap<>(catalogos);
+        CatalogoAplicacion anterior = porId.remove(aplicacionId);
+        if (anterior != null) {
+            porLlave.remove(anterior.llaveIdentificadora(), aplicacionId);
+        }
+        Map<UUID, Rol> copiaRoles = new HashMap<>(roles);
+        copiaRoles.values().removeIf(rol -> rol.aplicacionId().equals(aplicacionId));
+        if (catalogo != null) {
+            porLlave.put(catalogo.llaveIdentificadora(), aplicacionId);
+            porId.put(aplicacionId, catalogo);
+            for (Rol rol : rolesDeAplicacion) {
+                copiaRoles.put(rol.id(), rol);
+            }
+        }
+        return new IndicePermisos(Map.copyOf(porLlave), Map.copyOf(porId), Map.copyOf(copiaRoles), rolesPorUsuario, versiones);
+    }
+
+    /**
+     * Devuelve un índice con el tipo de usuario reemplazado, o eliminado si es null.
+     */
+    public IndicePermisos conRol(UUID tipoUsuarioId, Rol rol) {
+        Map<UUID, Rol> copia = new HashMap<>(roles);
+        if (rol != null) {
+            copia.put(tipoUsuarioId, rol);
+        } else {
+            copia.remove(tipoUsuarioId);
+        }
+        return new IndicePermisos(aplicacionesPorLlave, catalogos, Map.copyOf(copia), rolesPorUsuario, versiones);
+    }
+
+    /**
+     * Devuelve un índice con las asignaciones del usuario reemplazadas.
+     */
+    public IndicePermisos conUsuario(UUID usuarioId, Set<UUID> tiposUsuario) {
+        Map<UUID, Set<UUID>> copia = new HashMap<>(rolesPorUsuario);
+        if (tiposUsuario == null || tiposUsuario.isEmpty()) {
+            copia.remove(usuarioId);
+        } else {
+            copia.put(usuarioId, Set.copyOf(tiposUsuario));
+        }
+        return new IndicePermisos(aplicacionesPorLlave, catalogos, roles, Map.copyOf(copia), versiones);
+    }
+
+    /**
+     * Devuelve un índice con las versiones de permisos por aplicación reemplazadas.
+     * Las versiones deben leerse antes que los datos que reflejan, para que nunca
+     * anuncien un estado más nuevo que el cargado en el índice.
+     */
+    public IndicePermisos conVersiones(Map<UUID, Long> nuevasVersiones) {
+        return new IndicePermisos(aplicacionesPorLlave, catalogos, roles, rolesPorUsuario, Map.copyOf(nuevasVersiones));
+    }
+
+    /**
+     * Devuelve un índice con las versiones indicadas aplicadas sobre las actuales; el resto se conserva.
+     * Solo deben incluirse aplicaciones cuyos datos ya se recargaron. Una versión nunca retrocede:
+     * si los eventos llegan desordenados se conserva la mayor.
+     */
+    public IndicePermisos conVersionesActualizadas(Map<UUID, Long> actualizadas) {
+        if (actualizadas.isEmpty()) {
+            return this;
+        }
+        Map<UUID, Long> copia = new HashMap<>(versiones);
+        actualizadas.forEach((aplicacionId, version) -> copia.merge(aplicacionId, version, Math::max));
+        return new IndicePermisos(aplicacionesPorLlave, catalogos, roles, rolesPorUsuario, Map.copyOf(copia));
+    }
+
+    /**
+     * Acciones activas de una aplicación con su ordinal denso.
+     * El ordinal de cada acción es su posición en la lista recibida al construir el catálogo.
+     */
+    public static final class CatalogoAplicacion {
+
+        private static final int[] SIN_COINCIDENCIAS = new int[0];
+
+        private final UUID aplicacionId;
+        private final String llaveIdentificadora;
+        private final AccionCatalogo[] acciones;
+        private final Map<UUID, Integer> ordinales;
+        private final Map<String, int[]> ordinalesPorNombre;
+        private final Set<UUID> secciones;
+
+        private CatalogoAplicacion(UUID aplicacionId, String llaveIdentificadora, AccionCatalogo[] acciones,
+                                   Map<UUID, Integer> ordinales, Map<String, int[]> ordinalesPorNombre,
+                                   Set<UUID> secciones) {
+            this.aplicacionId = aplicacionId;
+            this.llaveIdentificadora = llaveIdentificadora;
+            this.acciones = acciones;
+            this.ordinales = ordinales;
+            this.ordinalesPorNombre = ordinalesPorNombre;
+            this.secciones = secciones;
+        }
+
+        /**
+         * Crea el catálogo asignando ordinales en el orden de la lista.
+         */
+        public static CatalogoAplicacion de(UUID aplicacionId, String llaveIdentificadora, List<AccionCatalogo> acciones) {
+            AccionCatalogo[] porOrdinal = acciones.toArray(AccionCatalogo[]::new);
+            Map<UUID, Integer> ordinales = new HashMap<>();
+            Map<String, int[]> porNombre = new HashMap<>();
+            Set<UUID> secciones = new HashSet<>();
+            for (int ordinal = 0; ordinal < porOrdinal.length; ordinal++) {
+                AccionCatalogo accion = porOrdinal[ordinal];
+                ordinales.put(accion.id(), ordinal);
+                int valor = ordinal;
+                porNombre.merge(normalizar(accion.nombre()), new int[] {valor}, CatalogoAplicacion::concatenar);
+                if (accion.seccionId() != null) {
+                    secciones.add(accion.seccionId());
+                }
+            }
+            return new CatalogoAplicacion(aplicacionId, llaveIdentificadora, porOrdinal,
+                    Map.copyOf(ordinales), Map.copyOf(porNombre), Set.copyOf(secciones));
+        }
+
+        public UUID aplicacionId() {
+            return aplicacionId;
+        }
+
+        public String llaveIdentificadora() {
+            return llaveIdentificadora;
+        }
+
+        public int totalAcciones() {
+            return acciones.length;
+        }
+
+        /**
+         * Ordinal de la acción, o -1 si no pertenece al catálogo.
+         */
+        public int ordinal(UUID accionId) {
+            Integer ordinal = ordinales.get(accionId);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        public AccionCatalogo accion(int ordinal) {
+            return acciones[ordinal];
+        }
+
+        public boolean contieneSeccion(UUID seccionId) {
+            return secciones.contains(seccionId);
+        }
+
+        /**
+         * Resuelve una referencia a acción (ID o nombre) a los ordinales que coinciden.
+         * Los nombres solo son únicos por sección, por lo que un nombre puede resolver a varias acciones.
+         */
+        public int[] resolver(String accion) {
+            UUID id = comoUuid(accion);
+            if (id != null) {
+                int ordinal = ordinal(id);
+                return ordinal >= 0 ? new int[] {ordinal} : SIN_COINCIDENCIAS;
+            }
+            return ordinalesPorNombre.getOrDefault(normalizar(accion), SIN_COINCIDENCIAS);
+        }
+
+        private static int[] concatenar(int[] a, int[] b) {
+            int[] resultado = new int[a.length + b.length];
+            System.arraycopy(a, 0, resultado, 0, a.length);
+            System.arraycopy(b, 0, resultado, a.length, b.length);
+            return resultado;
+        }
+    }
+
+    /**
+     * Acción de un catálogo junto con la sección en la que se muestra.
+     */
+    public record AccionCatalogo(UUID id, String nombre, UUID seccionId, String seccionNombre) {}
+
+    /**
+     * Tipo de usuario activo con sus acciones concedidas codificadas como bitset
+     * sobre los ordinales del catálogo de su aplicación.
+     */
+    public record Rol(UUID id, UUID aplicacionId, long[] permisos) {
+
+        /**
+         * Codifica las acciones concedidas; se ignoran las que no pertenecen al catálogo.
+         */
+        public static Rol de(UUID id, CatalogoAplicacion catalogo, Collection<UUID> accionesConcedidas) {
+            long[] bits = PermisosBitset.crear(catalogo.totalAcciones());
+            for (UUID accionId : accionesConcedidas) {
+                int ordinal = catalogo.ordinal(accionId);
+                if (ordinal >= 0) {
+                    PermisosBitset.activar(bits, ordinal);
+                }
+            }
+            return new Rol(id, catalogo.aplicacionId(), bits);
+        }
+    }
+
+    public static String normalizar(String nombre) {
+        return nombre.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static UUID comoUuid(String valor) {
+        if (valor.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(valor);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
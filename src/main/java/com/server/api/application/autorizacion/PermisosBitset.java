@@ -0,0 +1,68 @@
+package com.server.api.application.autorizacion;
+
+/**
+ * Operaciones sobre conjuntos de permisos codificados como {@code long[]}.
+ * El bit {@code n} representa la acción con ordinal {@code n} dentro de su aplicación,
+ * de modo que la pertenencia y la unión se resuelven con unas pocas operaciones por palabra.
+ */
+public final class PermisosBitset {
+
+    private static final long[] VACIO = new long[0];
+
+    private PermisosBitset() {
+    }
+
+    public static long[] vacio() {
+        return VACIO;
+    }
+
+    /**
+     * Crea un bitset capaz de representar {@code totalBits} ordinales.
+     */
+    public static long[] crear(int totalBits) {
+        return totalBits == 0 ? VACIO : new long[palabras(totalBits)];
+    }
+
+    public static int palabras(int totalBits) {
+        return (totalBits + 63) >>> 6;
+    }
+
+    public static void activar(long[] bits, int ordinal) {
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    public static boolean contiene(long[] bits, int ordinal) {
+        int palabra = ordinal >>> 6;
+        return palabra < bits.length && (bits[palabra] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Acumula en {@code destino} la unión con {@code origen}.
+     */
+    public static void unir(long[] destino, long[] origen) {
+        int limite = Math.min(destino.length, origen.length);
+        for (int i = 0; i < limite; i++) {
+            destino[i] |= origen[i];
+        }
+    }
+
+    public static int cardinalidad(long[] bits) {
+        int total = 0;
+        for (long palabra : bits) {
+            total += Long.bitCount(palabra);
+        }
+        return total;
+    }
+
+    /**
+     * Serializa los primeros {@code totalBits} bits en orden little-endian:
+     * el bit {@code n} queda en el byte {@code n / 8}, posición {@code n % 8}.
+     */
+    public static byte[] aBytes(long[] bits, int totalBits) {
+        byte[] bytes = new byte[(totalBits + 7) >>> 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (bits[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.server.api.application.carga;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca una consulta cuyas ejecuciones concurrentes con los mismos argumentos comparten
+ * una sola carga en curso y su resultado (single-flight).
+ * El resultado se comparte entre hilos, así que debe ser inmutable.
+ * Solo se aplica a llamadas hechas fuera de una transacción; ver {@link CargaUnicaAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CargaUnica {
+
+    /**
+     * Nombre de la carga, usado como etiqueta de las métricas.
+     */
+    String value();
+}
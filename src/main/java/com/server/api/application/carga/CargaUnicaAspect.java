@@ -0,0 +1,38 @@
+package com.server.api.application.carga;
+
+import java.util.Arrays;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aplica {@link CargaUnica} a los métodos anotados.
+ * Se ejecuta después del interceptor de caché y antes del transaccional: las llamadas que esperan
+ * una carga en curso no abren transacción ni ocupan una conexión del pool.
+ * Las llamadas hechas dentro de una transacción ya iniciada se ejecutan sin compartir,
+ * para no exponer ni recibir datos de una transacción ajena.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CargaUnicaAspect {
+
+    private final CargasEnCurso cargasEnCurso;
+
+    public CargaUnicaAspect(CargasEnCurso cargasEnCurso) {
+        this.cargasEnCurso = cargasEnCurso;
+    }
+
+    @Around("@annotation(cargaUnica)")
+    public Object compartirCarga(ProceedingJoinPoint punto, CargaUnica cargaUnica) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return punto.proceed();
+        }
+        return cargasEnCurso.cargar(cargaUnica.value(), Arrays.asList(punto.getArgs()), punto::proceed);
+    }
+}
@@ -0,0 +1,97 @@
+package com.server.api.application.carga;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registro de cargas en curso por clave.
+ * La primera llamada para una clave ejecuta la carga; las concurrentes esperan su resultado
+ * (o su excepción) en lugar de repetirla. La clave se libera al terminar, así que no se cachea nada.
+ * <p>
+ * Métricas, etiquetadas por nombre de carga:
+ * {@code carga.unica.solicitudes} con {@code resultado=cargada|compartida} (la proporción de compartidas
+ * es el índice de coalescencia), {@code carga.unica.duracion} con la latencia de cada carga ejecutada
+ * y {@code carga.unica.en.curso} con las cargas activas.
+ * <p>
+ * Lo usan {@link CargaUnicaAspect} y los servicios que comparten cargas internas, como la construcción
+ * de un catálogo en memoria.
+ */
+@Component
+public class CargasEnCurso {
+
+    static final String METRICA_SOLICITUDES = "carga.unica.solicitudes";
+    static final String METRICA_DURACION = "carga.unica.duracion";
+    static final String METRICA_EN_CURSO = "carga.unica.en.curso";
+
+    private final Map<Clave, CompletableFuture<Object>> enCurso = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CargasEnCurso(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRICA_EN_CURSO, enCurso, Map::size)
+                .description("Cargas únicas en curso")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta la carga o espera la que ya está en curso para la misma clave.
+     *
+     * @param carga nombre de la carga
+     * @param argumentos argumentos que identifican la clave
+     * @param cargador carga a ejecutar si no hay una en curso
+     * @return resultado de la carga, propia o compartida
+     */
+    public Object cargar(String carga, List<Object> argumentos, Cargador cargador) throws Throwable {
+        Clave clave = new Clave(carga, argumentos);
+        CompletableFuture<Object> propia = new CompletableFuture<>();
+        CompletableFuture<Object> existente = enCurso.putIfAbsent(clave, propia);
+        if (existente != null) {
+            meterRegistry.counter(METRICA_SOLICITUDES, "carga", carga, "resultado", "compartida").increment();
+            return esperar(existente);
+        }
+
+        meterRegistry.counter(METRICA_SOLICITUDES, "carga", carga, "resultado", "cargada").increment();
+        long inicio = System.nanoTime();
+        try {
+            Object valor = cargador.cargar();
+            propia.complete(valor);
+            return valor;
+        } catch (Throwable e) {
+            propia.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCurso.remove(clave, propia);
+            meterRegistry.timer(METRICA_DURACION, "carga", carga).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Object esperar(CompletableFuture<Object> futuro) throws Throwable {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    /**
+     * Carga cuyo resultado puede compartirse.
+     */
+    @FunctionalInterface
+    public interface Cargador {
+        Object cargar() throws Throwable;
+    }
+
+    /**
+     * Clave de una carga: su nombre y los argumentos de la llamada.
+     */
+    private record Clave(String carga, List<Object> argumentos) {}
+}
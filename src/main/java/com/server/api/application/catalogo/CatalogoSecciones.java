@@ -0,0 +1,128 @@
+package com.server.api.application.catalogo;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.server.api.domain.dto.recurso.VersionRecurso;
+import com.server.api.domain.dto.seccion.SeccionSummary;
+import com.server.api.domain.entity.Seccion;
+
+/**
+ * Instantánea inmutable de las secciones activas.
+ * Guarda el resumen de cada sección junto con su nombre y descripción completos normalizados
+ * a minúsculas, de modo que los listados y búsquedas se resuelven en memoria sin bloqueos.
+ * Cada cambio confirmado en secciones produce una instantánea nueva que reemplaza a la anterior.
+ * La instantánea conserva la versión de los datos con los que se construyó, para usarla como validador de caché.
+ */
+public final class CatalogoSecciones {
+
+    private final List<Entrada> entradas;
+    private final List<SeccionSummary> resumenes;
+    private final Set<String> nombres;
+    private final VersionRecurso version;
+
+    private CatalogoSecciones(List<Entrada> entradas, VersionRecurso version) {
+        this.entradas = entradas;
+        this.version = version;
+        this.resumenes = entradas.stream().map(Entrada::resumen).toList();
+        Set<String> nombresNormalizados = new HashSet<>();
+        for (Entrada entrada : entradas) {
+            nombresNormalizados.add(entrada.nombre());
+        }
+        this.nombres = Set.copyOf(nombresNormalizados);
+    }
+
+    /**
+     * Construye la instantánea a partir de las secciones activas y sus resúmenes, en el mismo orden.
+     * Las secciones quedan ordenadas por nombre sin distinguir mayúsculas.
+     *
+     * @param ultimaModificacion última modificación de la tabla, incluidas las secciones eliminadas: las
+     *                           activas solas no reflejan una baja
+     */
+    public static CatalogoSecciones de(List<Seccion> secciones, List<SeccionSummary> resumenes,
+                                       OffsetDateTime ultimaModificacion) {
+        if (secciones.size() != resumenes.size()) {
+            throw new IllegalArgumentException("Cada sección debe tener su resumen");
+        }
+        List<Entrada> entradas = new ArrayList<>(secciones.size());
+        for (int i = 0; i < secciones.size(); i++) {
+            Seccion seccion = secciones.get(i);
+            entradas.add(new Entrada(resumenes.get(i), normalizar(seccion.getNombre()), normalizar(seccion.getDescripcion())));
+        }
+        entradas.sort(Comparator.comparing(Entrada::nombre));
+        return new CatalogoSecciones(List.copyOf(entradas), VersionRecurso.de(secciones.size(), ultimaModificacion));
+    }
+
+    /**
+     * Todas las secciones activas.
+     */
+    public List<SeccionSummary> todas() {
+        return resumenes;
+    }
+
+    /**
+     * Secciones cuyo nombre contiene el texto, sin distinguir mayúsculas.
+     */
+    public List<SeccionSummary> buscarPorNombre(String nombre) {
+        String buscado = normalizar(nombre);
+        if (buscado == null) {
+            return List.of();
+        }
+        return filtrar(entrada -> entrada.nombre().contains(buscado));
+    }
+
+    /**
+     * Secciones cuyo nombre o descripción contiene el texto, sin distinguir mayúsculas.
+     */
+    public List<SeccionSummary> buscarPorTexto(String texto) {
+        String buscado = normalizar(texto);
+        if (buscado == null) {
+            return List.of();
+        }
+        return filtrar(entrada -> entrada.nombre().contains(buscado)
+                || (entrada.descripcion() != null && entrada.descripcion().contains(buscado)));
+    }
+
+    /**
+     * Indica si existe una sección activa con el nombre exacto, sin distinguir mayúsculas.
+     */
+    public boolean existeNombre(String nombre) {
+        return nombre != null && nombres.contains(normalizar(nombre));
+    }
+
+    public int total() {
+        return entradas.size();
+    }
+
+    /**
+     * Versión de las secciones incluidas en la instantánea.
+     */
+    public VersionRecurso version() {
+        return version;
+    }
+
+    private List<SeccionSummary> filtrar(Predicate<Entrada> criterio) {
+        List<SeccionSummary> resultado = new ArrayList<>();
+        for (Entrada entrada : entradas) {
+            if (criterio.test(entrada)) {
+                resultado.add(entrada.resumen());
+            }
+        }
+        return List.copyOf(resultado);
+    }
+
+    private static String normalizar(String texto) {
+        return texto != null ? texto.toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Sección del catálogo con sus textos normalizados para búsqueda.
+     */
+    private record Entrada(SeccionSummary resumen, String nombre, String descripcion) {}
+}
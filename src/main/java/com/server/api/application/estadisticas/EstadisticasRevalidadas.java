@@ -0,0 +1,42 @@
+package com.server.api.application.estadisticas;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Valores por clave servidos con la estrategia stale-while-revalidate.
+ * Cuando un valor supera la edad máxima, la siguiente lectura lo devuelve igual y dispara un
+ * recálculo en segundo plano que lo reemplaza al terminar; solo la primera lectura de cada clave
+ * espera el cálculo. Si el recálculo falla se conserva el valor anterior.
+ * Las claves sin lecturas durante la retención se descartan.
+ */
+public class EstadisticasRevalidadas<K, V> {
+
+    private final LoadingCache<K, Medicion<V>> valores;
+
+    public EstadisticasRevalidadas(String nombre, Duration edadMaxima, Duration retencion, Executor ejecutor,
+                                   MeterRegistry meterRegistry, Function<K, V> calculo) {
+        this.valores = Caffeine.newBuilder()
+                .refreshAfterWrite(edadMaxima)
+                .expireAfterAccess(retencion)
+                .maximumSize(10_000)
+                .executor(ejecutor)
+                .recordStats()
+                .build(clave -> Medicion.actual(calculo.apply(clave)));
+        CaffeineCacheMetrics.monitor(meterRegistry, valores, nombre);
+    }
+
+    /**
+     * Devuelve el último valor calculado para la clave, recalculándolo en segundo plano si está vencido.
+     */
+    public Medicion<V> obtener(K clave) {
+        return valores.get(clave);
+    }
+}
@@ -0,0 +1,27 @@
+package com.server.api.application.estadisticas;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Valor calculado junto con el momento en que se calculó, para informar su antigüedad.
+ *
+ * @param valor valor calculado
+ * @param calculadoEn momento del cálculo
+ */
+public record Medicion<V>(V valor, Instant calculadoEn) {
+
+    /**
+     * Medición calculada en este momento.
+     */
+    public static <V> Medicion<V> actual(V valor) {
+        return new Medicion<>(valor, Instant.now());
+    }
+
+    /**
+     * Antigüedad del valor en segundos completos, como se informa en la cabecera {@code Age}.
+     */
+    public long edadSegundos() {
+        return Math.max(0L, Duration.between(calculadoEn, Instant.now()).toSeconds());
+    }
+}
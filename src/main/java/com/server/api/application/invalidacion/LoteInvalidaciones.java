@@ -0,0 +1,36 @@
+package com.server.api.application.invalidacion;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.server.api.domain.event.CambioPermisos;
+
+/**
+ * Cambios de permisos confirmados en una instancia y difundidos al resto en un solo mensaje.
+ *
+ * @param nodo instancia que confirmó los cambios
+ * @param desde hora, en milisegundos epoch, del cambio más antiguo del lote; base para medir el retraso
+ * @param cambios cambios sin duplicados
+ * @param versiones versión de permisos más reciente de cada aplicación afectada
+ */
+public record LoteInvalidaciones(UUID nodo, long desde, Set<CambioPermisos> cambios, Map<UUID, Long> versiones) {
+
+    public LoteInvalidaciones {
+        cambios = Set.copyOf(cambios);
+        versiones = Map.copyOf(versiones);
+    }
+
+    /**
+     * Divide el lote en dos mitades con los mismos metadatos, para transportes con límite de tamaño.
+     * Las versiones viajan en ambas mitades: aplicarlas dos veces no tiene efecto.
+     */
+    public List<LoteInvalidaciones> dividir() {
+        List<CambioPermisos> todos = List.copyOf(cambios);
+        int mitad = todos.size() / 2;
+        return List.of(
+                new LoteInvalidaciones(nodo, desde, Set.copyOf(todos.subList(0, mitad)), versiones),
+                new LoteInvalidaciones(nodo, desde, Set.copyOf(todos.subList(mitad, todos.size())), versiones));
+    }
+}
@@ -0,0 +1,30 @@
+package com.server.api.application.invalidacion;
+
+import java.util.function.Consumer;
+
+/**
+ * Medio por el que las instancias intercambian lotes de invalidaciones.
+ * Un transporte entrega cada lote a todas las instancias suscritas, incluida la que lo envió;
+ * el bus descarta los propios. La entrega es a lo sumo una vez.
+ */
+public interface TransporteInvalidaciones {
+
+    /**
+     * Difunde el lote a todas las instancias.
+     */
+    void enviar(LoteInvalidaciones lote);
+
+    /**
+     * Registra al receptor de los lotes difundidos.
+     *
+     * @param receptor recibe cada lote
+     * @param alPerderLotes se invoca cuando el transporte pudo perder lotes, por ejemplo al quedar activa
+     *                      la escucha tras conectar o reconectar
+     */
+    void suscribir(Consumer<LoteInvalidaciones> receptor, Runnable alPerderLotes);
+
+    /**
+     * Libera los recursos del transporte.
+     */
+    void cerrar();
+}
@@ -0,0 +1,30 @@
+package com.server.api.application.invalidacion;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Transporte en proceso: entrega cada lote, en el mismo hilo, a los receptores suscritos a la misma instancia.
+ * Sirve para una sola réplica y para pruebas; varios buses que compartan el transporte se comportan
+ * como instancias distintas.
+ */
+public class TransporteLocal implements TransporteInvalidaciones {
+
+    private final List<Consumer<LoteInvalidaciones>> receptores = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void enviar(LoteInvalidaciones lote) {
+        receptores.forEach(receptor -> receptor.accept(lote));
+    }
+
+    @Override
+    public void suscribir(Consumer<LoteInvalidaciones> receptor, Runnable alPerderLotes) {
+        receptores.add(receptor);
+    }
+
+    @Override
+    public void cerrar() {
+        receptores.clear();
+    }
+}
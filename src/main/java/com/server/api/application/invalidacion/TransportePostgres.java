@@ -0,0 +1,171 @@
+package com.server.api.application.invalidacion;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transporte sobre LISTEN/NOTIFY de PostgreSQL.
+ * Cada lote viaja como JSON en una notificación del canal configurado; los lotes que superan
+ * el límite de carga de NOTIFY se dividen. Los envíos usan el pool, pero la escucha mantiene en un
+ * hilo propio una conexión dedicada fuera de él, para no restar permanentemente una conexión al pool,
+ * y se reconecta si la conexión se pierde. Como las notificaciones emitidas antes de que el LISTEN
+ * quede activo no se recuperan, tras cada conexión, incluida la primera, se avisa al suscriptor de
+ * que pudo perder lotes.
+ */
+@Slf4j
+public class TransportePostgres implements TransporteInvalidaciones {
+
+    /**
+     * Límite de carga de NOTIFY (8000 bytes) con margen.
+     */
+    static final int TAMANO_MAXIMO = 7900;
+
+    private static final Pattern CANAL_VALIDO = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DataSource conexionesEscucha;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String canal;
+    private final int esperaMs;
+
+    private volatile boolean activo = true;
+    private volatile Thread escucha;
+
+    /**
+     * @param dataSource pool para los envíos
+     * @param conexionesEscucha origen sin pool de la conexión dedicada a la escucha
+     */
+    public TransportePostgres(DataSource dataSource, DataSource conexionesEscucha, ObjectMapper objectMapper,
+            String canal, int esperaMs) {
+        if (!CANAL_VALIDO.matcher(canal).matches()) {
+            throw new IllegalArgumentException("Nombre de canal de invalidaciones inválido: " + canal);
+        }
+        this.conexionesEscucha = conexionesEscucha;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.canal = canal;
+        this.esperaMs = esperaMs;
+    }
+
+    @Override
+    public void enviar(LoteInvalidaciones lote) {
+        String carga = serializar(lote);
+        if (carga.getBytes(StandardCharsets.UTF_8).length > TAMANO_MAXIMO && lote.cambios().size() > 1) {
+            lote.dividir().forEach(this::enviar);
+            return;
+        }
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) sentencia -> {
+            sentencia.setString(1, canal);
+            sentencia.setString(2, carga);
+            return sentencia.execute();
+        });
+    }
+
+    @Override
+    public void suscribir(Consumer<LoteInvalidaciones> receptor, Runnable alPerderLotes) {
+        escucha = Thread.ofPlatform()
+                .name("invalidaciones-" + canal)
+                .daemon(true)
+                .start(() -> escuchar(receptor, alPerderLotes));
+    }
+
+    @Override
+    public void cerrar() {
+        activo = false;
+        Thread hilo = escucha;
+        if (hilo != null) {
+            hilo.interrupt();
+        }
+    }
+
+    private void escuchar(Consumer<LoteInvalidaciones> receptor, Runnable alPerderLotes) {
+        boolean perdidos = false;
+        while (activo) {
+            try (Connection conexion = conexionesEscucha.getConnection();
+                 Statement sentencia = conexion.createStatement()) {
+                sentencia.execute("LISTEN " + canal);
+                PGConnection pgConexion = conexion.unwrap(PGConnection.class);
+                if (perdidos) {
+                    log.info("Escucha de invalidaciones restablecida en el canal {}", canal);
+                    perdidos = false;
+                }
+                // Lo notificado antes de este LISTEN se perdió, también en la primera conexión
+                notificarPerdida(alPerderLotes);
+                while (activo) {
+                    PGNotification[] notificaciones = pgConexion.getNotifications(esperaMs);
+                    if (notificaciones == null) {
+                        continue;
+                    }
+                    for (PGNotification notificacion : notificaciones) {
+                        entregar(notificacion.getParameter(), receptor);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!activo) {
+                    return;
+                }
+                perdidos = true;
+                log.warn("Se perdió la escucha de invalidaciones en el canal {}; reintentando", canal, e);
+                esperar();
+            }
+        }
+    }
+
+    private void notificarPerdida(Runnable alPerderLotes) {
+        try {
+            alPerderLotes.run();
+        } catch (RuntimeException e) {
+            // La resincronización no debe detener la escucha
+            log.error("Error resincronizando tras conectar la escucha del canal {}", canal, e);
+        }
+    }
+
+    private void entregar(String carga, Consumer<LoteInvalidaciones> receptor) {
+        LoteInvalidaciones lote;
+        try {
+            lote = objectMapper.readValue(carga, LoteInvalidaciones.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Notificación de invalidaciones ilegible en el canal {}", canal, e);
+            return;
+        }
+        try {
+            receptor.accept(lote);
+        } catch (RuntimeException e) {
+            // Un lote con error no debe detener la escucha
+            log.error("Error aplicando un lote de invalidaciones del nodo {}", lote.nodo(), e);
+        }
+    }
+
+    private String serializar(LoteInvalidaciones lote) {
+        try {
+            return objectMapper.writeValueAsString(lote);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el lote de invalidaciones", e);
+        }
+    }
+
+    private void esperar() {
+        try {
+            Thread.sleep(esperaMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            activo = false;
+        }
+    }
+}
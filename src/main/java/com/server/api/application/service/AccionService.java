@@ -1,6 +1,7 @@
 package com.server.api.application.service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -9,16 +10,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.server.api.application.carga.CargaUnica;
 import com.server.api.domain.dto.accion.AccionCreateRequest;
 import com.server.api.domain.dto.accion.AccionResponse;
 import com.server.api.domain.dto.accion.AccionSummary;
 import com.server.api.domain.dto.accion.AccionUpdateRequest;
+import com.server.api.domain.dto.recurso.VersionRecurso;
 import com.server.api.domain.entity.Accion;
 import com.server.api.domain.entity.Aplicacion;
 import com.server.api.domain.entity.Seccion;
 import com.server.api.domain.mapper.AccionMapper;
 import com.server.api.domain.repository.AccionRepository;
 import com.server.api.domain.repository.AplicacionRepository;
+import com.server.api.domain.repository.EstadoRegistros;
 import com.server.api.domain.repository.SeccionRepository;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -77,6 +81,7 @@ public class AccionService {
     /**
      * Obtiene una acción por ID.
      */
+    @CargaUnica("acciones")
     @Transactional(readOnly = true)
     public AccionResponse obtenerPorId(UUID id) {
         Accion accion = buscarAccionActiva(id);
@@ -277,8 +282,31 @@ public class AccionService {
         return accionRepository.existsByNombreIgnoreCaseAndAplicacionIdAndSeccionId(nombre, aplicacionId, seccionId);
     }
 
+    /**
+     * Validador de caché de los listados de acciones.
+     * Incluye aplicaciones y secciones porque los resúmenes muestran sus nombres.
+     */
+    @Transactional(readOnly = true)
+    public VersionRecurso versionListado() {
+        return version(accionRepository.findEstadoActivos())
+                .combinar(version(aplicacionRepository.findEstadoActivos()))
+                .combinar(version(seccionRepository.findEstadoActivos()));
+    }
+
+    /**
+     * Validador de caché del detalle de una acción activa; vacío si no existe.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VersionRecurso> versionPorId(UUID id) {
+        return accionRepository.findUltimaModificacionActiva(id).map(VersionRecurso::de);
+    }
+
     // Métodos de utilidad privados
 
+    private VersionRecurso version(EstadoRegistros estado) {
+        return VersionRecurso.de(estado.getTotal(), estado.getUltimaModificacion());
+    }
+
     /**
      * Busca una acción activa por ID o lanza excepción.
      */
@@ -1,24 +1,38 @@
 package com.server.api.application.service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.server.api.config.CacheConfig;
 import com.server.api.domain.dto.aplicacion.AplicacionCreateRequest;
+import com.server.api.domain.dto.aplicacion.AplicacionResponse;
 import com.server.api.domain.dto.aplicacion.AplicacionUpdateRequest;
+import com.server.api.domain.dto.recurso.VersionRecurso;
 import com.server.api.domain.entity.Aplicacion;
 import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+import com.server.api.domain.event.EntidadModificadaEvent;
+import com.server.api.domain.event.PermisosModificadosEvent;
 import com.server.api.domain.mapper.AplicacionMapper;
 import com.server.api.domain.repository.AplicacionRepository;
+import com.server.api.domain.repository.EstadoRegistros;
 
 /**
  * Servicio para gestión de aplicaciones del sistema.
  * Implementa el principio SRP al manejar únicamente la lógica de negocio de aplicaciones.
  * Sigue el patrón de Clean Architecture separando la lógica de negocio de los detalles de infraestructura.
+ * Las búsquedas por llave identificadora se cachean; las escrituras y los eventos del outbox
+ * y del bus de invalidaciones sobre aplicaciones vacían esas cachés.
  */
 @Service
 @Transactional
@@ -40,6 +54,10 @@ public class AplicacionService {
      * @return la aplicación creada
      * @throws IllegalArgumentException si los datos son inválidos
      */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, allEntries = true)
+    })
     public Aplicacion crear(AplicacionCreateRequest request) {
         validarDatosCreacion(request);
         
@@ -63,14 +81,18 @@ public class AplicacionService {
 
     /**
      * Obtiene una aplicación por su llave identificadora.
+     * Se cachea el DTO inmutable y no la entidad: la caché se comparte entre hilos
+     * y una entidad gestionada podría modificarse o inicializarse desde cualquiera de ellos.
      * 
      * @param llaveIdentificadora llave única de la aplicación
      * @return la aplicación encontrada
      * @throws IllegalArgumentException si no existe
      */
     @Transactional(readOnly = true)
-    public Aplicacion obtenerPorLlaveIdentificadora(String llaveIdentificadora) {
+    @Cacheable(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, condition = CacheConfig.FUERA_DE_TRANSACCION)
+    public AplicacionResponse obtenerPorLlaveIdentificadora(String llaveIdentificadora) {
         return aplicacionRepository.findByLlaveIdentificadora(llaveIdentificadora)
+                .map(aplicacionMapper::toResponse)
                 .orElseThrow(() -> new IllegalArgumentException("Aplicación no encontrada con llave: " + llaveIdentificadora));
     }
 
@@ -120,6 +142,10 @@ public class AplicacionService {
      * @return aplicación actualizada
      * @throws IllegalArgumentException si no existe o datos inválidos
      */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, allEntries = true)
+    })
     public Aplicacion actualizar(UUID id, AplicacionUpdateRequest request) {
         Aplicacion aplicacionExistente = obtenerPorId(id);
         validarDatosActualizacion(request, aplicacionExistente);
@@ -135,6 +161,10 @@ public class AplicacionService {
      * @param id identificador de la aplicación
      * @throws IllegalArgumentException si no existe
      */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, allEntries = true)
+    })
     public void eliminar(UUID id) {
         Aplicacion aplicacion = obtenerPorId(id);
         aplicacion.softDelete();
@@ -147,6 +177,10 @@ public class AplicacionService {
      * @param id identificador de la aplicación
      * @throws IllegalArgumentException si no existe
      */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, allEntries = true)
+    })
     public Aplicacion restaurar(UUID id) {
         Aplicacion aplicacion = aplicacionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Aplicación no encontrada con ID: " + id));
@@ -172,6 +206,7 @@ public class AplicacionService {
      * @return true si existe, false si no
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, condition = CacheConfig.FUERA_DE_TRANSACCION)
     public boolean existePorLlaveIdentificadora(String llaveIdentificadora) {
         return aplicacionRepository.existsByLlaveIdentificadora(llaveIdentificadora);
     }
@@ -183,12 +218,66 @@ public class AplicacionService {
      * @param nuevoEstado nuevo estado a establecer
      * @return aplicación actualizada
      */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, allEntries = true)
+    })
     public Aplicacion cambiarEstado(UUID id, EstadoAplicacion nuevoEstado) {
         Aplicacion aplicacion = obtenerPorId(id);
         aplicacion.setEstado(nuevoEstado);
         return aplicacionRepository.save(aplicacion);
     }
 
+    /**
+     * Validador de caché de los listados de aplicaciones.
+     * 
+     * @return versión calculada con el total de aplicaciones activas y su última modificación
+     */
+    @Transactional(readOnly = true)
+    public VersionRecurso versionListado() {
+        EstadoRegistros estado = aplicacionRepository.findEstadoActivos();
+        return VersionRecurso.de(estado.getTotal(), estado.getUltimaModificacion());
+    }
+
+    /**
+     * Validador de caché del detalle de una aplicación.
+     * 
+     * @param id identificador de la aplicación
+     * @return versión de la aplicación, vacía si no existe
+     */
+    @Transactional(readOnly = true)
+    public Optional<VersionRecurso> versionPorId(UUID id) {
+        return aplicacionRepository.findUltimaModificacionActiva(id).map(VersionRecurso::de);
+    }
+
+    /**
+     * Vacía las cachés por llave cuando el outbox publica un cambio de aplicación confirmado,
+     * incluidos los realizados por otras instancias.
+     */
+    @EventListener(condition = "#evento.entidad() == T(com.server.api.domain.entity.OutboxEvento.TipoEntidad).APLICACION")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, allEntries = true)
+    })
+    public void alModificarAplicacion(EntidadModificadaEvent evento) {
+        // La invalidación la realizan las anotaciones de caché
+    }
+
+    /**
+     * Vacía las cachés por llave cuando el bus de invalidaciones recibe de otra instancia
+     * un cambio de aplicación, antes de que lo entregue el outbox.
+     */
+    @EventListener(condition = "#evento.remoto() and #evento.afecta(T(com.server.api.domain.event.CambioPermisos.Alcance).APLICACION)")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.APLICACIONES_POR_LLAVE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.EXISTENCIA_APLICACIONES, allEntries = true)
+    })
+    public void alModificarPermisos(PermisosModificadosEvent evento) {
+        // La invalidación la realizan las anotaciones de caché
+    }
+
     /**
      * Valida los datos para la creación de una nueva aplicación.
      * Implementa el principio DRY centralizando validaciones.
@@ -0,0 +1,159 @@
+package com.server.api.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.AccionCatalogo;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.IndicePermisos.Rol;
+import com.server.api.application.autorizacion.PermisosBitset;
+import com.server.api.domain.dto.autorizacion.ArbolPermisos;
+import com.server.api.domain.dto.autorizacion.ArbolPermisos.AccionPermitida;
+import com.server.api.domain.dto.autorizacion.ArbolPermisos.SeccionPermitida;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.PermisosModificadosEvent;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que calcula el árbol Sección → Acción permitido para un usuario.
+ * Los árboles se memorizan por aplicación y conjunto ordenado de tipos de usuario,
+ * de modo que todos los usuarios con la misma combinación comparten un único cálculo.
+ */
+@Service
+@Slf4j
+public class ArbolPermisosService {
+
+    private final AutorizacionService autorizacionService;
+    private final Cache<ClaveArbol, ArbolMemorizado> arboles;
+
+    public ArbolPermisosService(
+            AutorizacionService autorizacionService,
+            @Value("${app.autorizacion.arbol.max-entradas:10000}") long maxEntradas) {
+        this.autorizacionService = autorizacionService;
+        this.arboles = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .build();
+    }
+
+    /**
+     * Obtiene el árbol de secciones y acciones que el usuario puede ejecutar en la aplicación.
+     *
+     * @param usuarioId identificador del usuario
+     * @param llaveIdentificadora llave de la aplicación
+     * @return árbol de permisos; vacío si el usuario no tiene tipos de usuario en la aplicación
+     * @throws EntityNotFoundException si la aplicación no existe o no está activa
+     */
+    public ArbolPermisos obtenerArbol(UUID usuarioId, String llaveIdentificadora) {
+        IndicePermisos indice = autorizacionService.indiceActual();
+        CatalogoAplicacion catalogo = indice.catalogoPorLlave(llaveIdentificadora);
+        if (catalogo == null) {
+            throw new EntityNotFoundException("Aplicación no encontrada con llave: " + llaveIdentificadora);
+        }
+        List<Rol> roles = indice.rolesDeUsuario(usuarioId, catalogo.aplicacionId());
+        ClaveArbol clave = new ClaveArbol(catalogo.aplicacionId(), roles.stream().map(Rol::id).toList());
+
+        ArbolMemorizado memorizado = arboles.getIfPresent(clave);
+        if (memorizado == null || !memorizado.vigente(catalogo, roles)) {
+            memorizado = new ArbolMemorizado(catalogo, roles, construirArbol(catalogo, roles));
+            arboles.put(clave, memorizado);
+        }
+        return memorizado.arbol();
+    }
+
+    /**
+     * Descarta los árboles afectados por los cambios confirmados: los que incluyen
+     * un tipo de usuario modificado o pertenecen a una aplicación modificada.
+     */
+    @EventListener
+    public void alModificarPermisos(PermisosModificadosEvent evento) {
+        if (evento.cambios().stream().anyMatch(cambio -> cambio.alcance() == Alcance.SECCION)) {
+            arboles.invalidateAll();
+            return;
+        }
+        Set<UUID> aplicaciones = idsDeAlcance(evento, Alcance.APLICACION);
+        Set<UUID> roles = idsDeAlcance(evento, Alcance.TIPO_USUARIO);
+        if (aplicaciones.isEmpty() && roles.isEmpty()) {
+            return;
+        }
+        arboles.asMap().keySet().removeIf(clave -> aplicaciones.contains(clave.aplicacionId())
+                || clave.roles().stream().anyMatch(roles::contains));
+        log.debug("Árboles de permisos invalidados para aplicaciones {} y tipos de usuario {}", aplicaciones, roles);
+    }
+
+    private Set<UUID> idsDeAlcance(PermisosModificadosEvent evento, Alcance alcance) {
+        return evento.cambios().stream()
+                .filter(cambio -> cambio.alcance() == alcance)
+                .map(CambioPermisos::id)
+                .collect(Collectors.toSet());
+    }
+
+    private ArbolPermisos construirArbol(CatalogoAplicacion catalogo, List<Rol> roles) {
+        long[] efectivos = PermisosBitset.crear(catalogo.totalAcciones());
+        for (Rol rol : roles) {
+            PermisosBitset.unir(efectivos, rol.permisos());
+        }
+
+        List<AccionCatalogo> permitidas = new ArrayList<>();
+        for (int ordinal = 0; ordinal < catalogo.totalAcciones(); ordinal++) {
+            if (PermisosBitset.contiene(efectivos, ordinal)) {
+                permitidas.add(catalogo.accion(ordinal));
+            }
+        }
+        permitidas.sort(Comparator.comparing(AccionCatalogo::seccionNombre, String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(AccionCatalogo::seccionId)
+                .thenComparing(AccionCatalogo::nombre, String.CASE_INSENSITIVE_ORDER));
+
+        Map<UUID, List<AccionCatalogo>> porSeccion = new LinkedHashMap<>();
+        for (AccionCatalogo accion : permitidas) {
+            porSeccion.computeIfAbsent(accion.seccionId(), id -> new ArrayList<>()).add(accion);
+        }
+        List<SeccionPermitida> secciones = porSeccion.values().stream()
+                .map(acciones -> new SeccionPermitida(
+                        acciones.get(0).seccionId(),
+                        acciones.get(0).seccionNombre(),
+                        acciones.stream().map(accion -> new AccionPermitida(accion.id(), accion.nombre())).toList()))
+                .toList();
+        return new ArbolPermisos(catalogo.aplicacionId(), catalogo.llaveIdentificadora(), secciones);
+    }
+
+    /**
+     * Clave de memorización: aplicación y tipos de usuario ordenados por ID.
+     */
+    record ClaveArbol(UUID aplicacionId, List<UUID> roles) {}
+
+    /**
+     * Árbol memorizado junto con las versiones del catálogo y de los tipos de usuario con que se calculó.
+     * Como el índice es inmutable, comparar por identidad detecta cualquier recarga posterior
+     * aunque la invalidación por evento llegue después de una lectura concurrente.
+     */
+    private record ArbolMemorizado(CatalogoAplicacion catalogo, List<Rol> roles, ArbolPermisos arbol) {
+
+        boolean vigente(CatalogoAplicacion catalogoActual, List<Rol> rolesActuales) {
+            if (catalogo != catalogoActual || roles.size() != rolesActuales.size()) {
+                return false;
+            }
+            for (int i = 0; i < roles.size(); i++) {
+                if (roles.get(i) != rolesActuales.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.server.api.application.service;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.server.api.application.auditoria.AgrupadorAuditoria;
+import com.server.api.application.auditoria.ColaAcotada;
+import com.server.api.application.auditoria.EscritorAuditoria;
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.application.auditoria.PoliticaDesborde;
+import com.server.api.application.auditoria.SpoolAuditoria;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que recibe los eventos de auditoría de accesos y los persiste en segundo plano.
+ * Registrar un evento solo lo agrega a una cola acotada sin bloqueos; uno o más hilos escritores
+ * la vacían en lotes que se escriben cuando alcanzan el tamaño de lote o cuando vence el intervalo,
+ * lo que ocurra primero. Así las operaciones auditadas no esperan a la base de datos.
+ * Qué ocurre cuando la cola está llena lo decide la {@link PoliticaDesborde} configurada.
+ * <p>
+ * Si hay un {@link SpoolAuditoria} configurado, los lotes que la base de datos rechaza se guardan en él
+ * en lugar de perderse, y los hilos escritores lo reproducen en orden cuando la base de datos vuelve a
+ * responder, esperando entre intentos fallidos. Los eventos que violan una restricción, por ejemplo
+ * los ya escritos antes de una caída, se descartan de a uno para no trabar la reproducción.
+ * <p>
+ * Si hay un {@link AgrupadorAuditoria} configurado, los accesos exitosos idénticos se agrupan antes de
+ * escribirlos, también los que quedan en cola al cerrar, y al cerrar se escriben los grupos abiertos.
+ * Con {@link PoliticaDesborde#ESCRIBIR_DIRECTO} el evento que desborda se suma a un grupo abierto si
+ * puede y solo se escribe en el hilo que registra si no. Lo reproducido del spool no se agrupa: ya pasó
+ * por el agrupador si venía de un lote rechazado, y agrupar eventos desbordados al spool cambiaría las
+ * filas que se reintentan, con lo que un evento ya escrito antes de una caída podría arrastrar al
+ * descarte a otros que no lo fueron.
+ * <p>
+ * Métricas: {@code auditoria.cola.profundidad}, {@code auditoria.escritura.duracion} por lote,
+ * {@code auditoria.spool.bytes} pendientes de reproducir, {@code auditoria.agrupacion.grupos} abiertos
+ * y {@code auditoria.eventos} por resultado (escrito, agrupado, descartado, directo, spool, error);
+ * escrito cuenta filas y agrupado los accesos que quedaron representados por la fila de otro.
+ * Los eventos aún en cola al detener la aplicación se escriben antes de cerrar.
+ * Cada lote escrito se cuenta en el resumen horario de auditoría.
+ */
+@Service
+@Slf4j
+public class AuditoriaService {
+
+    private static final Duration ESPERA_CIERRE = Duration.ofSeconds(10);
+    private static final long PAUSA_ESPERA_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final EscritorAuditoria escritor;
+    private final ResumenAuditoriaService resumenAuditoriaService;
+    private final SpoolAuditoria spool;
+    private final AgrupadorAuditoria agrupador;
+    private final ColaAcotada<EventoAuditoria> cola;
+    private final PoliticaDesborde politica;
+    private final int tamanoLote;
+    private final long intervaloNanos;
+    private final long esperaMaximaNanos;
+    private final long esperaReintentoSpoolNanos;
+    private final List<Thread> escritores = new ArrayList<>();
+    private volatile boolean activo = true;
+    private volatile long proximoIntentoSpool = System.nanoTime();
+
+    private final Counter eventosEscritos;
+    private final Counter eventosAgrupados;
+    private final Counter eventosDescartados;
+    private final Counter eventosDirectos;
+    private final Counter eventosEnSpool;
+    private final Counter eventosConError;
+    private final Timer duracionEscritura;
+
+    public AuditoriaService(
+            EscritorAuditoria escritor,
+            ResumenAuditoriaService resumenAuditoriaService,
+            Optional<SpoolAuditoria> spool,
+            Optional<AgrupadorAuditoria> agrupador,
+            MeterRegistry meterRegistry,
+            @Value("${app.auditoria.capacidad-cola:65536}") int capacidadCola,
+            @Value("${app.auditoria.tamano-lote:500}") int tamanoLote,
+            @Value("${app.auditoria.intervalo-ms:200}") long intervaloMs,
+            @Value("${app.auditoria.escritores:1}") int cantidadEscritores,
+            @Value("${app.auditoria.politica-desborde:ESCRIBIR_SPOOL}") PoliticaDesborde politica,
+            @Value("${app.auditoria.espera-maxima-ms:50}") long esperaMaximaMs,
+            @Value("${app.auditoria.spool.espera-reintento-ms:5000}") long esperaReintentoSpoolMs) {
+        if (tamanoLote < 1 || cantidadEscritores < 1) {
+            throw new IllegalArgumentException("El tamaño de lote y la cantidad de escritores deben ser positivos");
+        }
+        this.escritor = escritor;
+        this.resumenAuditoriaService = resumenAuditoriaService;
+        this.spool = spool.orElse(null);
+        this.agrupador = agrupador.orElse(null);
+        this.cola = new ColaAcotada<>(capacidadCola);
+        if (politica == PoliticaDesborde.ESCRIBIR_SPOOL && this.spool == null) {
+            log.warn("Política de desborde ESCRIBIR_SPOOL sin spool de auditoría habilitado; se usará DESCARTAR_NUEVO");
+            politica = PoliticaDesborde.DESCARTAR_NUEVO;
+        }
+        this.politica = politica;
+        this.tamanoLote = tamanoLote;
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+        this.esperaMaximaNanos = TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+        this.esperaReintentoSpoolNanos = TimeUnit.MILLISECONDS.toNanos(esperaReintentoSpoolMs);
+        this.eventosEscritos = meterRegistry.counter("auditoria.eventos", "resultado", "escrito");
+        this.eventosAgrupados = meterRegistry.counter("auditoria.eventos", "resultado", "agrupado");
+        this.eventosDescartados = meterRegistry.counter("auditoria.eventos", "resultado", "descartado");
+        this.eventosDirectos = meterRegistry.counter("auditoria.eventos", "resultado", "directo");
+        this.eventosEnSpool = meterRegistry.counter("auditoria.eventos", "resultado", "spool");
+        this.eventosConError = meterRegistry.counter("auditoria.eventos", "resultado", "error");
+        this.duracionEscritura = Timer.builder("auditoria.escritura.duracion")
+                .description("Duración de la escritura de cada lote de auditoría")
+                .register(meterRegistry);
+        Gauge.builder("auditoria.cola.profundidad", cola, ColaAcotada::tamano)
+                .description("Eventos de auditoría pendientes de escritura")
+                .register(meterRegistry);
+        if (this.spool != null) {
+            Gauge.builder("auditoria.spool.bytes", this.spool, SpoolAuditoria::bytesPendientes)
+                    .description("Bytes de eventos de auditoría en el spool pendientes de reproducir")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+        if (this.agrupador != null) {
+            Gauge.builder("auditoria.agrupacion.grupos", this.agrupador, AgrupadorAuditoria::grupos)
+                    .description("Grupos de accesos exitosos idénticos abiertos en memoria")
+                    .register(meterRegistry);
+        }
+        for (int i = 0; i < cantidadEscritores; i++) {
+            escritores.add(Thread.ofPlatform()
+                    .name("auditoria-escritor-" + i)
+                    .daemon(true)
+                    .start(this::ejecutarEscritor));
+        }
+    }
+
+    /**
+     * Registra un evento de auditoría para su escritura en segundo plano.
+     *
+     * @return false si el evento se descartó por estar la cola llena
+     */
+    public boolean registrar(EventoAuditoria evento) {
+        boolean aceptado = cola.ofrecer(evento) || desbordar(evento);
+        if (aceptado && cola.tamano() >= tamanoLote) {
+            despertarEscritores();
+        }
+        return aceptado;
+    }
+
+    /**
+     * Escribe en el hilo actual todos los eventos en cola, en lotes.
+     */
+    public void escribirPendientes() {
+        List<EventoAuditoria> lote = new ArrayList<>(tamanoLote);
+        EventoAuditoria evento;
+        while ((evento = cola.extraer()) != null) {
+            lote.add(evento);
+            if (lote.size() == tamanoLote) {
+                escribirPendientes(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            escribirPendientes(lote);
+        }
+        if (agrupador != null) {
+            escribirEnLotes(agrupador.vaciar());
+        }
+    }
+
+    private void escribirPendientes(List<EventoAuditoria> lote) {
+        if (agrupador != null) {
+            escribirEnLotes(agrupador.agrupar(lote, Instant.now()));
+        } else {
+            escribir(lote);
+        }
+    }
+
+    /**
+     * Eventos pendientes de escritura.
+     */
+    public int pendientes() {
+        return cola.tamano();
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        activo = false;
+        despertarEscritores();
+        long limite = System.nanoTime() + ESPERA_CIERRE.toNanos();
+        for (Thread hilo : escritores) {
+            try {
+                hilo.join(Duration.ofNanos(Math.max(1L, limite - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        escribirPendientes();
+        if (spool != null) {
+            spool.sincronizar();
+        }
+    }
+
+    private boolean desbordar(EventoAuditoria evento) {
+        switch (politica) {
+            case DESCARTAR_ANTIGUO -> {
+                while (!cola.ofrecer(evento)) {
+                    if (cola.extraer() != null) {
+                        eventosDescartados.increment();
+                    }
+                }
+                return true;
+            }
+            case ESPERAR -> {
+                despertarEscritores();
+                long limite = System.nanoTime() + esperaMaximaNanos;
+                while (System.nanoTime() < limite) {
+                    LockSupport.parkNanos(PAUSA_ESPERA_NANOS);
+                    if (cola.ofrecer(evento)) {
+                        return true;
+                    }
+                }
+            }
+            case ESCRIBIR_DIRECTO -> {
+                if (agrupador != null && agrupador.absorber(evento)) {
+                    // Lo escribe el hilo escritor que cierre el grupo
+                    return true;
+                }
+                try {
+                    escritor.escribir(List.of(evento));
+                    resumenAuditoriaService.acumular(List.of(evento));
+                    eventosDirectos.increment();
+                    return true;
+                } catch (RuntimeException e) {
+                    eventosConError.increment();
+                    log.error("Error escribiendo directamente un evento de auditoría", e);
+                    return false;
+                }
+            }
+            case ESCRIBIR_SPOOL -> {
+                if (guardarEnSpool(List.of(evento)) == 1) {
+                    return true;
+                }
+            }
+            case DESCARTAR_NUEVO -> {
+                // Se descarta abajo
+            }
+        }
+        eventosDescartados.increment();
+        return false;
+    }
+
+    private void ejecutarEscritor() {
+        List<EventoAuditoria> lote = new ArrayList<>(tamanoLote);
+        while (activo) {
+            llenarLote(lote);
+            if (agrupador != null) {
+                // Se consulta aunque el lote esté vacío para cerrar los grupos con la ventana vencida
+                escribirEnLotes(agrupador.agrupar(lote, Instant.now()));
+                lote.clear();
+            } else if (!lote.isEmpty()) {
+                escribir(lote);
+                lote.clear();
+            }
+            atenderSpool();
+        }
+    }
+
+    /**
+     * Reproduce un lote del spool si no se está esperando para reintentar, y sincroniza sus cambios.
+     */
+    private void atenderSpool() {
+        if (spool == null) {
+            return;
+        }
+        if (spool.bytesPendientes() > 0 && System.nanoTime() - proximoIntentoSpool >= 0) {
+            try {
+                spool.reproducir(tamanoLote, this::escribirReproducidos);
+            } catch (RuntimeException e) {
+                proximoIntentoSpool = System.nanoTime() + esperaReintentoSpoolNanos;
+                log.warn("No se pudo reproducir el spool de auditoría; se reintentará: {}", e.getMessage());
+            }
+        }
+        spool.sincronizar();
+    }
+
+    private void escribirReproducidos(List<EventoAuditoria> lote) {
+        List<EventoAuditoria> escritos = lote;
+        try {
+            escritor.escribir(lote);
+        } catch (RuntimeException e) {
+            if (!esViolacionDeRestriccion(e)) {
+                throw e;
+            }
+            escritos = new ArrayList<>(lote.size());
+            for (EventoAuditoria evento : lote) {
+                try {
+                    escritor.escribir(List.of(evento));
+                    escritos.add(evento);
+                } catch (RuntimeException errorEvento) {
+                    if (!esViolacionDeRestriccion(errorEvento)) {
+                        throw errorEvento;
+                    }
+                    eventosConError.increment();
+                    log.warn("Evento de auditoría {} del spool rechazado por la base de datos; se descarta", evento.id());
+                }
+            }
+        }
+        eventosEscritos.increment(escritos.size());
+        contarAgrupados(escritos);
+        resumenAuditoriaService.acumular(escritos);
+    }
+
+    private void contarAgrupados(List<EventoAuditoria> escritos) {
+        if (agrupador == null) {
+            return;
+        }
+        long agrupados = 0;
+        for (EventoAuditoria evento : escritos) {
+            agrupados += evento.ocurrencias() - 1;
+        }
+        if (agrupados > 0) {
+            eventosAgrupados.increment(agrupados);
+        }
+    }
+
+    /**
+     * @return cantidad de eventos guardados en el spool; los demás se cuentan como descartados por el llamador
+     */
+    private int guardarEnSpool(List<EventoAuditoria> eventos) {
+        if (spool == null) {
+            return 0;
+        }
+        try {
+            int guardados = spool.agregar(eventos);
+            eventosEnSpool.increment(guardados);
+            return guardados;
+        } catch (RuntimeException e) {
+            log.error("Error guardando eventos de auditoría en el spool", e);
+            return 0;
+        }
+    }
+
+    private static boolean esViolacionDeRestriccion(Throwable error) {
+        for (Throwable causa = error; causa != null; causa = causa.getCause()) {
+            if (causa instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            if (causa instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("23")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Toma eventos de la cola hasta completar el lote o hasta que vence el intervalo.
+     */
+    private void llenarLote(List<EventoAuditoria> lote) {
+        long limite = System.nanoTime() + intervaloNanos;
+        while (lote.size() < tamanoLote) {
+            long restante = limite - System.nanoTime();
+            boolean vencido = restante <= 0 || !activo;
+            // Los eventos quedan en la cola hasta completar el lote o vencer el intervalo, porque registrar
+            // solo mira la cola para despertar a los escritores
+            if (!vencido && cola.tamano() < tamanoLote - lote.size()) {
+                LockSupport.parkNanos(this, restante);
+                continue;
+            }
+            EventoAuditoria evento = cola.extraer();
+            if (evento != null) {
+                lote.add(evento);
+            } else if (vencido) {
+                return;
+            } else {
+                // Posición reservada por un productor que aún no publicó el evento, u otro escritor la vació
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void escribirEnLotes(List<EventoAuditoria> eventos) {
+        for (int desde = 0; desde < eventos.size(); desde += tamanoLote) {
+            escribir(eventos.subList(desde, Math.min(desde + tamanoLote, eventos.size())));
+        }
+    }
+
+    private void escribir(List<EventoAuditoria> lote) {
+        long inicio = System.nanoTime();
+        try {
+            escritor.escribir(lote);
+            eventosEscritos.increment(lote.size());
+            contarAgrupados(lote);
+            resumenAuditoriaService.acumular(lote);
+        } catch (RuntimeException e) {
+            int guardados = guardarEnSpool(lote);
+            if (guardados > 0) {
+                // La base de datos no responde: se espera antes de reproducir el spool
+                proximoIntentoSpool = System.nanoTime() + esperaReintentoSpoolNanos;
+                log.warn("Error escribiendo {} eventos de auditoría; {} guardados en el spool: {}", lote.size(),
+                        guardados, e.getMessage());
+            }
+            if (guardados < lote.size()) {
+                eventosConError.increment(lote.size() - guardados);
+                log.error("Error escribiendo {} eventos de auditoría", lote.size() - guardados, e);
+            }
+        } finally {
+            duracionEscritura.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void despertarEscritores() {
+        for (Thread hilo : escritores) {
+            LockSupport.unpark(hilo);
+        }
+    }
+}
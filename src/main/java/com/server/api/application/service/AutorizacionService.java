@@ -0,0 +1,323 @@
+package com.server.api.application.service;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.AccionCatalogo;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.IndicePermisos.Rol;
+import com.server.api.application.autorizacion.PermisosBitset;
+import com.server.api.domain.dto.autorizacion.DecisionesAutorizacion;
+import com.server.api.domain.dto.autorizacion.DecisionesAutorizacion.Formato;
+import com.server.api.domain.dto.autorizacion.VerificacionLoteRequest;
+import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+import com.server.api.domain.entity.TipoUsuario.EstadoTipoUsuario;
+import com.server.api.domain.entity.Usuario.EstadoUsuario;
+import com.server.api.domain.entity.VersionPermisos;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.PermisosModificadosEvent;
+import com.server.api.domain.repository.AccionRepository;
+import com.server.api.domain.repository.AccionRepository.AccionIndice;
+import com.server.api.domain.repository.AplicacionRepository;
+import com.server.api.domain.repository.AplicacionRepository.AplicacionIndice;
+import com.server.api.domain.repository.PermisoTipoUsuarioRepository;
+import com.server.api.domain.repository.PermisoTipoUsuarioRepository.PermisoIndice;
+import com.server.api.domain.repository.TipoUsuarioRepository;
+import com.server.api.domain.repository.TipoUsuarioRepository.TipoUsuarioIndice;
+import com.server.api.domain.repository.UsuarioTipoUsuarioRepository;
+import com.server.api.domain.repository.UsuarioTipoUsuarioRepository.AsignacionIndice;
+import com.server.api.domain.repository.VersionPermisosRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio de decisiones de autorización.
+ * Mantiene un índice compilado en memoria de aplicaciones, acciones, tipos de usuario,
+ * permisos y asignaciones, de modo que cada verificación se resuelve sin consultar la base de datos.
+ * Los permisos de cada tipo de usuario se codifican como bitset sobre ordinales densos por aplicación.
+ * El índice se reconstruye de forma incremental cuando se confirman cambios de permisos
+ * e incluye la versión de permisos de cada aplicación, leída antes que los datos que refleja.
+ */
+@Service
+@Slf4j
+public class AutorizacionService {
+
+    private final AplicacionRepository aplicacionRepository;
+    private final AccionRepository accionRepository;
+    private final TipoUsuarioRepository tipoUsuarioRepository;
+    private final PermisoTipoUsuarioRepository permisoTipoUsuarioRepository;
+    private final UsuarioTipoUsuarioRepository usuarioTipoUsuarioRepository;
+    private final VersionPermisosRepository versionPermisosRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<IndicePermisos> indice = new AtomicReference<>();
+    private final Object bloqueoEscritura = new Object();
+
+    public AutorizacionService(
+            AplicacionRepository aplicacionRepository,
+            AccionRepository accionRepository,
+            TipoUsuarioRepository tipoUsuarioRepository,
+            PermisoTipoUsuarioRepository permisoTipoUsuarioRepository,
+            UsuarioTipoUsuarioRepository usuarioTipoUsuarioRepository,
+            VersionPermisosRepository versionPermisosRepository,
+            PlatformTransactionManager transactionManager) {
+        this.aplicacionRepository = aplicacionRepository;
+        this.accionRepository = accionRepository;
+        this.tipoUsuarioRepository = tipoUsuarioRepository;
+        this.permisoTipoUsuarioRepository = permisoTipoUsuarioRepository;
+        this.usuarioTipoUsuarioRepository = usuarioTipoUsuarioRepository;
+        this.versionPermisosRepository = versionPermisosRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Verifica si un usuario puede ejecutar una acción en una aplicación.
+     *
+     * @param usuarioId identificador del usuario
+     * @param llaveIdentificadora llave de la aplicación
+     * @param accion ID o nombre de la acción
+     * @return true si alguno de los tipos de usuario del usuario concede la acción
+     */
+    public boolean verificar(UUID usuarioId, String llaveIdentificadora, String accion) {
+        return indiceActual().permite(usuarioId, llaveIdentificadora, accion);
+    }
+
+    /**
+     * Verifica varias acciones de un usuario contra una misma versión del índice.
+     *
+     * @param request usuario, aplicación y acciones (ID o nombre) a verificar
+     * @param formato formato de la respuesta: arreglo de booleanos o mapa de bits
+     * @return decisiones en el mismo orden de las acciones recibidas
+     */
+    public DecisionesAutorizacion verificarLote(VerificacionLoteRequest request, Formato formato) {
+        List<String> acciones = request.acciones();
+        long[] bits = indiceActual().permiteLote(request.usuarioId(), request.llaveIdentificadora(), acciones);
+
+        boolean[] decisiones = null;
+        String mapaBits = null;
+        if (formato == Formato.MAPA_BITS) {
+            mapaBits = Base64.getEncoder().encodeToString(PermisosBitset.aBytes(bits, acciones.size()));
+        } else {
+            decisiones = new boolean[acciones.size()];
+            for (int i = 0; i < decisiones.length; i++) {
+                decisiones[i] = PermisosBitset.contiene(bits, i);
+            }
+        }
+        return new DecisionesAutorizacion(request.usuarioId(), request.llaveIdentificadora(), acciones.size(),
+                PermisosBitset.cardinalidad(bits), decisiones, mapaBits);
+    }
+
+    /**
+     * Devuelve el índice vigente, construyéndolo si aún no existe.
+     */
+    public IndicePermisos indiceActual() {
+        IndicePermisos actual = indice.get();
+        if (actual != null) {
+            return actual;
+        }
+        synchronized (bloqueoEscritura) {
+            if (indice.get() == null) {
+                indice.set(construirIndice());
+            }
+            return indice.get();
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     */
+    public void reconstruir() {
+        synchronized (bloqueoEscritura) {
+            indice.set(construirIndice());
+        }
+    }
+
+    /**
+     * Construye el índice al arrancar para que la primera verificación no pague la carga.
+     * No escucha ApplicationReadyEvent por sí mismo: lo invoca CalentamientoService al recibir
+     * ese evento, en paralelo con el resto de cachés, y la readiness espera a que termine.
+     */
+    public void inicializar() {
+        try {
+            reconstruir();
+            IndicePermisos actual = indice.get();
+            log.info("Índice de autorización construido: {} aplicaciones, {} tipos de usuario, {} usuarios",
+                    actual.totalAplicaciones(), actual.totalRoles(), actual.totalUsuarios());
+        } catch (RuntimeException e) {
+            log.warn("No se pudo construir el índice de autorización al arrancar; se construirá bajo demanda", e);
+        }
+    }
+
+    /**
+     * Aplica de forma incremental los cambios confirmados.
+     * Solo recarga las filas afectadas: el catálogo de una aplicación (con sus tipos de usuario),
+     * los permisos de un tipo de usuario, las asignaciones de un usuario o los catálogos
+     * que muestran acciones de una sección.
+     */
+    @EventListener
+    public void alModificarPermisos(PermisosModificadosEvent evento) {
+        synchronized (bloqueoEscritura) {
+            IndicePermisos actual = indice.get();
+            if (actual == null) {
+                return;
+            }
+            try {
+                // Solo avanzan las versiones que trae el evento: son las de las aplicaciones recargadas aquí
+                indice.set(transactionTemplate.execute(status ->
+                        aplicarCambios(actual, evento.cambios()).conVersionesActualizadas(evento.versiones())));
+            } catch (RuntimeException e) {
+                log.error("Error aplicando cambios de permisos; se reconstruirá el índice completo", e);
+                indice.set(null);
+            }
+        }
+    }
+
+    private IndicePermisos aplicarCambios(IndicePermisos actual, Set<CambioPermisos> cambios) {
+        IndicePermisos resultado = actual;
+        for (Alcance alcance : Alcance.values()) {
+            for (CambioPermisos cambio : cambios) {
+                if (cambio.alcance() != alcance || cambio.id() == null) {
+                    continue;
+                }
+                resultado = switch (alcance) {
+                    case APLICACION -> recargarAplicacion(resultado, cambio.id());
+                    case TIPO_USUARIO -> resultado.conRol(cambio.id(), cargarRol(resultado, cambio.id()));
+                    case USUARIO -> resultado.conUsuario(cambio.id(), cargarRolesDeUsuario(cambio.id()));
+                    case SECCION -> recargarSeccion(resultado, cambio.id());
+                };
+            }
+        }
+        return resultado;
+    }
+
+    private IndicePermisos construirIndice() {
+        return transactionTemplate.execute(status -> {
+            Map<UUID, Long> versiones = cargarVersiones();
+            Map<UUID, List<AccionIndice>> accionesPorAplicacion = accionRepository.findIndiceActivas().stream()
+                    .collect(Collectors.groupingBy(AccionIndice::getAplicacionId));
+            Map<UUID, CatalogoAplicacion> catalogos = new HashMap<>();
+            for (AplicacionIndice aplicacion : aplicacionRepository.findIndiceByEstado(EstadoAplicacion.ACTIVO)) {
+                catalogos.put(aplicacion.getId(),
+                        aCatalogo(aplicacion, accionesPorAplicacion.getOrDefault(aplicacion.getId(), List.of())));
+            }
+
+            Map<UUID, List<UUID>> accionesPorRol = agruparPorRol(permisoTipoUsuarioRepository.findIndiceActivos());
+            List<Rol> roles = aRoles(tipoUsuarioRepository.findIndiceByEstado(EstadoTipoUsuario.ACTIVO),
+                    catalogos::get, accionesPorRol);
+
+            Map<UUID, Set<UUID>> rolesPorUsuario = new HashMap<>();
+            for (AsignacionIndice asignacion : usuarioTipoUsuarioRepository.findIndiceActivas(EstadoUsuario.ACTIVO)) {
+                rolesPorUsuario.computeIfAbsent(asignacion.getUsuarioId(), id -> new HashSet<>())
+                        .add(asignacion.getTipoUsuarioId());
+            }
+
+            return IndicePermisos.de(catalogos.values(), roles, rolesPorUsuario).conVersiones(versiones);
+        });
+    }
+
+    /**
+     * Recarga el catálogo de una aplicación junto con los bitsets de sus tipos de usuario,
+     * ya que los ordinales de las acciones pueden cambiar con el catálogo.
+     */
+    private IndicePermisos recargarAplicacion(IndicePermisos actual, UUID aplicacionId) {
+        CatalogoAplicacion catalogo = aplicacionRepository.findIndiceByIdAndEstado(aplicacionId, EstadoAplicacion.ACTIVO)
+                .map(aplicacion -> aCatalogo(aplicacion, accionRepository.findIndiceActivasByAplicacionId(aplicacionId)))
+                .orElse(null);
+        if (catalogo == null) {
+            return actual.conAplicacion(aplicacionId, null, List.of());
+        }
+        Map<UUID, List<UUID>> accionesPorRol =
+                agruparPorRol(permisoTipoUsuarioRepository.findIndiceActivosByAplicacionId(aplicacionId));
+        List<Rol> roles = aRoles(
+                tipoUsuarioRepository.findIndiceByAplicacionIdAndEstado(aplicacionId, EstadoTipoUsuario.ACTIVO),
+                id -> catalogo, accionesPorRol);
+        return actual.conAplicacion(aplicacionId, catalogo, roles);
+    }
+
+    private IndicePermisos recargarSeccion(IndicePermisos actual, UUID seccionId) {
+        IndicePermisos resultado = actual;
+        for (UUID aplicacionId : actual.aplicacionesConSeccion(seccionId)) {
+            resultado = recargarAplicacion(resultado, aplicacionId);
+        }
+        return resultado;
+    }
+
+    private Rol cargarRol(IndicePermisos actual, UUID tipoUsuarioId) {
+        return tipoUsuarioRepository.findIndiceByIdAndEstado(tipoUsuarioId, EstadoTipoUsuario.ACTIVO)
+                .map(tipo -> actual.catalogo(tipo.getAplicacionId()))
+                .map(catalogo -> Rol.de(tipoUsuarioId, catalogo,
+                        permisoTipoUsuarioRepository.findIndiceActivosByTipoUsuarioId(tipoUsuarioId).stream()
+                                .map(PermisoIndice::getAccionId)
+                                .toList()))
+                .orElse(null);
+    }
+
+    private Map<UUID, Long> cargarVersiones() {
+        Map<UUID, Long> versiones = new HashMap<>();
+        for (VersionPermisos version : versionPermisosRepository.findAll()) {
+            versiones.put(version.getAplicacionId(), version.getVersion());
+        }
+        return versiones;
+    }
+
+    private Set<UUID> cargarRolesDeUsuario(UUID usuarioId) {
+        return usuarioTipoUsuarioRepository.findIndiceActivasByUsuarioId(usuarioId, EstadoUsuario.ACTIVO).stream()
+                .map(AsignacionIndice::getTipoUsuarioId)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<UUID, List<UUID>> agruparPorRol(List<PermisoIndice> permisos) {
+        Map<UUID, List<UUID>> accionesPorRol = new HashMap<>();
+        for (PermisoIndice permiso : permisos) {
+            accionesPorRol.computeIfAbsent(permiso.getTipoUsuarioId(), id -> new ArrayList<>()).add(permiso.getAccionId());
+        }
+        return accionesPorRol;
+    }
+
+    /**
+     * Codifica los tipos de usuario cuya aplicación está en el índice; el resto se descarta.
+     */
+    private List<Rol> aRoles(List<TipoUsuarioIndice> tipos, Function<UUID, CatalogoAplicacion> catalogoPorAplicacion,
+                             Map<UUID, List<UUID>> accionesPorRol) {
+        List<Rol> roles = new ArrayList<>();
+        for (TipoUsuarioIndice tipo : tipos) {
+            CatalogoAplicacion catalogo = catalogoPorAplicacion.apply(tipo.getAplicacionId());
+            if (catalogo != null) {
+                roles.add(Rol.de(tipo.getId(), catalogo, accionesPorRol.getOrDefault(tipo.getId(), List.of())));
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * Ordena las acciones por ID para que los ordinales sean deterministas entre reconstrucciones.
+     */
+    private CatalogoAplicacion aCatalogo(AplicacionIndice aplicacion, List<AccionIndice> acciones) {
+        List<AccionCatalogo> ordenadas = acciones.stream()
+                .sorted(Comparator.comparing(AccionIndice::getId))
+                .map(accion -> new AccionCatalogo(accion.getId(), accion.getNombre(),
+                        accion.getSeccionId(), accion.getSeccionNombre()))
+                .toList();
+        return CatalogoAplicacion.de(aplicacion.getId(), aplicacion.getLlaveIdentificadora(), ordenadas);
+    }
+}
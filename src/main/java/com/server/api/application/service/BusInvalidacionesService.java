@@ -0,0 +1,193 @@
+package com.server.api.application.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.server.api.application.invalidacion.LoteInvalidaciones;
+import com.server.api.application.invalidacion.TransporteInvalidaciones;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.PermisosModificadosEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bus que difunde a las demás instancias los cambios de permisos confirmados en esta,
+ * para que sus índices y cachés en memoria no sirvan datos obsoletos.
+ * Los cambios locales se acumulan durante una ventana corta y se envían en un solo lote sin duplicados;
+ * los lotes recibidos de otras instancias se publican como {@link PermisosModificadosEvent} remotos,
+ * que los consumidores en proceso aplican igual que los locales y que no vuelven a difundirse.
+ * <p>
+ * Cada instancia publica su retraso de invalidación, desde el cambio más antiguo del lote hasta
+ * su aplicación local, en {@code invalidaciones.retraso} y {@code invalidaciones.retraso.ultimo};
+ * incluye la diferencia de reloj entre instancias.
+ */
+@Service
+@Slf4j
+public class BusInvalidacionesService {
+
+    private final TransporteInvalidaciones transporte;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AutorizacionService autorizacionService;
+    private final long ventanaMs;
+    private final UUID nodo = UUID.randomUUID();
+
+    private final Object bloqueo = new Object();
+    private Set<CambioPermisos> pendientes = new LinkedHashSet<>();
+    private Map<UUID, Long> versionesPendientes = new HashMap<>();
+    private long pendientesDesde;
+    private final AtomicBoolean envioProgramado = new AtomicBoolean();
+    private final ScheduledExecutorService programador;
+
+    private final Counter cambiosEnviados;
+    private final Counter cambiosAgrupados;
+    private final Counter cambiosRecibidos;
+    private final Counter erroresEnvio;
+    private final Timer retraso;
+    private final AtomicLong ultimoRetrasoMs = new AtomicLong();
+
+    public BusInvalidacionesService(
+            TransporteInvalidaciones transporte,
+            ApplicationEventPublisher eventPublisher,
+            AutorizacionService autorizacionService,
+            MeterRegistry meterRegistry,
+            @Value("${app.invalidaciones.ventana-ms:100}") long ventanaMs) {
+        this.transporte = transporte;
+        this.eventPublisher = eventPublisher;
+        this.autorizacionService = autorizacionService;
+        this.ventanaMs = ventanaMs;
+        this.cambiosEnviados = meterRegistry.counter("invalidaciones.cambios", "resultado", "enviado");
+        this.cambiosAgrupados = meterRegistry.counter("invalidaciones.cambios", "resultado", "agrupado");
+        this.cambiosRecibidos = meterRegistry.counter("invalidaciones.cambios", "resultado", "recibido");
+        this.erroresEnvio = meterRegistry.counter("invalidaciones.errores");
+        this.retraso = Timer.builder("invalidaciones.retraso")
+                .description("Tiempo desde el cambio en otra instancia hasta su aplicación local")
+                .register(meterRegistry);
+        Gauge.builder("invalidaciones.retraso.ultimo", ultimoRetrasoMs, AtomicLong::get)
+                .description("Retraso del último lote recibido, en milisegundos")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.programador = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("bus-invalidaciones")
+                .daemon(true)
+                .factory());
+        transporte.suscribir(this::recibir, this::resincronizar);
+    }
+
+    /**
+     * Acumula los cambios confirmados en esta instancia y programa el envío del lote
+     * al cerrar la ventana si no hay uno pendiente. Los eventos remotos, que este mismo bus publica
+     * al recibir un lote, nunca se vuelven a difundir.
+     */
+    @EventListener(condition = "!#evento.remoto()")
+    public void alModificarPermisos(PermisosModificadosEvent evento) {
+        if (evento.remoto() || evento.cambios().isEmpty()) {
+            return;
+        }
+        synchronized (bloqueo) {
+            if (pendientes.isEmpty()) {
+                pendientesDesde = System.currentTimeMillis();
+            }
+            for (CambioPermisos cambio : evento.cambios()) {
+                if (!pendientes.add(cambio)) {
+                    cambiosAgrupados.increment();
+                }
+            }
+            evento.versiones().forEach((aplicacionId, version) ->
+                    versionesPendientes.merge(aplicacionId, version, Math::max));
+        }
+        if (envioProgramado.compareAndSet(false, true)) {
+            programador.schedule(this::enviarPendientes, ventanaMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Envía en un solo lote los cambios acumulados. Si el envío falla, los cambios vuelven
+     * a quedar pendientes para la siguiente ventana.
+     */
+    public void enviarPendientes() {
+        LoteInvalidaciones lote;
+        synchronized (bloqueo) {
+            envioProgramado.set(false);
+            if (pendientes.isEmpty()) {
+                return;
+            }
+            lote = new LoteInvalidaciones(nodo, pendientesDesde, pendientes, versionesPendientes);
+            pendientes = new LinkedHashSet<>();
+            versionesPendientes = new HashMap<>();
+        }
+        try {
+            transporte.enviar(lote);
+            cambiosEnviados.increment(lote.cambios().size());
+        } catch (RuntimeException e) {
+            erroresEnvio.increment();
+            log.error("Error enviando {} invalidaciones; se reintentará", lote.cambios().size(), e);
+            reencolar(lote);
+        }
+    }
+
+    /**
+     * Identificador de esta instancia en el bus.
+     */
+    public UUID nodo() {
+        return nodo;
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        programador.shutdownNow();
+        enviarPendientes();
+        transporte.cerrar();
+    }
+
+    private void recibir(LoteInvalidaciones lote) {
+        if (nodo.equals(lote.nodo())) {
+            return;
+        }
+        eventPublisher.publishEvent(new PermisosModificadosEvent(lote.cambios(), lote.versiones(), true));
+        long retrasoMs = Math.max(0L, System.currentTimeMillis() - lote.desde());
+        retraso.record(retrasoMs, TimeUnit.MILLISECONDS);
+        ultimoRetrasoMs.set(retrasoMs);
+        cambiosRecibidos.increment(lote.cambios().size());
+    }
+
+    /**
+     * El transporte pudo perder lotes: se reconstruye el índice de autorización completo.
+     * Las cachés de entidades se corrigen con el outbox, que no depende del transporte.
+     */
+    private void resincronizar() {
+        log.info("Posible pérdida de invalidaciones; se reconstruye el índice de autorización");
+        autorizacionService.reconstruir();
+    }
+
+    private void reencolar(LoteInvalidaciones lote) {
+        synchronized (bloqueo) {
+            if (pendientes.isEmpty() || lote.desde() < pendientesDesde) {
+                pendientesDesde = lote.desde();
+            }
+            pendientes.addAll(lote.cambios());
+            lote.versiones().forEach((aplicacionId, version) ->
+                    versionesPendientes.merge(aplicacionId, version, Math::max));
+        }
+        if (!programador.isShutdown() && envioProgramado.compareAndSet(false, true)) {
+            programador.schedule(this::enviarPendientes, ventanaMs, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.server.api.application.service;
+
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.server.api.domain.entity.Aplicacion;
+import com.server.api.domain.entity.BaseEntity;
+import com.server.api.domain.entity.RegionesCache;
+import com.server.api.domain.entity.Seccion;
+import com.server.api.domain.entity.TipoUsuario;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.EntidadModificadaEvent;
+import com.server.api.domain.event.PermisosModificadosEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantiene coherente la caché de segundo nivel de Hibernate de aplicaciones, secciones y tipos de usuario.
+ * <p>
+ * Las escrituras locales actualizan la caché al confirmar y las consultas cacheadas se invalidan con las
+ * marcas de actualización de cada tabla, incluidos los borrados lógicos y las restauraciones. Como la carga
+ * por ID desde la caché no aplica el {@code @Where} de borrado lógico, las entidades borradas lógicamente
+ * se desalojan al confirmar, para que la siguiente carga vuelva a la base de datos.
+ * <p>
+ * La caché es local a cada instancia: los cambios de otras instancias desalojan la entidad y las consultas
+ * de su tipo al recibirse por el bus de invalidaciones y, como respaldo, por el outbox.
+ */
+@Service
+@Slf4j
+public class CacheSegundoNivelService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheSegundoNivelService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void registrar() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_COMMIT_UPDATE, new DesalojoBorradoLogico());
+    }
+
+    /**
+     * Desaloja la entidad modificada en otra instancia según el outbox.
+     */
+    @EventListener
+    public void alModificarEntidad(EntidadModificadaEvent evento) {
+        switch (evento.entidad()) {
+            case APLICACION -> desalojar(Aplicacion.class, evento.entidadId(), RegionesCache.CONSULTAS_APLICACIONES);
+            case SECCION -> desalojar(Seccion.class, evento.entidadId(), RegionesCache.CONSULTAS_SECCIONES);
+            case TIPO_USUARIO -> desalojar(TipoUsuario.class, evento.entidadId(), RegionesCache.CONSULTAS_TIPOS_USUARIO);
+            case ACCION -> {
+                // Las acciones no se guardan en la caché de segundo nivel
+            }
+        }
+    }
+
+    /**
+     * Desaloja las entidades afectadas por cambios de otra instancia apenas los entrega el bus de invalidaciones,
+     * antes de que lleguen por el outbox.
+     */
+    @EventListener(condition = "#evento.remoto()")
+    public void alModificarPermisos(PermisosModificadosEvent evento) {
+        for (CambioPermisos cambio : evento.cambios()) {
+            switch (cambio.alcance()) {
+                case APLICACION -> desalojar(Aplicacion.class, cambio.id(), RegionesCache.CONSULTAS_APLICACIONES);
+                case SECCION -> desalojar(Seccion.class, cambio.id(), RegionesCache.CONSULTAS_SECCIONES);
+                case TIPO_USUARIO -> desalojar(TipoUsuario.class, cambio.id(), RegionesCache.CONSULTAS_TIPOS_USUARIO);
+                case USUARIO -> {
+                    // Los usuarios no se guardan en la caché de segundo nivel
+                }
+            }
+        }
+    }
+
+    private void desalojar(Class<?> entidad, UUID id, String regionConsultas) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        if (id != null) {
+            cache.evictEntityData(entidad, id);
+        }
+        cache.evictQueryRegion(regionConsultas);
+        log.debug("Caché de segundo nivel desalojada para {} {}", entidad.getSimpleName(), id);
+    }
+
+    /**
+     * Desaloja de la caché las entidades borradas lógicamente una vez confirmada la transacción,
+     * después de que Hibernate haya guardado en ella su nuevo estado.
+     */
+    private static final class DesalojoBorradoLogico implements PostCommitUpdateEventListener {
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (event.getEntity() instanceof BaseEntity entidad && entidad.isDeleted()) {
+                event.getSession().getFactory().getCache()
+                        .evictEntityData(event.getPersister().getEntityName(), event.getId());
+            }
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+            // Si la transacción no se confirma, Hibernate libera el bloqueo de la entrada sin actualizarla
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.canWriteToCache();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.server.api.application.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.server.api.domain.entity.Aplicacion;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que precarga al arrancar las cachés e índices en memoria, para que las primeras
+ * peticiones después de un despliegue no paguen la carga en frío: el registro de aplicaciones
+ * (caché por llave y caché de segundo nivel), el catálogo de secciones y el índice de autorización.
+ * Las tareas se ejecutan en paralelo y en segundo plano; la instancia se reporta como no lista
+ * hasta que terminan o vence el presupuesto de tiempo, lo que ocurra primero.
+ * Una tarea con error no bloquea la disponibilidad: su caché se construirá bajo demanda.
+ */
+@Service
+@Slf4j
+public class CalentamientoService {
+
+    /**
+     * Estado del calentamiento.
+     */
+    public enum Estado {
+        PENDIENTE,
+        EN_CURSO,
+        COMPLETADO,
+        VENCIDO
+    }
+
+    private final AplicacionService aplicacionService;
+    private final SeccionService seccionService;
+    private final AutorizacionService autorizacionService;
+    private final Duration presupuesto;
+
+    private final Map<String, String> tareas = new ConcurrentHashMap<>();
+    private volatile Estado estado = Estado.PENDIENTE;
+
+    public CalentamientoService(
+            AplicacionService aplicacionService,
+            SeccionService seccionService,
+            AutorizacionService autorizacionService,
+            @Value("${app.calentamiento.presupuesto-ms:60000}") long presupuestoMs) {
+        this.aplicacionService = aplicacionService;
+        this.seccionService = seccionService;
+        this.autorizacionService = autorizacionService;
+        this.presupuesto = Duration.ofMillis(presupuestoMs);
+    }
+
+    /**
+     * Inicia el calentamiento en segundo plano una vez arrancada la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        Thread.ofPlatform().name("calentamiento").daemon(true).start(this::calentar);
+    }
+
+    /**
+     * Ejecuta las tareas de calentamiento en paralelo y espera a lo sumo el presupuesto de tiempo.
+     */
+    public void calentar() {
+        estado = Estado.EN_CURSO;
+        long inicio = System.nanoTime();
+        // Hilos de plataforma: las tareas consultan la base de datos dentro de bloques synchronized, que en
+        // Java 21 fijan un hilo virtual a su portador y con pocos núcleos pueden trabar a los demás
+        ExecutorService hilos = Executors.newThreadPerTaskExecutor(
+                Thread.ofPlatform().name("calentamiento-", 0).daemon(true).factory());
+        try {
+            CompletableFuture<?>[] ejecuciones = List.of(
+                    ejecutar("aplicaciones", this::calentarAplicaciones, hilos),
+                    ejecutar("secciones", seccionService::obtenerTodas, hilos),
+                    ejecutar("autorizacion", autorizacionService::inicializar, hilos)
+            ).toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(ejecuciones).get(presupuesto.toMillis(), TimeUnit.MILLISECONDS);
+            estado = Estado.COMPLETADO;
+            log.info("Calentamiento completado en {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio), tareas);
+        } catch (TimeoutException e) {
+            estado = Estado.VENCIDO;
+            log.warn("El calentamiento superó el presupuesto de {} ms; la instancia queda lista con tareas pendientes: {}",
+                    presupuesto.toMillis(), tareas);
+        } catch (ExecutionException e) {
+            // Cada tarea registra su propio error; no se espera que allOf falle
+            estado = Estado.COMPLETADO;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            estado = Estado.VENCIDO;
+        } finally {
+            // Las tareas vencidas siguen en curso sin retener la disponibilidad
+            hilos.shutdown();
+        }
+    }
+
+    /**
+     * Indica si la instancia puede recibir tráfico: el calentamiento terminó o venció su presupuesto.
+     */
+    public boolean listo() {
+        return estado == Estado.COMPLETADO || estado == Estado.VENCIDO;
+    }
+
+    public Estado estado() {
+        return estado;
+    }
+
+    /**
+     * Resultado de cada tarea: duración en milisegundos, error o pendiente.
+     */
+    public Map<String, String> tareas() {
+        return new LinkedHashMap<>(tareas);
+    }
+
+    /**
+     * Carga las aplicaciones activas, que quedan en la caché de segundo nivel,
+     * y la caché de búsquedas por llave identificadora.
+     */
+    private void calentarAplicaciones() {
+        for (Aplicacion aplicacion : aplicacionService.obtenerTodas()) {
+            aplicacionService.obtenerPorLlaveIdentificadora(aplicacion.getLlaveIdentificadora());
+        }
+    }
+
+    private CompletableFuture<Void> ejecutar(String nombre, Runnable tarea, ExecutorService hilos) {
+        tareas.put(nombre, "pendiente");
+        return CompletableFuture.runAsync(() -> {
+            long inicio = System.nanoTime();
+            try {
+                tarea.run();
+                tareas.put(nombre, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio) + " ms");
+            } catch (RuntimeException e) {
+                tareas.put(nombre, "error: " + e.getMessage());
+                log.warn("Error en la tarea de calentamiento {}; se cargará bajo demanda", nombre, e);
+            }
+        }, hilos);
+    }
+}
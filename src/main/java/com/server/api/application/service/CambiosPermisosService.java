@@ -0,0 +1,186 @@
+package com.server.api.application.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.domain.dto.autorizacion.NotificacionCambioPermisos;
+import com.server.api.domain.event.PermisosModificadosEvent;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que notifica por Server-Sent Events los cambios de permisos de cada aplicación.
+ * Los suscriptores inactivos no ocupan hilos: cada conexión es una respuesta asíncrona del servlet.
+ * Los cambios se acumulan durante una ventana corta y se envía un único evento por aplicación
+ * con la versión más reciente; los envíos se hacen en hilos virtuales para que un cliente lento
+ * no retrase al resto.
+ */
+@Service
+@Slf4j
+public class CambiosPermisosService {
+
+    static final String EVENTO_PERMISOS = "permisos";
+
+    private final AutorizacionService autorizacionService;
+    private final long ventanaMs;
+    private final long timeoutMs;
+
+    private final Map<UUID, Canal> canales = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> pendientes = new ConcurrentHashMap<>();
+    private final AtomicBoolean envioProgramado = new AtomicBoolean();
+    private final ScheduledExecutorService programador;
+    private final ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CambiosPermisosService(
+            AutorizacionService autorizacionService,
+            @Value("${app.autorizacion.cambios.ventana-ms:500}") long ventanaMs,
+            @Value("${app.autorizacion.cambios.latido-ms:30000}") long latidoMs,
+            @Value("${app.autorizacion.cambios.timeout-ms:1800000}") long timeoutMs) {
+        this.autorizacionService = autorizacionService;
+        this.ventanaMs = ventanaMs;
+        this.timeoutMs = timeoutMs;
+        this.programador = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("cambios-permisos")
+                .daemon(true)
+                .factory());
+        this.programador.scheduleAtFixedRate(this::enviarLatidos, latidoMs, latidoMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Suscribe al cliente a los cambios de permisos de la aplicación.
+     * Al suscribirse recibe de inmediato la versión vigente, para detectar cambios perdidos al reconectar.
+     *
+     * @param llaveIdentificadora llave de la aplicación
+     * @return emisor SSE de la suscripción
+     * @throws EntityNotFoundException si la aplicación no existe o no está activa
+     */
+    public SseEmitter suscribir(String llaveIdentificadora) {
+        IndicePermisos indice = autorizacionService.indiceActual();
+        CatalogoAplicacion catalogo = indice.catalogoPorLlave(llaveIdentificadora);
+        if (catalogo == null) {
+            throw new EntityNotFoundException("Aplicación no encontrada con llave: " + llaveIdentificadora);
+        }
+        UUID aplicacionId = catalogo.aplicacionId();
+
+        SseEmitter emisor = new SseEmitter(timeoutMs);
+        canales.compute(aplicacionId, (id, canal) -> {
+            Canal destino = canal != null ? canal : new Canal(catalogo.llaveIdentificadora(), ConcurrentHashMap.newKeySet());
+            destino.emisores().add(emisor);
+            return destino;
+        });
+        emisor.onCompletion(() -> retirar(aplicacionId, emisor));
+        emisor.onTimeout(() -> retirar(aplicacionId, emisor));
+        emisor.onError(error -> retirar(aplicacionId, emisor));
+
+        enviar(emisor, new NotificacionCambioPermisos(aplicacionId, catalogo.llaveIdentificadora(),
+                indice.version(aplicacionId)));
+        return emisor;
+    }
+
+    /**
+     * Acumula las nuevas versiones de las aplicaciones con suscriptores y programa un envío
+     * al cerrar la ventana si no hay uno pendiente.
+     */
+    @EventListener
+    public void alModificarPermisos(PermisosModificadosEvent evento) {
+        boolean acumulado = false;
+        for (Map.Entry<UUID, Long> version : evento.versiones().entrySet()) {
+            if (canales.containsKey(version.getKey())) {
+                pendientes.merge(version.getKey(), version.getValue(), Math::max);
+                acumulado = true;
+            }
+        }
+        if (acumulado && envioProgramado.compareAndSet(false, true)) {
+            programador.schedule(this::enviarPendientes, ventanaMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cantidad de suscriptores activos de la aplicación.
+     */
+    public int totalSuscriptores(UUID aplicacionId) {
+        Canal canal = canales.get(aplicacionId);
+        return canal != null ? canal.emisores().size() : 0;
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        programador.shutdownNow();
+        envios.shutdownNow();
+        canales.values().forEach(canal -> canal.emisores().forEach(SseEmitter::complete));
+        canales.clear();
+    }
+
+    private void enviarPendientes() {
+        // Se libera antes de vaciar: un cambio que llegue durante el envío programa la siguiente ventana
+        envioProgramado.set(false);
+        for (UUID aplicacionId : pendientes.keySet()) {
+            Long version = pendientes.remove(aplicacionId);
+            Canal canal = canales.get(aplicacionId);
+            if (version == null || canal == null) {
+                continue;
+            }
+            NotificacionCambioPermisos notificacion =
+                    new NotificacionCambioPermisos(aplicacionId, canal.llaveIdentificadora(), version);
+            for (SseEmitter emisor : canal.emisores()) {
+                envios.execute(() -> enviar(emisor, notificacion));
+            }
+            log.debug("Cambio de permisos v{} notificado a {} suscriptores de {}",
+                    version, canal.emisores().size(), canal.llaveIdentificadora());
+        }
+    }
+
+    private void enviarLatidos() {
+        for (Canal canal : canales.values()) {
+            for (SseEmitter emisor : canal.emisores()) {
+                envios.execute(() -> {
+                    try {
+                        emisor.send(SseEmitter.event().comment("latido"));
+                    } catch (IOException | IllegalStateException e) {
+                        emisor.completeWithError(e);
+                    }
+                });
+            }
+        }
+    }
+
+    private void enviar(SseEmitter emisor, NotificacionCambioPermisos notificacion) {
+        try {
+            emisor.send(SseEmitter.event()
+                    .name(EVENTO_PERMISOS)
+                    .id(String.valueOf(notificacion.version()))
+                    .data(notificacion));
+        } catch (IOException | IllegalStateException e) {
+            emisor.completeWithError(e);
+        }
+    }
+
+    private void retirar(UUID aplicacionId, SseEmitter emisor) {
+        canales.computeIfPresent(aplicacionId, (id, canal) -> {
+            canal.emisores().remove(emisor);
+            return canal.emisores().isEmpty() ? null : canal;
+        });
+    }
+
+    /**
+     * Suscriptores de una aplicación.
+     */
+    private record Canal(String llaveIdentificadora, Set<SseEmitter> emisores) {}
+}
@@ -0,0 +1,103 @@
+package com.server.api.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.server.api.application.auditoria.CursorAuditoria;
+import com.server.api.domain.dto.auditoria.AuditoriaAccesoResponse;
+import com.server.api.domain.dto.auditoria.FiltroAuditoria;
+import com.server.api.domain.dto.auditoria.PaginaAuditoria;
+import com.server.api.domain.dto.auditoria.ResumenAuditoriaHora;
+import com.server.api.domain.repository.AuditoriaAccesoConsultaRepository;
+import com.server.api.domain.repository.AuditoriaResumenHorarioRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio de consulta de la auditoría de accesos.
+ * Las consultas se paginan con un cursor opaco que marca el último registro entregado, por lo que
+ * el costo de cada página no depende de cuántas se leyeron antes. El rango de fechas es obligatorio
+ * y acotado, para que cada consulta recorra solo las particiones que lo cubren.
+ * Los reportes por hora se leen del resumen horario, no de los registros individuales.
+ */
+@Service
+@Slf4j
+public class ConsultaAuditoriaService {
+
+    private final AuditoriaAccesoConsultaRepository consultaRepository;
+    private final AuditoriaResumenHorarioRepository resumenRepository;
+    private final Duration rangoMaximo;
+    private final Duration rangoMaximoResumen;
+    private final int limiteMaximo;
+
+    public ConsultaAuditoriaService(
+            AuditoriaAccesoConsultaRepository consultaRepository,
+            AuditoriaResumenHorarioRepository resumenRepository,
+            @Value("${app.auditoria.consulta.rango-maximo-dias:31}") long rangoMaximoDias,
+            @Value("${app.auditoria.consulta.limite-maximo:500}") int limiteMaximo,
+            @Value("${app.auditoria.resumen.rango-maximo-dias:93}") long rangoMaximoResumenDias) {
+        this.consultaRepository = consultaRepository;
+        this.resumenRepository = resumenRepository;
+        this.rangoMaximo = Duration.ofDays(rangoMaximoDias);
+        this.limiteMaximo = limiteMaximo;
+        this.rangoMaximoResumen = Duration.ofDays(rangoMaximoResumenDias);
+    }
+
+    /**
+     * Obtiene una página de registros que cumplen el filtro, del más reciente al más antiguo.
+     *
+     * @param cursor cursor recibido en la página anterior con el mismo filtro; null para la primera
+     * @throws IllegalArgumentException si el rango de fechas, el límite o el cursor no son válidos
+     */
+    public PaginaAuditoria buscar(FiltroAuditoria filtro, String cursor, int limite) {
+        validar(filtro, limite);
+        CursorAuditoria desde = cursor != null && !cursor.isBlank() ? CursorAuditoria.decodificar(cursor) : null;
+        log.debug("Consultando auditoría entre {} y {}", filtro.desde(), filtro.hasta());
+
+        // Se pide un registro de más para saber si hay página siguiente sin contar
+        List<AuditoriaAccesoResponse> registros = consultaRepository.buscar(filtro,
+                desde != null ? desde.fecha() : null, desde != null ? desde.id() : null, limite + 1);
+        if (registros.size() <= limite) {
+            return new PaginaAuditoria(registros, null);
+        }
+        List<AuditoriaAccesoResponse> pagina = registros.subList(0, limite);
+        AuditoriaAccesoResponse ultimo = pagina.get(limite - 1);
+        return new PaginaAuditoria(List.copyOf(pagina), CursorAuditoria.de(ultimo.fecha(), ultimo.id()).codificar());
+    }
+
+    /**
+     * Accesos exitosos y fallidos por hora, aplicación y acción, ordenados por hora.
+     * Incluye las horas que empiezan dentro del rango.
+     *
+     * @throws IllegalArgumentException si el rango de fechas no es válido
+     */
+    public List<ResumenAuditoriaHora> resumir(OffsetDateTime desde, OffsetDateTime hasta, UUID aplicacionId,
+                                              UUID accionId) {
+        validarRango(desde, hasta, rangoMaximoResumen);
+        return resumenRepository.buscar(desde, hasta, aplicacionId, accionId);
+    }
+
+    private void validar(FiltroAuditoria filtro, int limite) {
+        validarRango(filtro.desde(), filtro.hasta(), rangoMaximo);
+        if (limite < 1 || limite > limiteMaximo) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + limiteMaximo);
+        }
+    }
+
+    private void validarRango(OffsetDateTime desde, OffsetDateTime hasta, Duration maximo) {
+        if (desde == null || hasta == null) {
+            throw new IllegalArgumentException("El rango de fechas es obligatorio");
+        }
+        if (!desde.isBefore(hasta)) {
+            throw new IllegalArgumentException("La fecha desde debe ser anterior a la fecha hasta");
+        }
+        if (Duration.between(desde, hasta).compareTo(maximo) > 0) {
+            throw new IllegalArgumentException("El rango de fechas no puede superar " + maximo.toDays() + " días");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.server.api.application.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.server.api.application.estadisticas.EstadisticasRevalidadas;
+import com.server.api.application.estadisticas.Medicion;
+import com.server.api.domain.dto.accion.EstadisticasAcciones;
+import com.server.api.domain.dto.seccion.EstadisticasSecciones;
+import com.server.api.domain.entity.TipoUsuario.EstadoTipoUsuario;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Servicio que entrega las estadísticas de acciones, secciones y tipos de usuario desde valores
+ * cacheados, para que los paneles que las consultan de forma continua no ejecuten conteos en cada petición.
+ * Un valor más antiguo que la edad máxima se sigue entregando mientras se recalcula en segundo plano;
+ * quien consulta nunca espera un recálculo, solo el primer cálculo de cada combinación de filtros.
+ * Cada resultado informa cuándo se calculó.
+ * Dentro de una transacción ya iniciada las estadísticas se calculan al momento, para incluir sus cambios.
+ */
+@Service
+public class EstadisticasService {
+
+    private static final String TODAS = "todas";
+
+    private final AccionService accionService;
+    private final SeccionService seccionService;
+    private final TipoUsuarioService tipoUsuarioService;
+
+    private final ExecutorService recalculos = Executors.newVirtualThreadPerTaskExecutor();
+    private final EstadisticasRevalidadas<FiltroAcciones, EstadisticasAcciones> acciones;
+    private final EstadisticasRevalidadas<String, EstadisticasSecciones> secciones;
+    private final EstadisticasRevalidadas<FiltroTiposUsuario, Map<String, Long>> tiposUsuario;
+
+    public EstadisticasService(
+            AccionService accionService,
+            SeccionService seccionService,
+            TipoUsuarioService tipoUsuarioService,
+            MeterRegistry meterRegistry,
+            @Value("${app.estadisticas.edad-maxima-segundos:30}") long edadMaximaSegundos,
+            @Value("${app.estadisticas.retencion-minutos:60}") long retencionMinutos) {
+        this.accionService = accionService;
+        this.seccionService = seccionService;
+        this.tipoUsuarioService = tipoUsuarioService;
+        Duration edadMaxima = Duration.ofSeconds(edadMaximaSegundos);
+        Duration retencion = Duration.ofMinutes(retencionMinutos);
+        this.acciones = new EstadisticasRevalidadas<>("estadisticasAcciones", edadMaxima, retencion, recalculos,
+                meterRegistry, this::calcularAcciones);
+        this.secciones = new EstadisticasRevalidadas<>("estadisticasSecciones", edadMaxima, retencion, recalculos,
+                meterRegistry, clave -> calcularSecciones());
+        this.tiposUsuario = new EstadisticasRevalidadas<>("estadisticasTiposUsuario", edadMaxima, retencion,
+                recalculos, meterRegistry, this::calcularTiposUsuario);
+    }
+
+    /**
+     * Estadísticas de acciones, opcionalmente de una aplicación y de una sección.
+     */
+    public Medicion<EstadisticasAcciones> obtenerEstadisticasAcciones(UUID aplicacionId, UUID seccionId) {
+        FiltroAcciones filtro = new FiltroAcciones(aplicacionId, seccionId);
+        return enTransaccion() ? Medicion.actual(calcularAcciones(filtro)) : acciones.obtener(filtro);
+    }
+
+    /**
+     * Estadísticas de secciones.
+     */
+    public Medicion<EstadisticasSecciones> obtenerEstadisticasSecciones() {
+        return enTransaccion() ? Medicion.actual(calcularSecciones()) : secciones.obtener(TODAS);
+    }
+
+    /**
+     * Estadísticas de tipos de usuario, opcionalmente de una aplicación y de un estado.
+     */
+    public Medicion<Map<String, Long>> obtenerEstadisticasTiposUsuario(UUID aplicacionId, EstadoTipoUsuario estado) {
+        FiltroTiposUsuario filtro = new FiltroTiposUsuario(aplicacionId, estado);
+        return enTransaccion() ? Medicion.actual(calcularTiposUsuario(filtro)) : tiposUsuario.obtener(filtro);
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        recalculos.shutdownNow();
+    }
+
+    private EstadisticasAcciones calcularAcciones(FiltroAcciones filtro) {
+        long total = accionService.contarAcciones();
+        long porAplicacion = filtro.aplicacionId() != null ? accionService.contarPorAplicacion(filtro.aplicacionId()) : 0;
+        long porSeccion = filtro.seccionId() != null ? accionService.contarPorSeccion(filtro.seccionId()) : 0;
+        return new EstadisticasAcciones(total, porAplicacion, porSeccion);
+    }
+
+    private EstadisticasSecciones calcularSecciones() {
+        return new EstadisticasSecciones(seccionService.contarSecciones());
+    }
+
+    private Map<String, Long> calcularTiposUsuario(FiltroTiposUsuario filtro) {
+        return Map.copyOf(tipoUsuarioService.obtenerEstadisticas(filtro.aplicacionId(), filtro.estado()));
+    }
+
+    private boolean enTransaccion() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private record FiltroAcciones(UUID aplicacionId, UUID seccionId) {}
+
+    private record FiltroTiposUsuario(UUID aplicacionId, EstadoTipoUsuario estado) {}
+}
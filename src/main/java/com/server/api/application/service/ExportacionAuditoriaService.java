@@ -0,0 +1,157 @@
+package com.server.api.application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.api.application.auditoria.EscritorExportacion;
+import com.server.api.application.auditoria.ExportacionAuditoria;
+import com.server.api.application.auditoria.ExportacionesOcupadasException;
+import com.server.api.application.auditoria.FormatoExportacion;
+import com.server.api.domain.dto.auditoria.FiltroAuditoria;
+import com.server.api.domain.repository.AuditoriaAccesoConsultaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio de exportación de la auditoría de accesos para cumplimiento.
+ * Los registros se escriben en la salida a medida que se leen del cursor de la base de datos,
+ * sin acumularlos, por lo que la memoria usada es la misma para una hora que para un mes.
+ * La lectura ocurre dentro de una transacción de solo lectura, que PostgreSQL necesita para
+ * traer el resultado en bloques.
+ * <p>
+ * Cada exportación retiene una conexión del pool y una transacción abierta mientras dura la descarga, al
+ * ritmo que lea el cliente. Para que unas pocas descargas lentas no agoten el pool del resto de la API,
+ * la cantidad de exportaciones simultáneas está acotada: por encima del máximo se rechazan con
+ * {@link ExportacionesOcupadasException} antes de abrir la conexión.
+ * <p>
+ * Métricas: {@code auditoria.exportacion.duracion}, {@code auditoria.exportacion.registros} y
+ * {@code auditoria.exportacion.rechazadas}.
+ */
+@Service
+@Slf4j
+public class ExportacionAuditoriaService {
+
+    private static final int TAMANO_BUFFER = 64 * 1024;
+
+    private final AuditoriaAccesoConsultaRepository consultaRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration rangoMaximo;
+    private final int maximoSimultaneas;
+    private final Semaphore exportacionesLibres;
+
+    private final Timer duracionExportacion;
+    private final Counter registrosExportados;
+    private final Counter exportacionesRechazadas;
+
+    public ExportacionAuditoriaService(
+            AuditoriaAccesoConsultaRepository consultaRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.auditoria.exportacion.rango-maximo-dias:31}") long rangoMaximoDias,
+            @Value("${app.auditoria.exportacion.maximo-simultaneas:2}") int maximoSimultaneas) {
+        this.consultaRepository = consultaRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rangoMaximo = Duration.ofDays(rangoMaximoDias);
+        this.maximoSimultaneas = maximoSimultaneas;
+        this.exportacionesLibres = new Semaphore(maximoSimultaneas);
+        this.duracionExportacion = Timer.builder("auditoria.exportacion.duracion")
+                .description("Duración de cada exportación de auditoría")
+                .register(meterRegistry);
+        this.registrosExportados = meterRegistry.counter("auditoria.exportacion.registros");
+        this.exportacionesRechazadas = meterRegistry.counter("auditoria.exportacion.rechazadas");
+    }
+
+    /**
+     * Valida el filtro y reserva un lugar para la exportación; la consulta se ejecuta recién al escribirla.
+     * El lugar se libera al terminar de escribir, por lo que la exportación devuelta debe escribirse.
+     *
+     * @throws IllegalArgumentException si el rango de fechas no es válido
+     * @throws ExportacionesOcupadasException si ya hay el máximo de exportaciones en curso
+     */
+    public ExportacionAuditoria exportar(FiltroAuditoria filtro, FormatoExportacion formato) {
+        validar(filtro);
+        if (!exportacionesLibres.tryAcquire()) {
+            exportacionesRechazadas.increment();
+            throw new ExportacionesOcupadasException(maximoSimultaneas);
+        }
+        AtomicBoolean liberada = new AtomicBoolean();
+        return salida -> {
+            try {
+                return escribir(filtro, formato, salida);
+            } finally {
+                if (liberada.compareAndSet(false, true)) {
+                    exportacionesLibres.release();
+                }
+            }
+        };
+    }
+
+    /**
+     * Exportaciones que pueden iniciarse sin ser rechazadas.
+     */
+    public int exportacionesDisponibles() {
+        return exportacionesLibres.availablePermits();
+    }
+
+    private long escribir(FiltroAuditoria filtro, FormatoExportacion formato, OutputStream salida) throws IOException {
+        long inicio = System.nanoTime();
+        BufferedWriter destino = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8),
+                TAMANO_BUFFER);
+        EscritorExportacion escritor = new EscritorExportacion(formato, destino, objectMapper);
+        long[] escritos = {0};
+        try {
+            escritor.iniciar();
+            transactionTemplate.executeWithoutResult(estado -> consultaRepository.exportar(filtro, registro -> {
+                try {
+                    escritor.escribir(registro);
+                    escritos[0]++;
+                } catch (IOException e) {
+                    // El cliente cortó la descarga: se aborta la consulta
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            destino.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            duracionExportacion.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            registrosExportados.increment(escritos[0]);
+        }
+        log.info("Exportados {} registros de auditoría en {} entre {} y {}", escritos[0], formato,
+                filtro.desde(), filtro.hasta());
+        return escritos[0];
+    }
+
+    private void validar(FiltroAuditoria filtro) {
+        if (filtro.desde() == null || filtro.hasta() == null) {
+            throw new IllegalArgumentException("El rango de fechas es obligatorio");
+        }
+        if (!filtro.desde().isBefore(filtro.hasta())) {
+            throw new IllegalArgumentException("La fecha desde debe ser anterior a la fecha hasta");
+        }
+        if (Duration.between(filtro.desde(), filtro.hasta()).compareTo(rangoMaximo) > 0) {
+            throw new IllegalArgumentException("El rango de fechas no puede superar " + rangoMaximo.toDays() + " días");
+        }
+    }
+}
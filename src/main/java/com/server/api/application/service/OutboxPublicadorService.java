@@ -0,0 +1,190 @@
+package com.server.api.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.server.api.domain.entity.OutboxEvento;
+import com.server.api.domain.event.EntidadModificadaEvent;
+import com.server.api.domain.repository.OutboxEventoRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que lee periódicamente el outbox y publica cada modificación confirmada
+ * como {@link EntidadModificadaEvent} a los suscriptores en proceso, en orden de ID.
+ * Cada instancia mantiene su propio cursor, así que todas las instancias reciben todos los eventos.
+ * Un ID faltante puede ser una transacción aún no confirmada: el publicador se detiene en él
+ * hasta que aparece o hasta que vence la espera, en cuyo caso lo omite y avanza.
+ * <p>
+ * Una transacción lenta puede confirmar después de omitido su ID, así que los IDs omitidos se vuelven a
+ * buscar en cada ejecución durante {@code app.outbox.revision-omitidos-ms}; los que aparecen se publican
+ * entonces, fuera de orden. Pasado ese plazo se asumen revertidos: un evento confirmado aún más tarde
+ * no se publica y las cachés afectadas quedan a cargo de su TTL. Se vigilan como máximo
+ * {@value #MAXIMO_OMITIDOS} IDs; si hay más, se descartan los más antiguos.
+ */
+@Service
+@Slf4j
+public class OutboxPublicadorService {
+
+    static final int MAXIMO_OMITIDOS = 10_000;
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int tamanoLote;
+    private final long esperaHuecoNanos;
+    private final Duration retencion;
+    private final long revisionOmitidosNanos;
+
+    /**
+     * IDs omitidos y el momento (nanoTime) en que se omitieron, en orden de omisión.
+     */
+    private final Map<Long, Long> omitidos = new LinkedHashMap<>();
+
+    private boolean inicializado;
+    private long ultimoPublicado;
+    private long huecoDetectadoEn;
+
+    public OutboxPublicadorService(
+            OutboxEventoRepository outboxEventoRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.outbox.tamano-lote:500}") int tamanoLote,
+            @Value("${app.outbox.espera-hueco-ms:5000}") long esperaHuecoMs,
+            @Value("${app.outbox.retencion-horas:24}") long retencionHoras,
+            @Value("${app.outbox.revision-omitidos-ms:60000}") long revisionOmitidosMs) {
+        this.outboxEventoRepository = outboxEventoRepository;
+        this.eventPublisher = eventPublisher;
+        this.tamanoLote = tamanoLote;
+        this.esperaHuecoNanos = Duration.ofMillis(esperaHuecoMs).toNanos();
+        this.retencion = Duration.ofHours(retencionHoras);
+        this.revisionOmitidosNanos = Duration.ofMillis(revisionOmitidosMs).toNanos();
+    }
+
+    /**
+     * Publica los eventos confirmados desde el último publicado.
+     * La primera ejecución solo fija el cursor en el último ID existente: al arrancar no hay
+     * nada en memoria que invalidar.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.intervalo-ms:500}")
+    public synchronized void publicarPendientes() {
+        if (!inicializado) {
+            Long maximo = outboxEventoRepository.findMaxId();
+            ultimoPublicado = maximo != null ? maximo : 0L;
+            inicializado = true;
+            return;
+        }
+        revisarOmitidos();
+        List<OutboxEvento> lote;
+        do {
+            lote = outboxEventoRepository.findPosteriores(ultimoPublicado, PageRequest.of(0, tamanoLote));
+            for (OutboxEvento evento : lote) {
+                if (evento.getId() != ultimoPublicado + 1) {
+                    if (!huecoVencido()) {
+                        return;
+                    }
+                    omitir(ultimoPublicado + 1, evento.getId() - 1);
+                }
+                huecoDetectadoEn = 0L;
+                publicar(evento);
+                ultimoPublicado = evento.getId();
+            }
+        } while (lote.size() == tamanoLote);
+    }
+
+    /**
+     * Elimina los eventos más antiguos que la retención configurada.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.depuracion-ms:3600000}")
+    public void depurar() {
+        int eliminados = outboxEventoRepository.deleteAnteriores(OffsetDateTime.now().minus(retencion));
+        if (eliminados > 0) {
+            log.debug("Outbox depurado: {} eventos eliminados", eliminados);
+        }
+    }
+
+    /**
+     * ID del último evento publicado por esta instancia.
+     */
+    public synchronized long ultimoPublicado() {
+        return ultimoPublicado;
+    }
+
+    /**
+     * IDs omitidos que aún se vuelven a buscar.
+     */
+    public synchronized int omitidos() {
+        return omitidos.size();
+    }
+
+    private void omitir(long desde, long hasta) {
+        long ahora = System.nanoTime();
+        int descartados = 0;
+        for (long id = desde; id <= hasta; id++) {
+            if (omitidos.size() == MAXIMO_OMITIDOS) {
+                Iterator<Long> masAntiguo = omitidos.keySet().iterator();
+                masAntiguo.next();
+                masAntiguo.remove();
+                descartados++;
+            }
+            omitidos.put(id, ahora);
+        }
+        if (descartados > 0) {
+            log.warn("Demasiados IDs omitidos en el outbox; {} dejan de vigilarse", descartados);
+        }
+    }
+
+    /**
+     * Publica los eventos omitidos que ya se confirmaron y deja de vigilar los que superaron el plazo.
+     */
+    private void revisarOmitidos() {
+        if (omitidos.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(omitidos.keySet());
+        for (int i = 0; i < ids.size(); i += tamanoLote) {
+            List<Long> bloque = ids.subList(i, Math.min(i + tamanoLote, ids.size()));
+            for (OutboxEvento evento : outboxEventoRepository.findByIdIn(bloque)) {
+                omitidos.remove(evento.getId());
+                publicar(evento);
+            }
+        }
+        long ahora = System.nanoTime();
+        int vencidos = 0;
+        Iterator<Long> omitidosEn = omitidos.values().iterator();
+        while (omitidosEn.hasNext() && ahora - omitidosEn.next() >= revisionOmitidosNanos) {
+            omitidosEn.remove();
+            vencidos++;
+        }
+        if (vencidos > 0) {
+            log.debug("{} IDs omitidos del outbox no aparecieron a tiempo; se asumen revertidos", vencidos);
+        }
+    }
+
+    private boolean huecoVencido() {
+        long ahora = System.nanoTime();
+        if (huecoDetectadoEn == 0L) {
+            huecoDetectadoEn = ahora;
+        }
+        return ahora - huecoDetectadoEn >= esperaHuecoNanos;
+    }
+
+    private void publicar(OutboxEvento evento) {
+        try {
+            eventPublisher.publishEvent(new EntidadModificadaEvent(evento.getId(), evento.getEntidad(),
+                    evento.getEntidadId(), evento.getOperacion()));
+        } catch (RuntimeException e) {
+            // Un suscriptor con error no debe detener la publicación para el resto
+            log.error("Error publicando el evento {} del outbox", evento.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.server.api.application.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.server.api.application.auditoria.GranularidadParticion;
+import com.server.api.application.auditoria.ParticionAuditoria;
+import com.server.api.application.auditoria.PlanParticiones;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que administra las particiones por rango de fecha de {@code auditoria_accesos}.
+ * Crea por adelantado la partición del período actual y las de los siguientes, para que las
+ * inserciones nunca encuentren un rango sin partición; los índices de la tabla particionada
+ * se replican solos en cada partición nueva. Tras un cambio de granularidad, los tramos que las
+ * particiones anteriores dejan sin cubrir se completan con particiones puente.
+ * Las particiones fuera de la retención se separan de la tabla y se eliminan o se mueven al esquema
+ * de archivo, lo que cuesta lo mismo sin importar cuántas filas tengan, a diferencia de un DELETE.
+ * <p>
+ * Se ejecuta al arrancar y luego periódicamente. Un bloqueo consultivo evita que dos instancias
+ * modifiquen las particiones a la vez. En bases de datos que no son PostgreSQL no hace nada.
+ */
+@Service
+@Slf4j
+public class ParticionesAuditoriaService {
+
+    /**
+     * Clave del bloqueo consultivo que serializa el mantenimiento entre instancias.
+     */
+    private static final long BLOQUEO = 0x4155444954L;
+
+    private static final String LISTAR = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE p.relname = ? AND p.relnamespace = to_regnamespace(current_schema())";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GranularidadParticion granularidad;
+    private final int adelanto;
+    private final int retencionDias;
+    private final boolean archivar;
+    private final String esquemaArchivo;
+    private Boolean postgres;
+
+    private final Counter particionesCreadas;
+    private final Counter particionesVencidas;
+
+    public ParticionesAuditoriaService(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.auditoria.particiones.granularidad:MENSUAL}") GranularidadParticion granularidad,
+            @Value("${app.auditoria.particiones.adelanto:2}") int adelanto,
+            @Value("${app.auditoria.particiones.retencion-dias:365}") int retencionDias,
+            @Value("${app.auditoria.particiones.archivar:false}") boolean archivar,
+            @Value("${app.auditoria.particiones.esquema-archivo:auditoria_archivo}") String esquemaArchivo) {
+        if (!esquemaArchivo.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Nombre de esquema de archivo inválido: " + esquemaArchivo);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.granularidad = granularidad;
+        this.adelanto = adelanto;
+        this.retencionDias = retencionDias;
+        this.archivar = archivar;
+        this.esquemaArchivo = esquemaArchivo;
+        this.particionesCreadas = meterRegistry.counter("auditoria.particiones", "operacion", "creada");
+        this.particionesVencidas = meterRegistry.counter("auditoria.particiones", "operacion",
+                archivar ? "archivada" : "eliminada");
+    }
+
+    /**
+     * Crea las particiones que faltan y retira las vencidas.
+     * Si otra instancia está haciendo lo mismo, esta ejecución no hace nada.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.auditoria.particiones.intervalo-ms:3600000}")
+    public synchronized void mantener() {
+        if (!esPostgres()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) conexion -> {
+                if (!consultarBooleano(conexion, "SELECT pg_try_advisory_lock(" + BLOQUEO + ")")) {
+                    log.debug("Otra instancia está manteniendo las particiones de auditoría");
+                    return null;
+                }
+                try {
+                    PlanParticiones plan = PlanParticiones.calcular(LocalDate.now(ZoneOffset.UTC), granularidad,
+                            adelanto, retencionDias, listar(conexion));
+                    aplicar(conexion, plan);
+                } finally {
+                    consultarBooleano(conexion, "SELECT pg_advisory_unlock(" + BLOQUEO + ")");
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Error manteniendo las particiones de auditoría", e);
+        }
+    }
+
+    private void aplicar(Connection conexion, PlanParticiones plan) throws SQLException {
+        try (Statement sentencia = conexion.createStatement()) {
+            for (ParticionAuditoria particion : plan.crear()) {
+                sentencia.execute("CREATE TABLE IF NOT EXISTS " + particion.nombre()
+                        + " PARTITION OF " + ParticionAuditoria.TABLA
+                        + " FOR VALUES FROM ('" + particion.desde() + " 00:00:00+00') TO ('"
+                        + particion.hasta() + " 00:00:00+00')");
+                particionesCreadas.increment();
+                log.info("Partición de auditoría creada: {}", particion.nombre());
+            }
+            if (!plan.vencidas().isEmpty() && archivar) {
+                sentencia.execute("CREATE SCHEMA IF NOT EXISTS " + esquemaArchivo);
+            }
+            for (ParticionAuditoria particion : plan.vencidas()) {
+                sentencia.execute("ALTER TABLE " + ParticionAuditoria.TABLA
+                        + " DETACH PARTITION " + particion.nombre());
+                if (archivar) {
+                    sentencia.execute("ALTER TABLE " + particion.nombre() + " SET SCHEMA " + esquemaArchivo);
+                } else {
+                    sentencia.execute("DROP TABLE " + particion.nombre());
+                }
+                particionesVencidas.increment();
+                log.info("Partición de auditoría {}: {}", archivar ? "archivada" : "eliminada", particion.nombre());
+            }
+        }
+    }
+
+    private List<String> listar(Connection conexion) throws SQLException {
+        List<String> nombres = new ArrayList<>();
+        try (PreparedStatement sentencia = conexion.prepareStatement(LISTAR)) {
+            sentencia.setString(1, ParticionAuditoria.TABLA);
+            try (ResultSet filas = sentencia.executeQuery()) {
+                while (filas.next()) {
+                    nombres.add(filas.getString(1));
+                }
+            }
+        }
+        return nombres;
+    }
+
+    private boolean consultarBooleano(Connection conexion, String consulta) throws SQLException {
+        try (Statement sentencia = conexion.createStatement();
+             ResultSet fila = sentencia.executeQuery(consulta)) {
+            return fila.next() && fila.getBoolean(1);
+        }
+    }
+
+    private boolean esPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexion ->
+                    "PostgreSQL".equalsIgnoreCase(conexion.getMetaData().getDatabaseProductName()));
+            if (!Boolean.TRUE.equals(postgres)) {
+                log.info("La base de datos no es PostgreSQL; no se administran particiones de auditoría");
+            }
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+}
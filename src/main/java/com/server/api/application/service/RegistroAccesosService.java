@@ -0,0 +1,91 @@
+package com.server.api.application.service;
+
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.config.CacheConfig;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+import com.server.api.domain.repository.UsuarioRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que traduce las verificaciones de permisos a eventos de auditoría de accesos.
+ * Resuelve la aplicación y la acción contra el índice de autorización vigente y el email del usuario
+ * con una consulta cacheada en {@link CacheConfig#EMAILS_USUARIO}, y entrega el evento a
+ * {@link AuditoriaService}, que lo escribe en segundo plano.
+ * <p>
+ * {@code auditoria_accesos} exige usuario existente, aplicación, acción y email, por lo que no se registran
+ * las verificaciones contra aplicaciones, acciones o usuarios desconocidos. Por lo mismo tampoco se
+ * audita la emisión de tokens: no corresponde a ninguna acción del catálogo.
+ * Un cambio de email puede tardar hasta el TTL de la caché en reflejarse en los eventos.
+ */
+@Service
+@Slf4j
+public class RegistroAccesosService {
+
+    static final String MENSAJE_PERMITIDO = "Verificación de permiso: acción permitida";
+    static final String MENSAJE_DENEGADO = "Verificación de permiso: acción no permitida";
+
+    private final AutorizacionService autorizacionService;
+    private final UsuarioRepository usuarioRepository;
+    private final AuditoriaService auditoriaService;
+    private final Cache emails;
+
+    public RegistroAccesosService(AutorizacionService autorizacionService, UsuarioRepository usuarioRepository,
+                                  AuditoriaService auditoriaService, CacheManager cacheManager) {
+        this.autorizacionService = autorizacionService;
+        this.usuarioRepository = usuarioRepository;
+        this.auditoriaService = auditoriaService;
+        this.emails = cacheManager.getCache(CacheConfig.EMAILS_USUARIO);
+    }
+
+    /**
+     * Registra la decisión de una verificación de permiso. Una acción indicada por un nombre que coincide
+     * con varias acciones se registra con la primera.
+     *
+     * @return false si la verificación no se auditó, por no poder resolverse o por descartarse el evento
+     */
+    public boolean registrarVerificacion(UUID usuarioId, String llaveIdentificadora, String accion, boolean permitido,
+                                         String ipOrigen, String informacionDispositivo) {
+        IndicePermisos indice = autorizacionService.indiceActual();
+        CatalogoAplicacion catalogo = indice.catalogoPorLlave(llaveIdentificadora);
+        if (catalogo == null || accion == null || usuarioId == null) {
+            return false;
+        }
+        int[] ordinales = catalogo.resolver(accion);
+        if (ordinales.length == 0) {
+            return false;
+        }
+        String email = email(usuarioId);
+        if (email == null) {
+            return false;
+        }
+        EventoAuditoria evento = EventoAuditoria.nuevo(usuarioId, email, catalogo.aplicacionId(),
+                catalogo.accion(ordinales[0]).id(), ipOrigen, informacionDispositivo,
+                permitido ? MENSAJE_PERMITIDO : MENSAJE_DENEGADO,
+                permitido ? EstadoAuditoria.EXITOSO : EstadoAuditoria.FALLIDO);
+        boolean aceptado = auditoriaService.registrar(evento);
+        if (!aceptado) {
+            log.debug("Evento de auditoría de la verificación de {} descartado", usuarioId);
+        }
+        return aceptado;
+    }
+
+    private String email(UUID usuarioId) {
+        String email = emails.get(usuarioId, String.class);
+        if (email == null) {
+            email = usuarioRepository.findEmailById(usuarioId).orElse(null);
+            if (email != null) {
+                emails.put(usuarioId, email);
+            }
+        }
+        return email;
+    }
+}
@@ -0,0 +1,137 @@
+package com.server.api.application.service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.domain.dto.auditoria.ResumenAuditoriaHora;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+import com.server.api.domain.repository.AuditoriaResumenHorarioRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que mantiene el resumen horario de auditoría a partir de los eventos ya escritos.
+ * Los eventos se cuentan en memoria por hora, aplicación y acción, y cada intervalo los contadores
+ * acumulados se suman a {@code auditoria_resumen_horario} en una sola transacción, en orden de clave
+ * para que dos instancias no se bloqueen mutuamente. Si la escritura falla, los contadores vuelven a
+ * quedar pendientes para el siguiente intervalo.
+ * El resumen queda atrasado a lo sumo un intervalo respecto de {@code auditoria_accesos}.
+ */
+@Service
+@Slf4j
+public class ResumenAuditoriaService {
+
+    private static final Comparator<Clave> ORDEN = Comparator.comparing(Clave::aplicacionId)
+            .thenComparing(Clave::hora)
+            .thenComparing(Clave::accionId);
+
+    private final AuditoriaResumenHorarioRepository resumenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Clave, Contadores> pendientes = new ConcurrentHashMap<>();
+
+    private final Timer duracionVolcado;
+    private final Counter erroresVolcado;
+
+    public ResumenAuditoriaService(
+            AuditoriaResumenHorarioRepository resumenRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.resumenRepository = resumenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.duracionVolcado = Timer.builder("auditoria.resumen.volcado.duracion")
+                .description("Duración de la suma de los contadores pendientes al resumen horario")
+                .register(meterRegistry);
+        this.erroresVolcado = meterRegistry.counter("auditoria.resumen.volcado.errores");
+        Gauge.builder("auditoria.resumen.pendientes", pendientes, Map::size)
+                .description("Filas del resumen horario con contadores pendientes de escritura")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cuenta los eventos de un lote ya persistido.
+     */
+    public void acumular(List<EventoAuditoria> eventos) {
+        // Se agrupa primero el lote para tocar el mapa compartido una vez por clave
+        Map<Clave, Contadores> lote = new HashMap<>();
+        for (EventoAuditoria evento : eventos) {
+            // Un evento agrupado cuenta todos los accesos que representa
+            long accesos = evento.ocurrencias();
+            boolean exitoso = evento.estado() == EstadoAuditoria.EXITOSO;
+            lote.merge(Clave.de(evento), new Contadores(exitoso ? accesos : 0, exitoso ? 0 : accesos), Contadores::sumar);
+        }
+        lote.forEach((clave, contadores) -> pendientes.merge(clave, contadores, Contadores::sumar));
+    }
+
+    /**
+     * Suma los contadores pendientes al resumen horario.
+     */
+    @Scheduled(fixedDelayString = "${app.auditoria.resumen.intervalo-ms:60000}")
+    public synchronized void volcar() {
+        if (pendientes.isEmpty()) {
+            return;
+        }
+        List<Clave> claves = new ArrayList<>(pendientes.keySet());
+        claves.sort(ORDEN);
+        List<ResumenAuditoriaHora> incrementos = new ArrayList<>(claves.size());
+        for (Clave clave : claves) {
+            // remove es atómico respecto de merge: ningún incremento concurrente se pierde
+            Contadores contadores = pendientes.remove(clave);
+            if (contadores != null) {
+                incrementos.add(new ResumenAuditoriaHora(clave.hora(), clave.aplicacionId(), clave.accionId(),
+                        contadores.exitosos(), contadores.fallidos()));
+            }
+        }
+        long inicio = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(estado -> resumenRepository.sumar(incrementos));
+        } catch (RuntimeException e) {
+            erroresVolcado.increment();
+            log.error("Error actualizando el resumen de auditoría; se reintentará", e);
+            for (ResumenAuditoriaHora incremento : incrementos) {
+                pendientes.merge(new Clave(incremento.hora(), incremento.aplicacionId(), incremento.accionId()),
+                        new Contadores(incremento.exitosos(), incremento.fallidos()), Contadores::sumar);
+            }
+        } finally {
+            duracionVolcado.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        volcar();
+    }
+
+    private record Clave(OffsetDateTime hora, UUID aplicacionId, UUID accionId) {
+
+        static Clave de(EventoAuditoria evento) {
+            OffsetDateTime hora = evento.fecha().withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+            return new Clave(hora, evento.aplicacionId(), evento.accionId());
+        }
+    }
+
+    private record Contadores(long exitosos, long fallidos) {
+
+        Contadores sumar(Contadores otros) {
+            return new Contadores(exitosos + otros.exitosos, fallidos + otros.fallidos);
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package com.server.api.application.service;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.server.api.application.carga.CargaUnica;
+import com.server.api.application.carga.CargasEnCurso;
+import com.server.api.application.catalogo.CatalogoSecciones;
+import com.server.api.domain.dto.recurso.VersionRecurso;
 import com.server.api.domain.dto.seccion.SeccionCreateRequest;
 import com.server.api.domain.dto.seccion.SeccionResponse;
 import com.server.api.domain.dto.seccion.SeccionSummary;
 import com.server.api.domain.dto.seccion.SeccionUpdateRequest;
 import com.server.api.domain.entity.Seccion;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.EntidadModificadaEvent;
+import com.server.api.domain.event.PermisosModificadosEvent;
 import com.server.api.domain.mapper.SeccionMapper;
+import com.server.api.domain.repository.EstadoRegistros;
 import com.server.api.domain.repository.SeccionRepository;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -23,17 +38,30 @@ import jakarta.persistence.EntityNotFoundException;
  * Servicio para gestión de secciones.
  * Implementa la lógica de negocio siguiendo principios SOLID.
  * Sigue el principio SRP al manejar únicamente operaciones de secciones.
+ * Los listados, búsquedas y verificaciones de nombre se resuelven sobre un {@link CatalogoSecciones}
+ * inmutable en memoria; cada cambio confirmado en secciones lo descarta y el siguiente lector
+ * construye la instantánea nueva. Los lectores concurrentes comparten esa construcción mediante
+ * {@link CargasEnCurso}, así que una invalidación cuesta una sola carga del repositorio. Dentro de una transacción ya iniciada se consulta la base de datos,
+ * para ver los cambios aún no confirmados de esa misma transacción.
  */
 @Service
 @Transactional
 public class SeccionService {
 
+    private static final String CARGA_CATALOGO = "catalogo-secciones";
+
     private final SeccionRepository seccionRepository;
     private final SeccionMapper seccionMapper;
+    private final CargasEnCurso cargasEnCurso;
+
+    private final AtomicReference<CatalogoSecciones> catalogo = new AtomicReference<>();
+    private final AtomicLong generacionCatalogo = new AtomicLong();
 
-    public SeccionService(SeccionRepository seccionRepository, SeccionMapper seccionMapper) {
+    public SeccionService(SeccionRepository seccionRepository, SeccionMapper seccionMapper,
+            CargasEnCurso cargasEnCurso) {
         this.seccionRepository = seccionRepository;
         this.seccionMapper = seccionMapper;
+        this.cargasEnCurso = cargasEnCurso;
     }
 
     /**
@@ -51,6 +79,7 @@ public class SeccionService {
     /**
      * Obtiene una sección por ID.
      */
+    @CargaUnica("secciones")
     @Transactional(readOnly = true)
     public SeccionResponse obtenerPorId(UUID id) {
         Seccion seccion = buscarSeccionActiva(id);
@@ -60,8 +89,11 @@ public class SeccionService {
     /**
      * Obtiene todas las secciones activas.
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<SeccionSummary> obtenerTodas() {
+        if (usarCatalogo()) {
+            return catalogoActual().todas();
+        }
         List<Seccion> secciones = seccionRepository.findAllActive();
         return seccionMapper.toSummaryList(secciones);
     }
@@ -80,8 +112,11 @@ public class SeccionService {
     /**
      * Busca secciones por nombre.
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<SeccionSummary> buscarPorNombre(String nombre) {
+        if (usarCatalogo()) {
+            return catalogoActual().buscarPorNombre(nombre);
+        }
         List<Seccion> secciones = seccionRepository.findByNombreContainingIgnoreCaseAndActive(nombre);
         return seccionMapper.toSummaryList(secciones);
     }
@@ -100,8 +135,11 @@ public class SeccionService {
     /**
      * Busca secciones por texto en nombre o descripción.
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<SeccionSummary> buscarPorTexto(String texto) {
+        if (usarCatalogo()) {
+            return catalogoActual().buscarPorTexto(texto);
+        }
         List<Seccion> secciones = seccionRepository.findByTextoEnNombreOrDescripcion(texto);
         return seccionMapper.toSummaryList(secciones);
     }
@@ -155,21 +193,120 @@ public class SeccionService {
     /**
      * Obtiene el total de secciones activas.
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public long contarSecciones() {
+        if (usarCatalogo()) {
+            return catalogoActual().total();
+        }
         return seccionRepository.countActive();
     }
 
     /**
      * Verifica si existe una sección con el nombre dado.
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public boolean existePorNombre(String nombre) {
+        if (usarCatalogo()) {
+            return catalogoActual().existeNombre(nombre);
+        }
         return seccionRepository.existsByNombreIgnoreCase(nombre);
     }
 
+    /**
+     * Validador de caché de los listados de secciones.
+     * Fuera de una transacción es la versión del catálogo en memoria, sin consultar la base de datos.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public VersionRecurso versionListado() {
+        if (usarCatalogo()) {
+            return catalogoActual().version();
+        }
+        EstadoRegistros estado = seccionRepository.findEstadoActivos();
+        return VersionRecurso.de(estado.getTotal(), estado.getUltimaModificacion());
+    }
+
+    /**
+     * Validador de caché del detalle de una sección activa; vacío si no existe.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VersionRecurso> versionPorId(UUID id) {
+        return seccionRepository.findUltimaModificacionActiva(id).map(VersionRecurso::de);
+    }
+
+    /**
+     * Descarta el catálogo cuando se confirma un cambio local en secciones.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void alModificarPermisos(PermisosModificadosEvent evento) {
+        if (evento.cambios().stream().anyMatch(cambio -> cambio.alcance() == Alcance.SECCION)) {
+            invalidarCatalogo();
+        }
+    }
+
+    /**
+     * Descarta el catálogo cuando el outbox publica un cambio de sección, incluidos los de otras instancias.
+     */
+    @EventListener(condition = "#evento.entidad() == T(com.server.api.domain.entity.OutboxEvento.TipoEntidad).SECCION")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void alModificarSeccion(EntidadModificadaEvent evento) {
+        invalidarCatalogo();
+    }
+
     // Métodos de utilidad privados
 
+    /**
+     * El catálogo solo refleja datos confirmados, así que no se usa dentro de una transacción.
+     */
+    private boolean usarCatalogo() {
+        return !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Devuelve el catálogo vigente, construyéndolo si fue descartado.
+     * La construcción se comparte entre los lectores de la misma generación; los que llegan después
+     * de otra invalidación no reciben una instantánea anterior a ella.
+     */
+    private CatalogoSecciones catalogoActual() {
+        CatalogoSecciones actual = catalogo.get();
+        if (actual != null) {
+            return actual;
+        }
+        long generacion = generacionCatalogo.get();
+        try {
+            return (CatalogoSecciones) cargasEnCurso.cargar(CARGA_CATALOGO, List.of(generacion),
+                    () -> construirCatalogo(generacion));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Construye y publica el catálogo de una generación.
+     * Si se invalida mientras se construye, la instantánea sirve para sus lectores pero no se publica.
+     */
+    private CatalogoSecciones construirCatalogo(long generacion) {
+        CatalogoSecciones actual = catalogo.get();
+        if (actual != null) {
+            return actual;
+        }
+        OffsetDateTime ultimaModificacion = seccionRepository.findEstadoActivos().getUltimaModificacion();
+        List<Seccion> secciones = seccionRepository.findAllActive();
+        CatalogoSecciones nuevo = CatalogoSecciones.de(secciones, seccionMapper.toSummaryList(secciones),
+                ultimaModificacion);
+        if (catalogo.compareAndSet(null, nuevo) && generacionCatalogo.get() != generacion) {
+            catalogo.compareAndSet(nuevo, null);
+        }
+        return nuevo;
+    }
+
+    private void invalidarCatalogo() {
+        generacionCatalogo.incrementAndGet();
+        catalogo.set(null);
+    }
+
     /**
      * Busca una sección activa por ID o lanza excepción.
      */
@@ -0,0 +1,129 @@
+package com.server.api.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.IndicePermisos.Rol;
+import com.server.api.application.autorizacion.PermisosBitset;
+import com.server.api.domain.dto.autorizacion.PermisosAplicacion;
+import com.server.api.domain.dto.autorizacion.PermisosAplicacion.PermisosTipoUsuario;
+import com.server.api.domain.repository.CambioPermisosRegistroRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que entrega a las aplicaciones cliente los permisos de sus tipos de usuario por versión.
+ * Un cliente al día se resuelve solo con el índice en memoria; uno desactualizado recibe
+ * únicamente los tipos de usuario modificados desde su versión, según el registro de cambios.
+ * El registro conserva solo las últimas versiones de cada aplicación; un cliente más atrasado
+ * recibe los permisos completos.
+ */
+@Service
+@Slf4j
+public class SincronizacionPermisosService {
+
+    private final AutorizacionService autorizacionService;
+    private final CambioPermisosRegistroRepository cambioPermisosRegistroRepository;
+    private final long retencionVersiones;
+
+    public SincronizacionPermisosService(AutorizacionService autorizacionService,
+                                         CambioPermisosRegistroRepository cambioPermisosRegistroRepository,
+                                         @Value("${app.autorizacion.cambios.retencion-versiones:1000}") long retencionVersiones) {
+        this.autorizacionService = autorizacionService;
+        this.cambioPermisosRegistroRepository = cambioPermisosRegistroRepository;
+        this.retencionVersiones = retencionVersiones;
+    }
+
+    /**
+     * Obtiene los permisos de la aplicación completos o como delta desde una versión.
+     * Si la versión del cliente es la actual, el delta no contiene tipos de usuario.
+     *
+     * @param llaveIdentificadora llave de la aplicación
+     * @param desdeVersion versión que tiene el cliente; null para obtener todos los permisos
+     * @return permisos en la versión actual del índice
+     * @throws EntityNotFoundException si la aplicación no existe o no está activa
+     */
+    public PermisosAplicacion obtenerPermisos(String llaveIdentificadora, Long desdeVersion) {
+        IndicePermisos indice = autorizacionService.indiceActual();
+        CatalogoAplicacion catalogo = indice.catalogoPorLlave(llaveIdentificadora);
+        if (catalogo == null) {
+            throw new EntityNotFoundException("Aplicación no encontrada con llave: " + llaveIdentificadora);
+        }
+        long version = indice.version(catalogo.aplicacionId());
+
+        // Una versión futura indica que el cliente viene de otra base de datos: se reenvía todo.
+        // Una versión fuera de la retención ya no tiene sus cambios registrados.
+        if (desdeVersion == null || desdeVersion > version || version - desdeVersion > retencionVersiones) {
+            return completo(indice, catalogo, version);
+        }
+        if (desdeVersion == version) {
+            return new PermisosAplicacion(catalogo.aplicacionId(), catalogo.llaveIdentificadora(), version,
+                    desdeVersion, false, null, List.of(), List.of());
+        }
+
+        List<UUID> modificados = cambioPermisosRegistroRepository
+                .findTiposUsuarioModificados(catalogo.aplicacionId(), desdeVersion, version);
+        // List.contains(null) lanza NullPointerException en listas inmutables
+        if (modificados.stream().anyMatch(Objects::isNull)) {
+            // Un cambio de catálogo afecta a todos los tipos de usuario de la aplicación
+            return completo(indice, catalogo, version);
+        }
+
+        List<PermisosTipoUsuario> tiposUsuario = new ArrayList<>();
+        List<UUID> eliminados = new ArrayList<>();
+        for (UUID tipoUsuarioId : modificados.stream().sorted().toList()) {
+            Rol rol = indice.rol(tipoUsuarioId);
+            if (rol != null && rol.aplicacionId().equals(catalogo.aplicacionId())) {
+                tiposUsuario.add(aPermisos(rol, catalogo));
+            } else {
+                eliminados.add(tipoUsuarioId);
+            }
+        }
+        return new PermisosAplicacion(catalogo.aplicacionId(), catalogo.llaveIdentificadora(), version,
+                desdeVersion, false, null, tiposUsuario, eliminados);
+    }
+
+    /**
+     * Elimina del registro de cambios las versiones que ya no se sirven como delta.
+     */
+    @Scheduled(fixedDelayString = "${app.autorizacion.cambios.depuracion-ms:3600000}")
+    public void depurar() {
+        int eliminados = cambioPermisosRegistroRepository.deleteFueraDeRetencion(retencionVersiones);
+        if (eliminados > 0) {
+            log.debug("Registro de cambios de permisos depurado: {} filas eliminadas", eliminados);
+        }
+    }
+
+    private PermisosAplicacion completo(IndicePermisos indice, CatalogoAplicacion catalogo, long version) {
+        List<PermisosTipoUsuario> tiposUsuario = indice.rolesDeAplicacion(catalogo.aplicacionId()).stream()
+                .sorted(Comparator.comparing(Rol::id))
+                .map(rol -> aPermisos(rol, catalogo))
+                .toList();
+        List<UUID> acciones = new ArrayList<>(catalogo.totalAcciones());
+        for (int ordinal = 0; ordinal < catalogo.totalAcciones(); ordinal++) {
+            acciones.add(catalogo.accion(ordinal).id());
+        }
+        return new PermisosAplicacion(catalogo.aplicacionId(), catalogo.llaveIdentificadora(), version,
+                null, true, acciones, tiposUsuario, List.of());
+    }
+
+    private PermisosTipoUsuario aPermisos(Rol rol, CatalogoAplicacion catalogo) {
+        List<UUID> acciones = new ArrayList<>(PermisosBitset.cardinalidad(rol.permisos()));
+        for (int ordinal = 0; ordinal < catalogo.totalAcciones(); ordinal++) {
+            if (PermisosBitset.contiene(rol.permisos(), ordinal)) {
+                acciones.add(catalogo.accion(ordinal).id());
+            }
+        }
+        return new PermisosTipoUsuario(rol.id(), acciones);
+    }
+}
@@ -3,6 +3,7 @@ package com.server.api.application.service;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -10,7 +11,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.server.api.application.carga.CargaUnica;
 import com.server.api.domain.mapper.TipoUsuarioMapper;
+import com.server.api.domain.dto.recurso.VersionRecurso;
 import com.server.api.domain.dto.tipousuario.TipoUsuarioCreateRequest;
 import com.server.api.domain.dto.tipousuario.TipoUsuarioResponse;
 import com.server.api.domain.dto.tipousuario.TipoUsuarioSummary;
@@ -19,6 +22,7 @@ import com.server.api.domain.entity.Aplicacion;
 import com.server.api.domain.entity.TipoUsuario;
 import com.server.api.domain.entity.TipoUsuario.EstadoTipoUsuario;
 import com.server.api.domain.repository.AplicacionRepository;
+import com.server.api.domain.repository.EstadoRegistros;
 import com.server.api.domain.repository.TipoUsuarioRepository;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -67,6 +71,7 @@ public class TipoUsuarioService {
     /**
      * Obtiene un tipo de usuario por ID
      */
+    @CargaUnica("tipos-usuario")
     public TipoUsuarioResponse obtenerPorId(UUID id) {
         log.debug("Obteniendo tipo de usuario por ID: {}", id);
 
@@ -172,4 +177,22 @@ public class TipoUsuarioService {
 
         return estadisticas;
     }
+
+    /**
+     * Validador de caché del listado de tipos de usuario.
+     * Incluye las aplicaciones porque los resúmenes muestran su nombre.
+     */
+    public VersionRecurso versionListado() {
+        EstadoRegistros tipos = tipoUsuarioRepository.findEstadoActivos();
+        EstadoRegistros aplicaciones = aplicacionRepository.findEstadoActivos();
+        return VersionRecurso.de(tipos.getTotal(), tipos.getUltimaModificacion())
+            .combinar(VersionRecurso.de(aplicaciones.getTotal(), aplicaciones.getUltimaModificacion()));
+    }
+
+    /**
+     * Validador de caché del detalle de un tipo de usuario activo; vacío si no existe.
+     */
+    public Optional<VersionRecurso> versionPorId(UUID id) {
+        return tipoUsuarioRepository.findUltimaModificacionActiva(id).map(VersionRecurso::de);
+    }
 }
@@ -0,0 +1,219 @@
+package com.server.api.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.PermisosBitset;
+import com.server.api.domain.dto.token.EmisionTokenRequest;
+import com.server.api.domain.dto.token.EmisionTokenRequest.ModoToken;
+import com.server.api.domain.dto.token.TokenEmitido;
+import com.server.api.domain.entity.Usuario;
+import com.server.api.domain.repository.UsuarioRepository;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Servicio que emite tokens JWT firmados con la configuración {@code app.jwt.*}.
+ * Solo emite tokens al usuario que presenta sus credenciales; las contraseñas se guardan con BCrypt.
+ * La llave de firma se deriva con PBKDF2 a partir del secreto, la sal, las iteraciones y la longitud configuradas.
+ * En modo PERMISOS el token incluye el mapa de bits de permisos efectivos del usuario en la aplicación,
+ * comprimido (zlib) y en base64url, junto con la versión de permisos con la que se calculó,
+ * de modo que un servidor de recursos pueda autorizar sin consultar esta API y detectar
+ * tokens desactualizados comparando la versión con el ETag de {@code /api/autorizacion/permisos}.
+ */
+@Service
+public class TokenService {
+
+    public static final String CLAIM_APLICACION = "app";
+    public static final String CLAIM_APLICACION_ID = "aid";
+    public static final String CLAIM_PERMISOS = "perm";
+    public static final String CLAIM_TOTAL_ACCIONES = "pn";
+    public static final String CLAIM_VERSION_PERMISOS = "pver";
+
+    private static final String TIPO_TOKEN = "Bearer";
+
+    private final AutorizacionService autorizacionService;
+    private final UsuarioRepository usuarioRepository;
+    private final BCryptPasswordEncoder codificador = new BCryptPasswordEncoder();
+    // Se compara contra este hash cuando el email no existe, para que el tiempo de respuesta no lo revele
+    private final String hashSinUsuario = codificador.encode(UUID.randomUUID().toString());
+    private final SignatureAlgorithm algoritmo;
+    private final SecretKey llave;
+    private final long expiracionMs;
+
+    public TokenService(
+            AutorizacionService autorizacionService,
+            UsuarioRepository usuarioRepository,
+            @Value("${app.jwt.secret}") String secreto,
+            @Value("${app.jwt.salt}") String sal,
+            @Value("${app.jwt.algorithm:HmacSHA512}") String algoritmo,
+            @Value("${app.jwt.iterations:100000}") int iteraciones,
+            @Value("${app.jwt.key-length:512}") int longitudLlave,
+            @Value("${app.jwt.expiration:86400000}") long expiracionMs) {
+        this.autorizacionService = autorizacionService;
+        this.usuarioRepository = usuarioRepository;
+        this.algoritmo = resolverAlgoritmo(algoritmo);
+        this.llave = derivarLlave(secreto, sal, iteraciones, longitudLlave, this.algoritmo);
+        this.expiracionMs = expiracionMs;
+    }
+
+    /**
+     * Emite un token para el usuario en la aplicación.
+     *
+     * @param request credenciales del usuario, aplicación y modo del token
+     * @return token firmado con su expiración
+     * @throws BadCredentialsException si el email o la contraseña no son válidos, o el usuario no está activo
+     * @throws EntityNotFoundException si la aplicación no existe o no está activa
+     * @throws IllegalArgumentException si el usuario no tiene tipos de usuario en la aplicación
+     */
+    public TokenEmitido emitir(EmisionTokenRequest request) {
+        UUID usuarioId = autenticar(request.email(), request.contrasena());
+        IndicePermisos indice = autorizacionService.indiceActual();
+        CatalogoAplicacion catalogo = indice.catalogoPorLlave(request.llaveIdentificadora());
+        if (catalogo == null) {
+            throw new EntityNotFoundException("Aplicación no encontrada con llave: " + request.llaveIdentificadora());
+        }
+        if (indice.rolesDeUsuario(usuarioId, catalogo.aplicacionId()).isEmpty()) {
+            throw new IllegalArgumentException("El usuario no tiene tipos de usuario en la aplicación: "
+                    + request.llaveIdentificadora());
+        }
+
+        Instant emision = Instant.now();
+        Instant expiracion = emision.plusMillis(expiracionMs);
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(usuarioId.toString())
+                .setIssuedAt(Date.from(emision))
+                .setExpiration(Date.from(expiracion))
+                .claim(CLAIM_APLICACION, catalogo.llaveIdentificadora())
+                .claim(CLAIM_APLICACION_ID, catalogo.aplicacionId().toString());
+
+        Long versionPermisos = null;
+        if (request.modo() == ModoToken.PERMISOS) {
+            // Bitmap y versión salen del mismo índice, así que siempre son coherentes entre sí
+            long[] efectivos = indice.permisosEfectivos(usuarioId, catalogo);
+            byte[] mapa = PermisosBitset.aBytes(efectivos, catalogo.totalAcciones());
+            versionPermisos = indice.version(catalogo.aplicacionId());
+            builder.claim(CLAIM_PERMISOS, Base64.getUrlEncoder().withoutPadding().encodeToString(comprimir(mapa)))
+                    .claim(CLAIM_TOTAL_ACCIONES, catalogo.totalAcciones())
+                    .claim(CLAIM_VERSION_PERMISOS, versionPermisos);
+        }
+
+        String token = builder.signWith(llave, algoritmo).compact();
+        return new TokenEmitido(token, TIPO_TOKEN, OffsetDateTime.ofInstant(expiracion, ZoneOffset.UTC), versionPermisos);
+    }
+
+    private UUID autenticar(String email, String contrasena) {
+        Optional<Usuario> usuario = usuarioRepository.findByEmailAndActive(email);
+        boolean valida = codificador.matches(contrasena, usuario.map(Usuario::getContrasena).orElse(hashSinUsuario));
+        if (!valida || usuario.isEmpty() || !usuario.get().estaActivo()) {
+            throw new BadCredentialsException("Email o contraseña inválidos");
+        }
+        return usuario.get().getId();
+    }
+
+    /**
+     * Valida la firma y la expiración de un token y devuelve sus claims.
+     *
+     * @throws io.jsonwebtoken.JwtException si el token no es válido
+     */
+    public Claims leer(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(llave)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * Decodifica el claim de permisos al mapa de bits little-endian:
+     * el bit {@code n} (ordinal de la acción) está en el byte {@code n / 8}, posición {@code n % 8}.
+     */
+    public static byte[] decodificarPermisos(String claim) {
+        byte[] comprimido = Base64.getUrlDecoder().decode(claim);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(comprimido);
+            ByteArrayOutputStream salida = new ByteArrayOutputStream(comprimido.length * 4);
+            byte[] buffer = new byte[256];
+            while (!inflater.finished()) {
+                int leidos = inflater.inflate(buffer);
+                if (leidos == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Claim de permisos truncado");
+                }
+                salida.write(buffer, 0, leidos);
+            }
+            return salida.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Claim de permisos inválido", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] comprimir(byte[] datos) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(datos);
+            deflater.finish();
+            ByteArrayOutputStream salida = new ByteArrayOutputStream(datos.length + 16);
+            byte[] buffer = new byte[256];
+            while (!deflater.finished()) {
+                int escritos = deflater.deflate(buffer);
+                salida.write(buffer, 0, escritos);
+            }
+            return salida.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static SignatureAlgorithm resolverAlgoritmo(String nombre) {
+        return Arrays.stream(SignatureAlgorithm.values())
+                .filter(SignatureAlgorithm::isHmac)
+                .filter(algoritmo -> algoritmo.getJcaName().equalsIgnoreCase(nombre) || algoritmo.name().equalsIgnoreCase(nombre))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Algoritmo JWT no soportado: " + nombre));
+    }
+
+    private static SecretKey derivarLlave(String secreto, String sal, int iteraciones, int longitudLlave,
+                                          SignatureAlgorithm algoritmo) {
+        PBEKeySpec spec = new PBEKeySpec(secreto.toCharArray(), sal.getBytes(StandardCharsets.UTF_8),
+                iteraciones, longitudLlave);
+        try {
+            byte[] bytes = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512").generateSecret(spec).getEncoded();
+            return new SecretKeySpec(bytes, algoritmo.getJcaName());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo derivar la llave de firma JWT", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
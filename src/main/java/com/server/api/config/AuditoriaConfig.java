@@ -0,0 +1,63 @@
+package com.server.api.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.server.api.application.auditoria.AgrupadorAuditoria;
+import com.server.api.application.auditoria.EscritorAuditoria;
+import com.server.api.application.auditoria.EscritorAuditoriaCopy;
+import com.server.api.application.auditoria.EscritorAuditoriaJdbc;
+import com.server.api.application.auditoria.SpoolAuditoria;
+
+/**
+ * Configuración de la escritura de auditoría de accesos ({@code app.auditoria.escritura}):
+ * {@code copy} usa COPY de PostgreSQL y recurre al batch JDBC en otras bases de datos;
+ * {@code batch} usa siempre batch JDBC.
+ * Con {@code app.auditoria.spool.habilitado} los eventos que no se pueden escribir se guardan en un
+ * spool en disco; el directorio debe sobrevivir a los reinicios para no perderlos.
+ * Con {@code app.auditoria.agrupacion.habilitada} los accesos exitosos idénticos se agrupan antes de escribirse.
+ */
+@Configuration
+public class AuditoriaConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.auditoria.escritura", havingValue = "copy", matchIfMissing = true)
+    public EscritorAuditoria escritorAuditoriaCopy(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                                   TransactionTemplate transactionTemplate) {
+        return new EscritorAuditoriaCopy(dataSource, new EscritorAuditoriaJdbc(jdbcTemplate, transactionTemplate));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.auditoria.escritura", havingValue = "batch")
+    public EscritorAuditoria escritorAuditoriaBatch(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        return new EscritorAuditoriaJdbc(jdbcTemplate, transactionTemplate);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.auditoria.spool.habilitado", havingValue = "true", matchIfMissing = true)
+    public SpoolAuditoria spoolAuditoria(
+            @Value("${app.auditoria.spool.directorio:spool/auditoria}") String directorio,
+            @Value("${app.auditoria.spool.tamano-segmento-mb:64}") int tamanoSegmentoMb,
+            @Value("${app.auditoria.spool.tamano-maximo-mb:1024}") long tamanoMaximoMb) throws IOException {
+        return new SpoolAuditoria(Path.of(directorio), Math.multiplyExact(tamanoSegmentoMb, 1024 * 1024),
+                Math.multiplyExact(tamanoMaximoMb, 1024L * 1024));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.auditoria.agrupacion.habilitada", havingValue = "true")
+    public AgrupadorAuditoria agrupadorAuditoria(
+            @Value("${app.auditoria.agrupacion.ventana-ms:10000}") long ventanaMs,
+            @Value("${app.auditoria.agrupacion.maximo-grupos:100000}") int maximoGrupos) {
+        return new AgrupadorAuditoria(Duration.ofMillis(ventanaMs), maximoGrupos);
+    }
+}
@@ -0,0 +1,69 @@
+package com.server.api.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.cache.Caching;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Configuración de las cachés de Spring sobre Caffeine.
+ * Las cachés se crean al arrancar para que actuator publique sus métricas de aciertos y fallos.
+ * El interceptor de caché se ejecuta antes que el transaccional: un acierto no abre transacción
+ * y las invalidaciones de los métodos de escritura ocurren después del commit.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String APLICACIONES_POR_LLAVE = "aplicacionesPorLlave";
+    public static final String EXISTENCIA_APLICACIONES = "existenciaAplicaciones";
+    public static final String EMAILS_USUARIO = "emailsUsuario";
+
+    /**
+     * Condición SpEL para usar la caché solo fuera de una transacción ya iniciada,
+     * de modo que nunca se guarden datos leídos dentro de una transacción que podría revertirse.
+     */
+    public static final String FUERA_DE_TRANSACCION =
+            "!T(org.springframework.transaction.support.TransactionSynchronizationManager).isActualTransactionActive()";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.aplicaciones.max-entradas:1000}") long maxEntradas,
+            @Value("${app.cache.aplicaciones.ttl-segundos:300}") long ttlSegundos) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(APLICACIONES_POR_LLAVE, EXISTENCIA_APLICACIONES,
+                EMAILS_USUARIO);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    /**
+     * Da a la caché de segundo nivel de Hibernate un CacheManager de JCache propio. El proveedor entrega
+     * el mismo CacheManager a todos los que piden la misma URI, y Hibernate lo cierra al cerrar su
+     * SessionFactory: con uno compartido, cerrar un contexto dejaría cerradas las regiones de los demás
+     * contextos del mismo proceso, como los que cachean los tests. Una URI que no es un recurso hace que
+     * la configuración de las regiones siga saliendo de application.conf.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer cacheManagerSegundoNivel() {
+        return propiedades -> propiedades.put("hibernate.javax.cache.cache_manager",
+                Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                        .getCacheManager(URI.create("hibernate:" + UUID.randomUUID()), getClass().getClassLoader()));
+    }
+}
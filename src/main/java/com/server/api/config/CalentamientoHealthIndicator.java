@@ -0,0 +1,34 @@
+package com.server.api.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.server.api.application.service.CalentamientoService;
+
+/**
+ * Indicador de salud del calentamiento de cachés, incluido en el grupo de readiness.
+ * Reporta OUT_OF_SERVICE mientras el calentamiento no termina ni vence su presupuesto,
+ * para que el balanceador no envíe tráfico a una instancia con las cachés en frío.
+ * No forma parte del grupo principal (ver {@link GrupoSaludPrincipal}): /actuator/health
+ * sigue respondiendo UP durante el calentamiento.
+ */
+@Component(CalentamientoHealthIndicator.NOMBRE)
+public class CalentamientoHealthIndicator implements HealthIndicator {
+
+    public static final String NOMBRE = "calentamiento";
+
+    private final CalentamientoService calentamientoService;
+
+    public CalentamientoHealthIndicator(CalentamientoService calentamientoService) {
+        this.calentamientoService = calentamientoService;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder salud = calentamientoService.listo() ? Health.up() : Health.outOfService();
+        return salud.withDetail("estado", calentamientoService.estado())
+                .withDetail("tareas", calentamientoService.tareas())
+                .build();
+    }
+}
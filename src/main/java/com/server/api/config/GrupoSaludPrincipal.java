@@ -0,0 +1,71 @@
+package com.server.api.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Excluye del grupo principal de salud (/actuator/health) los indicadores que solo deben
+ * afectar a la readiness. Spring Boot no permite excluir miembros del grupo principal por
+ * configuración, así que se envuelve el grupo y se conservan los demás grupos tal cual.
+ * Sin esto, el calentamiento haría responder 503 al healthcheck del contenedor mientras arranca.
+ */
+@Component
+public class GrupoSaludPrincipal implements HealthEndpointGroupsPostProcessor {
+
+    private static final Set<String> SOLO_READINESS = Set.of(CalentamientoHealthIndicator.NOMBRE);
+
+    @Override
+    public HealthEndpointGroups postProcessHealthEndpointGroups(HealthEndpointGroups grupos) {
+        Map<String, HealthEndpointGroup> adicionales = new LinkedHashMap<>();
+        for (String nombre : grupos.getNames()) {
+            adicionales.put(nombre, grupos.get(nombre));
+        }
+        return HealthEndpointGroups.of(new SinIndicadoresDeReadiness(grupos.getPrimary()), adicionales);
+    }
+
+    /**
+     * Grupo principal original sin los indicadores exclusivos de la readiness.
+     */
+    private record SinIndicadoresDeReadiness(HealthEndpointGroup grupo) implements HealthEndpointGroup {
+
+        @Override
+        public boolean isMember(String nombre) {
+            return !SOLO_READINESS.contains(nombre) && grupo.isMember(nombre);
+        }
+
+        @Override
+        public boolean showComponents(SecurityContext contexto) {
+            return grupo.showComponents(contexto);
+        }
+
+        @Override
+        public boolean showDetails(SecurityContext contexto) {
+            return grupo.showDetails(contexto);
+        }
+
+        @Override
+        public StatusAggregator getStatusAggregator() {
+            return grupo.getStatusAggregator();
+        }
+
+        @Override
+        public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+            return grupo.getHttpCodeStatusMapper();
+        }
+
+        @Override
+        public AdditionalHealthEndpointPath getAdditionalPath() {
+            return grupo.getAdditionalPath();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.server.api.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.api.application.invalidacion.TransporteInvalidaciones;
+import com.server.api.application.invalidacion.TransporteLocal;
+import com.server.api.application.invalidacion.TransportePostgres;
+
+/**
+ * Selección del transporte del bus de invalidaciones entre instancias
+ * ({@code app.invalidaciones.transporte}): {@code postgres} usa LISTEN/NOTIFY sobre la base de datos
+ * compartida; {@code local} solo entrega dentro de la misma instancia.
+ * La escucha de {@code postgres} abre su conexión con los datos de {@code spring.datasource} pero sin
+ * pasar por el pool, ya que la retiene mientras la aplicación está en marcha.
+ */
+@Configuration
+public class InvalidacionesConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.invalidaciones.transporte", havingValue = "postgres")
+    public TransporteInvalidaciones transportePostgres(
+            DataSource dataSource,
+            DataSourceProperties dataSourceProperties,
+            ObjectMapper objectMapper,
+            @Value("${app.invalidaciones.canal:invalidaciones_cache}") String canal,
+            @Value("${app.invalidaciones.espera-ms:1000}") int esperaMs) {
+        DataSource conexionesEscucha = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        return new TransportePostgres(dataSource, conexionesEscucha, objectMapper, canal, esperaMs);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.invalidaciones.transporte", havingValue = "local", matchIfMissing = true)
+    public TransporteInvalidaciones transporteLocal() {
+        return new TransporteLocal();
+    }
+}
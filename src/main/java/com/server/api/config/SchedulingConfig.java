@@ -0,0 +1,13 @@
+package com.server.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuración para habilitar las tareas programadas con @Scheduled,
+ * como la publicación periódica del outbox.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
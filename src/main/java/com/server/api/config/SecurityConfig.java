@@ -27,8 +27,8 @@ public class SecurityConfig {
                 ).permitAll()
                 // Permitir acceso público a la API de secciones por ahora
                 .requestMatchers("/api/secciones/**").permitAll()
-                // Permitir acceso a actuator para health checks
-                .requestMatchers("/actuator/**").permitAll()
+                // Solo los health checks de actuator son públicos; métricas e info requieren autenticación
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
                 // Cualquier otra petición requiere autenticación
                 .anyRequest().authenticated()
             )
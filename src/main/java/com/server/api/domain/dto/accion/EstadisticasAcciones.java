@@ -0,0 +1,18 @@
+package com.server.api.domain.dto.accion;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO para estadísticas de acciones
+ */
+@Schema(description = "Estadísticas de acciones del sistema")
+public record EstadisticasAcciones(
+        @Schema(description = "Total de acciones activas", example = "25")
+        long totalAcciones,
+        
+        @Schema(description = "Acciones en la aplicación especificada", example = "8")
+        long accionesPorAplicacion,
+        
+        @Schema(description = "Acciones en la sección especificada", example = "5")
+        long accionesPorSeccion
+) {}
@@ -0,0 +1,52 @@
+package com.server.api.domain.dto.auditoria;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO de respuesta con un registro de auditoría de accesos.
+ */
+@Schema(description = "Registro de auditoría de un acceso")
+public record AuditoriaAccesoResponse(
+
+        @Schema(description = "Identificador del registro", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "Fecha del acceso", example = "2025-03-14T10:15:30Z")
+        OffsetDateTime fecha,
+
+        @Schema(description = "Usuario que accedió; nulo si no se identificó", example = "550e8400-e29b-41d4-a716-446655440001")
+        UUID usuarioId,
+
+        @Schema(description = "Email informado por el usuario", example = "usuario@empresa.com")
+        String emailUsuario,
+
+        @Schema(description = "Aplicación accedida", example = "550e8400-e29b-41d4-a716-446655440002")
+        UUID aplicacionId,
+
+        @Schema(description = "Acción ejecutada", example = "550e8400-e29b-41d4-a716-446655440003")
+        UUID accionId,
+
+        @Schema(description = "IP de origen", example = "10.0.0.1")
+        String ipOrigen,
+
+        @Schema(description = "Información del dispositivo del cliente")
+        String informacionDispositivo,
+
+        @Schema(description = "Mensaje descriptivo del evento")
+        String mensaje,
+
+        @Schema(description = "Resultado del acceso", example = "EXITOSO")
+        EstadoAuditoria estado,
+
+        @Schema(description = "Cantidad de accesos idénticos agrupados en el registro", example = "1")
+        int ocurrencias,
+
+        @Schema(description = "Fecha del último acceso agrupado; igual a la fecha si el registro representa uno solo",
+                example = "2025-03-14T10:15:42Z")
+        OffsetDateTime fechaUltima
+) {}
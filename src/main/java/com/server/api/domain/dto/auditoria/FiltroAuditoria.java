@@ -0,0 +1,18 @@
+package com.server.api.domain.dto.auditoria;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+/**
+ * Criterios de una consulta de auditoría. El rango de fechas es obligatorio, con {@code desde}
+ * incluida y {@code hasta} excluida; el resto de criterios son opcionales.
+ */
+public record FiltroAuditoria(
+        OffsetDateTime desde,
+        OffsetDateTime hasta,
+        UUID usuarioId,
+        UUID aplicacionId,
+        EstadoAuditoria estado
+) {}
@@ -0,0 +1,19 @@
+package com.server.api.domain.dto.auditoria;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Página de registros de auditoría, del más reciente al más antiguo.
+ */
+@Schema(description = "Página de registros de auditoría ordenada por fecha descendente")
+public record PaginaAuditoria(
+
+        @Schema(description = "Registros de la página")
+        List<AuditoriaAccesoResponse> registros,
+
+        @Schema(description = "Cursor para pedir la página siguiente con los mismos filtros; nulo si no hay más registros",
+                example = "AAYQZ8xKq0BVDoQA4pu0FkRmVUAAAAAAAAAA")
+        String siguiente
+) {}
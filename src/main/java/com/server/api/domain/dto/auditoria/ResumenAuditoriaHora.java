@@ -0,0 +1,28 @@
+package com.server.api.domain.dto.auditoria;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con los accesos de una acción de una aplicación durante una hora.
+ */
+@Schema(description = "Accesos exitosos y fallidos de una acción durante una hora")
+public record ResumenAuditoriaHora(
+
+        @Schema(description = "Inicio de la hora en UTC", example = "2025-03-14T10:00:00Z")
+        OffsetDateTime hora,
+
+        @Schema(description = "ID de la aplicación", example = "550e8400-e29b-41d4-a716-446655440002")
+        UUID aplicacionId,
+
+        @Schema(description = "ID de la acción", example = "550e8400-e29b-41d4-a716-446655440003")
+        UUID accionId,
+
+        @Schema(description = "Accesos exitosos", example = "1520")
+        long exitosos,
+
+        @Schema(description = "Accesos fallidos", example = "12")
+        long fallidos
+) {}
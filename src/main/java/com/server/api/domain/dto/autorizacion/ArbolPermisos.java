@@ -0,0 +1,53 @@
+package com.server.api.domain.dto.autorizacion;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el árbol Sección → Acción que un usuario puede ejecutar en una aplicación.
+ * No contiene datos del usuario, por lo que se comparte entre usuarios con los mismos tipos de usuario.
+ */
+@Schema(description = "Secciones y acciones permitidas en una aplicación")
+public record ArbolPermisos(
+
+        @Schema(description = "Identificador de la aplicación", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID aplicacionId,
+
+        @Schema(description = "Llave identificadora de la aplicación", example = "CCA_AUTH_SERVICE")
+        String llaveIdentificadora,
+
+        @Schema(description = "Secciones con al menos una acción permitida, ordenadas por nombre")
+        List<SeccionPermitida> secciones
+) {
+
+    /**
+     * Sección con las acciones permitidas que contiene.
+     */
+    @Schema(description = "Sección con sus acciones permitidas")
+    public record SeccionPermitida(
+
+            @Schema(description = "Identificador de la sección", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID id,
+
+            @Schema(description = "Nombre de la sección", example = "Gestión de Usuarios")
+            String nombre,
+
+            @Schema(description = "Acciones permitidas, ordenadas por nombre")
+            List<AccionPermitida> acciones
+    ) {}
+
+    /**
+     * Acción permitida dentro de una sección.
+     */
+    @Schema(description = "Acción permitida")
+    public record AccionPermitida(
+
+            @Schema(description = "Identificador de la acción", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID id,
+
+            @Schema(description = "Nombre de la acción", example = "Crear Usuario")
+            String nombre
+    ) {}
+}
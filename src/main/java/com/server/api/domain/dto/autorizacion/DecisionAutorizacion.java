@@ -0,0 +1,24 @@
+package com.server.api.domain.dto.autorizacion;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el resultado de una verificación de permiso.
+ */
+@Schema(description = "Resultado de verificar si un usuario puede ejecutar una acción en una aplicación")
+public record DecisionAutorizacion(
+
+        @Schema(description = "Identificador del usuario", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID usuarioId,
+
+        @Schema(description = "Llave identificadora de la aplicación", example = "CCA_AUTH_SERVICE")
+        String llaveIdentificadora,
+
+        @Schema(description = "ID o nombre de la acción verificada", example = "Crear Sección")
+        String accion,
+
+        @Schema(description = "Indica si la acción está permitida", example = "true")
+        boolean permitido
+) {}
@@ -0,0 +1,44 @@
+package com.server.api.domain.dto.autorizacion;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con el resultado de una verificación en lote.
+ * Según el formato solicitado incluye un arreglo de booleanos o un mapa de bits en base64.
+ */
+@Schema(description = "Resultado de verificar varias acciones contra una misma versión de los permisos")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DecisionesAutorizacion(
+
+        @Schema(description = "Identificador del usuario", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID usuarioId,
+
+        @Schema(description = "Llave identificadora de la aplicación", example = "CCA_AUTH_SERVICE")
+        String llaveIdentificadora,
+
+        @Schema(description = "Cantidad de acciones evaluadas", example = "2")
+        int total,
+
+        @Schema(description = "Cantidad de acciones permitidas", example = "1")
+        int permitidas,
+
+        @Schema(description = "Decisión por acción, en el mismo orden de la petición (formato BOOLEANOS)")
+        boolean[] decisiones,
+
+        @Schema(description = "Mapa de bits en base64 (formato MAPA_BITS); el bit i está en el byte i / 8, posición i % 8",
+                example = "AQ==")
+        String mapaBits
+) {
+
+    /**
+     * Formatos de respuesta disponibles para la verificación en lote.
+     */
+    public enum Formato {
+        BOOLEANOS,
+        MAPA_BITS
+    }
+}
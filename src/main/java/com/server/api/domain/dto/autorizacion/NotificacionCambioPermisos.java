@@ -0,0 +1,22 @@
+package com.server.api.domain.dto.autorizacion;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO enviado a los suscriptores cuando cambian los permisos de una aplicación.
+ * Solo anuncia la nueva versión; el cliente obtiene el delta con {@code /api/autorizacion/permisos?since=}.
+ */
+@Schema(description = "Aviso de cambio en los tipos de usuario, acciones o permisos de una aplicación")
+public record NotificacionCambioPermisos(
+
+        @Schema(description = "Identificador de la aplicación", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID aplicacionId,
+
+        @Schema(description = "Llave identificadora de la aplicación", example = "CCA_AUTH_SERVICE")
+        String llaveIdentificadora,
+
+        @Schema(description = "Versión de permisos vigente de la aplicación", example = "42")
+        long version
+) {}
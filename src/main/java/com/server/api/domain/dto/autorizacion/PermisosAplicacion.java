@@ -0,0 +1,57 @@
+package com.server.api.domain.dto.autorizacion;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con los permisos de los tipos de usuario de una aplicación en una versión dada.
+ * Si es completo contiene todos los tipos de usuario activos; si no, solo los modificados
+ * desde la versión indicada por el cliente, que debe reemplazar o eliminar los suyos.
+ */
+@Schema(description = "Permisos de una aplicación en una versión, completos o como delta")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PermisosAplicacion(
+
+        @Schema(description = "Identificador de la aplicación", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID aplicacionId,
+
+        @Schema(description = "Llave identificadora de la aplicación", example = "CCA_AUTH_SERVICE")
+        String llaveIdentificadora,
+
+        @Schema(description = "Versión de permisos de la aplicación", example = "42")
+        long version,
+
+        @Schema(description = "Versión desde la que se calculó el delta; ausente si la respuesta es completa", example = "40")
+        Long desdeVersion,
+
+        @Schema(description = "Indica si la respuesta contiene todos los tipos de usuario de la aplicación", example = "false")
+        boolean completo,
+
+        @Schema(description = "IDs de las acciones activas en orden de ordinal (solo en respuestas completas); " +
+                              "la posición de cada acción es su bit en el claim de permisos de los tokens")
+        List<UUID> catalogo,
+
+        @Schema(description = "Tipos de usuario activos con sus acciones concedidas; en un delta, solo los modificados")
+        List<PermisosTipoUsuario> tiposUsuario,
+
+        @Schema(description = "Tipos de usuario eliminados o desactivados desde la versión indicada")
+        List<UUID> tiposUsuarioEliminados
+) {
+
+    /**
+     * Acciones concedidas a un tipo de usuario.
+     */
+    @Schema(description = "Acciones concedidas a un tipo de usuario")
+    public record PermisosTipoUsuario(
+
+            @Schema(description = "Identificador del tipo de usuario", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID id,
+
+            @Schema(description = "IDs de las acciones concedidas")
+            List<UUID> acciones
+    ) {}
+}
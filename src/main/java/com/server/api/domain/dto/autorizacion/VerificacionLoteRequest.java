@@ -0,0 +1,40 @@
+package com.server.api.domain.dto.autorizacion;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para verificar varias acciones de un usuario en una sola petición.
+ * Pensado para que los front-ends resuelvan un menú completo de una vez.
+ */
+@Schema(description = "Datos para verificar en lote los permisos de un usuario sobre varias acciones")
+public record VerificacionLoteRequest(
+
+        @Schema(description = "ID del usuario",
+                example = "550e8400-e29b-41d4-a716-446655440000",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "El ID del usuario es requerido")
+        UUID usuarioId,
+
+        @Schema(description = "Llave identificadora de la aplicación",
+                example = "CCA_AUTH_SERVICE",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "La llave identificadora es requerida")
+        String llaveIdentificadora,
+
+        @Schema(description = "IDs o nombres de las acciones a verificar; el orden se conserva en la respuesta",
+                example = "[\"Crear Sección\", \"Eliminar Sección\"]",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "Debe indicar al menos una acción")
+        @Size(max = VerificacionLoteRequest.MAX_ACCIONES, message = "No se pueden verificar más de 5000 acciones por petición")
+        List<String> acciones
+) {
+
+    public static final int MAX_ACCIONES = 5000;
+}
@@ -0,0 +1,72 @@
+package com.server.api.domain.dto.recurso;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Validador de caché HTTP de un recurso o de un listado.
+ * El ETag fuerte se deriva del total de registros activos y de su última modificación, de modo que
+ * cualquier alta, baja, restauración o edición lo cambia; se calcula con una consulta de agregados
+ * sin hidratar entidades ni ejecutar mappers.
+ *
+ * @param etag ETag fuerte, entre comillas
+ * @param ultimaModificacion fecha de modificación más reciente; null si no hay registros
+ */
+public record VersionRecurso(String etag, OffsetDateTime ultimaModificacion) {
+
+    /**
+     * Versión de un listado a partir del total de registros activos y su última modificación.
+     */
+    public static VersionRecurso de(long total, OffsetDateTime ultimaModificacion) {
+        return new VersionRecurso("\"" + Long.toString(total, 36) + "-" + marca(ultimaModificacion) + "\"",
+                ultimaModificacion);
+    }
+
+    /**
+     * Versión de un recurso individual a partir de su última modificación.
+     */
+    public static VersionRecurso de(OffsetDateTime ultimaModificacion) {
+        return new VersionRecurso("\"" + marca(ultimaModificacion) + "\"", ultimaModificacion);
+    }
+
+    /**
+     * Combina la versión con la de otro conjunto de datos que forma parte de la misma respuesta,
+     * por ejemplo los nombres de aplicación y sección incluidos en los resúmenes de acciones.
+     */
+    public VersionRecurso combinar(VersionRecurso otra) {
+        OffsetDateTime ultima = ultimaModificacion;
+        if (ultima == null || (otra.ultimaModificacion != null && otra.ultimaModificacion.isAfter(ultima))) {
+            ultima = otra.ultimaModificacion;
+        }
+        return new VersionRecurso("\"" + sinComillas(etag) + "." + sinComillas(otra.etag) + "\"", ultima);
+    }
+
+    /**
+     * Versión de otra representación de los mismos datos, por ejemplo su codificación gzip.
+     * Un ETag fuerte identifica bytes exactos, así que cada representación necesita el suyo.
+     */
+    public VersionRecurso variante(String sufijo) {
+        return new VersionRecurso("\"" + sinComillas(etag) + sufijo + "\"", ultimaModificacion);
+    }
+
+    /**
+     * Última modificación en milisegundos para Last-Modified; -1 si no hay registros.
+     */
+    public long ultimaModificacionMs() {
+        return ultimaModificacion != null ? ultimaModificacion.toInstant().toEpochMilli() : -1;
+    }
+
+    /**
+     * Marca de tiempo en microsegundos (la precisión de la columna), en base 36.
+     */
+    private static String marca(OffsetDateTime fecha) {
+        if (fecha == null) {
+            return "0";
+        }
+        long micros = fecha.toEpochSecond() * 1_000_000L + fecha.getNano() / 1_000;
+        return Long.toString(micros, 36);
+    }
+
+    private static String sinComillas(String etag) {
+        return etag.substring(1, etag.length() - 1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.server.api.domain.dto.token;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO para emitir un token de acceso de un usuario para una aplicación.
+ * El usuario se identifica con sus propias credenciales: el token solo se emite a quien las conoce.
+ */
+@Schema(description = "Datos para emitir un token de acceso")
+public record EmisionTokenRequest(
+
+        @Schema(description = "Email del usuario",
+                example = "usuario@example.com",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "El email es requerido")
+        String email,
+
+        @Schema(description = "Contraseña del usuario",
+                requiredMode = Schema.RequiredMode.REQUIRED,
+                accessMode = Schema.AccessMode.WRITE_ONLY)
+        @NotBlank(message = "La contraseña es requerida")
+        String contrasena,
+
+        @Schema(description = "Llave identificadora de la aplicación",
+                example = "CCA_AUTH_SERVICE",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "La llave identificadora es requerida")
+        String llaveIdentificadora,
+
+        @Schema(description = "Modo del token; PERMISOS incluye el mapa de bits de permisos del usuario",
+                example = "PERMISOS",
+                defaultValue = "BASICO")
+        ModoToken modo
+) {
+
+    @Override
+    public String toString() {
+        // La contraseña no debe aparecer en logs
+        return "EmisionTokenRequest[email=" + email + ", llaveIdentificadora=" + llaveIdentificadora
+                + ", modo=" + modo + "]";
+    }
+
+    /**
+     * Modos de emisión de tokens.
+     */
+    public enum ModoToken {
+        BASICO,
+        PERMISOS
+    }
+}
@@ -0,0 +1,27 @@
+package com.server.api.domain.dto.token;
+
+import java.time.OffsetDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO con un token de acceso emitido.
+ */
+@Schema(description = "Token de acceso emitido")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenEmitido(
+
+        @Schema(description = "Token JWT firmado")
+        String token,
+
+        @Schema(description = "Tipo de token", example = "Bearer")
+        String tipo,
+
+        @Schema(description = "Fecha y hora de expiración del token")
+        OffsetDateTime expiraEn,
+
+        @Schema(description = "Versión de permisos incluida en el token (modo PERMISOS)", example = "42")
+        Long versionPermisos
+) {}
@@ -2,9 +2,13 @@ package com.server.api.domain.entity;
 
 import java.util.List;
 
+import com.server.api.domain.event.OutboxEntityListener;
+import com.server.api.domain.event.PermisosEntityListener;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -21,6 +25,7 @@ import lombok.Setter;
  * Sigue el principio SRP al manejar únicamente información de acciones.
  */
 @Entity
+@EntityListeners({PermisosEntityListener.class, OutboxEntityListener.class})
 @Table(name = "acciones")
 @Getter
 @Setter
@@ -2,9 +2,17 @@ package com.server.api.domain.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.server.api.domain.event.OutboxEntityListener;
+import com.server.api.domain.event.PermisosEntityListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.OneToMany;
@@ -20,6 +28,9 @@ import lombok.Setter;
  * Sigue el principio SRP al manejar únicamente información de aplicaciones.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RegionesCache.APLICACIONES)
+@EntityListeners({PermisosEntityListener.class, OutboxEntityListener.class})
 @Table(name = "aplicaciones")
 @Getter
 @Setter
@@ -3,10 +3,9 @@ package com.server.api.domain.entity;
 import java.time.OffsetDateTime;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -48,10 +47,16 @@ public class AuditoriaAcceso {
     @Column(name = "mensaje", columnDefinition = "TEXT")
     private String mensaje;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = EstadoAuditoriaConverter.class)
     @Column(name = "estado", length = 10, nullable = false)
     private EstadoAuditoria estado = EstadoAuditoria.EXITOSO;
 
+    @Column(name = "ocurrencias", nullable = false)
+    private Integer ocurrencias = 1; // Accesos idénticos agrupados en este registro
+
+    @Column(name = "fecha_ultima")
+    private OffsetDateTime fechaUltima; // Último acceso agrupado; null si el registro representa uno solo
+
     // Campos de auditoría propios (no heredados)
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt = OffsetDateTime.now();
@@ -91,6 +96,18 @@ public class AuditoriaAcceso {
         public String getValor() {
             return valor;
         }
+
+        /**
+         * Estado correspondiente al valor guardado en la base de datos.
+         */
+        public static EstadoAuditoria deValor(String valor) {
+            for (EstadoAuditoria estado : values()) {
+                if (estado.valor.equals(valor)) {
+                    return estado;
+                }
+            }
+            throw new IllegalArgumentException("Estado de auditoría desconocido: " + valor);
+        }
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.server.api.domain.entity;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad con los accesos exitosos y fallidos de una acción de una aplicación durante una hora.
+ * Se mantiene incrementalmente desde la ingesta de auditoría y la leen los reportes y gráficos.
+ *
+ * Nota: Esta entidad NO extiende BaseEntity porque es un acumulado identificado por su clave
+ * compuesta, que solo se modifica sumando contadores.
+ */
+@Entity
+@Table(name = "auditoria_resumen_horario")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditoriaResumenHorario {
+
+    @EmbeddedId
+    private AuditoriaResumenHorarioId id;
+
+    @Column(name = "exitosos", nullable = false)
+    private long exitosos;
+
+    @Column(name = "fallidos", nullable = false)
+    private long fallidos;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt = OffsetDateTime.now();
+}
@@ -0,0 +1,56 @@
+package com.server.api.domain.entity;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clave compuesta de la entidad AuditoriaResumenHorario: aplicación, hora y acción.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditoriaResumenHorarioId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "aplicacion_id", nullable = false)
+    private UUID aplicacionId;
+
+    @Column(name = "hora", nullable = false)
+    private OffsetDateTime hora;
+
+    @Column(name = "accion_id", nullable = false)
+    private UUID accionId;
+
+    /**
+     * Implementación personalizada de equals para claves compuestas.
+     * Requerido por JPA para el manejo correcto de la clave primaria.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuditoriaResumenHorarioId that = (AuditoriaResumenHorarioId) o;
+        return Objects.equals(aplicacionId, that.aplicacionId) &&
+               Objects.equals(hora, that.hora) &&
+               Objects.equals(accionId, that.accionId);
+    }
+
+    /**
+     * Implementación personalizada de hashCode para claves compuestas.
+     * Requerido por JPA para el manejo correcto de la clave primaria.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(aplicacionId, hora, accionId);
+    }
+}
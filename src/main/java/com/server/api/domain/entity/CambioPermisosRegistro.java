@@ -0,0 +1,51 @@
+package com.server.api.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad que registra qué tipos de usuario cambiaron en cada versión de permisos de una aplicación.
+ * Un tipo de usuario nulo indica un cambio en el catálogo de la aplicación que afecta a todos sus permisos.
+ *
+ * Nota: Esta entidad NO extiende BaseEntity porque es un registro de solo inserción
+ * con identificador secuencial.
+ */
+@Entity
+@Table(name = "cambios_permisos", indexes = {
+    @Index(name = "idx_cambios_permisos_aplicacion_version", columnList = "aplicacion_id, version")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CambioPermisosRegistro {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "aplicacion_id", nullable = false)
+    private UUID aplicacionId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "tipo_usuario_id")
+    private UUID tipoUsuarioId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+}
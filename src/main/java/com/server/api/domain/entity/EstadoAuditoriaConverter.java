@@ -0,0 +1,24 @@
+package com.server.api.domain.entity;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Guarda el estado de auditoría con su valor en minúsculas, el que admite la restricción
+ * de la columna {@code auditoria_accesos.estado}.
+ */
+@Converter
+public class EstadoAuditoriaConverter implements AttributeConverter<EstadoAuditoria, String> {
+
+    @Override
+    public String convertToDatabaseColumn(EstadoAuditoria estado) {
+        return estado != null ? estado.getValor() : null;
+    }
+
+    @Override
+    public EstadoAuditoria convertToEntityAttribute(String valor) {
+        return valor != null ? EstadoAuditoria.deValor(valor) : null;
+    }
+}
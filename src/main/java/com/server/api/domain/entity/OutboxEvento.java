@@ -0,0 +1,72 @@
+package com.server.api.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad que registra cada modificación de entidades del dominio en la misma transacción que la origina.
+ * Un publicador lee los registros confirmados en orden de ID y los entrega a los suscriptores en proceso,
+ * de modo que nunca se propagan cambios de transacciones revertidas.
+ *
+ * Nota: Esta entidad NO extiende BaseEntity porque es un registro de solo inserción
+ * con identificador secuencial que define el orden de publicación.
+ */
+@Entity
+@Table(name = "outbox_eventos")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvento {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entidad", nullable = false, length = 30)
+    private TipoEntidad entidad;
+
+    @Column(name = "entidad_id", nullable = false)
+    private UUID entidadId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operacion", nullable = false, length = 15)
+    private Operacion operacion;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    /**
+     * Entidades del dominio cuyas modificaciones se registran.
+     */
+    public enum TipoEntidad {
+        APLICACION,
+        SECCION,
+        ACCION,
+        TIPO_USUARIO
+    }
+
+    /**
+     * Operaciones registradas. Los borrados lógicos se registran como ELIMINACION.
+     */
+    public enum Operacion {
+        CREACION,
+        ACTUALIZACION,
+        ELIMINACION
+    }
+}
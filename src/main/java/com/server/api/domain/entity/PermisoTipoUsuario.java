@@ -1,6 +1,9 @@
 package com.server.api.domain.entity;
 
+import com.server.api.domain.event.PermisosEntityListener;
+
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -16,6 +19,7 @@ import lombok.Setter;
  * Sigue el principio SRP al manejar únicamente la relación permisos-tipo de usuario.
  */
 @Entity
+@EntityListeners(PermisosEntityListener.class)
 @Table(name = "permisos_tipo_usuario")
 @Getter
 @Setter
@@ -0,0 +1,21 @@
+package com.server.api.domain.entity;
+
+/**
+ * Nombres de las regiones de la caché de segundo nivel de Hibernate.
+ * Cada entidad de referencia tiene su región de entidades y otra para los resultados de sus consultas,
+ * de modo que una modificación hecha en otra instancia invalida solo las regiones de esa entidad.
+ * La configuración de tamaño y expiración de cada región está en {@code application.conf}.
+ */
+public final class RegionesCache {
+
+    public static final String APLICACIONES = "aplicaciones";
+    public static final String SECCIONES = "secciones";
+    public static final String TIPOS_USUARIO = "tiposUsuario";
+
+    public static final String CONSULTAS_APLICACIONES = "consultasAplicaciones";
+    public static final String CONSULTAS_SECCIONES = "consultasSecciones";
+    public static final String CONSULTAS_TIPOS_USUARIO = "consultasTiposUsuario";
+
+    private RegionesCache() {
+    }
+}
@@ -2,9 +2,17 @@ package com.server.api.domain.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.server.api.domain.event.OutboxEntityListener;
+import com.server.api.domain.event.PermisosEntityListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -18,6 +26,9 @@ import lombok.Setter;
  * Sigue el principio SRP al manejar únicamente información de secciones.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RegionesCache.SECCIONES)
+@EntityListeners({PermisosEntityListener.class, OutboxEntityListener.class})
 @Table(name = "secciones")
 @Getter
 @Setter
@@ -2,9 +2,17 @@ package com.server.api.domain.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.server.api.domain.event.OutboxEntityListener;
+import com.server.api.domain.event.PermisosEntityListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -23,6 +31,9 @@ import lombok.Setter;
  * Sigue el principio SRP al manejar únicamente información de tipos de usuario.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RegionesCache.TIPOS_USUARIO)
+@EntityListeners({PermisosEntityListener.class, OutboxEntityListener.class})
 @Table(name = "tipo_usuario")
 @Getter
 @Setter
@@ -3,9 +3,12 @@ package com.server.api.domain.entity;
 import java.time.OffsetDateTime;
 import java.util.List;
 
+import com.server.api.domain.event.PermisosEntityListener;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.OneToMany;
@@ -21,6 +24,7 @@ import lombok.Setter;
  * La lógica de negocio se delega a servicios especializados.
  */
 @Entity
+@EntityListeners(PermisosEntityListener.class)
 @Table(name = "usuarios")
 @Getter
 @Setter
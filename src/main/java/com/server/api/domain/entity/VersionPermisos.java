@@ -0,0 +1,40 @@
+package com.server.api.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad que guarda la versión de permisos de cada aplicación.
+ * La versión crece de forma monotónica con cada transacción que modifica
+ * tipos de usuario, acciones o permisos de la aplicación.
+ *
+ * Nota: Esta entidad NO extiende BaseEntity porque su clave es el ID de la aplicación
+ * y las filas se escriben por JDBC dentro de la transacción que origina el cambio.
+ */
+@Entity
+@Table(name = "versiones_permisos")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionPermisos {
+
+    @Id
+    @Column(name = "aplicacion_id", nullable = false, updatable = false)
+    private UUID aplicacionId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt = OffsetDateTime.now();
+}
@@ -0,0 +1,22 @@
+package com.server.api.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Describe qué parte del modelo de permisos cambió.
+ * El alcance indica qué debe recargarse: los roles de un usuario,
+ * los permisos de un tipo de usuario, el catálogo de una aplicación
+ * o los catálogos que contienen acciones de una sección.
+ */
+public record CambioPermisos(Alcance alcance, UUID id) {
+
+    /**
+     * Alcance de un cambio de permisos.
+     */
+    public enum Alcance {
+        APLICACION,
+        TIPO_USUARIO,
+        USUARIO,
+        SECCION
+    }
+}
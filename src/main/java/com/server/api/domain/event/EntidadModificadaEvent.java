@@ -0,0 +1,13 @@
+package com.server.api.domain.event;
+
+import java.util.UUID;
+
+import com.server.api.domain.entity.OutboxEvento.Operacion;
+import com.server.api.domain.entity.OutboxEvento.TipoEntidad;
+
+/**
+ * Evento publicado por el outbox por cada modificación confirmada de una entidad del dominio.
+ * Los eventos se publican en orden de secuencia, salvo los de transacciones que confirmaron después
+ * de que el publicador omitiera su ID, que llegan más tarde y fuera de orden.
+ */
+public record EntidadModificadaEvent(long secuencia, TipoEntidad entidad, UUID entidadId, Operacion operacion) {}
@@ -0,0 +1,79 @@
+package com.server.api.domain.event;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.server.api.domain.entity.Accion;
+import com.server.api.domain.entity.Aplicacion;
+import com.server.api.domain.entity.BaseEntity;
+import com.server.api.domain.entity.OutboxEvento.Operacion;
+import com.server.api.domain.entity.OutboxEvento.TipoEntidad;
+import com.server.api.domain.entity.Seccion;
+import com.server.api.domain.entity.TipoUsuario;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que escribe en {@code outbox_eventos} cada modificación de aplicaciones, secciones,
+ * acciones y tipos de usuario, dentro de la misma transacción que la origina.
+ * Se usa JDBC sobre la conexión de la transacción porque se invoca durante el flush,
+ * donde no se puede usar el EntityManager.
+ */
+@Component
+public class OutboxEntityListener {
+
+    private static final String INSERTAR =
+            "INSERT INTO outbox_eventos (entidad, entidad_id, operacion, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxEntityListener(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostPersist
+    public void alCrear(Object entidad) {
+        registrar(entidad, Operacion.CREACION);
+    }
+
+    @PostUpdate
+    public void alActualizar(Object entidad) {
+        boolean borradoLogico = entidad instanceof BaseEntity base && base.isDeleted();
+        registrar(entidad, borradoLogico ? Operacion.ELIMINACION : Operacion.ACTUALIZACION);
+    }
+
+    @PostRemove
+    public void alEliminar(Object entidad) {
+        registrar(entidad, Operacion.ELIMINACION);
+    }
+
+    private void registrar(Object entidad, Operacion operacion) {
+        TipoEntidad tipo = aTipo(entidad);
+        if (tipo == null) {
+            return;
+        }
+        jdbcTemplate.update(INSERTAR, tipo.name(), ((BaseEntity) entidad).getId(), operacion.name(),
+                Timestamp.from(Instant.now()));
+    }
+
+    private TipoEntidad aTipo(Object entidad) {
+        if (entidad instanceof Aplicacion) {
+            return TipoEntidad.APLICACION;
+        }
+        if (entidad instanceof Seccion) {
+            return TipoEntidad.SECCION;
+        }
+        if (entidad instanceof Accion) {
+            return TipoEntidad.ACCION;
+        }
+        if (entidad instanceof TipoUsuario) {
+            return TipoEntidad.TIPO_USUARIO;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.server.api.domain.event;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.server.api.domain.entity.Accion;
+import com.server.api.domain.entity.Aplicacion;
+import com.server.api.domain.entity.PermisoTipoUsuario;
+import com.server.api.domain.entity.Seccion;
+import com.server.api.domain.entity.TipoUsuario;
+import com.server.api.domain.entity.Usuario;
+import com.server.api.domain.entity.UsuarioTipoUsuario;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que detecta escrituras sobre las entidades que componen el modelo de permisos.
+ * Acumula los cambios de cada transacción y publica un único {@link PermisosModificadosEvent}
+ * después del commit, de modo que nunca se propagan datos de transacciones revertidas.
+ * Además versiona cada cambio en la misma transacción mediante {@link VersionadorPermisos}.
+ */
+@Component
+public class PermisosEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final VersionadorPermisos versionadorPermisos;
+
+    public PermisosEntityListener(ApplicationEventPublisher eventPublisher, VersionadorPermisos versionadorPermisos) {
+        this.eventPublisher = eventPublisher;
+        this.versionadorPermisos = versionadorPermisos;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void alModificar(Object entidad) {
+        CambioPermisos cambio = aCambio(entidad);
+        if (cambio == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<UUID, Long> versiones = versionadorPermisos.registrar(cambio, aplicacionConocida(entidad));
+            eventPublisher.publishEvent(new PermisosModificadosEvent(Set.of(cambio), versiones));
+            return;
+        }
+        if (registrar(cambio)) {
+            versionadorPermisos.registrar(cambio, aplicacionConocida(entidad));
+        }
+    }
+
+    /**
+     * Traduce la entidad modificada al alcance que debe recargarse.
+     */
+    private CambioPermisos aCambio(Object entidad) {
+        if (entidad instanceof PermisoTipoUsuario permiso && permiso.getTipoUsuario() != null) {
+            return new CambioPermisos(Alcance.TIPO_USUARIO, permiso.getTipoUsuario().getId());
+        }
+        if (entidad instanceof UsuarioTipoUsuario asignacion && asignacion.getUsuario() != null) {
+            return new CambioPermisos(Alcance.USUARIO, asignacion.getUsuario().getId());
+        }
+        if (entidad instanceof TipoUsuario tipoUsuario) {
+            return new CambioPermisos(Alcance.TIPO_USUARIO, tipoUsuario.getId());
+        }
+        if (entidad instanceof Usuario usuario) {
+            return new CambioPermisos(Alcance.USUARIO, usuario.getId());
+        }
+        if (entidad instanceof Accion accion && accion.getAplicacion() != null) {
+            return new CambioPermisos(Alcance.APLICACION, accion.getAplicacion().getId());
+        }
+        if (entidad instanceof Aplicacion aplicacion) {
+            return new CambioPermisos(Alcance.APLICACION, aplicacion.getId());
+        }
+        if (entidad instanceof Seccion seccion) {
+            return new CambioPermisos(Alcance.SECCION, seccion.getId());
+        }
+        return null;
+    }
+
+    /**
+     * Aplicación del cambio cuando puede obtenerse sin inicializar proxies durante el flush.
+     */
+    private UUID aplicacionConocida(Object entidad) {
+        if (entidad instanceof TipoUsuario tipoUsuario && tipoUsuario.getAplicacion() != null) {
+            return tipoUsuario.getAplicacion().getId();
+        }
+        return null;
+    }
+
+    /**
+     * Registra el cambio en la transacción actual.
+     *
+     * @return true si el cambio no se había registrado antes en la misma transacción
+     */
+    @SuppressWarnings("unchecked")
+    private boolean registrar(CambioPermisos cambio) {
+
+        Set<CambioPermisos> pendientes = (Set<CambioPermisos>) TransactionSynchronizationManager.getResource(this);
+        if (pendientes == null) {
+            Set<CambioPermisos> nuevos = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, nuevos);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(
+                            new PermisosModificadosEvent(nuevos, versionadorPermisos.versionesAsignadas()));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PermisosEntityListener.this);
+                }
+            });
+            pendientes = nuevos;
+        }
+        return pendientes.add(cambio);
+    }
+}
@@ -0,0 +1,37 @@
+package com.server.api.domain.event;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.server.api.domain.event.CambioPermisos.Alcance;
+
+/**
+ * Evento publicado una vez confirmada una transacción que modificó datos de permisos.
+ * Agrupa todos los cambios de la transacción para que los consumidores recarguen una sola vez,
+ * junto con la versión de permisos asignada a cada aplicación afectada.
+ * Los eventos remotos corresponden a cambios confirmados en otra instancia y recibidos por el bus
+ * de invalidaciones; no deben volver a difundirse.
+ */
+public record PermisosModificadosEvent(Set<CambioPermisos> cambios, Map<UUID, Long> versiones, boolean remoto) {
+
+    public PermisosModificadosEvent {
+        cambios = Set.copyOf(cambios);
+        versiones = Map.copyOf(versiones);
+    }
+
+    public PermisosModificadosEvent(Set<CambioPermisos> cambios, Map<UUID, Long> versiones) {
+        this(cambios, versiones, false);
+    }
+
+    public PermisosModificadosEvent(Set<CambioPermisos> cambios) {
+        this(cambios, Map.of());
+    }
+
+    /**
+     * Indica si el evento incluye algún cambio con el alcance dado.
+     */
+    public boolean afecta(Alcance alcance) {
+        return cambios.stream().anyMatch(cambio -> cambio.alcance() == alcance);
+    }
+}
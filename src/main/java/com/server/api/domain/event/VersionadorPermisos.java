@@ -0,0 +1,151 @@
+package com.server.api.domain.event;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Incrementa la versión de permisos de las aplicaciones afectadas y registra los tipos
+ * de usuario modificados, dentro de la misma transacción que origina el cambio.
+ * Se usa JDBC sobre la conexión de la transacción porque se invoca desde callbacks JPA
+ * durante el flush, donde no se puede usar el EntityManager.
+ * Cada aplicación recibe una sola versión nueva por transacción.
+ * <p>
+ * La versión se incrementa con un upsert atómico, para que dos transacciones que versionan por primera
+ * vez la misma aplicación no intenten insertar ambas la fila: en PostgreSQL con
+ * {@code INSERT ... ON CONFLICT ... RETURNING} y en otras bases de datos con {@code MERGE}. Un
+ * {@code MERGE} que choca con la fila recién insertada por otra transacción se repite como UPDATE,
+ * que espera a que esa transacción termine.
+ */
+@Component
+public class VersionadorPermisos {
+
+    private static final String INCREMENTAR_POSTGRES = "INSERT INTO versiones_permisos "
+            + "(aplicacion_id, version, updated_at) VALUES (?, 1, ?) "
+            + "ON CONFLICT (aplicacion_id) DO UPDATE SET "
+            + "version = versiones_permisos.version + 1, updated_at = EXCLUDED.updated_at "
+            + "RETURNING version";
+
+    private static final String INCREMENTAR = "MERGE INTO versiones_permisos v "
+            + "USING (VALUES (CAST(? AS UUID), CAST(? AS TIMESTAMP WITH TIME ZONE))) n (aplicacion_id, updated_at) "
+            + "ON v.aplicacion_id = n.aplicacion_id "
+            + "WHEN MATCHED THEN UPDATE SET version = v.version + 1, updated_at = n.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (aplicacion_id, version, updated_at) "
+            + "VALUES (n.aplicacion_id, 1, n.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public VersionadorPermisos(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Versiona un cambio ya deduplicado por la transacción.
+     *
+     * @param cambio cambio detectado
+     * @param aplicacionId aplicación del cambio si se conoce; si es null se resuelve desde el tipo de usuario
+     * @return versión asignada a la aplicación afectada, o un mapa vacío si el cambio no se versiona
+     */
+    public Map<UUID, Long> registrar(CambioPermisos cambio, UUID aplicacionId) {
+        return switch (cambio.alcance()) {
+            case APLICACION -> registrarEnAplicacion(cambio.id(), null);
+            case TIPO_USUARIO -> {
+                UUID aplicacion = aplicacionId != null ? aplicacionId : aplicacionDeTipoUsuario(cambio.id());
+                yield aplicacion != null ? registrarEnAplicacion(aplicacion, cambio.id()) : Map.of();
+            }
+            // Los cambios de usuarios y secciones no modifican los permisos de la aplicación
+            default -> Map.of();
+        };
+    }
+
+    /**
+     * Versiones asignadas por aplicación en la transacción actual.
+     * Sigue disponible en {@code afterCommit}, antes de liberar los recursos de la transacción.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<UUID, Long> versionesAsignadas() {
+        Map<UUID, Long> versiones = (Map<UUID, Long>) TransactionSynchronizationManager.getResource(this);
+        return versiones != null ? Map.copyOf(versiones) : Map.of();
+    }
+
+    private Map<UUID, Long> registrarEnAplicacion(UUID aplicacionId, UUID tipoUsuarioId) {
+        long version = versionEnTransaccion(aplicacionId);
+        jdbcTemplate.update(
+                "INSERT INTO cambios_permisos (aplicacion_id, version, tipo_usuario_id, created_at) VALUES (?, ?, ?, ?)",
+                aplicacionId, version, tipoUsuarioId, Timestamp.from(Instant.now()));
+        return Map.of(aplicacionId, version);
+    }
+
+    /**
+     * Devuelve la versión asignada a la aplicación en la transacción actual, incrementándola la primera vez.
+     * El upsert bloquea la fila hasta el commit, así que las versiones se asignan en orden de confirmación.
+     */
+    @SuppressWarnings("unchecked")
+    private long versionEnTransaccion(UUID aplicacionId) {
+        Map<UUID, Long> versiones = null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            versiones = (Map<UUID, Long>) TransactionSynchronizationManager.getResource(this);
+            if (versiones == null) {
+                versiones = new HashMap<>();
+                TransactionSynchronizationManager.bindResource(this, versiones);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(VersionadorPermisos.this);
+                    }
+                });
+            }
+            Long asignada = versiones.get(aplicacionId);
+            if (asignada != null) {
+                return asignada;
+            }
+        }
+
+        long version = incrementar(aplicacionId);
+        if (versiones != null) {
+            versiones.put(aplicacionId, version);
+        }
+        return version;
+    }
+
+    private long incrementar(UUID aplicacionId) {
+        Timestamp ahora = Timestamp.from(Instant.now());
+        if (esPostgres()) {
+            return jdbcTemplate.queryForObject(INCREMENTAR_POSTGRES, Long.class, aplicacionId, ahora);
+        }
+        try {
+            jdbcTemplate.update(INCREMENTAR, aplicacionId, ahora);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(
+                    "UPDATE versiones_permisos SET version = version + 1, updated_at = ? WHERE aplicacion_id = ?",
+                    ahora, aplicacionId);
+        }
+        return jdbcTemplate.queryForObject(
+                "SELECT version FROM versiones_permisos WHERE aplicacion_id = ?", Long.class, aplicacionId);
+    }
+
+    private UUID aplicacionDeTipoUsuario(UUID tipoUsuarioId) {
+        List<UUID> aplicaciones = jdbcTemplate.queryForList(
+                "SELECT aplicacion_id FROM tipo_usuario WHERE id = ?", UUID.class, tipoUsuarioId);
+        return aplicaciones.isEmpty() ? null : aplicaciones.get(0);
+    }
+
+    private boolean esPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexion ->
+                    "PostgreSQL".equalsIgnoreCase(conexion.getMetaData().getDatabaseProductName()));
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+}
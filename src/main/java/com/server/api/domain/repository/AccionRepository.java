@@ -1,5 +1,6 @@
 package com.server.api.domain.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -139,4 +140,49 @@ public interface AccionRepository extends JpaRepository<Accion, UUID> {
      */
     @Query("SELECT COUNT(a) FROM Accion a WHERE a.deletedAt IS NULL AND a.seccion.id = :seccionId")
     long countBySeccionIdAndActive(@Param("seccionId") UUID seccionId);
+
+    /**
+     * Obtiene la proyección ligera de las acciones activas para el índice de autorización.
+     */
+    @Query("SELECT a.id AS id, a.nombre AS nombre, a.aplicacion.id AS aplicacionId, " +
+           "s.id AS seccionId, s.nombre AS seccionNombre " +
+           "FROM Accion a JOIN a.seccion s WHERE a.deletedAt IS NULL")
+    List<AccionIndice> findIndiceActivas();
+
+    /**
+     * Obtiene la proyección ligera de las acciones activas de una aplicación.
+     */
+    @Query("SELECT a.id AS id, a.nombre AS nombre, a.aplicacion.id AS aplicacionId, " +
+           "s.id AS seccionId, s.nombre AS seccionNombre " +
+           "FROM Accion a JOIN a.seccion s WHERE a.deletedAt IS NULL AND a.aplicacion.id = :aplicacionId")
+    List<AccionIndice> findIndiceActivasByAplicacionId(@Param("aplicacionId") UUID aplicacionId);
+
+    /**
+     * Total de acciones activas y última modificación de la tabla, para el validador de caché
+     * de los listados.
+     * La fecha incluye los registros eliminados, cuya baja lógica actualiza updated_at: así una baja cambia
+     * también el Last-Modified. Es nativa porque el filtro de eliminados de la entidad se aplica a todo JPQL.
+     */
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN deleted_at IS NULL THEN 1 ELSE 0 END), 0) AS total, " +
+                   "MAX(updated_at) AS ultimaModificacion FROM acciones", nativeQuery = true)
+    EstadoRegistros findEstadoActivos();
+
+    /**
+     * Última modificación de una acción activa o de la aplicación y sección que muestra su detalle.
+     */
+    @Query("SELECT GREATEST(a.updatedAt, ap.updatedAt, s.updatedAt) FROM Accion a " +
+           "JOIN a.aplicacion ap JOIN a.seccion s WHERE a.id = :id AND a.deletedAt IS NULL")
+    Optional<OffsetDateTime> findUltimaModificacionActiva(@Param("id") UUID id);
+
+    /**
+     * Proyección de una acción usada por el índice de autorización en memoria.
+     * Evita hidratar la entidad y sus relaciones perezosas.
+     */
+    interface AccionIndice {
+        UUID getId();
+        String getNombre();
+        UUID getAplicacionId();
+        UUID getSeccionId();
+        String getSeccionNombre();
+    }
 }
@@ -1,18 +1,24 @@
 package com.server.api.domain.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.server.api.domain.entity.Aplicacion;
 import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+import com.server.api.domain.entity.RegionesCache;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository para operaciones de persistencia de Aplicacion.
@@ -55,6 +61,10 @@ public interface AplicacionRepository extends JpaRepository<Aplicacion, UUID> {
      * @param estado el estado a filtrar
      * @return lista de aplicaciones con el estado especificado
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = RegionesCache.CONSULTAS_APLICACIONES)
+    })
     List<Aplicacion> findByEstado(EstadoAplicacion estado);
 
     /**
@@ -91,4 +101,49 @@ public interface AplicacionRepository extends JpaRepository<Aplicacion, UUID> {
      * @return true si existe, false si no
      */
     boolean existsByUrl(String url);
+
+    /**
+     * Obtiene las aplicaciones no eliminadas con el estado dado para el índice de autorización.
+     *
+     * @param estado estado de las aplicaciones a indexar
+     * @return proyecciones con id y llave identificadora
+     */
+    @Query("SELECT a.id AS id, a.llaveIdentificadora AS llaveIdentificadora FROM Aplicacion a " +
+           "WHERE a.deletedAt IS NULL AND a.estado = :estado")
+    List<AplicacionIndice> findIndiceByEstado(@Param("estado") EstadoAplicacion estado);
+
+    /**
+     * Obtiene una aplicación no eliminada con el estado dado para el índice de autorización.
+     *
+     * @param id identificador de la aplicación
+     * @param estado estado requerido
+     * @return Optional con la proyección si existe
+     */
+    @Query("SELECT a.id AS id, a.llaveIdentificadora AS llaveIdentificadora FROM Aplicacion a " +
+           "WHERE a.id = :id AND a.deletedAt IS NULL AND a.estado = :estado")
+    Optional<AplicacionIndice> findIndiceByIdAndEstado(@Param("id") UUID id, @Param("estado") EstadoAplicacion estado);
+
+    /**
+     * Total de aplicaciones activas y última modificación de la tabla, para el validador de caché
+     * de los listados.
+     * La fecha incluye los registros eliminados, cuya baja lógica actualiza updated_at: así una baja cambia
+     * también el Last-Modified. Es nativa porque el filtro de eliminados de la entidad se aplica a todo JPQL.
+     */
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN deleted_at IS NULL THEN 1 ELSE 0 END), 0) AS total, " +
+                   "MAX(updated_at) AS ultimaModificacion FROM aplicaciones", nativeQuery = true)
+    EstadoRegistros findEstadoActivos();
+
+    /**
+     * Última modificación de una aplicación activa, para el validador de caché del detalle.
+     */
+    @Query("SELECT a.updatedAt FROM Aplicacion a WHERE a.id = :id AND a.deletedAt IS NULL")
+    Optional<OffsetDateTime> findUltimaModificacionActiva(@Param("id") UUID id);
+
+    /**
+     * Proyección de una aplicación usada por el índice de autorización en memoria.
+     */
+    interface AplicacionIndice {
+        UUID getId();
+        String getLlaveIdentificadora();
+    }
 }
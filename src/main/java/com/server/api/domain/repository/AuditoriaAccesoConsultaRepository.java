@@ -0,0 +1,117 @@
+package com.server.api.domain.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.server.api.domain.dto.auditoria.AuditoriaAccesoResponse;
+import com.server.api.domain.dto.auditoria.FiltroAuditoria;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+/**
+ * Consultas de lectura sobre {@code auditoria_accesos} con paginación por búsqueda sobre {@code (fecha, id)}.
+ * Cada consulta lleva el rango de fechas, para que PostgreSQL descarte las particiones que no lo cubren
+ * y recorra los índices {@code (usuario_id | aplicacion_id | estado, fecha DESC)}; la página siguiente
+ * continúa desde el último registro entregado en lugar de saltar filas con OFFSET.
+ * Se usa JDBC para proyectar directamente a la respuesta sin cargar entidades ni sus relaciones.
+ * <p>
+ * La exportación recorre el resultado con un cursor de solo avance que trae las filas en bloques
+ * del tamaño configurado, por lo que la memoria usada no depende del rango exportado.
+ */
+@Repository
+public class AuditoriaAccesoConsultaRepository {
+
+    private static final String COLUMNAS = "SELECT id, fecha, usuario_id, email_usuario, aplicacion_id, accion_id, "
+            + "ip_origen, informacion_dispositivo, mensaje, estado, ocurrencias, "
+            + "COALESCE(fecha_ultima, fecha) AS fecha_ultima FROM auditoria_accesos ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate jdbcTemplateExportacion;
+
+    public AuditoriaAccesoConsultaRepository(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${app.auditoria.exportacion.tamano-bloque:1000}") int tamanoBloque) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Plantilla propia para no cambiar el tamaño de bloque de las demás consultas
+        JdbcTemplate exportacion = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        exportacion.setFetchSize(tamanoBloque);
+        this.jdbcTemplateExportacion = new NamedParameterJdbcTemplate(exportacion);
+    }
+
+    /**
+     * Registros que cumplen el filtro, del más reciente al más antiguo.
+     *
+     * @param antesDeFecha fecha del último registro ya entregado; null para la primera página
+     * @param antesDeId ID del último registro ya entregado; null para la primera página
+     * @param limite cantidad máxima de registros
+     */
+    public List<AuditoriaAccesoResponse> buscar(FiltroAuditoria filtro, OffsetDateTime antesDeFecha, UUID antesDeId,
+                                                int limite) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource().addValue("limite", limite);
+        StringBuilder consulta = filtrar(filtro, parametros);
+        if (antesDeFecha != null && antesDeId != null) {
+            // La cota sobre fecha sola es la que aprovecha el índice; la del par desempata registros con igual fecha
+            consulta.append(" AND fecha <= :antesDeFecha AND (fecha, id) < (:antesDeFecha, :antesDeId)");
+            parametros.addValue("antesDeFecha", antesDeFecha).addValue("antesDeId", antesDeId);
+        }
+        consulta.append(" ORDER BY fecha DESC, id DESC LIMIT :limite");
+        return jdbcTemplate.query(consulta.toString(), parametros, this::aRespuesta);
+    }
+
+    /**
+     * Entrega al destino, de a uno y del más antiguo al más reciente, todos los registros que cumplen el filtro.
+     * En PostgreSQL las filas solo se traen en bloques dentro de una transacción; fuera de ella el driver
+     * carga el resultado completo.
+     */
+    public void exportar(FiltroAuditoria filtro, Consumer<AuditoriaAccesoResponse> destino) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource();
+        StringBuilder consulta = filtrar(filtro, parametros).append(" ORDER BY fecha, id");
+        jdbcTemplateExportacion.query(consulta.toString(), parametros,
+                (RowCallbackHandler) fila -> destino.accept(aRespuesta(fila, fila.getRow())));
+    }
+
+    private StringBuilder filtrar(FiltroAuditoria filtro, MapSqlParameterSource parametros) {
+        StringBuilder consulta = new StringBuilder(COLUMNAS)
+                .append("WHERE fecha >= :desde AND fecha < :hasta AND deleted_at IS NULL");
+        parametros.addValue("desde", filtro.desde()).addValue("hasta", filtro.hasta());
+        if (filtro.usuarioId() != null) {
+            consulta.append(" AND usuario_id = :usuarioId");
+            parametros.addValue("usuarioId", filtro.usuarioId());
+        }
+        if (filtro.aplicacionId() != null) {
+            consulta.append(" AND aplicacion_id = :aplicacionId");
+            parametros.addValue("aplicacionId", filtro.aplicacionId());
+        }
+        if (filtro.estado() != null) {
+            consulta.append(" AND estado = :estado");
+            parametros.addValue("estado", filtro.estado().getValor());
+        }
+        return consulta;
+    }
+
+    private AuditoriaAccesoResponse aRespuesta(ResultSet fila, int numero) throws SQLException {
+        return new AuditoriaAccesoResponse(
+                fila.getObject("id", UUID.class),
+                fila.getObject("fecha", OffsetDateTime.class),
+                fila.getObject("usuario_id", UUID.class),
+                fila.getString("email_usuario"),
+                fila.getObject("aplicacion_id", UUID.class),
+                fila.getObject("accion_id", UUID.class),
+                fila.getString("ip_origen"),
+                fila.getString("informacion_dispositivo"),
+                fila.getString("mensaje"),
+                EstadoAuditoria.deValor(fila.getString("estado")),
+                fila.getInt("ocurrencias"),
+                fila.getObject("fecha_ultima", OffsetDateTime.class));
+    }
+}
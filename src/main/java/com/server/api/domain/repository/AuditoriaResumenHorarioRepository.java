@@ -0,0 +1,117 @@
+package com.server.api.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.server.api.domain.dto.auditoria.ResumenAuditoriaHora;
+
+/**
+ * Acceso por JDBC al resumen horario de auditoría.
+ * Los incrementos se suman a los contadores existentes con un upsert; en PostgreSQL se usa
+ * {@code INSERT ... ON CONFLICT}, que es atómico aunque varias instancias sumen la misma fila.
+ * En otras bases de datos se actualiza y, si la fila no existe, se inserta.
+ */
+@Repository
+public class AuditoriaResumenHorarioRepository {
+
+    private static final String SUMAR_POSTGRES = "INSERT INTO auditoria_resumen_horario "
+            + "(hora, aplicacion_id, accion_id, exitosos, fallidos, updated_at) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (aplicacion_id, hora, accion_id) DO UPDATE SET "
+            + "exitosos = auditoria_resumen_horario.exitosos + EXCLUDED.exitosos, "
+            + "fallidos = auditoria_resumen_horario.fallidos + EXCLUDED.fallidos, "
+            + "updated_at = EXCLUDED.updated_at";
+
+    private static final String ACTUALIZAR = "UPDATE auditoria_resumen_horario "
+            + "SET exitosos = exitosos + ?, fallidos = fallidos + ?, updated_at = ? "
+            + "WHERE aplicacion_id = ? AND hora = ? AND accion_id = ?";
+
+    private static final String INSERTAR = "INSERT INTO auditoria_resumen_horario "
+            + "(hora, aplicacion_id, accion_id, exitosos, fallidos, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private volatile Boolean postgres;
+
+    public AuditoriaResumenHorarioRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    /**
+     * Suma los incrementos a las filas de su hora, aplicación y acción, creándolas si no existen.
+     * Debe invocarse dentro de una transacción para que el lote se aplique completo o no se aplique.
+     */
+    public void sumar(List<ResumenAuditoriaHora> incrementos) {
+        if (incrementos.isEmpty()) {
+            return;
+        }
+        Timestamp ahora = Timestamp.from(Instant.now());
+        if (esPostgres()) {
+            jdbcTemplate.batchUpdate(SUMAR_POSTGRES, incrementos, incrementos.size(), (sentencia, incremento) -> {
+                sentencia.setTimestamp(1, Timestamp.from(incremento.hora().toInstant()));
+                sentencia.setObject(2, incremento.aplicacionId());
+                sentencia.setObject(3, incremento.accionId());
+                sentencia.setLong(4, incremento.exitosos());
+                sentencia.setLong(5, incremento.fallidos());
+                sentencia.setTimestamp(6, ahora);
+            });
+            return;
+        }
+        for (ResumenAuditoriaHora incremento : incrementos) {
+            Timestamp hora = Timestamp.from(incremento.hora().toInstant());
+            int actualizadas = jdbcTemplate.update(ACTUALIZAR, incremento.exitosos(), incremento.fallidos(), ahora,
+                    incremento.aplicacionId(), hora, incremento.accionId());
+            if (actualizadas == 0) {
+                jdbcTemplate.update(INSERTAR, hora, incremento.aplicacionId(), incremento.accionId(),
+                        incremento.exitosos(), incremento.fallidos(), ahora);
+            }
+        }
+    }
+
+    /**
+     * Filas del resumen entre dos horas, ordenadas por hora, aplicación y acción.
+     *
+     * @param aplicacionId opcional
+     * @param accionId opcional
+     */
+    public List<ResumenAuditoriaHora> buscar(OffsetDateTime desde, OffsetDateTime hasta, UUID aplicacionId,
+                                             UUID accionId) {
+        StringBuilder consulta = new StringBuilder("SELECT hora, aplicacion_id, accion_id, exitosos, fallidos "
+                + "FROM auditoria_resumen_horario WHERE hora >= :desde AND hora < :hasta");
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("desde", desde)
+                .addValue("hasta", hasta);
+        if (aplicacionId != null) {
+            consulta.append(" AND aplicacion_id = :aplicacionId");
+            parametros.addValue("aplicacionId", aplicacionId);
+        }
+        if (accionId != null) {
+            consulta.append(" AND accion_id = :accionId");
+            parametros.addValue("accionId", accionId);
+        }
+        consulta.append(" ORDER BY hora, aplicacion_id, accion_id");
+        return namedJdbcTemplate.query(consulta.toString(), parametros, (fila, numero) -> new ResumenAuditoriaHora(
+                fila.getObject("hora", OffsetDateTime.class),
+                fila.getObject("aplicacion_id", UUID.class),
+                fila.getObject("accion_id", UUID.class),
+                fila.getLong("exitosos"),
+                fila.getLong("fallidos")));
+    }
+
+    private boolean esPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexion ->
+                    "PostgreSQL".equalsIgnoreCase(conexion.getMetaData().getDatabaseProductName()));
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+}
@@ -0,0 +1,40 @@
+package com.server.api.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.server.api.domain.entity.CambioPermisosRegistro;
+
+/**
+ * Repositorio para el registro de cambios de permisos por versión.
+ */
+@Repository
+public interface CambioPermisosRegistroRepository extends JpaRepository<CambioPermisosRegistro, Long> {
+
+    /**
+     * Obtiene los tipos de usuario modificados en una aplicación entre dos versiones.
+     * Un elemento nulo indica un cambio de catálogo que afecta a toda la aplicación.
+     */
+    @Query("SELECT DISTINCT c.tipoUsuarioId FROM CambioPermisosRegistro c " +
+           "WHERE c.aplicacionId = :aplicacionId AND c.version > :desde AND c.version <= :hasta")
+    List<UUID> findTiposUsuarioModificados(@Param("aplicacionId") UUID aplicacionId,
+                                           @Param("desde") long desde,
+                                           @Param("hasta") long hasta);
+
+    /**
+     * Elimina los cambios que quedaron fuera de las últimas versiones retenidas de cada aplicación.
+     * Un cliente con una versión anterior a la ventana recibe los permisos completos.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CambioPermisosRegistro c WHERE c.version <= " +
+           "(SELECT v.version FROM VersionPermisos v WHERE v.aplicacionId = c.aplicacionId) - :retencion")
+    int deleteFueraDeRetencion(@Param("retencion") long retencion);
+}
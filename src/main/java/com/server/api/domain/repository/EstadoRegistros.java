@@ -0,0 +1,13 @@
+package com.server.api.domain.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Proyección con el total de registros activos de una tabla y su última modificación, incluidos los
+ * eliminados para que una baja también la avance.
+ * Se usa para calcular validadores de caché HTTP sin cargar las entidades.
+ */
+public interface EstadoRegistros {
+    long getTotal();
+    OffsetDateTime getUltimaModificacion();
+}
@@ -0,0 +1,49 @@
+package com.server.api.domain.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.server.api.domain.entity.OutboxEvento;
+
+/**
+ * Repositorio para los eventos del outbox.
+ * Las escrituras se realizan desde {@link com.server.api.domain.event.OutboxEntityListener}.
+ */
+@Repository
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, Long> {
+
+    /**
+     * Obtiene los eventos confirmados posteriores a un ID, en orden de ID.
+     */
+    @Query("SELECT o FROM OutboxEvento o WHERE o.id > :desde ORDER BY o.id")
+    List<OutboxEvento> findPosteriores(@Param("desde") long desde, Pageable pageable);
+
+    /**
+     * Obtiene los eventos con los IDs indicados que ya están confirmados, en orden de ID.
+     */
+    @Query("SELECT o FROM OutboxEvento o WHERE o.id IN :ids ORDER BY o.id")
+    List<OutboxEvento> findByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene el mayor ID registrado, o null si el outbox está vacío.
+     */
+    @Query("SELECT MAX(o.id) FROM OutboxEvento o")
+    Long findMaxId();
+
+    /**
+     * Elimina los eventos anteriores a la fecha indicada.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvento o WHERE o.createdAt < :limite")
+    int deleteAnteriores(@Param("limite") OffsetDateTime limite);
+}
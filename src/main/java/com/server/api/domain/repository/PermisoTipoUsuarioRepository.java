@@ -0,0 +1,48 @@
+package com.server.api.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.server.api.domain.entity.PermisoTipoUsuario;
+
+/**
+ * Repositorio para la entidad PermisoTipoUsuario.
+ * Expone consultas de proyección para construir el índice de autorización sin hidratar entidades.
+ */
+@Repository
+public interface PermisoTipoUsuarioRepository extends JpaRepository<PermisoTipoUsuario, UUID> {
+
+    /**
+     * Obtiene todos los permisos activos (no eliminados).
+     */
+    @Query("SELECT p.tipoUsuario.id AS tipoUsuarioId, p.accion.id AS accionId " +
+           "FROM PermisoTipoUsuario p WHERE p.deletedAt IS NULL")
+    List<PermisoIndice> findIndiceActivos();
+
+    /**
+     * Obtiene los permisos activos de un tipo de usuario.
+     */
+    @Query("SELECT p.tipoUsuario.id AS tipoUsuarioId, p.accion.id AS accionId " +
+           "FROM PermisoTipoUsuario p WHERE p.deletedAt IS NULL AND p.tipoUsuario.id = :tipoUsuarioId")
+    List<PermisoIndice> findIndiceActivosByTipoUsuarioId(@Param("tipoUsuarioId") UUID tipoUsuarioId);
+
+    /**
+     * Obtiene los permisos activos de todos los tipos de usuario de una aplicación.
+     */
+    @Query("SELECT p.tipoUsuario.id AS tipoUsuarioId, p.accion.id AS accionId " +
+           "FROM PermisoTipoUsuario p WHERE p.deletedAt IS NULL AND p.tipoUsuario.aplicacion.id = :aplicacionId")
+    List<PermisoIndice> findIndiceActivosByAplicacionId(@Param("aplicacionId") UUID aplicacionId);
+
+    /**
+     * Proyección de un permiso usada por el índice de autorización en memoria.
+     */
+    interface PermisoIndice {
+        UUID getTipoUsuarioId();
+        UUID getAccionId();
+    }
+}
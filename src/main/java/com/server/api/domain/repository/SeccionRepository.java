@@ -1,18 +1,24 @@
 package com.server.api.domain.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.server.api.domain.entity.RegionesCache;
 import com.server.api.domain.entity.Seccion;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repositorio para la entidad Seccion.
  * Proporciona operaciones CRUD y consultas personalizadas.
@@ -24,6 +30,10 @@ public interface SeccionRepository extends JpaRepository<Seccion, UUID> {
     /**
      * Busca todas las secciones activas (no eliminadas).
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = RegionesCache.CONSULTAS_SECCIONES)
+    })
     @Query("SELECT s FROM Seccion s WHERE s.deletedAt IS NULL")
     List<Seccion> findAllActive();
 
@@ -36,6 +46,10 @@ public interface SeccionRepository extends JpaRepository<Seccion, UUID> {
     /**
      * Busca una sección por ID solo si está activa.
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = RegionesCache.CONSULTAS_SECCIONES)
+    })
     @Query("SELECT s FROM Seccion s WHERE s.id = :id AND s.deletedAt IS NULL")
     Optional<Seccion> findByIdAndActive(@Param("id") UUID id);
 
@@ -82,4 +96,20 @@ public interface SeccionRepository extends JpaRepository<Seccion, UUID> {
      */
     @Query("SELECT COUNT(s) FROM Seccion s WHERE s.deletedAt IS NULL")
     long countActive();
+
+    /**
+     * Total de secciones activas y última modificación de la tabla, para el validador de caché
+     * de los listados.
+     * La fecha incluye los registros eliminados, cuya baja lógica actualiza updated_at: así una baja cambia
+     * también el Last-Modified. Es nativa porque el filtro de eliminados de la entidad se aplica a todo JPQL.
+     */
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN deleted_at IS NULL THEN 1 ELSE 0 END), 0) AS total, " +
+                   "MAX(updated_at) AS ultimaModificacion FROM secciones", nativeQuery = true)
+    EstadoRegistros findEstadoActivos();
+
+    /**
+     * Última modificación de una sección activa, para el validador de caché del detalle.
+     */
+    @Query("SELECT s.updatedAt FROM Seccion s WHERE s.id = :id AND s.deletedAt IS NULL")
+    Optional<OffsetDateTime> findUltimaModificacionActiva(@Param("id") UUID id);
 }
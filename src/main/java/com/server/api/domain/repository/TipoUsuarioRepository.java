@@ -1,19 +1,25 @@
 package com.server.api.domain.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.server.api.domain.entity.RegionesCache;
 import com.server.api.domain.entity.TipoUsuario;
 import com.server.api.domain.entity.TipoUsuario.EstadoTipoUsuario;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repositorio para la gestión de tipos de usuario.
  * Proporciona operaciones de acceso a datos para la entidad TipoUsuario.
@@ -24,11 +30,19 @@ public interface TipoUsuarioRepository extends JpaRepository<TipoUsuario, UUID>
     /**
      * Busca tipos de usuario activos (no eliminados) por ID
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = RegionesCache.CONSULTAS_TIPOS_USUARIO)
+    })
     Optional<TipoUsuario> findByIdAndDeletedAtIsNull(UUID id);
 
     /**
      * Busca todos los tipos de usuario activos (no eliminados)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = RegionesCache.CONSULTAS_TIPOS_USUARIO)
+    })
     List<TipoUsuario> findByDeletedAtIsNull();
 
     /**
@@ -93,4 +107,51 @@ public interface TipoUsuarioRepository extends JpaRepository<TipoUsuario, UUID>
      */
     @Query("SELECT COUNT(t) FROM TipoUsuario t WHERE t.deletedAt IS NULL AND t.estado = :estado")
     long countByEstadoAndDeletedAtIsNull(@Param("estado") EstadoTipoUsuario estado);
+
+    /**
+     * Obtiene los tipos de usuario activos para el índice de autorización
+     */
+    @Query("SELECT t.id AS id, t.aplicacion.id AS aplicacionId FROM TipoUsuario t " +
+           "WHERE t.deletedAt IS NULL AND t.estado = :estado")
+    List<TipoUsuarioIndice> findIndiceByEstado(@Param("estado") EstadoTipoUsuario estado);
+
+    /**
+     * Obtiene un tipo de usuario activo para el índice de autorización
+     */
+    @Query("SELECT t.id AS id, t.aplicacion.id AS aplicacionId FROM TipoUsuario t " +
+           "WHERE t.id = :id AND t.deletedAt IS NULL AND t.estado = :estado")
+    Optional<TipoUsuarioIndice> findIndiceByIdAndEstado(@Param("id") UUID id, @Param("estado") EstadoTipoUsuario estado);
+
+    /**
+     * Obtiene los tipos de usuario activos de una aplicación para el índice de autorización
+     */
+    @Query("SELECT t.id AS id, t.aplicacion.id AS aplicacionId FROM TipoUsuario t " +
+           "WHERE t.aplicacion.id = :aplicacionId AND t.deletedAt IS NULL AND t.estado = :estado")
+    List<TipoUsuarioIndice> findIndiceByAplicacionIdAndEstado(@Param("aplicacionId") UUID aplicacionId,
+                                                              @Param("estado") EstadoTipoUsuario estado);
+
+    /**
+     * Total de tipos de usuario activos y última modificación de la tabla, para el validador de caché
+     * de los listados.
+     * La fecha incluye los registros eliminados, cuya baja lógica actualiza updated_at: así una baja cambia
+     * también el Last-Modified. Es nativa porque el filtro de eliminados de la entidad se aplica a todo JPQL.
+     */
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN deleted_at IS NULL THEN 1 ELSE 0 END), 0) AS total, " +
+                   "MAX(updated_at) AS ultimaModificacion FROM tipo_usuario", nativeQuery = true)
+    EstadoRegistros findEstadoActivos();
+
+    /**
+     * Última modificación de un tipo de usuario activo o de la aplicación que muestra su detalle.
+     */
+    @Query("SELECT GREATEST(t.updatedAt, a.updatedAt) FROM TipoUsuario t " +
+           "JOIN t.aplicacion a WHERE t.id = :id AND t.deletedAt IS NULL")
+    Optional<OffsetDateTime> findUltimaModificacionActiva(@Param("id") UUID id);
+
+    /**
+     * Proyección de un tipo de usuario usada por el índice de autorización en memoria
+     */
+    interface TipoUsuarioIndice {
+        UUID getId();
+        UUID getAplicacionId();
+    }
 }
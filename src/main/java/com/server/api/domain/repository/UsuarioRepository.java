@@ -0,0 +1,30 @@
+package com.server.api.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.server.api.domain.entity.Usuario;
+
+/**
+ * Repositorio para la entidad Usuario.
+ */
+@Repository
+public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
+
+    /**
+     * Busca un usuario activo (no eliminado) por email, sin distinguir mayúsculas.
+     */
+    @Query("SELECT u FROM Usuario u WHERE u.deletedAt IS NULL AND LOWER(u.email) = LOWER(:email)")
+    Optional<Usuario> findByEmailAndActive(@Param("email") String email);
+
+    /**
+     * Email de un usuario activo.
+     */
+    @Query("SELECT u.email FROM Usuario u WHERE u.deletedAt IS NULL AND u.id = :id")
+    Optional<String> findEmailById(@Param("id") UUID id);
+}
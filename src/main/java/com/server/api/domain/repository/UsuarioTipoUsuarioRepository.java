@@ -0,0 +1,45 @@
+package com.server.api.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.server.api.domain.entity.Usuario.EstadoUsuario;
+import com.server.api.domain.entity.UsuarioTipoUsuario;
+
+/**
+ * Repositorio para la entidad UsuarioTipoUsuario.
+ * Expone consultas de proyección para construir el índice de autorización sin hidratar entidades.
+ */
+@Repository
+public interface UsuarioTipoUsuarioRepository extends JpaRepository<UsuarioTipoUsuario, UUID> {
+
+    /**
+     * Obtiene las asignaciones activas de usuarios con el estado dado.
+     */
+    @Query("SELECT u.usuario.id AS usuarioId, u.tipoUsuario.id AS tipoUsuarioId " +
+           "FROM UsuarioTipoUsuario u WHERE u.deletedAt IS NULL " +
+           "AND u.usuario.deletedAt IS NULL AND u.usuario.estado = :estado")
+    List<AsignacionIndice> findIndiceActivas(@Param("estado") EstadoUsuario estado);
+
+    /**
+     * Obtiene las asignaciones activas de un usuario con el estado dado.
+     */
+    @Query("SELECT u.usuario.id AS usuarioId, u.tipoUsuario.id AS tipoUsuarioId " +
+           "FROM UsuarioTipoUsuario u WHERE u.deletedAt IS NULL AND u.usuario.id = :usuarioId " +
+           "AND u.usuario.deletedAt IS NULL AND u.usuario.estado = :estado")
+    List<AsignacionIndice> findIndiceActivasByUsuarioId(@Param("usuarioId") UUID usuarioId,
+                                                        @Param("estado") EstadoUsuario estado);
+
+    /**
+     * Proyección de una asignación usuario-tipo de usuario usada por el índice de autorización.
+     */
+    interface AsignacionIndice {
+        UUID getUsuarioId();
+        UUID getTipoUsuarioId();
+    }
+}
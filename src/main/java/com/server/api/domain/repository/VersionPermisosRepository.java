@@ -0,0 +1,16 @@
+package com.server.api.domain.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.server.api.domain.entity.VersionPermisos;
+
+/**
+ * Repositorio para las versiones de permisos por aplicación.
+ * Las escrituras se realizan desde {@link com.server.api.domain.event.VersionadorPermisos}.
+ */
+@Repository
+public interface VersionPermisosRepository extends JpaRepository<VersionPermisos, UUID> {
+}
@@ -6,6 +6,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -19,13 +20,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.server.api.application.estadisticas.Medicion;
 import com.server.api.application.service.AccionService;
+import com.server.api.application.service.EstadisticasService;
 import com.server.api.domain.dto.accion.AccionCreateRequest;
 import com.server.api.domain.dto.accion.AccionResponse;
 import com.server.api.domain.dto.accion.AccionSummary;
 import com.server.api.domain.dto.accion.AccionUpdateRequest;
+import com.server.api.domain.dto.accion.EstadisticasAcciones;
+import com.server.api.domain.dto.recurso.VersionRecurso;
 import com.server.api.presentation.response.ApiResponse;
+import com.server.api.presentation.response.RespuestasSerializadas;
+import com.server.api.presentation.response.ValidacionCache;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,6 +49,8 @@ import jakarta.validation.Valid;
  * Implementa el principio SRP al manejar únicamente las peticiones HTTP relacionadas con acciones.
  * Sigue el patrón de Clean Architecture manteniendo la lógica de presentación separada del negocio.
  * Proporciona endpoints CRUD siguiendo principios REST.
+ * Las consultas de detalle y listado responden 304 cuando el ETag o Last-Modified del cliente sigue vigente.
+ * El listado y sus filtros se sirven desde bytes ya serializados mientras los datos no cambien.
  */
 @RestController
 @RequestMapping("/api/acciones")
@@ -50,9 +60,14 @@ import jakarta.validation.Valid;
 public class AccionController {
 
     private final AccionService accionService;
+    private final RespuestasSerializadas respuestasSerializadas;
+    private final EstadisticasService estadisticasService;
 
-    public AccionController(AccionService accionService) {
+    public AccionController(AccionService accionService, RespuestasSerializadas respuestasSerializadas,
+                            EstadisticasService estadisticasService) {
         this.accionService = accionService;
+        this.respuestasSerializadas = respuestasSerializadas;
+        this.estadisticasService = estadisticasService;
     }
 
     @Operation(
@@ -109,6 +124,10 @@ public class AccionController {
             description = "Acción encontrada",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = AccionResponse.class))
         ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "La acción no cambió"
+        ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "404",
             description = "Acción no encontrada",
@@ -119,7 +138,13 @@ public class AccionController {
     public ResponseEntity<ApiResponse<AccionResponse>> obtenerPorId(
             @PathVariable 
             @Parameter(description = "ID único de la acción", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            UUID id) {
+            UUID id,
+            
+            WebRequest solicitud) {
+        
+        if (ValidacionCache.noModificado(solicitud, accionService.versionPorId(id).orElse(null))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         
         try {
             AccionResponse response = accionService.obtenerPorId(id);
@@ -137,11 +162,15 @@ public class AccionController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
             description = "Lista de acciones obtenida exitosamente",
-            content = @Content(mediaType = "application/json")
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ListaAcciones.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Las acciones no cambiaron"
         )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AccionSummary>>> obtenerTodas(
+    public ResponseEntity<byte[]> obtenerTodas(
             @RequestParam(value = "nombre", required = false)
             @Parameter(description = "Filtrar por nombre (búsqueda parcial)", example = "Crear")
             String nombre,
@@ -156,25 +185,32 @@ public class AccionController {
             
             @RequestParam(value = "seccionId", required = false)
             @Parameter(description = "Filtrar por ID de sección", example = "550e8400-e29b-41d4-a716-446655440000")
-            UUID seccionId) {
+            UUID seccionId,
+            
+            WebRequest solicitud) {
         
-        List<AccionSummary> acciones;
+        VersionRecurso version = accionService.versionListado();
         
-        if (aplicacionId != null && seccionId != null) {
-            acciones = accionService.buscarPorAplicacionYSeccion(aplicacionId, seccionId);
-        } else if (aplicacionId != null) {
-            acciones = accionService.buscarPorAplicacion(aplicacionId);
-        } else if (seccionId != null) {
-            acciones = accionService.buscarPorSeccion(seccionId);
-        } else if (nombre != null && !nombre.trim().isEmpty()) {
-            acciones = accionService.buscarPorNombre(nombre.trim());
-        } else if (texto != null && !texto.trim().isEmpty()) {
-            acciones = accionService.buscarPorTexto(texto.trim());
-        } else {
-            acciones = accionService.obtenerTodas();
-        }
-        
-        return ResponseEntity.ok(new ApiResponse<>("Lista de acciones obtenida exitosamente", acciones));
+        RespuestasSerializadas.Clave clave = RespuestasSerializadas.clave("acciones", nombre, texto, aplicacionId, seccionId);
+        return respuestasSerializadas.responder(solicitud, clave, version, () -> {
+            List<AccionSummary> acciones;
+            
+            if (aplicacionId != null && seccionId != null) {
+                acciones = accionService.buscarPorAplicacionYSeccion(aplicacionId, seccionId);
+            } else if (aplicacionId != null) {
+                acciones = accionService.buscarPorAplicacion(aplicacionId);
+            } else if (seccionId != null) {
+                acciones = accionService.buscarPorSeccion(seccionId);
+            } else if (nombre != null && !nombre.trim().isEmpty()) {
+                acciones = accionService.buscarPorNombre(nombre.trim());
+            } else if (texto != null && !texto.trim().isEmpty()) {
+                acciones = accionService.buscarPorTexto(texto.trim());
+            } else {
+                acciones = accionService.obtenerTodas();
+            }
+            
+            return new ApiResponse<>("Lista de acciones obtenida exitosamente", acciones);
+        });
     }
 
     @Operation(
@@ -186,6 +222,10 @@ public class AccionController {
             responseCode = "200",
             description = "Página de acciones obtenida exitosamente",
             content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Las acciones no cambiaron"
         )
     })
     @GetMapping("/paginado")
@@ -204,7 +244,13 @@ public class AccionController {
             
             @RequestParam(value = "seccionId", required = false)
             @Parameter(description = "Filtrar por ID de sección", example = "550e8400-e29b-41d4-a716-446655440000")
-            UUID seccionId) {
+            UUID seccionId,
+            
+            WebRequest solicitud) {
+        
+        if (ValidacionCache.noModificado(solicitud, accionService.versionListado())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         
         Page<AccionSummary> acciones;
         
@@ -337,7 +383,8 @@ public class AccionController {
 
     @Operation(
         summary = "Obtener estadísticas de acciones",
-        description = "Obtiene estadísticas básicas sobre las acciones del sistema."
+        description = "Obtiene estadísticas básicas sobre las acciones del sistema. Los valores pueden tener "
+                + "hasta unos segundos de antigüedad, informada en la cabecera Age."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -356,31 +403,22 @@ public class AccionController {
             @Parameter(description = "ID de sección para estadísticas específicas")
             UUID seccionId) {
         
-        long total = accionService.contarAcciones();
-        long porAplicacion = aplicacionId != null ? accionService.contarPorAplicacion(aplicacionId) : 0;
-        long porSeccion = seccionId != null ? accionService.contarPorSeccion(seccionId) : 0;
-        
-        EstadisticasAcciones estadisticas = new EstadisticasAcciones(
-            total,
-            porAplicacion,
-            porSeccion
-        );
+        Medicion<EstadisticasAcciones> estadisticas = estadisticasService.obtenerEstadisticasAcciones(aplicacionId, seccionId);
         
-        return ResponseEntity.ok(new ApiResponse<>("Estadísticas obtenidas exitosamente", estadisticas));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, Long.toString(estadisticas.edadSegundos()))
+                .body(new ApiResponse<>("Estadísticas obtenidas exitosamente", estadisticas.valor()));
     }
 
     /**
-     * DTO para estadísticas de acciones
+     * Esquema del listado para la documentación OpenAPI: el endpoint devuelve los bytes ya
+     * serializados de este tipo, que springdoc no puede deducir de {@code byte[]}.
      */
-    @Schema(description = "Estadísticas de acciones del sistema")
-    public record EstadisticasAcciones(
-            @Schema(description = "Total de acciones activas", example = "25")
-            long totalAcciones,
-            
-            @Schema(description = "Acciones en la aplicación especificada", example = "8")
-            long accionesPorAplicacion,
-            
-            @Schema(description = "Acciones en la sección especificada", example = "5")
-            long accionesPorSeccion
-    ) {}
+    @Schema(name = "ListaAcciones")
+    private static final class ListaAcciones extends ApiResponse<List<AccionSummary>> {
+
+        private ListaAcciones() {
+            super(null, null);
+        }
+    }
 }
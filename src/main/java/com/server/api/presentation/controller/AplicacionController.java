@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,22 +22,31 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.server.api.application.service.AplicacionService;
+import com.server.api.application.service.CambiosPermisosService;
 import com.server.api.domain.dto.aplicacion.AplicacionCreateRequest;
 import com.server.api.domain.dto.aplicacion.AplicacionResponse;
 import com.server.api.domain.dto.aplicacion.AplicacionSummary;
 import com.server.api.domain.dto.aplicacion.AplicacionUpdateRequest;
 import com.server.api.domain.dto.aplicacion.EstadoAplicacionDto;
+import com.server.api.domain.dto.recurso.VersionRecurso;
 import com.server.api.domain.entity.Aplicacion;
 import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
 import com.server.api.domain.mapper.AplicacionMapper;
 import com.server.api.presentation.response.ApiResponse;
+import com.server.api.presentation.response.RespuestasSerializadas;
+import com.server.api.presentation.response.ValidacionCache;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 
@@ -44,6 +54,8 @@ import jakarta.validation.constraints.Min;
  * Controlador REST para gestión de aplicaciones.
  * Implementa el principio SRP al manejar únicamente las peticiones HTTP relacionadas con aplicaciones.
  * Sigue el patrón de Clean Architecture manteniendo la lógica de presentación separada del negocio.
+ * Las consultas de detalle y listado responden 304 cuando el ETag o Last-Modified del cliente sigue vigente.
+ * El listado completo se sirve desde bytes ya serializados mientras las aplicaciones no cambien.
  */
 @RestController
 @RequestMapping("/api/aplicaciones")
@@ -53,10 +65,16 @@ public class AplicacionController {
 
     private final AplicacionService aplicacionService;
     private final AplicacionMapper aplicacionMapper;
+    private final CambiosPermisosService cambiosPermisosService;
+    private final RespuestasSerializadas respuestasSerializadas;
 
-    public AplicacionController(AplicacionService aplicacionService, AplicacionMapper aplicacionMapper) {
+    public AplicacionController(AplicacionService aplicacionService, AplicacionMapper aplicacionMapper,
+                                CambiosPermisosService cambiosPermisosService,
+                                RespuestasSerializadas respuestasSerializadas) {
         this.aplicacionService = aplicacionService;
         this.aplicacionMapper = aplicacionMapper;
+        this.cambiosPermisosService = cambiosPermisosService;
+        this.respuestasSerializadas = respuestasSerializadas;
     }
 
     /**
@@ -89,10 +107,15 @@ public class AplicacionController {
     @Operation(summary = "Obtener aplicación por ID", description = "Obtiene una aplicación específica por su identificador único")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Aplicación encontrada"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "La aplicación no cambió"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Aplicación no encontrada")
     })
     public ResponseEntity<ApiResponse<AplicacionResponse>> obtenerPorId(
-            @Parameter(description = "ID único de la aplicación") @PathVariable UUID id) {
+            @Parameter(description = "ID único de la aplicación") @PathVariable UUID id,
+            WebRequest solicitud) {
+        if (ValidacionCache.noModificado(solicitud, aplicacionService.versionPorId(id).orElse(null))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         try {
             Aplicacion aplicacion = aplicacionService.obtenerPorId(id);
             AplicacionResponse respuesta = aplicacionMapper.toResponse(aplicacion);
@@ -108,10 +131,14 @@ public class AplicacionController {
     @GetMapping("/llave/{llaveIdentificadora}")
     @Operation(summary = "Obtener aplicación por llave identificadora", description = "Obtiene una aplicación por su llave única")
     public ResponseEntity<ApiResponse<AplicacionResponse>> obtenerPorLlaveIdentificadora(
-            @Parameter(description = "Llave identificadora única") @PathVariable String llaveIdentificadora) {
+            @Parameter(description = "Llave identificadora única") @PathVariable String llaveIdentificadora,
+            WebRequest solicitud) {
         try {
-            Aplicacion aplicacion = aplicacionService.obtenerPorLlaveIdentificadora(llaveIdentificadora);
-            AplicacionResponse respuesta = aplicacionMapper.toResponse(aplicacion);
+            AplicacionResponse respuesta = aplicacionService.obtenerPorLlaveIdentificadora(llaveIdentificadora);
+            // La versión sale de la misma respuesta (posiblemente cacheada) para que coincida con el cuerpo
+            if (ValidacionCache.noModificado(solicitud, VersionRecurso.de(respuesta.updatedAt()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
             return ResponseEntity.ok(new ApiResponse<>("Aplicación encontrada", respuesta));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
@@ -123,12 +150,20 @@ public class AplicacionController {
      */
     @GetMapping
     @Operation(summary = "Obtener todas las aplicaciones", description = "Obtiene la lista de todas las aplicaciones activas")
-    public ResponseEntity<ApiResponse<List<AplicacionSummary>>> obtenerTodas() {
-        List<Aplicacion> aplicaciones = aplicacionService.obtenerTodas();
-        List<AplicacionSummary> respuesta = aplicaciones.stream()
-                .map(aplicacionMapper::toSummary)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(new ApiResponse<>("Lista de aplicaciones obtenida exitosamente", respuesta));
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lista de aplicaciones obtenida exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ListaAplicaciones.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Las aplicaciones no cambiaron")
+    })
+    public ResponseEntity<byte[]> obtenerTodas(WebRequest solicitud) {
+        VersionRecurso version = aplicacionService.versionListado();
+        return respuestasSerializadas.responder(solicitud, RespuestasSerializadas.clave("aplicaciones"), version, () -> {
+            List<Aplicacion> aplicaciones = aplicacionService.obtenerTodas();
+            List<AplicacionSummary> respuesta = aplicaciones.stream()
+                    .map(aplicacionMapper::toSummary)
+                    .collect(Collectors.toList());
+            return new ApiResponse<>("Lista de aplicaciones obtenida exitosamente", respuesta);
+        });
     }
 
     /**
@@ -140,8 +175,12 @@ public class AplicacionController {
             @Parameter(description = "Número de página (0-based)") @RequestParam(defaultValue = "0") @Min(0) int page,
             @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") @Min(1) int size,
             @Parameter(description = "Campo de ordenamiento") @RequestParam(defaultValue = "nombre") String sortBy,
-            @Parameter(description = "Dirección de ordenamiento") @RequestParam(defaultValue = "asc") String sortDir) {
+            @Parameter(description = "Dirección de ordenamiento") @RequestParam(defaultValue = "asc") String sortDir,
+            WebRequest solicitud) {
         
+        if (ValidacionCache.noModificado(solicitud, aplicacionService.versionListado())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
@@ -157,7 +196,11 @@ public class AplicacionController {
     @GetMapping("/buscar")
     @Operation(summary = "Buscar aplicaciones por nombre", description = "Busca aplicaciones que contengan el texto especificado en el nombre")
     public ResponseEntity<ApiResponse<List<AplicacionSummary>>> buscarPorNombre(
-            @Parameter(description = "Texto a buscar en el nombre") @RequestParam String nombre) {
+            @Parameter(description = "Texto a buscar en el nombre") @RequestParam String nombre,
+            WebRequest solicitud) {
+        if (ValidacionCache.noModificado(solicitud, aplicacionService.versionListado())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         List<Aplicacion> aplicaciones = aplicacionService.buscarPorNombre(nombre);
         List<AplicacionSummary> respuesta = aplicaciones.stream()
                 .map(aplicacionMapper::toSummary)
@@ -265,4 +308,37 @@ public class AplicacionController {
         String mensaje = existe ? "La aplicación existe" : "La aplicación no existe";
         return ResponseEntity.ok(new ApiResponse<>(mensaje, existe));
     }
+
+    /**
+     * Suscribe al cliente a los cambios de permisos de la aplicación mediante Server-Sent Events.
+     */
+    @GetMapping(value = "/{llaveIdentificadora}/cambios", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suscribirse a cambios de permisos",
+               description = "Abre un flujo SSE que emite un evento 'permisos' con la versión vigente al suscribirse " +
+                             "y cada vez que cambian los tipos de usuario, acciones o permisos de la aplicación. " +
+                             "Las ráfagas de cambios se agrupan en un único evento.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suscripción abierta"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Aplicación no encontrada")
+    })
+    public ResponseEntity<SseEmitter> suscribirCambios(
+            @Parameter(description = "Llave identificadora de la aplicación") @PathVariable String llaveIdentificadora) {
+        try {
+            return ResponseEntity.ok(cambiosPermisosService.suscribir(llaveIdentificadora));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Esquema del listado para la documentación OpenAPI: el endpoint devuelve los bytes ya
+     * serializados de este tipo, que springdoc no puede deducir de {@code byte[]}.
+     */
+    @Schema(name = "ListaAplicaciones")
+    private static final class ListaAplicaciones extends ApiResponse<List<AplicacionSummary>> {
+
+        private ListaAplicaciones() {
+            super(null, null);
+        }
+    }
 }
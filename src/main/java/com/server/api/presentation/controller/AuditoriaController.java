@@ -0,0 +1,288 @@
+package com.server.api.presentation.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.server.api.application.auditoria.ExportacionAuditoria;
+import com.server.api.application.auditoria.ExportacionesOcupadasException;
+import com.server.api.application.auditoria.FormatoExportacion;
+import com.server.api.application.service.ConsultaAuditoriaService;
+import com.server.api.application.service.ExportacionAuditoriaService;
+import com.server.api.domain.dto.auditoria.FiltroAuditoria;
+import com.server.api.domain.dto.auditoria.PaginaAuditoria;
+import com.server.api.domain.dto.auditoria.ResumenAuditoriaHora;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+import com.server.api.presentation.response.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para consultar la auditoría de accesos.
+ * Las consultas se paginan con cursores: cada página devuelve el cursor de la siguiente,
+ * que se envía junto con los mismos filtros.
+ * Las exportaciones se escriben en la respuesta a medida que se leen, comprimidas con gzip
+ * si el cliente lo acepta.
+ */
+@RestController
+@RequestMapping("/api/auditoria")
+@Tag(name = "Auditoría", description = "Consulta de la auditoría de accesos")
+public class AuditoriaController {
+
+    private static final int TAMANO_BUFFER_GZIP = 64 * 1024;
+    private static final String REINTENTO_EXPORTACION_SEGUNDOS = "30";
+    private static final DateTimeFormatter FORMATO_ARCHIVO = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final ConsultaAuditoriaService consultaAuditoriaService;
+    private final ExportacionAuditoriaService exportacionAuditoriaService;
+
+    public AuditoriaController(ConsultaAuditoriaService consultaAuditoriaService,
+                               ExportacionAuditoriaService exportacionAuditoriaService) {
+        this.consultaAuditoriaService = consultaAuditoriaService;
+        this.exportacionAuditoriaService = exportacionAuditoriaService;
+    }
+
+    @Operation(
+        summary = "Consultar auditoría de accesos",
+        description = "Obtiene los accesos de un rango de fechas, del más reciente al más antiguo, filtrados opcionalmente " +
+                      "por usuario, aplicación y estado. Sin rango se consultan las últimas 24 horas. Para la página " +
+                      "siguiente se envía el cursor recibido con los mismos filtros."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Página de registros de auditoría",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginaAuditoria.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Rango de fechas, límite o cursor inválido",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<PaginaAuditoria>> consultar(
+            @RequestParam(value = "desde", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Fecha inicial, incluida", example = "2025-03-01T00:00:00Z")
+            OffsetDateTime desde,
+
+            @RequestParam(value = "hasta", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Fecha final, excluida", example = "2025-03-15T00:00:00Z")
+            OffsetDateTime hasta,
+
+            @RequestParam(value = "usuarioId", required = false)
+            @Parameter(description = "ID del usuario")
+            UUID usuarioId,
+
+            @RequestParam(value = "aplicacionId", required = false)
+            @Parameter(description = "ID de la aplicación")
+            UUID aplicacionId,
+
+            @RequestParam(value = "estado", required = false)
+            @Parameter(description = "Resultado del acceso", example = "FALLIDO")
+            EstadoAuditoria estado,
+
+            @RequestParam(value = "cursor", required = false)
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            String cursor,
+
+            @RequestParam(value = "limite", defaultValue = "50")
+            @Parameter(description = "Cantidad máxima de registros", example = "50")
+            int limite) {
+
+        OffsetDateTime fin = hasta != null ? hasta : OffsetDateTime.now();
+        OffsetDateTime inicio = desde != null ? desde : fin.minusDays(1);
+        try {
+            PaginaAuditoria pagina = consultaAuditoriaService.buscar(
+                    new FiltroAuditoria(inicio, fin, usuarioId, aplicacionId, estado), cursor, limite);
+            return ResponseEntity.ok(new ApiResponse<>("Auditoría obtenida exitosamente", pagina));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(e.getMessage(), null));
+        }
+    }
+
+    @Operation(
+        summary = "Obtener resumen horario de auditoría",
+        description = "Obtiene los accesos exitosos y fallidos por hora, aplicación y acción, para reportes y gráficos. " +
+                      "Sin rango se resumen las últimas 24 horas. Los accesos del último minuto pueden no estar incluidos."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Resumen por hora",
+            content = @Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ResumenAuditoriaHora.class)))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Rango de fechas inválido",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/resumen")
+    public ResponseEntity<ApiResponse<List<ResumenAuditoriaHora>>> resumir(
+            @RequestParam(value = "desde", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Fecha inicial, incluida", example = "2025-03-01T00:00:00Z")
+            OffsetDateTime desde,
+
+            @RequestParam(value = "hasta", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Fecha final, excluida", example = "2025-03-15T00:00:00Z")
+            OffsetDateTime hasta,
+
+            @RequestParam(value = "aplicacionId", required = false)
+            @Parameter(description = "ID de la aplicación")
+            UUID aplicacionId,
+
+            @RequestParam(value = "accionId", required = false)
+            @Parameter(description = "ID de la acción")
+            UUID accionId) {
+
+        OffsetDateTime fin = hasta != null ? hasta : OffsetDateTime.now();
+        OffsetDateTime inicio = desde != null ? desde : fin.minusDays(1);
+        try {
+            List<ResumenAuditoriaHora> resumen = consultaAuditoriaService.resumir(inicio, fin, aplicacionId, accionId);
+            return ResponseEntity.ok(new ApiResponse<>("Resumen de auditoría obtenido exitosamente", resumen));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(e.getMessage(), null));
+        }
+    }
+
+    @Operation(
+        summary = "Exportar auditoría de accesos",
+        description = "Descarga todos los accesos de un rango de fechas, del más antiguo al más reciente, en CSV o NDJSON, " +
+                      "filtrados opcionalmente por usuario, aplicación y estado. Sin rango se exportan las últimas 24 horas. " +
+                      "La respuesta se transmite a medida que se lee y se comprime con gzip si la petición lo acepta."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Archivo con los registros de auditoría",
+            content = {
+                @Content(mediaType = "text/csv"),
+                @Content(mediaType = "application/x-ndjson")
+            }
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Formato o rango de fechas inválido",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "Ya hay el máximo de exportaciones en curso; reintentar después de Retry-After",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/exportacion/{formato}")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @PathVariable("formato")
+            @Parameter(description = "Formato del archivo: csv o ndjson", example = "csv")
+            String formato,
+
+            @RequestParam(value = "desde", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Fecha inicial, incluida", example = "2025-03-01T00:00:00Z")
+            OffsetDateTime desde,
+
+            @RequestParam(value = "hasta", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Fecha final, excluida", example = "2025-04-01T00:00:00Z")
+            OffsetDateTime hasta,
+
+            @RequestParam(value = "usuarioId", required = false)
+            @Parameter(description = "ID del usuario")
+            UUID usuarioId,
+
+            @RequestParam(value = "aplicacionId", required = false)
+            @Parameter(description = "ID de la aplicación")
+            UUID aplicacionId,
+
+            @RequestParam(value = "estado", required = false)
+            @Parameter(description = "Resultado del acceso", example = "FALLIDO")
+            EstadoAuditoria estado,
+
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            @Parameter(hidden = true)
+            String aceptaCodificacion) {
+
+        OffsetDateTime fin = hasta != null ? hasta : OffsetDateTime.now();
+        OffsetDateTime inicio = desde != null ? desde : fin.minusDays(1);
+        // Un formato o rango inválido lanza IllegalArgumentException antes de empezar a transmitir
+        FormatoExportacion formatoExportacion = FormatoExportacion.deNombre(formato);
+        ExportacionAuditoria exportacion = exportacionAuditoriaService.exportar(
+                new FiltroAuditoria(inicio, fin, usuarioId, aplicacionId, estado), formatoExportacion);
+
+        boolean gzip = aceptaCodificacion != null && aceptaCodificacion.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody cuerpo = gzip
+                ? salida -> {
+                    try (GZIPOutputStream comprimida = new GZIPOutputStream(salida, TAMANO_BUFFER_GZIP)) {
+                        exportacion.escribir(comprimida);
+                    }
+                }
+                : exportacion::escribir;
+        String archivo = "auditoria_" + FORMATO_ARCHIVO.format(inicio.withOffsetSameInstant(ZoneOffset.UTC)) + "_"
+                + FORMATO_ARCHIVO.format(fin.withOffsetSameInstant(ZoneOffset.UTC)) + "." + formatoExportacion.getExtension();
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(formatoExportacion.getTipoContenido()),
+                        StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(archivo).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            respuesta.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return respuesta.body(cuerpo);
+    }
+
+    /**
+     * Responde 400 a los parámetros inválidos de la exportación, que no puede devolver un {@link ApiResponse}
+     * porque su cuerpo se transmite.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> argumentoInvalido(IllegalArgumentException e) {
+        return ResponseEntity.badRequest()
+                .body(new ApiResponse<>(e.getMessage(), null));
+    }
+
+    /**
+     * Responde 503 cuando ya se transmite el máximo de exportaciones simultáneas.
+     */
+    @ExceptionHandler(ExportacionesOcupadasException.class)
+    public ResponseEntity<ApiResponse<Void>> exportacionesOcupadas(ExportacionesOcupadasException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, REINTENTO_EXPORTACION_SEGUNDOS)
+                .body(new ApiResponse<>(e.getMessage(), null));
+    }
+}
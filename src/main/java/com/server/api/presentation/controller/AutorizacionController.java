@@ -0,0 +1,232 @@
+package com.server.api.presentation.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.server.api.application.service.ArbolPermisosService;
+import com.server.api.application.service.AutorizacionService;
+import com.server.api.application.service.RegistroAccesosService;
+import com.server.api.application.service.SincronizacionPermisosService;
+import com.server.api.domain.dto.autorizacion.ArbolPermisos;
+import com.server.api.domain.dto.autorizacion.DecisionAutorizacion;
+import com.server.api.domain.dto.autorizacion.DecisionesAutorizacion;
+import com.server.api.domain.dto.autorizacion.DecisionesAutorizacion.Formato;
+import com.server.api.domain.dto.autorizacion.PermisosAplicacion;
+import com.server.api.domain.dto.autorizacion.VerificacionLoteRequest;
+import com.server.api.presentation.response.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+/**
+ * Controlador REST para decisiones de autorización.
+ * Responde si un usuario puede ejecutar una acción en una aplicación
+ * usando el índice de permisos en memoria. Cada verificación individual queda en la auditoría de accesos.
+ */
+@RestController
+@RequestMapping("/api/autorizacion")
+@Tag(name = "Autorización", description = "Verificación de permisos de usuarios sobre acciones")
+public class AutorizacionController {
+
+    private final AutorizacionService autorizacionService;
+    private final ArbolPermisosService arbolPermisosService;
+    private final SincronizacionPermisosService sincronizacionPermisosService;
+    private final RegistroAccesosService registroAccesosService;
+
+    public AutorizacionController(AutorizacionService autorizacionService, ArbolPermisosService arbolPermisosService,
+                                  SincronizacionPermisosService sincronizacionPermisosService,
+                                  RegistroAccesosService registroAccesosService) {
+        this.autorizacionService = autorizacionService;
+        this.arbolPermisosService = arbolPermisosService;
+        this.sincronizacionPermisosService = sincronizacionPermisosService;
+        this.registroAccesosService = registroAccesosService;
+    }
+
+    @Operation(
+        summary = "Verificar permiso",
+        description = "Indica si el usuario puede ejecutar la acción (por ID o nombre) en la aplicación identificada por su llave."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Decisión de autorización calculada",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = DecisionAutorizacion.class))
+        )
+    })
+    @GetMapping("/verificar")
+    public ResponseEntity<ApiResponse<DecisionAutorizacion>> verificar(
+            @RequestParam("usuarioId")
+            @Parameter(description = "ID del usuario", required = true)
+            UUID usuarioId,
+
+            @RequestParam("llaveIdentificadora")
+            @Parameter(description = "Llave identificadora de la aplicación", required = true, example = "CCA_AUTH_SERVICE")
+            String llaveIdentificadora,
+
+            @RequestParam("accion")
+            @Parameter(description = "ID o nombre de la acción", required = true, example = "Crear Sección")
+            String accion,
+
+            HttpServletRequest solicitud) {
+
+        boolean permitido = autorizacionService.verificar(usuarioId, llaveIdentificadora, accion);
+        registroAccesosService.registrarVerificacion(usuarioId, llaveIdentificadora, accion, permitido,
+                solicitud.getRemoteAddr(), solicitud.getHeader(HttpHeaders.USER_AGENT));
+        DecisionAutorizacion decision = new DecisionAutorizacion(usuarioId, llaveIdentificadora, accion, permitido);
+
+        String mensaje = permitido ? "Acción permitida" : "Acción no permitida";
+        return ResponseEntity.ok(new ApiResponse<>(mensaje, decision));
+    }
+
+    @Operation(
+        summary = "Verificar permisos en lote",
+        description = "Evalúa hasta 5000 acciones (por ID o nombre) de un usuario en una aplicación contra una misma versión " +
+                      "de los permisos. Devuelve un arreglo de booleanos o un mapa de bits en base64, en el orden de la petición."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Decisiones de autorización calculadas",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = DecisionesAutorizacion.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Datos inválidos o demasiadas acciones",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/verificar-lote")
+    public ResponseEntity<ApiResponse<DecisionesAutorizacion>> verificarLote(
+            @Valid @RequestBody
+            @Parameter(description = "Usuario, aplicación y acciones a verificar", required = true)
+            VerificacionLoteRequest request,
+
+            @RequestParam(value = "formato", defaultValue = "BOOLEANOS")
+            @Parameter(description = "Formato de la respuesta", example = "MAPA_BITS")
+            Formato formato) {
+
+        DecisionesAutorizacion decisiones = autorizacionService.verificarLote(request, formato);
+        return ResponseEntity.ok(new ApiResponse<>("Permisos verificados exitosamente", decisiones));
+    }
+
+    @Operation(
+        summary = "Obtener árbol de permisos",
+        description = "Devuelve las secciones y acciones que el usuario puede ejecutar en la aplicación. " +
+                      "El resultado se comparte entre usuarios con la misma combinación de tipos de usuario."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Árbol de permisos calculado",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArbolPermisos.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Aplicación no encontrada",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/arbol")
+    public ResponseEntity<ApiResponse<ArbolPermisos>> obtenerArbol(
+            @RequestParam("usuarioId")
+            @Parameter(description = "ID del usuario", required = true)
+            UUID usuarioId,
+
+            @RequestParam("llaveIdentificadora")
+            @Parameter(description = "Llave identificadora de la aplicación", required = true, example = "CCA_AUTH_SERVICE")
+            String llaveIdentificadora) {
+
+        try {
+            ArbolPermisos arbol = arbolPermisosService.obtenerArbol(usuarioId, llaveIdentificadora);
+            return ResponseEntity.ok(new ApiResponse<>("Árbol de permisos obtenido exitosamente", arbol));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(
+        summary = "Sincronizar permisos de una aplicación",
+        description = "Devuelve los permisos de los tipos de usuario de la aplicación y su versión en el ETag. " +
+                      "Con 'since' o If-None-Match responde 304 si no hubo cambios, o solo los tipos de usuario " +
+                      "modificados desde esa versión."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Permisos completos o delta desde la versión indicada",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PermisosAplicacion.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "La versión indicada es la actual"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Aplicación no encontrada",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/permisos")
+    public ResponseEntity<ApiResponse<PermisosAplicacion>> sincronizarPermisos(
+            @RequestParam("llaveIdentificadora")
+            @Parameter(description = "Llave identificadora de la aplicación", required = true, example = "CCA_AUTH_SERVICE")
+            String llaveIdentificadora,
+
+            @RequestParam(value = "since", required = false)
+            @Parameter(description = "Versión de permisos que ya tiene el cliente", example = "40")
+            Long since,
+
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            @Parameter(description = "ETag recibido en la sincronización anterior", example = "\"40\"")
+            String ifNoneMatch) {
+
+        Long desdeVersion = since != null ? since : versionDeEtag(ifNoneMatch);
+        try {
+            PermisosAplicacion permisos = sincronizacionPermisosService.obtenerPermisos(llaveIdentificadora, desdeVersion);
+            String etag = "\"" + permisos.version() + "\"";
+            if (desdeVersion != null && desdeVersion == permisos.version()) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            String mensaje = permisos.completo() ? "Permisos obtenidos exitosamente" : "Cambios de permisos obtenidos exitosamente";
+            return ResponseEntity.ok().eTag(etag).body(new ApiResponse<>(mensaje, permisos));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Extrae la versión de un ETag de la forma {@code "42"} o {@code W/"42"}; null si no es válido.
+     */
+    private Long versionDeEtag(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        String valor = etag.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        valor = valor.replace("\"", "");
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -18,8 +19,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.server.api.application.estadisticas.Medicion;
+import com.server.api.application.service.EstadisticasService;
 import com.server.api.application.service.SeccionService;
+import com.server.api.domain.dto.recurso.VersionRecurso;
 import com.server.api.domain.dto.seccion.DisponibilidadNombre;
 import com.server.api.domain.dto.seccion.EstadisticasSecciones;
 import com.server.api.domain.dto.seccion.SeccionCreateRequest;
@@ -27,6 +32,8 @@ import com.server.api.domain.dto.seccion.SeccionResponse;
 import com.server.api.domain.dto.seccion.SeccionSummary;
 import com.server.api.domain.dto.seccion.SeccionUpdateRequest;
 import com.server.api.presentation.response.ApiResponse;
+import com.server.api.presentation.response.RespuestasSerializadas;
+import com.server.api.presentation.response.ValidacionCache;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,6 +48,8 @@ import jakarta.validation.Valid;
  * Controlador REST para gestión de secciones.
  * Proporciona endpoints CRUD siguiendo principios REST.
  * Documentado con OpenAPI/Swagger para facilitar el testing.
+ * Las consultas de detalle y listado responden 304 cuando el ETag o Last-Modified del cliente sigue vigente.
+ * El listado completo y sus búsquedas se sirven desde bytes ya serializados mientras los datos no cambien.
  */
 @RestController
 @RequestMapping("/api/secciones")
@@ -49,9 +58,14 @@ import jakarta.validation.Valid;
 public class SeccionController {
 
     private final SeccionService seccionService;
+    private final RespuestasSerializadas respuestasSerializadas;
+    private final EstadisticasService estadisticasService;
 
-    public SeccionController(SeccionService seccionService) {
+    public SeccionController(SeccionService seccionService, RespuestasSerializadas respuestasSerializadas,
+                             EstadisticasService estadisticasService) {
         this.seccionService = seccionService;
+        this.respuestasSerializadas = respuestasSerializadas;
+        this.estadisticasService = estadisticasService;
     }
 
     @Operation(
@@ -101,6 +115,10 @@ public class SeccionController {
             description = "Sección encontrada",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = SeccionResponse.class))
         ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "La sección no cambió"
+        ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "404",
             description = "Sección no encontrada",
@@ -111,7 +129,13 @@ public class SeccionController {
     public ResponseEntity<ApiResponse<SeccionResponse>> obtenerPorId(
             @PathVariable 
             @Parameter(description = "ID único de la sección", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            UUID id) {
+            UUID id,
+            
+            WebRequest solicitud) {
+        
+        if (ValidacionCache.noModificado(solicitud, seccionService.versionPorId(id).orElse(null))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         
         try {
             SeccionResponse response = seccionService.obtenerPorId(id);
@@ -129,30 +153,41 @@ public class SeccionController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
             description = "Lista de secciones obtenida exitosamente",
-            content = @Content(mediaType = "application/json")
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ListaSecciones.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Las secciones no cambiaron"
         )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SeccionSummary>>> obtenerTodas(
+    public ResponseEntity<byte[]> obtenerTodas(
             @RequestParam(value = "nombre", required = false)
             @Parameter(description = "Filtrar por nombre (búsqueda parcial)", example = "Gestión")
             String nombre,
             
             @RequestParam(value = "texto", required = false)
             @Parameter(description = "Buscar texto en nombre o descripción", example = "usuarios")
-            String texto) {
-        
-        List<SeccionSummary> secciones;
+            String texto,
+            
+            WebRequest solicitud) {
         
-        if (texto != null && !texto.trim().isEmpty()) {
-            secciones = seccionService.buscarPorTexto(texto.trim());
-        } else if (nombre != null && !nombre.trim().isEmpty()) {
-            secciones = seccionService.buscarPorNombre(nombre.trim());
-        } else {
-            secciones = seccionService.obtenerTodas();
-        }
+        VersionRecurso version = seccionService.versionListado();
         
-        return ResponseEntity.ok(new ApiResponse<>("Lista de secciones obtenida exitosamente", secciones));
+        RespuestasSerializadas.Clave clave = RespuestasSerializadas.clave("secciones", nombre, texto);
+        return respuestasSerializadas.responder(solicitud, clave, version, () -> {
+            List<SeccionSummary> secciones;
+            
+            if (texto != null && !texto.trim().isEmpty()) {
+                secciones = seccionService.buscarPorTexto(texto.trim());
+            } else if (nombre != null && !nombre.trim().isEmpty()) {
+                secciones = seccionService.buscarPorNombre(nombre.trim());
+            } else {
+                secciones = seccionService.obtenerTodas();
+            }
+            
+            return new ApiResponse<>("Lista de secciones obtenida exitosamente", secciones);
+        });
     }
 
     @Operation(
@@ -164,6 +199,10 @@ public class SeccionController {
             responseCode = "200",
             description = "Página de secciones obtenida exitosamente",
             content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Las secciones no cambiaron"
         )
     })
     @GetMapping("/paginated")
@@ -174,7 +213,13 @@ public class SeccionController {
             
             @RequestParam(value = "nombre", required = false)
             @Parameter(description = "Filtrar por nombre (búsqueda parcial)", example = "Gestión")
-            String nombre) {
+            String nombre,
+            
+            WebRequest solicitud) {
+        
+        if (ValidacionCache.noModificado(solicitud, seccionService.versionListado())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         
         Page<SeccionSummary> secciones;
         
@@ -303,7 +348,8 @@ public class SeccionController {
 
     @Operation(
         summary = "Obtener estadísticas de secciones",
-        description = "Obtiene información estadística sobre las secciones del sistema."
+        description = "Obtiene información estadística sobre las secciones del sistema. Los valores pueden tener "
+                + "hasta unos segundos de antigüedad, informada en la cabecera Age."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -314,10 +360,11 @@ public class SeccionController {
     })
     @GetMapping("/estadisticas")
     public ResponseEntity<ApiResponse<EstadisticasSecciones>> obtenerEstadisticas() {
-        long totalSecciones = seccionService.contarSecciones();
+        Medicion<EstadisticasSecciones> estadisticas = estadisticasService.obtenerEstadisticasSecciones();
         
-        EstadisticasSecciones estadisticas = new EstadisticasSecciones(totalSecciones);
-        return ResponseEntity.ok(new ApiResponse<>("Estadísticas obtenidas exitosamente", estadisticas));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, Long.toString(estadisticas.edadSegundos()))
+                .body(new ApiResponse<>("Estadísticas obtenidas exitosamente", estadisticas.valor()));
     }
 
     @Operation(
@@ -343,4 +390,16 @@ public class SeccionController {
         String mensaje = existe ? "El nombre ya está en uso" : "El nombre está disponible";
         return ResponseEntity.ok(new ApiResponse<>(mensaje, disponibilidad));
     }
+
+    /**
+     * Esquema del listado para la documentación OpenAPI: el endpoint devuelve los bytes ya
+     * serializados de este tipo, que springdoc no puede deducir de {@code byte[]}.
+     */
+    @Schema(name = "ListaSecciones")
+    private static final class ListaSecciones extends ApiResponse<List<SeccionSummary>> {
+
+        private ListaSecciones() {
+            super(null, null);
+        }
+    }
 }
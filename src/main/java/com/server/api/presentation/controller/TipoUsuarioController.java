@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,7 +20,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.server.api.application.estadisticas.Medicion;
+import com.server.api.application.service.EstadisticasService;
 import com.server.api.application.service.TipoUsuarioService;
 import com.server.api.domain.dto.tipousuario.TipoUsuarioCreateRequest;
 import com.server.api.domain.dto.tipousuario.TipoUsuarioResponse;
@@ -27,6 +31,7 @@ import com.server.api.domain.dto.tipousuario.TipoUsuarioSummary;
 import com.server.api.domain.dto.tipousuario.TipoUsuarioUpdateRequest;
 import com.server.api.domain.entity.TipoUsuario.EstadoTipoUsuario;
 import com.server.api.presentation.response.ApiResponse;
+import com.server.api.presentation.response.ValidacionCache;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
  * Controlador REST para la gestión de tipos de usuario.
  * Proporciona endpoints para operaciones CRUD y consultas especializadas.
  * Sigue principios REST y manejo consistente de respuestas.
+ * Las consultas de detalle y listado responden 304 cuando el ETag o Last-Modified del cliente sigue vigente.
  */
 @RestController
 @RequestMapping("/api/tipos-usuario")
@@ -44,6 +50,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TipoUsuarioController {
 
     private final TipoUsuarioService tipoUsuarioService;
+    private final EstadisticasService estadisticasService;
 
     /**
      * Crea un nuevo tipo de usuario
@@ -62,9 +69,13 @@ public class TipoUsuarioController {
      * Obtiene un tipo de usuario por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<TipoUsuarioResponse>> obtenerPorId(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<TipoUsuarioResponse>> obtenerPorId(@PathVariable UUID id, WebRequest solicitud) {
         log.debug("Petición para obtener tipo de usuario por ID: {}", id);
         
+        if (ValidacionCache.noModificado(solicitud, tipoUsuarioService.versionPorId(id).orElse(null))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        
         TipoUsuarioResponse tipoUsuario = tipoUsuarioService.obtenerPorId(id);
         
         return ResponseEntity.ok(ApiResponse.success("Tipo de usuario encontrado", tipoUsuario));
@@ -78,10 +89,15 @@ public class TipoUsuarioController {
             @PageableDefault(size = 10, sort = "nombre", direction = Sort.Direction.ASC) Pageable pageable,
             @RequestParam(required = false) String nombre,
             @RequestParam(required = false) UUID aplicacionId,
-            @RequestParam(required = false) EstadoTipoUsuario estado) {
+            @RequestParam(required = false) EstadoTipoUsuario estado,
+            WebRequest solicitud) {
         
         log.debug("Petición para obtener tipos de usuario paginados");
         
+        if (ValidacionCache.noModificado(solicitud, tipoUsuarioService.versionListado())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        
         Page<TipoUsuarioSummary> tiposUsuario = tipoUsuarioService.obtenerTodos(pageable, nombre, aplicacionId, estado);
         
         return ResponseEntity.ok(ApiResponse.success("Página de tipos de usuario obtenida exitosamente", tiposUsuario));
@@ -130,7 +146,8 @@ public class TipoUsuarioController {
     }
 
     /**
-     * Obtiene estadísticas de tipos de usuario
+     * Obtiene estadísticas de tipos de usuario.
+     * Pueden tener hasta unos segundos de antigüedad, informada en la cabecera Age.
      */
     @GetMapping("/estadisticas")
     public ResponseEntity<ApiResponse<Map<String, Long>>> obtenerEstadisticas(
@@ -139,8 +156,10 @@ public class TipoUsuarioController {
         
         log.debug("Petición para obtener estadísticas de tipos de usuario");
         
-        Map<String, Long> estadisticas = tipoUsuarioService.obtenerEstadisticas(aplicacionId, estado);
+        Medicion<Map<String, Long>> estadisticas = estadisticasService.obtenerEstadisticasTiposUsuario(aplicacionId, estado);
         
-        return ResponseEntity.ok(ApiResponse.success("Estadísticas obtenidas exitosamente", estadisticas));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, Long.toString(estadisticas.edadSegundos()))
+                .body(ApiResponse.success("Estadísticas obtenidas exitosamente", estadisticas.valor()));
     }
 }
@@ -0,0 +1,87 @@
+package com.server.api.presentation.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.server.api.application.service.TokenService;
+import com.server.api.domain.dto.token.EmisionTokenRequest;
+import com.server.api.domain.dto.token.TokenEmitido;
+import com.server.api.presentation.response.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+
+/**
+ * Controlador REST para la emisión de tokens de acceso.
+ */
+@RestController
+@RequestMapping("/api/tokens")
+@Tag(name = "Tokens", description = "Emisión de tokens JWT de acceso")
+public class TokenController {
+
+    private final TokenService tokenService;
+
+    public TokenController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Operation(
+        summary = "Emitir token",
+        description = "Emite un JWT del usuario para la aplicación, autenticándolo con su email y contraseña. En modo PERMISOS el token incluye el mapa de bits " +
+                      "de permisos comprimido (claim 'perm'), el total de acciones ('pn') y la versión de permisos ('pver'), " +
+                      "para autorizar sin consultar esta API."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "201",
+            description = "Token emitido",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TokenEmitido.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Datos inválidos o usuario sin tipos de usuario en la aplicación",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "Email o contraseña inválidos",
+            content = @Content(mediaType = "application/json")
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Aplicación no encontrada",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<TokenEmitido>> emitir(
+            @Valid @RequestBody
+            @Parameter(description = "Credenciales del usuario, aplicación y modo del token", required = true)
+            EmisionTokenRequest request) {
+
+        try {
+            TokenEmitido token = tokenService.emitir(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(new ApiResponse<>("Token emitido exitosamente", token));
+        } catch (BadCredentialsException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse<>(e.getMessage(), null));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(e.getMessage(), null));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.server.api.presentation.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.api.domain.dto.recurso.VersionRecurso;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caché de respuestas ya serializadas de los listados de solo lectura.
+ * Guarda por endpoint y parámetros el JSON final en UTF-8 y su versión comprimida con gzip,
+ * junto con el ETag de los datos con que se generó. Una escritura sobre las entidades del listado
+ * cambia su versión, de modo que la siguiente petición vuelve a generar la respuesta; así la invalidación
+ * es inmediata también para los cambios hechos en otras instancias.
+ * Los bytes se devuelven como cuerpo de la respuesta y se copian tal cual a la salida del servlet,
+ * sin volver a hidratar entidades, mapear ni serializar.
+ * Las peticiones condicionales se resuelven aquí porque el ETag depende de la codificación
+ * negociada: la representación gzip lleva el ETag de los datos con el sufijo {@code -gz}.
+ */
+@Component
+public class RespuestasSerializadas {
+
+    private static final String GZIP = "gzip";
+    private static final String SUFIJO_GZIP = "-gz";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Clave, Entrada> respuestas;
+
+    public RespuestasSerializadas(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.respuestas.max-bytes:16777216}") long maxBytes,
+            @Value("${app.cache.respuestas.ttl-segundos:600}") long ttlSegundos) {
+        this.objectMapper = objectMapper;
+        this.respuestas = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Clave clave, Entrada entrada) -> entrada.peso())
+                .expireAfterAccess(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, respuestas, "respuestasSerializadas");
+    }
+
+    /**
+     * Clave de caché de un endpoint con sus parámetros, en el orden en que se pasan.
+     */
+    public static Clave clave(String endpoint, Object... parametros) {
+        return new Clave(endpoint, Collections.unmodifiableList(Arrays.asList(parametros.clone())));
+    }
+
+    /**
+     * Responde 304 si el cliente ya tiene la representación vigente; si no, responde con los bytes
+     * guardados si fueron generados con la versión vigente, o genera el cuerpo, lo serializa y lo guarda.
+     *
+     * @param solicitud petición actual, para negociar gzip y evaluar If-None-Match
+     * @param clave clave del endpoint y sus parámetros
+     * @param version versión vigente de los datos; si es null la respuesta no se guarda ni se valida
+     * @param cuerpo genera el cuerpo cuando no hay bytes vigentes
+     * @return respuesta 304, o 200 con el JSON comprimido si el cliente lo acepta
+     */
+    public ResponseEntity<byte[]> responder(WebRequest solicitud, Clave clave, VersionRecurso version,
+                                            Supplier<?> cuerpo) {
+        boolean gzip = aceptaGzip(solicitud);
+        // Si el gzip no resulta más pequeño se envía el JSON con el ETag -gz: sigue identificando bytes únicos
+        VersionRecurso representacion = version != null && gzip ? version.variante(SUFIJO_GZIP) : version;
+        if (ValidacionCache.noModificado(solicitud, representacion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        Entrada entrada = version != null ? respuestas.getIfPresent(clave) : null;
+        if (entrada == null || !entrada.etag().equals(version.etag())) {
+            entrada = serializar(version, cuerpo.get());
+            if (version != null) {
+                respuestas.put(clave, entrada);
+            }
+        }
+
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (entrada.gzip() != null && gzip) {
+            return respuesta.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(entrada.gzip());
+        }
+        return respuesta.body(entrada.json());
+    }
+
+    private Entrada serializar(VersionRecurso version, Object cuerpo) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(cuerpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+        byte[] gzip = comprimir(json);
+        return new Entrada(version != null ? version.etag() : "", json, gzip.length < json.length ? gzip : null);
+    }
+
+    private static byte[] comprimir(byte[] datos) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(datos.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(datos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return salida.toByteArray();
+    }
+
+    /**
+     * Indica si el cliente acepta gzip. Se descarta solo si lo excluye explícitamente con q=0.
+     */
+    private static boolean aceptaGzip(WebRequest solicitud) {
+        String aceptadas = solicitud.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (aceptadas == null) {
+            return false;
+        }
+        for (String codificacion : aceptadas.split(",")) {
+            String[] partes = codificacion.trim().split(";");
+            if (GZIP.equalsIgnoreCase(partes[0].trim())) {
+                return partes.length < 2 || !partes[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clave de caché: endpoint y lista de parámetros, comparados elemento a elemento.
+     * Los parámetros pueden ser null.
+     */
+    public record Clave(String endpoint, List<Object> parametros) {
+    }
+
+    /**
+     * Respuesta serializada con el ETag de los datos que contiene.
+     *
+     * @param gzip versión comprimida; null si no es más pequeña que el JSON
+     */
+    private record Entrada(String etag, byte[] json, byte[] gzip) {
+
+        int peso() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.server.api.presentation.response;
+
+import org.springframework.web.context.request.WebRequest;
+
+import com.server.api.domain.dto.recurso.VersionRecurso;
+
+/**
+ * Soporte de peticiones condicionales (If-None-Match / If-Modified-Since) para los controladores.
+ * La versión debe obtenerse antes de leer los datos de la respuesta: si los datos cambian entre ambas
+ * lecturas, el cliente recibe datos más nuevos que su ETag y solo pierde un 304 en la siguiente petición.
+ */
+public final class ValidacionCache {
+
+    private ValidacionCache() {
+    }
+
+    /**
+     * Compara la petición con la versión y agrega ETag y Last-Modified a la respuesta.
+     *
+     * @param solicitud petición actual
+     * @param version versión del recurso; null si no existe, en cuyo caso no se evalúa
+     * @return true si el cliente ya tiene la versión vigente y debe responderse 304
+     */
+    public static boolean noModificado(WebRequest solicitud, VersionRecurso version) {
+        return version != null && solicitud.checkNotModified(version.etag(), version.ultimaModificacionMs());
+    }
+}
@@ -0,0 +1,18 @@
+-- Crear tabla con la versión de permisos de cada aplicación
+CREATE TABLE IF NOT EXISTS versiones_permisos (
+    aplicacion_id UUID PRIMARY KEY, -- Sin llave foránea para conservar la versión de aplicaciones eliminadas
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Crear tabla con el registro de tipos de usuario modificados en cada versión
+CREATE TABLE IF NOT EXISTS cambios_permisos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aplicacion_id UUID NOT NULL,
+    version BIGINT NOT NULL,
+    tipo_usuario_id UUID NULL, -- NULL indica un cambio de catálogo que afecta a toda la aplicación
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Consultas comunes: cambios de una aplicación posteriores a una versión.
+CREATE INDEX IF NOT EXISTS idx_cambios_permisos_aplicacion_version ON cambios_permisos (aplicacion_id, version);
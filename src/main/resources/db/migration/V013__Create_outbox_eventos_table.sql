@@ -0,0 +1,11 @@
+-- Crear tabla outbox con las modificaciones de entidades del dominio, escrita en la misma transacción
+CREATE TABLE IF NOT EXISTS outbox_eventos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, -- Define el orden de publicación
+    entidad VARCHAR(30) NOT NULL CHECK (entidad IN ('APLICACION', 'SECCION', 'ACCION', 'TIPO_USUARIO')),
+    entidad_id UUID NOT NULL,
+    operacion VARCHAR(15) NOT NULL CHECK (operacion IN ('CREACION', 'ACTUALIZACION', 'ELIMINACION')),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Depuración periódica de eventos ya publicados.
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_created_at ON outbox_eventos (created_at);
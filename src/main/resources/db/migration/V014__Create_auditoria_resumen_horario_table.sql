@@ -0,0 +1,16 @@
+-- Crear tabla de resumen de auditoría: accesos exitosos y fallidos por hora, aplicación y acción.
+-- Se alimenta desde la ingesta de auditoría con upserts que suman a los contadores existentes,
+-- de modo que los reportes leen pocas filas en lugar de recorrer auditoria_accesos.
+CREATE TABLE IF NOT EXISTS auditoria_resumen_horario (
+    hora TIMESTAMP WITH TIME ZONE NOT NULL, -- Inicio de la hora en UTC
+    aplicacion_id UUID NOT NULL,
+    accion_id UUID NOT NULL,
+    exitosos BIGINT NOT NULL DEFAULT 0,
+    fallidos BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- Sin llaves foráneas: el resumen conserva el historial aunque se eliminen aplicaciones o acciones
+    PRIMARY KEY (aplicacion_id, hora, accion_id)
+);
+
+-- Reportes de todas las aplicaciones en un rango de horas.
+CREATE INDEX IF NOT EXISTS idx_auditoria_resumen_horario_hora ON auditoria_resumen_horario (hora);
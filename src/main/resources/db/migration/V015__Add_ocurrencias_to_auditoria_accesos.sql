@@ -0,0 +1,7 @@
+-- Agrupación de accesos exitosos repetidos: una fila puede representar varios accesos idénticos
+-- del mismo usuario, aplicación, acción e IP dentro de una ventana de tiempo.
+-- fecha es la del primer acceso y fecha_ultima la del último; es nula cuando la fila representa uno solo.
+-- En la tabla particionada las columnas se agregan también a todas las particiones.
+ALTER TABLE auditoria_accesos
+    ADD COLUMN IF NOT EXISTS ocurrencias INTEGER NOT NULL DEFAULT 1 CHECK (ocurrencias >= 1),
+    ADD COLUMN IF NOT EXISTS fecha_ultima TIMESTAMP WITH TIME ZONE NULL;
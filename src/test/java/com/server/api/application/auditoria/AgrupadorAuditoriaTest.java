@@ -0,0 +1,111 @@
+package com.server.api.application.auditoria;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+/**
+ * Tests unitarios para AgrupadorAuditoria.
+ * Verifica la agrupación de accesos exitosos idénticos, el paso inmediato de los fallidos
+ * y el cierre de los grupos por ventana.
+ */
+@DisplayName("AgrupadorAuditoria - Tests Unitarios")
+class AgrupadorAuditoriaTest {
+
+    private static final OffsetDateTime INICIO = OffsetDateTime.of(2025, 3, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    private final AgrupadorAuditoria agrupador = new AgrupadorAuditoria(Duration.ofSeconds(10), 100);
+    private final UUID usuarioId = UUID.randomUUID();
+    private final UUID aplicacionId = UUID.randomUUID();
+    private final UUID accionId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Agrupar - Une los accesos exitosos idénticos dentro de la ventana")
+    void agrupar_ExitososIdenticos_DeberiaUnirlos() {
+        EventoAuditoria primero = evento(0, "10.0.0.1", EstadoAuditoria.EXITOSO);
+
+        List<EventoAuditoria> listos = agrupador.agrupar(List.of(primero, evento(3, "10.0.0.1", EstadoAuditoria.EXITOSO),
+                evento(7, "10.0.0.1", EstadoAuditoria.EXITOSO)), INICIO.plusSeconds(8).toInstant());
+
+        assertThat(listos).isEmpty();
+        List<EventoAuditoria> grupos = agrupador.vaciar();
+        assertThat(grupos).singleElement().satisfies(grupo -> {
+            assertThat(grupo.id()).isEqualTo(primero.id());
+            assertThat(grupo.ocurrencias()).isEqualTo(3);
+            assertThat(grupo.fecha()).isEqualTo(INICIO);
+            assertThat(grupo.fechaUltima()).isEqualTo(INICIO.plusSeconds(7));
+        });
+    }
+
+    @Test
+    @DisplayName("Agrupar - Entrega los fallidos de inmediato y sin agrupar")
+    void agrupar_Fallidos_DeberiaEntregarlosDeAUno() {
+        EventoAuditoria primero = evento(0, "10.0.0.1", EstadoAuditoria.FALLIDO);
+        EventoAuditoria segundo = evento(1, "10.0.0.1", EstadoAuditoria.FALLIDO);
+
+        List<EventoAuditoria> listos = agrupador.agrupar(List.of(primero, segundo), INICIO.plusSeconds(1).toInstant());
+
+        assertThat(listos).containsExactly(primero, segundo);
+        assertThat(agrupador.grupos()).isZero();
+    }
+
+    @Test
+    @DisplayName("Agrupar - Separa los accesos con distinta IP")
+    void agrupar_DistintaIp_DeberiaSepararGrupos() {
+        agrupador.agrupar(List.of(evento(0, "10.0.0.1", EstadoAuditoria.EXITOSO),
+                evento(1, "10.0.0.2", EstadoAuditoria.EXITOSO)), INICIO.plusSeconds(1).toInstant());
+
+        assertThat(agrupador.grupos()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Agrupar - Cierra el grupo al vencer la ventana y abre otro con el acceso posterior")
+    void agrupar_VentanaVencida_DeberiaCerrarGrupo() {
+        agrupador.agrupar(List.of(evento(0, "10.0.0.1", EstadoAuditoria.EXITOSO),
+                evento(4, "10.0.0.1", EstadoAuditoria.EXITOSO)), INICIO.plusSeconds(4).toInstant());
+        EventoAuditoria posterior = evento(12, "10.0.0.1", EstadoAuditoria.EXITOSO);
+
+        List<EventoAuditoria> listos = agrupador.agrupar(List.of(posterior), INICIO.plusSeconds(12).toInstant());
+
+        assertThat(listos).singleElement().satisfies(grupo -> assertThat(grupo.ocurrencias()).isEqualTo(2));
+        assertThat(agrupador.vaciar()).containsExactly(posterior);
+    }
+
+    @Test
+    @DisplayName("Agrupar - Con el máximo de grupos abiertos entrega los accesos nuevos sin agrupar")
+    void agrupar_MaximoDeGrupos_DeberiaEntregarSinAgrupar() {
+        AgrupadorAuditoria acotado = new AgrupadorAuditoria(Duration.ofSeconds(10), 1);
+        EventoAuditoria otro = evento(1, "10.0.0.2", EstadoAuditoria.EXITOSO);
+
+        List<EventoAuditoria> listos = acotado.agrupar(List.of(evento(0, "10.0.0.1", EstadoAuditoria.EXITOSO), otro),
+                INICIO.plusSeconds(1).toInstant());
+
+        assertThat(listos).containsExactly(otro);
+        assertThat(acotado.grupos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Absorber - Suma el acceso a su grupo sin cerrarlo y rechaza los que no puede agrupar")
+    void absorber_AccesoExitoso_DeberiaSumarloAlGrupo() {
+        agrupador.agrupar(List.of(evento(0, "10.0.0.1", EstadoAuditoria.EXITOSO)), INICIO.toInstant());
+
+        assertThat(agrupador.absorber(evento(4, "10.0.0.1", EstadoAuditoria.EXITOSO))).isTrue();
+        assertThat(agrupador.absorber(evento(5, "10.0.0.1", EstadoAuditoria.FALLIDO))).isFalse();
+        assertThat(agrupador.absorber(evento(12, "10.0.0.1", EstadoAuditoria.EXITOSO))).isFalse();
+        assertThat(agrupador.vaciar()).singleElement()
+                .satisfies(grupo -> assertThat(grupo.ocurrencias()).isEqualTo(2));
+    }
+
+    private EventoAuditoria evento(int segundos, String ip, EstadoAuditoria estado) {
+        return new EventoAuditoria(UUID.randomUUID(), INICIO.plusSeconds(segundos), usuarioId, "usuario@test.com",
+                aplicacionId, accionId, ip, "test", "Acceso", estado);
+    }
+}
@@ -0,0 +1,108 @@
+package com.server.api.application.auditoria;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+/**
+ * Tests unitarios para EscritorAuditoriaCopy.
+ * Verifica el formato CSV enviado a COPY y el uso del escritor alternativo fuera de PostgreSQL.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EscritorAuditoriaCopy - Tests Unitarios")
+class EscritorAuditoriaCopyTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection conexion;
+
+    @Mock
+    private PGConnection conexionPostgres;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copia;
+
+    @Mock
+    private EscritorAuditoria alternativo;
+
+    @Test
+    @DisplayName("Escribir - En PostgreSQL transmite el lote en CSV con COPY")
+    void escribir_Postgres_DeberiaUsarCopy() throws Exception {
+        UUID id = UUID.randomUUID();
+        UUID aplicacionId = UUID.randomUUID();
+        UUID accionId = UUID.randomUUID();
+        OffsetDateTime fecha = OffsetDateTime.of(2025, 3, 1, 10, 15, 30, 0, ZoneOffset.UTC);
+        EventoAuditoria evento = new EventoAuditoria(id, fecha, null, "usuario@test.com", aplicacionId, accionId,
+                "10.0.0.1", "", "Dijo \"hola\",\nadiós", EstadoAuditoria.FALLIDO);
+        ByteArrayOutputStream enviado = new ByteArrayOutputStream();
+        when(dataSource.getConnection()).thenReturn(conexion);
+        when(conexion.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(conexion.unwrap(PGConnection.class)).thenReturn(conexionPostgres);
+        when(conexion.getAutoCommit()).thenReturn(true);
+        when(conexionPostgres.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(EscritorAuditoriaCopy.COPIAR)).thenReturn(copia);
+        doAnswer(invocacion -> {
+            byte[] datos = invocacion.getArgument(0);
+            int desde = invocacion.getArgument(1);
+            int longitud = invocacion.getArgument(2);
+            enviado.write(datos, desde, longitud);
+            return null;
+        }).when(copia).writeToCopy(any(byte[].class), anyInt(), anyInt());
+
+        new EscritorAuditoriaCopy(dataSource, alternativo).escribir(List.of(evento));
+
+        String csv = enviado.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith(id + ",2025-03-01T10:15:30Z,,\"usuario@test.com\","
+                + aplicacionId + "," + accionId + ",\"10.0.0.1\",\"\",\"Dijo \"\"hola\"\",\nadiós\",fallido,");
+        assertThat(csv).endsWith(",1,\n");
+        verify(copia).endCopy();
+        verify(conexion).close();
+        verify(alternativo, never()).escribir(any());
+    }
+
+    @Test
+    @DisplayName("Escribir - Sin COPY delega en el escritor alternativo y recuerda la comprobación")
+    void escribir_SinCopy_DeberiaUsarAlternativo() throws Exception {
+        List<EventoAuditoria> lote = List.of(EventoAuditoria.nuevo(null, "usuario@test.com", UUID.randomUUID(),
+                UUID.randomUUID(), "10.0.0.1", null, null, EstadoAuditoria.EXITOSO));
+        when(dataSource.getConnection()).thenReturn(conexion);
+        when(conexion.isWrapperFor(PGConnection.class)).thenReturn(false);
+        EscritorAuditoriaCopy escritor = new EscritorAuditoriaCopy(dataSource, alternativo);
+
+        escritor.escribir(lote);
+        escritor.escribir(lote);
+
+        verify(alternativo, times(2)).escribir(lote);
+        verify(dataSource, times(1)).getConnection();
+    }
+}
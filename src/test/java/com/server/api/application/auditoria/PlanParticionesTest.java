@@ -0,0 +1,93 @@
+package com.server.api.application.auditoria;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios para PlanParticiones.
+ * Verifica qué particiones se crean por adelantado y cuáles vencen según la retención.
+ */
+@DisplayName("PlanParticiones - Tests Unitarios")
+class PlanParticionesTest {
+
+    private static final LocalDate HOY = LocalDate.of(2025, 3, 14);
+
+    @Test
+    @DisplayName("Calcular - Crea el mes actual y los siguientes que faltan")
+    void calcular_Mensual_DeberiaCrearFaltantes() {
+        PlanParticiones plan = PlanParticiones.calcular(HOY, GranularidadParticion.MENSUAL, 2, 0,
+                List.of("auditoria_accesos_p2025_03"));
+
+        assertThat(plan.crear()).extracting(ParticionAuditoria::nombre)
+                .containsExactly("auditoria_accesos_p2025_04", "auditoria_accesos_p2025_05");
+        assertThat(plan.crear().get(0).desde()).isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(plan.crear().get(0).hasta()).isEqualTo(LocalDate.of(2025, 5, 1));
+        assertThat(plan.vencidas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Calcular - Crea particiones diarias que cruzan el fin de mes")
+    void calcular_Diaria_DeberiaCrearDias() {
+        PlanParticiones plan = PlanParticiones.calcular(LocalDate.of(2025, 2, 27), GranularidadParticion.DIARIA, 2, 0,
+                List.of());
+
+        assertThat(plan.crear()).extracting(ParticionAuditoria::nombre).containsExactly(
+                "auditoria_accesos_p2025_02_27", "auditoria_accesos_p2025_02_28", "auditoria_accesos_p2025_03_01");
+    }
+
+    @Test
+    @DisplayName("Calcular - No crea particiones diarias dentro de un mes ya particionado")
+    void calcular_CambioGranularidad_NoDeberiaSuperponer() {
+        PlanParticiones plan = PlanParticiones.calcular(LocalDate.of(2025, 3, 30), GranularidadParticion.DIARIA, 3, 0,
+                List.of("auditoria_accesos_p2025_03"));
+
+        assertThat(plan.crear()).extracting(ParticionAuditoria::nombre)
+                .containsExactly("auditoria_accesos_p2025_04_01", "auditoria_accesos_p2025_04_02");
+    }
+
+    @Test
+    @DisplayName("Calcular - Al pasar de diaria a mensual cubre con puentes los tramos libres del mes")
+    void calcular_CambioDiariaAMensual_DeberiaCrearPuentes() {
+        PlanParticiones plan = PlanParticiones.calcular(HOY, GranularidadParticion.MENSUAL, 1, 7, List.of(
+                "auditoria_accesos_p2025_03_13", "auditoria_accesos_p2025_03_14",
+                "auditoria_accesos_p2025_03_15", "auditoria_accesos_p2025_03_16"));
+
+        assertThat(plan.crear()).extracting(ParticionAuditoria::nombre).containsExactly(
+                "auditoria_accesos_p2025_03_07_a_2025_03_13",
+                "auditoria_accesos_p2025_03_17_a_2025_04_01",
+                "auditoria_accesos_p2025_04");
+        assertThat(plan.crear().get(1).desde()).isEqualTo(LocalDate.of(2025, 3, 17));
+        assertThat(plan.crear().get(1).hasta()).isEqualTo(LocalDate.of(2025, 4, 1));
+        assertThat(plan.vencidas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Calcular - Un puente existente cuenta como cubierto y vence según su rango")
+    void calcular_PuenteExistente_DeberiaReconocerse() {
+        List<String> existentes = List.of("auditoria_accesos_p2025_02_10_a_2025_03_01", "auditoria_accesos_p2025_03",
+                "auditoria_accesos_p2025_04");
+
+        PlanParticiones plan = PlanParticiones.calcular(HOY, GranularidadParticion.MENSUAL, 1, 10, existentes);
+
+        assertThat(plan.crear()).isEmpty();
+        assertThat(plan.vencidas()).extracting(ParticionAuditoria::nombre)
+                .containsExactly("auditoria_accesos_p2025_02_10_a_2025_03_01");
+        assertThat(ParticionAuditoria.deNombre("auditoria_accesos_p2025_03_01_a_2025_03_01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Calcular - Vence las particiones que terminan antes de la retención e ignora nombres ajenos")
+    void calcular_Retencion_DeberiaVencerAntiguas() {
+        PlanParticiones plan = PlanParticiones.calcular(HOY, GranularidadParticion.MENSUAL, 0, 30, List.of(
+                "auditoria_accesos_p2025_01", "auditoria_accesos_p2025_02", "auditoria_accesos_p2025_03",
+                "auditoria_accesos_historico"));
+
+        assertThat(plan.vencidas()).extracting(ParticionAuditoria::nombre)
+                .containsExactly("auditoria_accesos_p2025_01");
+        assertThat(plan.crear()).isEmpty();
+    }
+}
@@ -0,0 +1,168 @@
+package com.server.api.application.auditoria;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+/**
+ * Tests unitarios para SpoolAuditoria.
+ * Verifica el orden de reproducción, la rotación de segmentos, la recuperación tras reiniciar
+ * el descarte de registros con checksum inválido y la reserva del próximo segmento.
+ */
+@DisplayName("SpoolAuditoria - Tests Unitarios")
+class SpoolAuditoriaTest {
+
+    private static final int TAMANO_SEGMENTO = 1024;
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @DisplayName("Reproducir - Entrega los eventos en el orden en que se agregaron, rotando segmentos")
+    void reproducir_VariosSegmentos_DeberiaRespetarOrden() throws IOException {
+        List<EventoAuditoria> eventos = eventos(20);
+        List<EventoAuditoria> reproducidos = new ArrayList<>();
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            assertThat(spool.agregar(eventos)).isEqualTo(20);
+            assertThat(segmentos()).hasSizeGreaterThan(1);
+
+            while (spool.reproducir(7, reproducidos::addAll) > 0) {
+                // Se reproduce hasta vaciar el spool
+            }
+
+            assertThat(reproducidos).containsExactlyElementsOf(eventos);
+            assertThat(spool.bytesPendientes()).isZero();
+        }
+        // El segmento actual y la reserva del siguiente, que se prepara en segundo plano y close espera
+        assertThat(segmentos()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Reproducir - Si el destino falla el lote queda pendiente")
+    void reproducir_DestinoFalla_DeberiaConservarLote() throws IOException {
+        List<EventoAuditoria> eventos = eventos(3);
+        List<EventoAuditoria> reproducidos = new ArrayList<>();
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            spool.agregar(eventos);
+            long pendientes = spool.bytesPendientes();
+
+            assertThatThrownBy(() -> spool.reproducir(10, lote -> {
+                throw new IllegalStateException("Base de datos no disponible");
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(spool.bytesPendientes()).isEqualTo(pendientes);
+
+            spool.reproducir(10, reproducidos::addAll);
+            assertThat(reproducidos).containsExactlyElementsOf(eventos);
+        }
+    }
+
+    @Test
+    @DisplayName("Recuperar - Retoma los eventos no reproducidos al reabrir el directorio")
+    void recuperar_Reinicio_DeberiaRetomarPendientes() throws IOException {
+        List<EventoAuditoria> eventos = eventos(15);
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            spool.agregar(eventos);
+            spool.reproducir(4, lote -> { });
+        }
+
+        List<EventoAuditoria> reproducidos = new ArrayList<>();
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            while (spool.reproducir(100, reproducidos::addAll) > 0) {
+                // Se reproduce hasta vaciar el spool
+            }
+            spool.agregar(eventos(1));
+            assertThat(spool.bytesPendientes()).isPositive();
+        }
+
+        assertThat(reproducidos).containsExactlyElementsOf(eventos.subList(4, 15));
+    }
+
+    @Test
+    @DisplayName("Recuperar - Descarta desde el primer registro con checksum inválido")
+    void recuperar_ChecksumInvalido_DeberiaDescartarRegistro() throws IOException {
+        List<EventoAuditoria> eventos = eventos(3);
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            spool.agregar(eventos);
+        }
+        int fin = SegmentoSpool.ENCABEZADO;
+        for (EventoAuditoria evento : eventos) {
+            fin += SegmentoSpool.CABECERA_REGISTRO + SpoolAuditoria.codificar(evento).length;
+        }
+        try (FileChannel canal = FileChannel.open(segmentos().get(0), StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), fin - 1);
+        }
+
+        List<EventoAuditoria> reproducidos = new ArrayList<>();
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            spool.reproducir(10, reproducidos::addAll);
+        }
+
+        assertThat(reproducidos).containsExactlyElementsOf(eventos.subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("Agregar - Rechaza los eventos que superan el tamaño máximo")
+    void agregar_SpoolLleno_DeberiaRechazarExcedente() throws IOException {
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, TAMANO_SEGMENTO)) {
+            int agregados = spool.agregar(eventos(50));
+
+            assertThat(agregados).isPositive().isLessThan(50);
+            assertThat(spool.agregar(eventos(1))).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Reserva - El próximo segmento se prepara por adelantado y se reutiliza al reiniciar")
+    void reserva_Reinicio_DeberiaReutilizarSegmentoVacio() throws IOException {
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            spool.agregar(eventos(1));
+        }
+        // La reserva se prepara en segundo plano; al cerrar ya quedó en el directorio
+        assertThat(segmentos()).hasSize(2);
+
+        List<EventoAuditoria> reproducidos = new ArrayList<>();
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, TAMANO_SEGMENTO, 64 * 1024)) {
+            spool.agregar(eventos(20));
+            while (spool.reproducir(100, reproducidos::addAll) > 0) {
+                // Se reproduce hasta vaciar el spool
+            }
+        }
+
+        assertThat(reproducidos).hasSize(21);
+        List<Path> archivos = segmentos();
+        // El último archivo es la reserva sin usar, de tamaño completo
+        assertThat(archivos).hasSizeGreaterThanOrEqualTo(2);
+        assertThat(Files.size(archivos.get(archivos.size() - 1))).isEqualTo(TAMANO_SEGMENTO);
+    }
+
+    private List<Path> segmentos() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos.sorted().toList();
+        }
+    }
+
+    private List<EventoAuditoria> eventos(int cantidad) {
+        List<EventoAuditoria> eventos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            eventos.add(EventoAuditoria.nuevo(i % 2 == 0 ? UUID.randomUUID() : null, "usuario" + i + "@test.com",
+                    UUID.randomUUID(), UUID.randomUUID(), "10.0.0." + i, null, "Acceso ñandú " + i,
+                    i % 3 == 0 ? EstadoAuditoria.FALLIDO : EstadoAuditoria.EXITOSO));
+        }
+        return eventos;
+    }
+}
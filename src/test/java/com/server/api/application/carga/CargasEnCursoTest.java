@@ -0,0 +1,122 @@
+package com.server.api.application.carga;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Tests unitarios para CargasEnCurso.
+ * Verifica que las llamadas concurrentes comparten una sola carga, su resultado y su excepción.
+ */
+@DisplayName("CargasEnCurso - Tests Unitarios")
+class CargasEnCursoTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CargasEnCurso cargas = new CargasEnCurso(registry);
+    private final ExecutorService ejecutor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        ejecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Cargar - Las llamadas concurrentes con la misma clave comparten una sola carga")
+    void cargar_LlamadasConcurrentes_DeberianCompartirCarga() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger ejecuciones = new AtomicInteger();
+        CargasEnCurso.Cargador cargador = () -> {
+            ejecuciones.incrementAndGet();
+            liberar.await();
+            return "valor";
+        };
+
+        Future<Object> primera = ejecutor.submit(() -> cargarSinExcepcion("id", cargador));
+        esperarEnCurso(1);
+        Future<Object> segunda = ejecutor.submit(() -> cargarSinExcepcion("id", cargador));
+        esperarCompartidas(1);
+        liberar.countDown();
+
+        assertThat(primera.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        assertThat(segunda.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        assertThat(ejecuciones).hasValue(1);
+        assertThat(contador("cargada")).isEqualTo(1.0);
+        assertThat(registry.get(CargasEnCurso.METRICA_DURACION).tag("carga", "pruebas").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Cargar - La excepción de la carga se propaga a las llamadas que la comparten")
+    void cargar_CargaConError_DeberiaPropagarExcepcion() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CargasEnCurso.Cargador cargador = () -> {
+            liberar.await();
+            throw new EntityNotFoundException("no existe");
+        };
+
+        Future<Object> primera = ejecutor.submit(() -> cargarSinExcepcion("id", cargador));
+        esperarEnCurso(1);
+        Future<Object> segunda = ejecutor.submit(() -> cargarSinExcepcion("id", cargador));
+        esperarCompartidas(1);
+        liberar.countDown();
+
+        assertThatThrownBy(() -> primera.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> segunda.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(EntityNotFoundException.class);
+        assertThat(registry.get(CargasEnCurso.METRICA_EN_CURSO).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Cargar - Las llamadas sucesivas no reutilizan el resultado anterior")
+    void cargar_LlamadasSucesivas_DeberianCargarDeNuevo() throws Throwable {
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        cargas.cargar("pruebas", List.of("id"), ejecuciones::incrementAndGet);
+        Object segunda = cargas.cargar("pruebas", List.of("id"), ejecuciones::incrementAndGet);
+
+        assertThat(segunda).isEqualTo(2);
+        assertThat(contador("cargada")).isEqualTo(2.0);
+    }
+
+    private Object cargarSinExcepcion(String id, CargasEnCurso.Cargador cargador) throws Exception {
+        try {
+            return cargas.cargar("pruebas", List.of(id), cargador);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void esperarEnCurso(int cantidad) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(CargasEnCurso.METRICA_EN_CURSO).gauge().value() < cantidad && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void esperarCompartidas(int cantidad) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contador("compartida") < cantidad && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double contador(String resultado) {
+        var contador = registry.find(CargasEnCurso.METRICA_SOLICITUDES)
+                .tags("carga", "pruebas", "resultado", resultado)
+                .counter();
+        return contador != null ? contador.count() : 0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.server.api.application.service;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.server.api.config.CacheConfig;
+import com.server.api.domain.dto.aplicacion.AplicacionCreateRequest;
+import com.server.api.domain.dto.aplicacion.AplicacionResponse;
+import com.server.api.domain.dto.aplicacion.AplicacionUpdateRequest;
+import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Tests de integración de la caché de búsquedas por llave de AplicacionService.
+ * La caché solo se usa fuera de una transacción, por lo que los datos se confirman en la base
+ * de datos y se eliminan al terminar cada test. Antes de medir se publica el outbox, cuyos
+ * eventos sobre aplicaciones vacían la caché.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AplicacionServiceCacheIntegrationTest {
+
+    private static final String LLAVE = "TEST_CACHE_LLAVE";
+
+    @Autowired
+    private AplicacionService aplicacionService;
+
+    @Autowired
+    private OutboxPublicadorService outboxPublicadorService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private UUID aplicacionId;
+    private CaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        aplicacionId = aplicacionService.crear(new AplicacionCreateRequest(
+                "Sistema Cacheado", "Aplicación para testing de caché", "https://cache.example.com", LLAVE, "ACTIVO")).getId();
+        outboxPublicadorService.publicarPendientes();
+        cache = (CaffeineCache) cacheManager.getCache(CacheConfig.APLICACIONES_POR_LLAVE);
+        cache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Aplicacion").executeUpdate();
+            entityManager.createQuery("DELETE FROM CambioPermisosRegistro").executeUpdate();
+            entityManager.createQuery("DELETE FROM VersionPermisos").executeUpdate();
+            entityManager.createQuery("DELETE FROM OutboxEvento").executeUpdate();
+        });
+        cache.clear();
+    }
+
+    @Test
+    @DisplayName("Obtener por llave - La segunda búsqueda se resuelve desde la caché con un DTO inmutable")
+    void obtenerPorLlaveIdentificadora_BusquedaRepetida_DeberiaUsarCache() {
+        CacheStats antes = cache.getNativeCache().stats();
+
+        AplicacionResponse primera = aplicacionService.obtenerPorLlaveIdentificadora(LLAVE);
+        AplicacionResponse segunda = aplicacionService.obtenerPorLlaveIdentificadora(LLAVE);
+
+        CacheStats diferencia = cache.getNativeCache().stats().minus(antes);
+        assertThat(diferencia.missCount()).isEqualTo(1);
+        assertThat(diferencia.hitCount()).isEqualTo(1);
+        assertThat(segunda).isSameAs(primera);
+        assertThat(cache.get(LLAVE, AplicacionResponse.class)).isEqualTo(primera);
+    }
+
+    @Test
+    @DisplayName("Obtener por llave - Actualizar la aplicación invalida la entrada cacheada")
+    void obtenerPorLlaveIdentificadora_TrasActualizar_DeberiaDevolverDatosNuevos() {
+        aplicacionService.obtenerPorLlaveIdentificadora(LLAVE);
+
+        aplicacionService.actualizar(aplicacionId, new AplicacionUpdateRequest(
+                "Sistema Renombrado", "Aplicación para testing de caché", "https://cache.example.com", LLAVE, "ACTIVO"));
+
+        assertThat(cache.get(LLAVE)).isNull();
+        assertThat(aplicacionService.obtenerPorLlaveIdentificadora(LLAVE).nombre()).isEqualTo("Sistema Renombrado");
+    }
+
+    @Test
+    @DisplayName("Obtener por llave - Cambiar el estado invalida la entrada cacheada")
+    void obtenerPorLlaveIdentificadora_TrasCambiarEstado_DeberiaDevolverDatosNuevos() {
+        assertThat(aplicacionService.obtenerPorLlaveIdentificadora(LLAVE).estado()).isEqualTo("ACTIVO");
+
+        aplicacionService.cambiarEstado(aplicacionId, EstadoAplicacion.INACTIVO);
+
+        assertThat(cache.get(LLAVE)).isNull();
+        assertThat(aplicacionService.obtenerPorLlaveIdentificadora(LLAVE).estado()).isEqualTo("INACTIVO");
+    }
+}
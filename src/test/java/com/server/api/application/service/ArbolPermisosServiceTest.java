@@ -0,0 +1,138 @@
+package com.server.api.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.AccionCatalogo;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.IndicePermisos.Rol;
+import com.server.api.domain.dto.autorizacion.ArbolPermisos;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.PermisosModificadosEvent;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Tests unitarios para ArbolPermisosService.
+ * Verifica la agrupación por sección y la memorización por combinación de tipos de usuario.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArbolPermisosService - Tests Unitarios")
+class ArbolPermisosServiceTest {
+
+    private static final String LLAVE = "APP_PRUEBA";
+
+    @Mock
+    private AutorizacionService autorizacionService;
+
+    private ArbolPermisosService arbolPermisosService;
+
+    private UUID aplicacionId;
+    private UUID seccionUsuariosId;
+    private UUID seccionReportesId;
+    private UUID accionCrearId;
+    private UUID accionEliminarId;
+    private UUID accionExportarId;
+    private UUID rolEditorId;
+    private UUID rolLectorId;
+    private UUID usuarioAId;
+    private UUID usuarioBId;
+    private CatalogoAplicacion catalogo;
+
+    @BeforeEach
+    void setUp() {
+        aplicacionId = UUID.randomUUID();
+        seccionUsuariosId = UUID.randomUUID();
+        seccionReportesId = UUID.randomUUID();
+        accionCrearId = UUID.randomUUID();
+        accionEliminarId = UUID.randomUUID();
+        accionExportarId = UUID.randomUUID();
+        rolEditorId = UUID.randomUUID();
+        rolLectorId = UUID.randomUUID();
+        usuarioAId = UUID.randomUUID();
+        usuarioBId = UUID.randomUUID();
+
+        catalogo = CatalogoAplicacion.de(aplicacionId, LLAVE, List.of(
+            new AccionCatalogo(accionEliminarId, "Eliminar Usuario", seccionUsuariosId, "Usuarios"),
+            new AccionCatalogo(accionExportarId, "Exportar", seccionReportesId, "Reportes"),
+            new AccionCatalogo(accionCrearId, "Crear Usuario", seccionUsuariosId, "Usuarios")
+        ));
+        arbolPermisosService = new ArbolPermisosService(autorizacionService, 100);
+    }
+
+    @Test
+    @DisplayName("Obtener árbol - Agrupa las acciones permitidas por sección ordenadas por nombre")
+    void obtenerArbol_DeberiaAgruparPorSeccion() {
+        when(autorizacionService.indiceActual()).thenReturn(indice(
+            Rol.de(rolEditorId, catalogo, List.of(accionCrearId, accionEliminarId)),
+            Rol.de(rolLectorId, catalogo, List.of(accionExportarId))));
+
+        ArbolPermisos arbol = arbolPermisosService.obtenerArbol(usuarioAId, LLAVE);
+
+        assertThat(arbol.secciones()).extracting(ArbolPermisos.SeccionPermitida::nombre)
+            .containsExactly("Reportes", "Usuarios");
+        assertThat(arbol.secciones().get(1).acciones()).extracting(ArbolPermisos.AccionPermitida::nombre)
+            .containsExactly("Crear Usuario", "Eliminar Usuario");
+    }
+
+    @Test
+    @DisplayName("Obtener árbol - Usuarios con los mismos tipos de usuario comparten el cálculo")
+    void obtenerArbol_DeberiaMemorizarPorCombinacionDeRoles() {
+        when(autorizacionService.indiceActual()).thenReturn(indice(
+            Rol.de(rolEditorId, catalogo, List.of(accionCrearId)),
+            Rol.de(rolLectorId, catalogo, List.of(accionExportarId))));
+
+        ArbolPermisos arbolA = arbolPermisosService.obtenerArbol(usuarioAId, LLAVE);
+        ArbolPermisos arbolB = arbolPermisosService.obtenerArbol(usuarioBId, LLAVE);
+
+        assertThat(arbolB).isSameAs(arbolA);
+    }
+
+    @Test
+    @DisplayName("Obtener árbol - Un tipo de usuario recargado invalida los árboles que lo incluyen")
+    void obtenerArbol_DeberiaRecalcularTrasCambioDeRol() {
+        IndicePermisos inicial = indice(
+            Rol.de(rolEditorId, catalogo, List.of(accionCrearId)),
+            Rol.de(rolLectorId, catalogo, List.of()));
+        when(autorizacionService.indiceActual()).thenReturn(inicial);
+        ArbolPermisos antes = arbolPermisosService.obtenerArbol(usuarioAId, LLAVE);
+
+        when(autorizacionService.indiceActual()).thenReturn(
+            inicial.conRol(rolLectorId, Rol.de(rolLectorId, catalogo, List.of(accionExportarId))));
+        arbolPermisosService.alModificarPermisos(new PermisosModificadosEvent(
+            Set.of(new CambioPermisos(Alcance.TIPO_USUARIO, rolLectorId))));
+        ArbolPermisos despues = arbolPermisosService.obtenerArbol(usuarioAId, LLAVE);
+
+        assertThat(antes.secciones()).hasSize(1);
+        assertThat(despues.secciones()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Obtener árbol - Lanza excepción para una aplicación desconocida")
+    void obtenerArbol_AplicacionDesconocida_DeberiaLanzarExcepcion() {
+        when(autorizacionService.indiceActual()).thenReturn(IndicePermisos.vacio());
+
+        assertThatThrownBy(() -> arbolPermisosService.obtenerArbol(usuarioAId, LLAVE))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private IndicePermisos indice(Rol editor, Rol lector) {
+        return IndicePermisos.de(List.of(catalogo), List.of(editor, lector), Map.of(
+            usuarioAId, Set.of(rolEditorId, rolLectorId),
+            usuarioBId, Set.of(rolLectorId, rolEditorId)));
+    }
+}
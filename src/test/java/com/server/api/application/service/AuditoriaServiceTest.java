@@ -0,0 +1,301 @@
+package com.server.api.application.service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.server.api.application.auditoria.AgrupadorAuditoria;
+import com.server.api.application.auditoria.EscritorAuditoria;
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.application.auditoria.PoliticaDesborde;
+import com.server.api.application.auditoria.SpoolAuditoria;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para AuditoriaService.
+ * Verifica la escritura en lotes por tamaño y por intervalo, las políticas de desborde, el spool y la agrupación.
+ */
+@DisplayName("AuditoriaService - Tests Unitarios")
+class AuditoriaServiceTest {
+
+    private final EscritorEnMemoria escritor = new EscritorEnMemoria();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResumenAuditoriaService resumenAuditoriaService = mock(ResumenAuditoriaService.class);
+    private AuditoriaService auditoriaService;
+
+    @AfterEach
+    void tearDown() {
+        escritor.liberar();
+        if (auditoriaService != null) {
+            auditoriaService.cerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Registrar - Escribe un lote al alcanzar el tamaño de lote")
+    void registrar_LoteCompleto_DeberiaEscribirUnLote() throws InterruptedException {
+        auditoriaService = auditoria(1024, 3, 60000, PoliticaDesborde.DESCARTAR_NUEVO);
+
+        for (int i = 0; i < 3; i++) {
+            auditoriaService.registrar(evento());
+        }
+
+        assertThat(escritor.esperarEventos(3)).isTrue();
+        verify(resumenAuditoriaService, timeout(5000)).acumular(anyList());
+        assertThat(escritor.lotes).hasSize(1);
+        assertThat(meterRegistry.counter("auditoria.eventos", "resultado", "escrito").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Registrar - Escribe un lote incompleto al vencer el intervalo")
+    void registrar_IntervaloVencido_DeberiaEscribirLoteIncompleto() throws InterruptedException {
+        auditoriaService = auditoria(1024, 100, 20, PoliticaDesborde.DESCARTAR_NUEVO);
+
+        auditoriaService.registrar(evento());
+
+        assertThat(escritor.esperarEventos(1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Registrar - Con la cola llena descarta el evento nuevo")
+    void registrar_ColaLlenaDescartarNuevo_DeberiaDescartarNuevo() throws InterruptedException {
+        auditoriaService = auditoria(2, 1, 60000, PoliticaDesborde.DESCARTAR_NUEVO);
+        EventoAuditoria primero = evento();
+        EventoAuditoria segundo = evento();
+        EventoAuditoria tercero = evento();
+        EventoAuditoria cuarto = evento();
+        escritor.bloquear();
+
+        auditoriaService.registrar(primero);
+        assertThat(escritor.esperarEscrituraBloqueada()).isTrue();
+        auditoriaService.registrar(segundo);
+        auditoriaService.registrar(tercero);
+        boolean aceptado = auditoriaService.registrar(cuarto);
+        escritor.liberar();
+        auditoriaService.cerrar();
+
+        assertThat(aceptado).isFalse();
+        assertThat(escritor.eventos).containsExactly(primero, segundo, tercero);
+        assertThat(meterRegistry.counter("auditoria.eventos", "resultado", "descartado").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Registrar - Con la cola llena descarta el evento más antiguo")
+    void registrar_ColaLlenaDescartarAntiguo_DeberiaDescartarAntiguo() throws InterruptedException {
+        auditoriaService = auditoria(2, 1, 60000, PoliticaDesborde.DESCARTAR_ANTIGUO);
+        EventoAuditoria primero = evento();
+        EventoAuditoria segundo = evento();
+        EventoAuditoria tercero = evento();
+        EventoAuditoria cuarto = evento();
+        escritor.bloquear();
+
+        auditoriaService.registrar(primero);
+        assertThat(escritor.esperarEscrituraBloqueada()).isTrue();
+        auditoriaService.registrar(segundo);
+        auditoriaService.registrar(tercero);
+        boolean aceptado = auditoriaService.registrar(cuarto);
+        escritor.liberar();
+        auditoriaService.cerrar();
+
+        assertThat(aceptado).isTrue();
+        assertThat(escritor.eventos).containsExactly(primero, tercero, cuarto);
+    }
+
+    @Test
+    @DisplayName("Registrar - Con la cola llena escribe directamente en el hilo que registra")
+    void registrar_ColaLlenaEscribirDirecto_DeberiaEscribirEnElLlamador() throws InterruptedException {
+        auditoriaService = auditoria(2, 1, 60000, PoliticaDesborde.ESCRIBIR_DIRECTO);
+        escritor.bloquear();
+        auditoriaService.registrar(evento());
+        assertThat(escritor.esperarEscrituraBloqueada()).isTrue();
+        auditoriaService.registrar(evento());
+        auditoriaService.registrar(evento());
+
+        EventoAuditoria desbordado = evento();
+        boolean aceptado = auditoriaService.registrar(desbordado);
+
+        assertThat(aceptado).isTrue();
+        assertThat(escritor.eventos).containsExactly(desbordado);
+        assertThat(meterRegistry.counter("auditoria.eventos", "resultado", "directo").count()).isEqualTo(1.0);
+        escritor.liberar();
+        auditoriaService.cerrar();
+        assertThat(escritor.eventos).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Registrar - Con la cola llena suma el acceso exitoso a su grupo en lugar de escribirlo")
+    void registrar_ColaLlenaEscribirDirectoConAgrupador_DeberiaAgrupar() {
+        auditoriaService = new AuditoriaService(escritor, resumenAuditoriaService, Optional.empty(),
+                Optional.of(new AgrupadorAuditoria(Duration.ofMinutes(1), 100)), meterRegistry,
+                2, 100, 60000, 1, PoliticaDesborde.ESCRIBIR_DIRECTO, 50, 5000);
+        UUID usuarioId = UUID.randomUUID();
+        UUID aplicacionId = UUID.randomUUID();
+        UUID accionId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            assertThat(auditoriaService.registrar(EventoAuditoria.nuevo(usuarioId, "usuario@test.com", aplicacionId,
+                    accionId, "127.0.0.1", "test", "Acceso", EstadoAuditoria.EXITOSO))).isTrue();
+        }
+
+        assertThat(escritor.eventos).isEmpty();
+        assertThat(meterRegistry.counter("auditoria.eventos", "resultado", "directo").count()).isZero();
+        auditoriaService.cerrar();
+        assertThat(escritor.eventos).singleElement()
+                .satisfies(grupo -> assertThat(grupo.ocurrencias()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("Cerrar - Escribe los eventos pendientes")
+    void cerrar_EventosPendientes_DeberiaEscribirlos() {
+        auditoriaService = auditoria(1024, 100, 60000, PoliticaDesborde.DESCARTAR_NUEVO);
+        auditoriaService.registrar(evento());
+        auditoriaService.registrar(evento());
+
+        auditoriaService.cerrar();
+
+        assertThat(escritor.eventos).hasSize(2);
+        assertThat(auditoriaService.pendientes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Escribir - Guarda en el spool los lotes que fallan y los reproduce al recuperarse la base de datos")
+    void escribir_BaseDeDatosCaida_DeberiaGuardarEnSpoolYReproducir(@TempDir Path directorio) throws Exception {
+        try (SpoolAuditoria spool = new SpoolAuditoria(directorio, 64 * 1024, 1024 * 1024)) {
+            escritor.fallar(true);
+            auditoriaService = new AuditoriaService(escritor, resumenAuditoriaService, Optional.of(spool), Optional.empty(),
+                    meterRegistry,
+                    1024, 100, 20, 1, PoliticaDesborde.ESCRIBIR_SPOOL, 50, 0);
+            EventoAuditoria primero = evento();
+            EventoAuditoria segundo = evento();
+
+            auditoriaService.registrar(primero);
+            auditoriaService.registrar(segundo);
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.counter("auditoria.eventos", "resultado", "spool").count() < 2
+                    && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+            assertThat(meterRegistry.counter("auditoria.eventos", "resultado", "spool").count()).isEqualTo(2.0);
+            escritor.fallar(false);
+
+            assertThat(escritor.esperarEventos(2)).isTrue();
+            assertThat(escritor.eventos).containsExactly(primero, segundo);
+            auditoriaService.cerrar();
+            assertThat(spool.bytesPendientes()).isZero();
+            assertThat(meterRegistry.counter("auditoria.eventos", "resultado", "error").count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Cerrar - Escribe agrupados los accesos exitosos idénticos y de a uno los fallidos")
+    void cerrar_AccesosRepetidos_DeberiaAgruparExitosos() {
+        auditoriaService = new AuditoriaService(escritor, resumenAuditoriaService, Optional.empty(),
+                Optional.of(new AgrupadorAuditoria(Duration.ofMinutes(1), 100)), meterRegistry,
+                1024, 100, 20, 1, PoliticaDesborde.DESCARTAR_NUEVO, 50, 5000);
+        UUID usuarioId = UUID.randomUUID();
+        UUID aplicacionId = UUID.randomUUID();
+        UUID accionId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            auditoriaService.registrar(EventoAuditoria.nuevo(usuarioId, "usuario@test.com", aplicacionId, accionId,
+                    "127.0.0.1", "test", "Acceso", EstadoAuditoria.EXITOSO));
+        }
+        for (int i = 0; i < 2; i++) {
+            auditoriaService.registrar(EventoAuditoria.nuevo(usuarioId, "usuario@test.com", aplicacionId, accionId,
+                    "127.0.0.1", "test", "Acceso", EstadoAuditoria.FALLIDO));
+        }
+
+        auditoriaService.cerrar();
+
+        assertThat(escritor.eventos).hasSize(3);
+        assertThat(escritor.eventos).filteredOn(evento -> evento.estado() == EstadoAuditoria.FALLIDO)
+                .hasSize(2)
+                .allMatch(evento -> evento.ocurrencias() == 1);
+        assertThat(escritor.eventos).filteredOn(evento -> evento.estado() == EstadoAuditoria.EXITOSO)
+                .singleElement()
+                .satisfies(grupo -> {
+                    assertThat(grupo.ocurrencias()).isEqualTo(3);
+                    assertThat(grupo.fechaUltima()).isAfterOrEqualTo(grupo.fecha());
+                });
+        assertThat(meterRegistry.counter("auditoria.eventos", "resultado", "agrupado").count()).isEqualTo(2.0);
+    }
+
+    private AuditoriaService auditoria(int capacidad, int tamanoLote, long intervaloMs, PoliticaDesborde politica) {
+        return new AuditoriaService(escritor, resumenAuditoriaService, Optional.empty(), Optional.empty(),
+                meterRegistry, capacidad, tamanoLote, intervaloMs, 1, politica, 50, 5000);
+    }
+
+    private EventoAuditoria evento() {
+        return EventoAuditoria.nuevo(UUID.randomUUID(), "usuario@test.com", UUID.randomUUID(), UUID.randomUUID(),
+                "127.0.0.1", "test", "Acceso", EstadoAuditoria.EXITOSO);
+    }
+
+    /**
+     * Escritor que guarda los eventos en memoria. Puede bloquear las escrituras de los hilos escritores
+     * del servicio, no las del hilo que registra.
+     */
+    private static final class EscritorEnMemoria implements EscritorAuditoria {
+
+        private final List<List<EventoAuditoria>> lotes = new CopyOnWriteArrayList<>();
+        private final List<EventoAuditoria> eventos = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch bloqueo = new CountDownLatch(0);
+        private volatile boolean fallar;
+        private final CountDownLatch escrituraBloqueada = new CountDownLatch(1);
+
+        @Override
+        public void escribir(List<EventoAuditoria> lote) {
+            if (Thread.currentThread().getName().startsWith("auditoria-escritor")) {
+                escrituraBloqueada.countDown();
+                try {
+                    bloqueo.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (fallar) {
+                throw new IllegalStateException("Base de datos no disponible");
+            }
+            lotes.add(List.copyOf(lote));
+            eventos.addAll(lote);
+        }
+
+        void bloquear() {
+            bloqueo = new CountDownLatch(1);
+        }
+
+        void fallar(boolean fallar) {
+            this.fallar = fallar;
+        }
+
+        void liberar() {
+            bloqueo.countDown();
+        }
+
+        boolean esperarEscrituraBloqueada() throws InterruptedException {
+            return escrituraBloqueada.await(5, TimeUnit.SECONDS);
+        }
+
+        boolean esperarEventos(int cantidad) throws InterruptedException {
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (eventos.size() < cantidad && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+            return eventos.size() >= cantidad;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.server.api.application.service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.PermisosBitset;
+import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+import com.server.api.domain.entity.TipoUsuario.EstadoTipoUsuario;
+import com.server.api.domain.entity.Usuario.EstadoUsuario;
+import com.server.api.domain.entity.VersionPermisos;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.PermisosModificadosEvent;
+import com.server.api.domain.repository.AccionRepository;
+import com.server.api.domain.repository.AccionRepository.AccionIndice;
+import com.server.api.domain.repository.AplicacionRepository;
+import com.server.api.domain.repository.AplicacionRepository.AplicacionIndice;
+import com.server.api.domain.repository.PermisoTipoUsuarioRepository;
+import com.server.api.domain.repository.PermisoTipoUsuarioRepository.PermisoIndice;
+import com.server.api.domain.repository.TipoUsuarioRepository;
+import com.server.api.domain.repository.TipoUsuarioRepository.TipoUsuarioIndice;
+import com.server.api.domain.repository.UsuarioTipoUsuarioRepository;
+import com.server.api.domain.repository.UsuarioTipoUsuarioRepository.AsignacionIndice;
+import com.server.api.domain.repository.VersionPermisosRepository;
+
+/**
+ * Tests unitarios para AutorizacionService.
+ * Verifica las decisiones del índice en memoria y su actualización incremental.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutorizacionService - Tests Unitarios")
+class AutorizacionServiceTest {
+
+    private static final String LLAVE = "APP_PRUEBA";
+
+    @Mock
+    private AplicacionRepository aplicacionRepository;
+
+    @Mock
+    private AccionRepository accionRepository;
+
+    @Mock
+    private TipoUsuarioRepository tipoUsuarioRepository;
+
+    @Mock
+    private PermisoTipoUsuarioRepository permisoTipoUsuarioRepository;
+
+    @Mock
+    private UsuarioTipoUsuarioRepository usuarioTipoUsuarioRepository;
+
+    @Mock
+    private VersionPermisosRepository versionPermisosRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AutorizacionService autorizacionService;
+
+    private UUID aplicacionId;
+    private UUID seccionId;
+    private UUID accionCrearId;
+    private UUID accionEliminarId;
+    private UUID tipoUsuarioId;
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        aplicacionId = UUID.randomUUID();
+        seccionId = UUID.randomUUID();
+        accionCrearId = UUID.randomUUID();
+        accionEliminarId = UUID.randomUUID();
+        tipoUsuarioId = UUID.randomUUID();
+        usuarioId = UUID.randomUUID();
+
+        autorizacionService = new AutorizacionService(
+            aplicacionRepository,
+            accionRepository,
+            tipoUsuarioRepository,
+            permisoTipoUsuarioRepository,
+            usuarioTipoUsuarioRepository,
+            versionPermisosRepository,
+            transactionManager
+        );
+
+        when(aplicacionRepository.findIndiceByEstado(EstadoAplicacion.ACTIVO))
+            .thenReturn(List.of(aplicacion(aplicacionId, LLAVE)));
+        when(accionRepository.findIndiceActivas()).thenReturn(List.of(
+            accion(accionCrearId, "Crear Usuario"),
+            accion(accionEliminarId, "Eliminar Usuario")
+        ));
+        when(tipoUsuarioRepository.findIndiceByEstado(EstadoTipoUsuario.ACTIVO))
+            .thenReturn(List.of(tipoUsuario(tipoUsuarioId)));
+        when(permisoTipoUsuarioRepository.findIndiceActivos())
+            .thenReturn(List.of(permiso(tipoUsuarioId, accionCrearId)));
+        when(usuarioTipoUsuarioRepository.findIndiceActivas(EstadoUsuario.ACTIVO))
+            .thenReturn(List.of(asignacion(usuarioId, tipoUsuarioId)));
+    }
+
+    @Test
+    @DisplayName("Verificar - Permite acción concedida por ID y por nombre")
+    void verificar_DeberiaPermitirAccionConcedida() {
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, accionCrearId.toString())).isTrue();
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, "crear usuario")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verificar - Deniega acción no concedida, aplicación desconocida o usuario sin roles")
+    void verificar_DeberiaDenegarSinPermiso() {
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, accionEliminarId.toString())).isFalse();
+        assertThat(autorizacionService.verificar(usuarioId, "OTRA_APP", accionCrearId.toString())).isFalse();
+        assertThat(autorizacionService.verificar(UUID.randomUUID(), LLAVE, accionCrearId.toString())).isFalse();
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, "Accion Inexistente")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Índice - Se construye una sola vez para verificaciones sucesivas")
+    void verificar_DeberiaConstruirIndiceUnaVez() {
+        autorizacionService.verificar(usuarioId, LLAVE, "Crear Usuario");
+        autorizacionService.verificar(usuarioId, LLAVE, "Eliminar Usuario");
+
+        verify(permisoTipoUsuarioRepository).findIndiceActivos();
+    }
+
+    @Test
+    @DisplayName("Cambio de permisos - Recarga solo el tipo de usuario afectado")
+    void alModificarPermisos_DeberiaRecargarTipoUsuario() {
+        autorizacionService.indiceActual();
+        when(tipoUsuarioRepository.findIndiceByIdAndEstado(tipoUsuarioId, EstadoTipoUsuario.ACTIVO))
+            .thenReturn(Optional.of(tipoUsuario(tipoUsuarioId)));
+        when(permisoTipoUsuarioRepository.findIndiceActivosByTipoUsuarioId(tipoUsuarioId))
+            .thenReturn(List.of(permiso(tipoUsuarioId, accionCrearId), permiso(tipoUsuarioId, accionEliminarId)));
+
+        autorizacionService.alModificarPermisos(new PermisosModificadosEvent(
+            Set.of(new CambioPermisos(Alcance.TIPO_USUARIO, tipoUsuarioId))));
+
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, "Eliminar Usuario")).isTrue();
+        verify(usuarioTipoUsuarioRepository, never()).findIndiceActivasByUsuarioId(usuarioId, EstadoUsuario.ACTIVO);
+    }
+
+    @Test
+    @DisplayName("Cambio de permisos - Retirar la asignación del usuario revoca sus permisos")
+    void alModificarPermisos_DeberiaRecargarAsignacionesDeUsuario() {
+        autorizacionService.indiceActual();
+        when(usuarioTipoUsuarioRepository.findIndiceActivasByUsuarioId(usuarioId, EstadoUsuario.ACTIVO))
+            .thenReturn(List.of());
+
+        autorizacionService.alModificarPermisos(new PermisosModificadosEvent(
+            Set.of(new CambioPermisos(Alcance.USUARIO, usuarioId))));
+
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, "Crear Usuario")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Cambio de aplicación - Reasigna ordinales y recalcula los bitsets de sus tipos de usuario")
+    void alModificarPermisos_DeberiaRecargarCatalogoYRoles() {
+        autorizacionService.indiceActual();
+        List<AccionIndice> acciones = new ArrayList<>();
+        List<PermisoIndice> permisos = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            UUID id = UUID.randomUUID();
+            acciones.add(accion(id, "Accion " + i));
+            if (i % 2 == 0) {
+                permisos.add(permiso(tipoUsuarioId, id));
+            }
+        }
+        when(aplicacionRepository.findIndiceByIdAndEstado(aplicacionId, EstadoAplicacion.ACTIVO))
+            .thenReturn(Optional.of(aplicacion(aplicacionId, LLAVE)));
+        when(accionRepository.findIndiceActivasByAplicacionId(aplicacionId)).thenReturn(acciones);
+        when(tipoUsuarioRepository.findIndiceByAplicacionIdAndEstado(aplicacionId, EstadoTipoUsuario.ACTIVO))
+            .thenReturn(List.of(tipoUsuario(tipoUsuarioId)));
+        when(permisoTipoUsuarioRepository.findIndiceActivosByAplicacionId(aplicacionId)).thenReturn(permisos);
+
+        autorizacionService.alModificarPermisos(new PermisosModificadosEvent(
+            Set.of(new CambioPermisos(Alcance.APLICACION, aplicacionId))));
+
+        IndicePermisos indice = autorizacionService.indiceActual();
+        CatalogoAplicacion catalogo = indice.catalogoPorLlave(LLAVE);
+        assertThat(catalogo.totalAcciones()).isEqualTo(130);
+        assertThat(PermisosBitset.cardinalidad(indice.permisosEfectivos(usuarioId, catalogo))).isEqualTo(65);
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, "Accion 128")).isTrue();
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, "Accion 129")).isFalse();
+        assertThat(autorizacionService.verificar(usuarioId, LLAVE, "Crear Usuario")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Cambio de permisos - Solo avanza la versión de las aplicaciones recargadas")
+    void alModificarPermisos_DeberiaAvanzarSoloVersionesDelEvento() {
+        UUID otraAplicacionId = UUID.randomUUID();
+        when(versionPermisosRepository.findAll()).thenReturn(List.of(
+            new VersionPermisos(aplicacionId, 3L, OffsetDateTime.now()),
+            new VersionPermisos(otraAplicacionId, 8L, OffsetDateTime.now())));
+        autorizacionService.indiceActual();
+        when(tipoUsuarioRepository.findIndiceByIdAndEstado(tipoUsuarioId, EstadoTipoUsuario.ACTIVO))
+            .thenReturn(Optional.of(tipoUsuario(tipoUsuarioId)));
+
+        autorizacionService.alModificarPermisos(new PermisosModificadosEvent(
+            Set.of(new CambioPermisos(Alcance.TIPO_USUARIO, tipoUsuarioId)), Map.of(aplicacionId, 4L)));
+
+        IndicePermisos indice = autorizacionService.indiceActual();
+        assertThat(indice.version(aplicacionId)).isEqualTo(4L);
+        assertThat(indice.version(otraAplicacionId)).isEqualTo(8L);
+        verify(versionPermisosRepository).findAll();
+    }
+
+    @Test
+    @DisplayName("Permisos efectivos - Unión de los bitsets de todos los tipos de usuario del usuario")
+    void permisosEfectivos_DeberiaUnirRoles() {
+        UUID otroTipoId = UUID.randomUUID();
+        when(tipoUsuarioRepository.findIndiceByEstado(EstadoTipoUsuario.ACTIVO))
+            .thenReturn(List.of(tipoUsuario(tipoUsuarioId), tipoUsuario(otroTipoId)));
+        when(permisoTipoUsuarioRepository.findIndiceActivos())
+            .thenReturn(List.of(permiso(tipoUsuarioId, accionCrearId), permiso(otroTipoId, accionEliminarId)));
+        when(usuarioTipoUsuarioRepository.findIndiceActivas(EstadoUsuario.ACTIVO))
+            .thenReturn(List.of(asignacion(usuarioId, tipoUsuarioId), asignacion(usuarioId, otroTipoId)));
+
+        IndicePermisos indice = autorizacionService.indiceActual();
+        CatalogoAplicacion catalogo = indice.catalogoPorLlave(LLAVE);
+        long[] efectivos = indice.permisosEfectivos(usuarioId, catalogo);
+
+        assertThat(PermisosBitset.contiene(efectivos, catalogo.ordinal(accionCrearId))).isTrue();
+        assertThat(PermisosBitset.contiene(efectivos, catalogo.ordinal(accionEliminarId))).isTrue();
+        assertThat(PermisosBitset.cardinalidad(indice.rol(tipoUsuarioId).permisos())).isEqualTo(1);
+    }
+
+    private AplicacionIndice aplicacion(UUID id, String llave) {
+        return new AplicacionIndice() {
+            public UUID getId() { return id; }
+            public String getLlaveIdentificadora() { return llave; }
+        };
+    }
+
+    private AccionIndice accion(UUID id, String nombre) {
+        return new AccionIndice() {
+            public UUID getId() { return id; }
+            public String getNombre() { return nombre; }
+            public UUID getAplicacionId() { return aplicacionId; }
+            public UUID getSeccionId() { return seccionId; }
+            public String getSeccionNombre() { return "Gestión de Usuarios"; }
+        };
+    }
+
+    private TipoUsuarioIndice tipoUsuario(UUID id) {
+        return new TipoUsuarioIndice() {
+            public UUID getId() { return id; }
+            public UUID getAplicacionId() { return aplicacionId; }
+        };
+    }
+
+    private PermisoIndice permiso(UUID tipoId, UUID accionId) {
+        return new PermisoIndice() {
+            public UUID getTipoUsuarioId() { return tipoId; }
+            public UUID getAccionId() { return accionId; }
+        };
+    }
+
+    private AsignacionIndice asignacion(UUID usuario, UUID tipoId) {
+        return new AsignacionIndice() {
+            public UUID getUsuarioId() { return usuario; }
+            public UUID getTipoUsuarioId() { return tipoId; }
+        };
+    }
+}
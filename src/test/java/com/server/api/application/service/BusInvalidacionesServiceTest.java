@@ -0,0 +1,125 @@
+package com.server.api.application.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.server.api.application.invalidacion.LoteInvalidaciones;
+import com.server.api.application.invalidacion.TransporteInvalidaciones;
+import com.server.api.application.invalidacion.TransporteLocal;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.PermisosModificadosEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para BusInvalidacionesService.
+ * Simula dos instancias con buses que comparten un transporte local.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BusInvalidacionesService - Tests Unitarios")
+class BusInvalidacionesServiceTest {
+
+    @Mock
+    private ApplicationEventPublisher publicadorOrigen;
+
+    @Mock
+    private ApplicationEventPublisher publicadorDestino;
+
+    @Mock
+    private AutorizacionService autorizacionService;
+
+    @Mock
+    private TransporteInvalidaciones transporteConError;
+
+    private final TransporteLocal transporte = new TransporteLocal();
+    private final SimpleMeterRegistry registroDestino = new SimpleMeterRegistry();
+    private BusInvalidacionesService origen;
+    private BusInvalidacionesService destino;
+
+    @BeforeEach
+    void setUp() {
+        origen = new BusInvalidacionesService(transporte, publicadorOrigen, autorizacionService,
+                new SimpleMeterRegistry(), 60000);
+        destino = new BusInvalidacionesService(transporte, publicadorDestino, autorizacionService,
+                registroDestino, 60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        origen.cerrar();
+        destino.cerrar();
+    }
+
+    @Test
+    @DisplayName("Enviar - Los cambios de la ventana llegan a la otra instancia en un solo lote sin duplicados")
+    void enviarPendientes_CambiosRepetidos_DeberiaEnviarUnSoloLote() {
+        UUID aplicacionId = UUID.randomUUID();
+        CambioPermisos cambio = new CambioPermisos(Alcance.APLICACION, aplicacionId);
+        CambioPermisos otro = new CambioPermisos(Alcance.TIPO_USUARIO, UUID.randomUUID());
+
+        origen.alModificarPermisos(new PermisosModificadosEvent(Set.of(cambio), Map.of(aplicacionId, 3L)));
+        origen.alModificarPermisos(new PermisosModificadosEvent(Set.of(cambio, otro), Map.of(aplicacionId, 4L)));
+        origen.enviarPendientes();
+
+        ArgumentCaptor<PermisosModificadosEvent> eventos = ArgumentCaptor.forClass(PermisosModificadosEvent.class);
+        verify(publicadorDestino, times(1)).publishEvent(eventos.capture());
+        PermisosModificadosEvent recibido = eventos.getValue();
+        assertThat(recibido.remoto()).isTrue();
+        assertThat(recibido.cambios()).containsExactlyInAnyOrder(cambio, otro);
+        assertThat(recibido.versiones()).containsEntry(aplicacionId, 4L);
+        assertThat(registroDestino.get("invalidaciones.retraso").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Enviar - La instancia de origen no vuelve a publicar sus propios cambios")
+    void enviarPendientes_LotePropio_NoDeberiaPublicarse() {
+        origen.alModificarPermisos(new PermisosModificadosEvent(
+                Set.of(new CambioPermisos(Alcance.SECCION, UUID.randomUUID()))));
+        origen.enviarPendientes();
+
+        verify(publicadorOrigen, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Recibir - Los cambios remotos no se vuelven a difundir")
+    void alModificarPermisos_EventoRemoto_NoDeberiaDifundirse() {
+        destino.alModificarPermisos(new PermisosModificadosEvent(
+                Set.of(new CambioPermisos(Alcance.USUARIO, UUID.randomUUID())), Map.of(), true));
+        destino.enviarPendientes();
+
+        verify(publicadorOrigen, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Enviar - Un envío fallido deja los cambios pendientes para la siguiente ventana")
+    void enviarPendientes_ErrorDeTransporte_DeberiaReintentar() {
+        BusInvalidacionesService bus = new BusInvalidacionesService(transporteConError, publicadorOrigen,
+                autorizacionService, new SimpleMeterRegistry(), 60000);
+        doThrow(new IllegalStateException("sin conexión")).when(transporteConError).enviar(any(LoteInvalidaciones.class));
+        bus.alModificarPermisos(new PermisosModificadosEvent(
+                Set.of(new CambioPermisos(Alcance.TIPO_USUARIO, UUID.randomUUID()))));
+
+        bus.enviarPendientes();
+        bus.enviarPendientes();
+
+        verify(transporteConError, times(2)).enviar(any(LoteInvalidaciones.class));
+    }
+}
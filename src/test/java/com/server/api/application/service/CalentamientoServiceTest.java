@@ -0,0 +1,89 @@
+package com.server.api.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.server.api.application.service.CalentamientoService.Estado;
+import com.server.api.domain.entity.Aplicacion;
+
+/**
+ * Tests unitarios para CalentamientoService.
+ * Verifica la precarga de cachés y la disponibilidad según el presupuesto de tiempo.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalentamientoService - Tests Unitarios")
+class CalentamientoServiceTest {
+
+    @Mock
+    private AplicacionService aplicacionService;
+
+    @Mock
+    private SeccionService seccionService;
+
+    @Mock
+    private AutorizacionService autorizacionService;
+
+    @Test
+    @DisplayName("Calentar - Precarga aplicaciones, secciones e índice y queda lista")
+    void calentar_TareasExitosas_DeberiaQuedarLista() {
+        Aplicacion aplicacion = new Aplicacion();
+        aplicacion.setLlaveIdentificadora("APP_TEST");
+        when(aplicacionService.obtenerTodas()).thenReturn(List.of(aplicacion));
+        CalentamientoService calentamiento = calentamiento(5000);
+
+        assertThat(calentamiento.listo()).isFalse();
+        calentamiento.calentar();
+
+        assertThat(calentamiento.estado()).isEqualTo(Estado.COMPLETADO);
+        assertThat(calentamiento.listo()).isTrue();
+        verify(aplicacionService).obtenerPorLlaveIdentificadora("APP_TEST");
+        verify(seccionService).obtenerTodas();
+        verify(autorizacionService).inicializar();
+    }
+
+    @Test
+    @DisplayName("Calentar - Una tarea con error no impide quedar lista")
+    void calentar_TareaConError_DeberiaQuedarLista() {
+        when(aplicacionService.obtenerTodas()).thenThrow(new IllegalStateException("sin conexión"));
+        CalentamientoService calentamiento = calentamiento(5000);
+
+        calentamiento.calentar();
+
+        assertThat(calentamiento.estado()).isEqualTo(Estado.COMPLETADO);
+        assertThat(calentamiento.tareas().get("aplicaciones")).startsWith("error");
+    }
+
+    @Test
+    @DisplayName("Calentar - Queda lista al vencer el presupuesto aunque haya tareas en curso")
+    void calentar_PresupuestoVencido_DeberiaQuedarLista() {
+        CountDownLatch liberar = new CountDownLatch(1);
+        doAnswer(invocacion -> {
+            liberar.await();
+            return null;
+        }).when(autorizacionService).inicializar();
+        CalentamientoService calentamiento = calentamiento(50);
+
+        calentamiento.calentar();
+        Map<String, String> tareas = calentamiento.tareas();
+        liberar.countDown();
+
+        assertThat(calentamiento.estado()).isEqualTo(Estado.VENCIDO);
+        assertThat(calentamiento.listo()).isTrue();
+        assertThat(tareas).containsEntry("autorizacion", "pendiente");
+    }
+
+    private CalentamientoService calentamiento(long presupuestoMs) {
+        return new CalentamientoService(aplicacionService, seccionService, autorizacionService, presupuestoMs);
+    }
+}
@@ -0,0 +1,85 @@
+package com.server.api.application.service;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.server.api.application.estadisticas.Medicion;
+import com.server.api.domain.dto.accion.EstadisticasAcciones;
+import com.server.api.domain.dto.seccion.EstadisticasSecciones;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para EstadisticasService.
+ * Verifica que las estadísticas se reutilizan entre consultas en lugar de recalcularse.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EstadisticasService - Tests Unitarios")
+class EstadisticasServiceTest {
+
+    @Mock
+    private AccionService accionService;
+
+    @Mock
+    private SeccionService seccionService;
+
+    @Mock
+    private TipoUsuarioService tipoUsuarioService;
+
+    private EstadisticasService estadisticasService;
+
+    @AfterEach
+    void tearDown() {
+        if (estadisticasService != null) {
+            estadisticasService.cerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Obtener estadísticas de secciones - Reutiliza el valor vigente")
+    void obtenerEstadisticasSecciones_ValorVigente_NoDeberiaRecalcular() {
+        when(seccionService.contarSecciones()).thenReturn(4L);
+        estadisticasService = estadisticas(30);
+
+        Medicion<EstadisticasSecciones> primera = estadisticasService.obtenerEstadisticasSecciones();
+        Medicion<EstadisticasSecciones> segunda = estadisticasService.obtenerEstadisticasSecciones();
+
+        assertThat(segunda.valor().totalSecciones()).isEqualTo(4L);
+        assertThat(segunda.calculadoEn()).isEqualTo(primera.calculadoEn());
+        assertThat(segunda.edadSegundos()).isGreaterThanOrEqualTo(0);
+        verify(seccionService, times(1)).contarSecciones();
+    }
+
+    @Test
+    @DisplayName("Obtener estadísticas de acciones - Cada combinación de filtros se calcula por separado")
+    void obtenerEstadisticasAcciones_FiltrosDistintos_DeberiaCalcularCadaUno() {
+        UUID aplicacionId = UUID.randomUUID();
+        when(accionService.contarAcciones()).thenReturn(10L);
+        when(accionService.contarPorAplicacion(aplicacionId)).thenReturn(3L);
+        estadisticasService = estadisticas(30);
+
+        EstadisticasAcciones generales = estadisticasService.obtenerEstadisticasAcciones(null, null).valor();
+        EstadisticasAcciones porAplicacion = estadisticasService.obtenerEstadisticasAcciones(aplicacionId, null).valor();
+        estadisticasService.obtenerEstadisticasAcciones(aplicacionId, null);
+
+        assertThat(generales).isEqualTo(new EstadisticasAcciones(10L, 0L, 0L));
+        assertThat(porAplicacion).isEqualTo(new EstadisticasAcciones(10L, 3L, 0L));
+        verify(accionService, times(2)).contarAcciones();
+        verify(accionService, times(1)).contarPorAplicacion(aplicacionId);
+    }
+
+    private EstadisticasService estadisticas(long edadMaximaSegundos) {
+        return new EstadisticasService(accionService, seccionService, tipoUsuarioService,
+                new SimpleMeterRegistry(), edadMaximaSegundos, 60);
+    }
+}
@@ -0,0 +1,170 @@
+package com.server.api.application.service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import com.server.api.domain.entity.OutboxEvento;
+import com.server.api.domain.entity.OutboxEvento.Operacion;
+import com.server.api.domain.entity.OutboxEvento.TipoEntidad;
+import com.server.api.domain.event.EntidadModificadaEvent;
+import com.server.api.domain.repository.OutboxEventoRepository;
+
+/**
+ * Tests unitarios para OutboxPublicadorService.
+ * Verifica el orden de publicación y el tratamiento de IDs faltantes y omitidos.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxPublicadorService - Tests Unitarios")
+class OutboxPublicadorServiceTest {
+
+    @Mock
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("Publicar - La primera ejecución fija el cursor sin publicar el historial")
+    void publicarPendientes_PrimeraEjecucion_DeberiaFijarCursor() {
+        when(outboxEventoRepository.findMaxId()).thenReturn(10L);
+        OutboxPublicadorService publicador = publicador(5000);
+
+        publicador.publicarPendientes();
+
+        assertThat(publicador.ultimoPublicado()).isEqualTo(10L);
+        verify(outboxEventoRepository, never()).findPosteriores(anyLong(), any(Pageable.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Publicar - Publica los eventos consecutivos en orden de ID")
+    void publicarPendientes_EventosConsecutivos_DeberiaPublicarEnOrden() {
+        when(outboxEventoRepository.findMaxId()).thenReturn(null);
+        when(outboxEventoRepository.findPosteriores(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(evento(1L), evento(2L), evento(3L)));
+        OutboxPublicadorService publicador = publicador(5000);
+
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+
+        ArgumentCaptor<EntidadModificadaEvent> eventos = ArgumentCaptor.forClass(EntidadModificadaEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(eventos.capture());
+        assertThat(eventos.getAllValues()).extracting(EntidadModificadaEvent::secuencia).containsExactly(1L, 2L, 3L);
+        assertThat(publicador.ultimoPublicado()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Publicar - Se detiene en un ID faltante mientras no venza la espera")
+    void publicarPendientes_IdFaltante_DeberiaEsperar() {
+        when(outboxEventoRepository.findMaxId()).thenReturn(0L);
+        when(outboxEventoRepository.findPosteriores(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(evento(1L), evento(3L)));
+        OutboxPublicadorService publicador = publicador(60000);
+
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+
+        assertThat(publicador.ultimoPublicado()).isEqualTo(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Publicar - Omite un ID faltante cuando vence la espera")
+    void publicarPendientes_IdFaltanteVencido_DeberiaOmitirlo() {
+        when(outboxEventoRepository.findMaxId()).thenReturn(0L);
+        when(outboxEventoRepository.findPosteriores(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(evento(1L), evento(3L)));
+        OutboxPublicadorService publicador = publicador(0);
+
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+
+        assertThat(publicador.ultimoPublicado()).isEqualTo(3L);
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Publicar - Un suscriptor con error no detiene la publicación")
+    void publicarPendientes_SuscriptorConError_DeberiaContinuar() {
+        when(outboxEventoRepository.findMaxId()).thenReturn(0L);
+        when(outboxEventoRepository.findPosteriores(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(evento(1L), evento(2L)));
+        doThrow(new IllegalStateException("fallo")).when(eventPublisher).publishEvent(any(Object.class));
+        OutboxPublicadorService publicador = publicador(5000);
+
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+
+        assertThat(publicador.ultimoPublicado()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Publicar - Publica un ID omitido que se confirma después de vencida la espera")
+    void publicarPendientes_IdOmitidoConfirmadoTarde_DeberiaPublicarlo() {
+        when(outboxEventoRepository.findMaxId()).thenReturn(0L);
+        when(outboxEventoRepository.findPosteriores(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(evento(1L), evento(3L)));
+        when(outboxEventoRepository.findByIdIn(List.of(2L))).thenReturn(List.of(evento(2L)));
+        OutboxPublicadorService publicador = publicador(0, 60000);
+
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+        assertThat(publicador.omitidos()).isEqualTo(1);
+        publicador.publicarPendientes();
+
+        ArgumentCaptor<EntidadModificadaEvent> eventos = ArgumentCaptor.forClass(EntidadModificadaEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(eventos.capture());
+        assertThat(eventos.getAllValues()).extracting(EntidadModificadaEvent::secuencia).containsExactly(1L, 3L, 2L);
+        assertThat(publicador.omitidos()).isZero();
+        assertThat(publicador.ultimoPublicado()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Publicar - Deja de buscar un ID omitido cuando vence el plazo de revisión")
+    void publicarPendientes_IdOmitidoVencido_DeberiaDejarDeBuscarlo() {
+        when(outboxEventoRepository.findMaxId()).thenReturn(0L);
+        when(outboxEventoRepository.findPosteriores(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(evento(1L), evento(3L)));
+        OutboxPublicadorService publicador = publicador(0, 0);
+
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+        publicador.publicarPendientes();
+
+        verify(outboxEventoRepository, times(1)).findByIdIn(List.of(2L));
+        assertThat(publicador.omitidos()).isZero();
+    }
+
+    private OutboxPublicadorService publicador(long esperaHuecoMs) {
+        return publicador(esperaHuecoMs, 60000);
+    }
+
+    private OutboxPublicadorService publicador(long esperaHuecoMs, long revisionOmitidosMs) {
+        return new OutboxPublicadorService(outboxEventoRepository, eventPublisher, 500, esperaHuecoMs, 24,
+                revisionOmitidosMs);
+    }
+
+    private OutboxEvento evento(long id) {
+        return new OutboxEvento(id, TipoEntidad.SECCION, UUID.randomUUID(), Operacion.CREACION, OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,126 @@
+package com.server.api.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.AccionCatalogo;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.config.CacheConfig;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+import com.server.api.domain.repository.UsuarioRepository;
+
+/**
+ * Tests unitarios para RegistroAccesosService.
+ * Verifica la resolución de la aplicación, la acción y el email de cada verificación auditada.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegistroAccesosService - Tests Unitarios")
+class RegistroAccesosServiceTest {
+
+    private static final String LLAVE = "APP_PRUEBA";
+    private static final String EMAIL = "usuario@test.com";
+
+    @Mock
+    private AutorizacionService autorizacionService;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private AuditoriaService auditoriaService;
+
+    private RegistroAccesosService registroAccesosService;
+
+    private UUID aplicacionId;
+    private UUID accionId;
+    private UUID usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        aplicacionId = UUID.randomUUID();
+        accionId = UUID.randomUUID();
+        usuarioId = UUID.randomUUID();
+        CatalogoAplicacion catalogo = CatalogoAplicacion.de(aplicacionId, LLAVE,
+                List.of(new AccionCatalogo(accionId, "Crear Usuario", UUID.randomUUID(), "Usuarios")));
+        lenient().when(autorizacionService.indiceActual())
+                .thenReturn(IndicePermisos.de(List.of(catalogo), List.of(), Map.of(usuarioId, Set.of())));
+        lenient().when(usuarioRepository.findEmailById(usuarioId)).thenReturn(Optional.of(EMAIL));
+        lenient().when(auditoriaService.registrar(any())).thenReturn(true);
+
+        registroAccesosService = new RegistroAccesosService(autorizacionService, usuarioRepository,
+                auditoriaService, new ConcurrentMapCacheManager(CacheConfig.EMAILS_USUARIO));
+    }
+
+    @Test
+    @DisplayName("Registrar verificación - Una denegación por nombre se audita como acceso fallido de la acción resuelta")
+    void registrarVerificacion_Denegada_DeberiaRegistrarFallido() {
+        boolean registrado = registroAccesosService.registrarVerificacion(
+                usuarioId, LLAVE, "crear usuario", false, "10.0.0.1", "JUnit");
+
+        ArgumentCaptor<EventoAuditoria> captor = ArgumentCaptor.forClass(EventoAuditoria.class);
+        verify(auditoriaService).registrar(captor.capture());
+        EventoAuditoria evento = captor.getValue();
+        assertThat(registrado).isTrue();
+        assertThat(evento.usuarioId()).isEqualTo(usuarioId);
+        assertThat(evento.emailUsuario()).isEqualTo(EMAIL);
+        assertThat(evento.aplicacionId()).isEqualTo(aplicacionId);
+        assertThat(evento.accionId()).isEqualTo(accionId);
+        assertThat(evento.ipOrigen()).isEqualTo("10.0.0.1");
+        assertThat(evento.estado()).isEqualTo(EstadoAuditoria.FALLIDO);
+        assertThat(evento.mensaje()).isEqualTo(RegistroAccesosService.MENSAJE_DENEGADO);
+    }
+
+    @Test
+    @DisplayName("Registrar verificación - El email del usuario se consulta una sola vez")
+    void registrarVerificacion_Repetida_DeberiaCachearEmail() {
+        registroAccesosService.registrarVerificacion(usuarioId, LLAVE, accionId.toString(), true, "10.0.0.1", null);
+        registroAccesosService.registrarVerificacion(usuarioId, LLAVE, accionId.toString(), true, "10.0.0.1", null);
+
+        verify(usuarioRepository, times(1)).findEmailById(usuarioId);
+        verify(auditoriaService, times(2)).registrar(any());
+    }
+
+    @Test
+    @DisplayName("Registrar verificación - No audita acciones ni aplicaciones desconocidas")
+    void registrarVerificacion_AccionDesconocida_NoDeberiaRegistrar() {
+        assertThat(registroAccesosService.registrarVerificacion(
+                usuarioId, LLAVE, "Borrar Todo", false, "10.0.0.1", null)).isFalse();
+        assertThat(registroAccesosService.registrarVerificacion(
+                usuarioId, "NO_EXISTE", accionId.toString(), false, "10.0.0.1", null)).isFalse();
+
+        verify(auditoriaService, never()).registrar(any());
+    }
+
+    @Test
+    @DisplayName("Registrar verificación - No audita usuarios desconocidos")
+    void registrarVerificacion_UsuarioDesconocido_NoDeberiaRegistrar() {
+        UUID desconocido = UUID.randomUUID();
+        when(usuarioRepository.findEmailById(desconocido)).thenReturn(Optional.empty());
+
+        assertThat(registroAccesosService.registrarVerificacion(
+                desconocido, LLAVE, accionId.toString(), false, "10.0.0.1", null)).isFalse();
+
+        verify(auditoriaService, never()).registrar(any());
+    }
+}
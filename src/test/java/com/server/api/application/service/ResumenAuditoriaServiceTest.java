@@ -0,0 +1,105 @@
+package com.server.api.application.service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.domain.dto.auditoria.ResumenAuditoriaHora;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+import com.server.api.domain.repository.AuditoriaResumenHorarioRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para ResumenAuditoriaService.
+ * Verifica la agregación por hora, aplicación y acción, y el reintento tras un error de escritura.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumenAuditoriaService - Tests Unitarios")
+class ResumenAuditoriaServiceTest {
+
+    private static final UUID APLICACION = UUID.randomUUID();
+    private static final UUID ACCION = UUID.randomUUID();
+    private static final OffsetDateTime HORA = OffsetDateTime.of(2025, 3, 14, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private AuditoriaResumenHorarioRepository resumenRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ResumenAuditoriaService resumenAuditoriaService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocacion -> {
+            ((Consumer<TransactionStatus>) invocacion.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        resumenAuditoriaService = new ResumenAuditoriaService(resumenRepository, transactionTemplate,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Volcar - Suma los eventos de la misma hora, aplicación y acción en una sola fila")
+    @SuppressWarnings("unchecked")
+    void volcar_EventosDeLaMismaHora_DeberiaAgruparlos() {
+        resumenAuditoriaService.acumular(List.of(
+                evento(HORA.plusMinutes(5), EstadoAuditoria.EXITOSO),
+                evento(HORA.plusMinutes(59), EstadoAuditoria.FALLIDO)));
+        resumenAuditoriaService.acumular(List.of(
+                evento(HORA.plusMinutes(30).withOffsetSameInstant(ZoneOffset.ofHours(-5)), EstadoAuditoria.EXITOSO),
+                evento(HORA.plusHours(1), EstadoAuditoria.EXITOSO)));
+
+        resumenAuditoriaService.volcar();
+
+        ArgumentCaptor<List<ResumenAuditoriaHora>> incrementos = ArgumentCaptor.forClass(List.class);
+        verify(resumenRepository).sumar(incrementos.capture());
+        assertThat(incrementos.getValue()).containsExactly(
+                new ResumenAuditoriaHora(HORA, APLICACION, ACCION, 2, 1),
+                new ResumenAuditoriaHora(HORA.plusHours(1), APLICACION, ACCION, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Volcar - Conserva los contadores si la escritura falla y los suma en el siguiente intento")
+    @SuppressWarnings("unchecked")
+    void volcar_ErrorDeEscritura_DeberiaReintentar() {
+        doThrow(new IllegalStateException("sin conexión")).doNothing().when(resumenRepository).sumar(any());
+        resumenAuditoriaService.acumular(List.of(evento(HORA, EstadoAuditoria.EXITOSO)));
+
+        resumenAuditoriaService.volcar();
+        resumenAuditoriaService.acumular(List.of(evento(HORA, EstadoAuditoria.FALLIDO)));
+        resumenAuditoriaService.volcar();
+        resumenAuditoriaService.volcar();
+
+        ArgumentCaptor<List<ResumenAuditoriaHora>> incrementos = ArgumentCaptor.forClass(List.class);
+        verify(resumenRepository, times(2)).sumar(incrementos.capture());
+        assertThat(incrementos.getAllValues().get(1))
+                .containsExactly(new ResumenAuditoriaHora(HORA, APLICACION, ACCION, 1, 1));
+    }
+
+    private EventoAuditoria evento(OffsetDateTime fecha, EstadoAuditoria estado) {
+        return new EventoAuditoria(UUID.randomUUID(), fecha, null, "usuario@test.com", APLICACION, ACCION,
+                "127.0.0.1", null, null, estado);
+    }
+}
@@ -1,12 +1,21 @@
 package com.server.api.application.service;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +24,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,14 +37,24 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.server.api.application.carga.CargasEnCurso;
 import com.server.api.domain.dto.seccion.SeccionCreateRequest;
 import com.server.api.domain.dto.seccion.SeccionResponse;
 import com.server.api.domain.dto.seccion.SeccionSummary;
 import com.server.api.domain.dto.seccion.SeccionUpdateRequest;
+import com.server.api.domain.entity.OutboxEvento.Operacion;
+import com.server.api.domain.entity.OutboxEvento.TipoEntidad;
 import com.server.api.domain.entity.Seccion;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.EntidadModificadaEvent;
+import com.server.api.domain.event.PermisosModificadosEvent;
 import com.server.api.domain.mapper.SeccionMapper;
+import com.server.api.domain.repository.EstadoRegistros;
 import com.server.api.domain.repository.SeccionRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 
 /**
@@ -48,6 +71,11 @@ class SeccionServiceTest {
     @Mock
     private SeccionMapper seccionMapper;
 
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Spy
+    private CargasEnCurso cargasEnCurso = new CargasEnCurso(registry);
+
     @InjectMocks
     private SeccionService seccionService;
 
@@ -96,6 +124,11 @@ class SeccionServiceTest {
             "Sección para administrar usuarios del sistema",
             true
         );
+
+        // Versión con la que se construye el catálogo
+        EstadoRegistros estado = mock(EstadoRegistros.class);
+        lenient().when(estado.getUltimaModificacion()).thenReturn(seccion.getUpdatedAt());
+        lenient().when(seccionRepository.findEstadoActivos()).thenReturn(estado);
     }
 
     @Test
@@ -223,11 +256,11 @@ class SeccionServiceTest {
     @DisplayName("Buscar por nombre - Caso exitoso")
     void buscarPorNombre_DeberiaRetornarSeccionesCoincidentes() {
         // Given
-        String nombre = "Gestión";
+        String nombre = "gestión";
         List<Seccion> secciones = List.of(seccion);
         List<SeccionSummary> summaries = List.of(seccionSummary);
         
-        when(seccionRepository.findByNombreContainingIgnoreCaseAndActive(nombre)).thenReturn(secciones);
+        when(seccionRepository.findAllActive()).thenReturn(secciones);
         when(seccionMapper.toSummaryList(secciones)).thenReturn(summaries);
 
         // When
@@ -237,9 +270,9 @@ class SeccionServiceTest {
         assertThat(resultado).isNotNull();
         assertThat(resultado).hasSize(1);
         assertThat(resultado.get(0).nombre()).contains("Gestión");
+        assertThat(seccionService.buscarPorNombre("inexistente")).isEmpty();
 
-        verify(seccionRepository).findByNombreContainingIgnoreCaseAndActive(nombre);
-        verify(seccionMapper).toSummaryList(secciones);
+        verify(seccionRepository, never()).findByNombreContainingIgnoreCaseAndActive(anyString());
     }
 
     @Test
@@ -313,29 +346,119 @@ class SeccionServiceTest {
     @DisplayName("Contar secciones - Caso exitoso")
     void contarSecciones_DeberiaRetornarConteoCorrect() {
         // Given
-        long expectedCount = 5L;
-        when(seccionRepository.countActive()).thenReturn(expectedCount);
+        List<Seccion> secciones = List.of(seccion);
+        when(seccionRepository.findAllActive()).thenReturn(secciones);
+        when(seccionMapper.toSummaryList(secciones)).thenReturn(List.of(seccionSummary));
 
         // When
         long resultado = seccionService.contarSecciones();
 
         // Then
-        assertThat(resultado).isEqualTo(expectedCount);
-        verify(seccionRepository).countActive();
+        assertThat(resultado).isEqualTo(1L);
+        verify(seccionRepository, never()).countActive();
     }
 
     @Test
     @DisplayName("Existe por nombre - Caso exitoso")
     void existePorNombre_DeberiaRetornarVerdaderoSiExiste() {
         // Given
-        String nombre = "Gestión de Usuarios";
-        when(seccionRepository.existsByNombreIgnoreCase(nombre)).thenReturn(true);
+        String nombre = "GESTIÓN DE USUARIOS";
+        List<Seccion> secciones = List.of(seccion);
+        when(seccionRepository.findAllActive()).thenReturn(secciones);
+        when(seccionMapper.toSummaryList(secciones)).thenReturn(List.of(seccionSummary));
 
         // When
         boolean resultado = seccionService.existePorNombre(nombre);
 
         // Then
         assertThat(resultado).isTrue();
-        verify(seccionRepository).existsByNombreIgnoreCase(nombre);
+        assertThat(seccionService.existePorNombre("Gestión")).isFalse();
+        verify(seccionRepository, never()).existsByNombreIgnoreCase(anyString());
+    }
+
+    @Test
+    @DisplayName("Buscar por texto - Busca en la descripción completa del catálogo")
+    void buscarPorTexto_DeberiaBuscarEnDescripcionCompleta() {
+        // Given
+        seccion.setDescripcion("x".repeat(120) + " Permisos Especiales");
+        List<Seccion> secciones = List.of(seccion);
+        when(seccionRepository.findAllActive()).thenReturn(secciones);
+        when(seccionMapper.toSummaryList(secciones)).thenReturn(List.of(seccionSummary));
+
+        // When
+        List<SeccionSummary> resultado = seccionService.buscarPorTexto("permisos especiales");
+
+        // Then
+        assertThat(resultado).containsExactly(seccionSummary);
+        verify(seccionRepository, never()).findByTextoEnNombreOrDescripcion(anyString());
+    }
+
+    @Test
+    @DisplayName("Catálogo - Se construye una vez y se reconstruye tras un cambio de secciones")
+    void catalogo_DeberiaReconstruirseTrasCambioDeSecciones() {
+        // Given
+        List<Seccion> secciones = List.of(seccion);
+        when(seccionRepository.findAllActive()).thenReturn(secciones);
+        when(seccionMapper.toSummaryList(secciones)).thenReturn(List.of(seccionSummary));
+
+        // When
+        seccionService.obtenerTodas();
+        seccionService.buscarPorNombre("usuarios");
+        seccionService.alModificarPermisos(new PermisosModificadosEvent(
+            Set.of(new CambioPermisos(Alcance.TIPO_USUARIO, UUID.randomUUID())), Map.of()));
+        seccionService.existePorNombre("Gestión de Usuarios");
+        seccionService.alModificarPermisos(new PermisosModificadosEvent(
+            Set.of(new CambioPermisos(Alcance.SECCION, seccionId)), Map.of()));
+        seccionService.obtenerTodas();
+        seccionService.alModificarSeccion(new EntidadModificadaEvent(
+            1L, TipoEntidad.SECCION, seccionId, Operacion.ACTUALIZACION));
+        seccionService.obtenerTodas();
+
+        // Then
+        verify(seccionRepository, times(3)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("Catálogo - Los lectores concurrentes tras una invalidación comparten una sola reconstrucción")
+    void catalogo_LectoresConcurrentes_DeberianCompartirReconstruccion() throws Exception {
+        // Given
+        int lectores = 4;
+        List<Seccion> secciones = List.of(seccion);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(seccionMapper.toSummaryList(secciones)).thenReturn(List.of(seccionSummary));
+        when(seccionRepository.findAllActive())
+            .thenReturn(secciones)
+            .thenAnswer(invocacion -> {
+                liberar.await();
+                return secciones;
+            });
+        seccionService.obtenerTodas();
+        seccionService.alModificarSeccion(new EntidadModificadaEvent(
+            1L, TipoEntidad.SECCION, seccionId, Operacion.ACTUALIZACION));
+
+        // When
+        ExecutorService ejecutor = Executors.newFixedThreadPool(lectores);
+        try {
+            List<Future<List<SeccionSummary>>> lecturas = new ArrayList<>();
+            for (int i = 0; i < lectores; i++) {
+                lecturas.add(ejecutor.submit(() -> seccionService.obtenerTodas()));
+            }
+            await().atMost(5, TimeUnit.SECONDS).until(() -> compartidas() == lectores - 1);
+            liberar.countDown();
+
+            // Then
+            for (Future<List<SeccionSummary>> lectura : lecturas) {
+                assertThat(lectura.get(5, TimeUnit.SECONDS)).containsExactly(seccionSummary);
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+        verify(seccionRepository, times(2)).findAllActive();
+    }
+
+    private double compartidas() {
+        return registry.find("carga.unica.solicitudes").tag("resultado", "compartida").counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
     }
 }
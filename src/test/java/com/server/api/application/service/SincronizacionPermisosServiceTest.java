@@ -0,0 +1,153 @@
+package com.server.api.application.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.AccionCatalogo;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.IndicePermisos.Rol;
+import com.server.api.domain.dto.autorizacion.PermisosAplicacion;
+import com.server.api.domain.repository.CambioPermisosRegistroRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Tests unitarios para SincronizacionPermisosService.
+ * Verifica la respuesta completa, el delta por versión, el caso sin cambios y la retención del registro.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SincronizacionPermisosService - Tests Unitarios")
+class SincronizacionPermisosServiceTest {
+
+    private static final String LLAVE = "APP_PRUEBA";
+
+    @Mock
+    private AutorizacionService autorizacionService;
+
+    @Mock
+    private CambioPermisosRegistroRepository cambioPermisosRegistroRepository;
+
+    private SincronizacionPermisosService sincronizacionPermisosService;
+
+    private UUID aplicacionId;
+    private UUID accionCrearId;
+    private UUID accionEliminarId;
+    private UUID rolEditorId;
+    private UUID rolLectorId;
+
+    @BeforeEach
+    void setUp() {
+        aplicacionId = UUID.randomUUID();
+        accionCrearId = UUID.randomUUID();
+        accionEliminarId = UUID.randomUUID();
+        rolEditorId = UUID.randomUUID();
+        rolLectorId = UUID.randomUUID();
+
+        CatalogoAplicacion catalogo = CatalogoAplicacion.de(aplicacionId, LLAVE, List.of(
+            new AccionCatalogo(accionCrearId, "Crear Usuario", UUID.randomUUID(), "Usuarios"),
+            new AccionCatalogo(accionEliminarId, "Eliminar Usuario", UUID.randomUUID(), "Usuarios")
+        ));
+        IndicePermisos indice = IndicePermisos.de(List.of(catalogo), List.of(
+                Rol.de(rolEditorId, catalogo, List.of(accionCrearId, accionEliminarId)),
+                Rol.de(rolLectorId, catalogo, List.of())), Map.of())
+            .conVersiones(Map.of(aplicacionId, 7L));
+        lenient().when(autorizacionService.indiceActual()).thenReturn(indice);
+        sincronizacionPermisosService = new SincronizacionPermisosService(autorizacionService, cambioPermisosRegistroRepository, 5);
+    }
+
+    @Test
+    @DisplayName("Obtener permisos - Sin versión devuelve todos los tipos de usuario")
+    void obtenerPermisos_SinVersion_DeberiaDevolverTodo() {
+        PermisosAplicacion permisos = sincronizacionPermisosService.obtenerPermisos(LLAVE, null);
+
+        assertThat(permisos.completo()).isTrue();
+        assertThat(permisos.version()).isEqualTo(7L);
+        assertThat(permisos.tiposUsuario()).hasSize(2);
+        assertThat(permisos.catalogo()).containsExactlyInAnyOrder(accionCrearId, accionEliminarId);
+        verify(cambioPermisosRegistroRepository, never()).findTiposUsuarioModificados(eq(aplicacionId), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Obtener permisos - Con la versión actual no consulta el registro de cambios")
+    void obtenerPermisos_VersionActual_DeberiaDevolverDeltaVacio() {
+        PermisosAplicacion permisos = sincronizacionPermisosService.obtenerPermisos(LLAVE, 7L);
+
+        assertThat(permisos.completo()).isFalse();
+        assertThat(permisos.tiposUsuario()).isEmpty();
+        assertThat(permisos.tiposUsuarioEliminados()).isEmpty();
+        verify(cambioPermisosRegistroRepository, never()).findTiposUsuarioModificados(eq(aplicacionId), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Obtener permisos - Desde una versión anterior devuelve solo los modificados y eliminados")
+    void obtenerPermisos_VersionAnterior_DeberiaDevolverDelta() {
+        UUID rolEliminadoId = UUID.randomUUID();
+        when(cambioPermisosRegistroRepository.findTiposUsuarioModificados(aplicacionId, 5L, 7L))
+            .thenReturn(List.of(rolEditorId, rolEliminadoId));
+
+        PermisosAplicacion permisos = sincronizacionPermisosService.obtenerPermisos(LLAVE, 5L);
+
+        assertThat(permisos.completo()).isFalse();
+        assertThat(permisos.desdeVersion()).isEqualTo(5L);
+        assertThat(permisos.tiposUsuario()).singleElement().satisfies(tipo -> {
+            assertThat(tipo.id()).isEqualTo(rolEditorId);
+            assertThat(tipo.acciones()).containsExactlyInAnyOrder(accionCrearId, accionEliminarId);
+        });
+        assertThat(permisos.tiposUsuarioEliminados()).containsExactly(rolEliminadoId);
+    }
+
+    @Test
+    @DisplayName("Obtener permisos - Una versión fuera de la retención devuelve todos los permisos")
+    void obtenerPermisos_VersionFueraDeRetencion_DeberiaDevolverTodo() {
+        PermisosAplicacion permisos = sincronizacionPermisosService.obtenerPermisos(LLAVE, 1L);
+
+        assertThat(permisos.completo()).isTrue();
+        assertThat(permisos.tiposUsuario()).hasSize(2);
+        verify(cambioPermisosRegistroRepository, never()).findTiposUsuarioModificados(eq(aplicacionId), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Depurar - Elimina los cambios fuera de la retención configurada")
+    void depurar_DeberiaEliminarCambiosFueraDeRetencion() {
+        sincronizacionPermisosService.depurar();
+
+        verify(cambioPermisosRegistroRepository).deleteFueraDeRetencion(5L);
+    }
+
+    @Test
+    @DisplayName("Obtener permisos - Un cambio de catálogo en el rango devuelve todos los permisos")
+    void obtenerPermisos_CambioDeCatalogo_DeberiaDevolverTodo() {
+        when(cambioPermisosRegistroRepository.findTiposUsuarioModificados(aplicacionId, 5L, 7L))
+            .thenReturn(Arrays.asList(rolLectorId, null));
+
+        PermisosAplicacion permisos = sincronizacionPermisosService.obtenerPermisos(LLAVE, 5L);
+
+        assertThat(permisos.completo()).isTrue();
+        assertThat(permisos.tiposUsuario()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Obtener permisos - Lanza excepción para una aplicación desconocida")
+    void obtenerPermisos_AplicacionDesconocida_DeberiaLanzarExcepcion() {
+        assertThatThrownBy(() -> sincronizacionPermisosService.obtenerPermisos("NO_EXISTE", null))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+}
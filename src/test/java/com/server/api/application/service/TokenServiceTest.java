@@ -0,0 +1,164 @@
+package com.server.api.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.server.api.application.autorizacion.IndicePermisos;
+import com.server.api.application.autorizacion.IndicePermisos.AccionCatalogo;
+import com.server.api.application.autorizacion.IndicePermisos.CatalogoAplicacion;
+import com.server.api.application.autorizacion.IndicePermisos.Rol;
+import com.server.api.domain.dto.token.EmisionTokenRequest;
+import com.server.api.domain.dto.token.EmisionTokenRequest.ModoToken;
+import com.server.api.domain.dto.token.TokenEmitido;
+import com.server.api.domain.entity.Usuario;
+import com.server.api.domain.entity.Usuario.EstadoUsuario;
+import com.server.api.domain.repository.UsuarioRepository;
+
+import io.jsonwebtoken.Claims;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Tests unitarios para TokenService.
+ * Verifica la autenticación del usuario, la firma de los tokens y el claim compacto de permisos.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenService - Tests Unitarios")
+class TokenServiceTest {
+
+    private static final String LLAVE = "APP_PRUEBA";
+    private static final String EMAIL = "usuario@test.com";
+    private static final String CONTRASENA = "secreta";
+
+    @Mock
+    private AutorizacionService autorizacionService;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    private TokenService tokenService;
+
+    private UUID aplicacionId;
+    private UUID usuarioId;
+    private CatalogoAplicacion catalogo;
+    private List<UUID> acciones;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        aplicacionId = UUID.randomUUID();
+        usuarioId = UUID.randomUUID();
+        UUID seccionId = UUID.randomUUID();
+        UUID rolId = UUID.randomUUID();
+
+        acciones = new ArrayList<>();
+        List<AccionCatalogo> catalogoAcciones = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            UUID id = UUID.randomUUID();
+            acciones.add(id);
+            catalogoAcciones.add(new AccionCatalogo(id, "Accion " + i, seccionId, "Sección"));
+        }
+        catalogo = CatalogoAplicacion.de(aplicacionId, LLAVE, catalogoAcciones);
+        IndicePermisos indice = IndicePermisos.de(List.of(catalogo),
+                List.of(Rol.de(rolId, catalogo, List.of(acciones.get(0), acciones.get(9), acciones.get(19)))),
+                Map.of(usuarioId, Set.of(rolId)))
+            .conVersiones(Map.of(aplicacionId, 3L));
+        lenient().when(autorizacionService.indiceActual()).thenReturn(indice);
+
+        usuario = new Usuario();
+        usuario.setId(usuarioId);
+        usuario.setEmail(EMAIL);
+        usuario.setContrasena(new BCryptPasswordEncoder(4).encode(CONTRASENA));
+        lenient().when(usuarioRepository.findByEmailAndActive(anyString())).thenReturn(Optional.empty());
+        lenient().when(usuarioRepository.findByEmailAndActive(EMAIL)).thenReturn(Optional.of(usuario));
+
+        tokenService = new TokenService(autorizacionService, usuarioRepository, "secreto", "sal", "HmacSHA512", 1000, 512, 60000);
+    }
+
+    @Test
+    @DisplayName("Emitir - Modo PERMISOS incluye el mapa de bits comprimido y la versión de permisos")
+    void emitir_ModoPermisos_DeberiaIncluirMapaDeBits() {
+        TokenEmitido emitido = tokenService.emitir(new EmisionTokenRequest(EMAIL, CONTRASENA, LLAVE, ModoToken.PERMISOS));
+
+        Claims claims = tokenService.leer(emitido.token());
+        assertThat(claims.getSubject()).isEqualTo(usuarioId.toString());
+        assertThat(claims.get(TokenService.CLAIM_APLICACION, String.class)).isEqualTo(LLAVE);
+        assertThat(claims.get(TokenService.CLAIM_VERSION_PERMISOS, Long.class)).isEqualTo(3L);
+        assertThat(claims.get(TokenService.CLAIM_TOTAL_ACCIONES, Integer.class)).isEqualTo(20);
+        assertThat(emitido.versionPermisos()).isEqualTo(3L);
+
+        byte[] mapa = TokenService.decodificarPermisos(claims.get(TokenService.CLAIM_PERMISOS, String.class));
+        assertThat(mapa).hasSize(3);
+        for (int i = 0; i < acciones.size(); i++) {
+            int ordinal = catalogo.ordinal(acciones.get(i));
+            boolean permitido = (mapa[ordinal >>> 3] & (1 << (ordinal & 7))) != 0;
+            assertThat(permitido).isEqualTo(i == 0 || i == 9 || i == 19);
+        }
+    }
+
+    @Test
+    @DisplayName("Emitir - Modo básico no incluye claims de permisos")
+    void emitir_ModoBasico_NoDeberiaIncluirPermisos() {
+        TokenEmitido emitido = tokenService.emitir(new EmisionTokenRequest(EMAIL, CONTRASENA, LLAVE, null));
+
+        Claims claims = tokenService.leer(emitido.token());
+        assertThat(claims.get(TokenService.CLAIM_PERMISOS)).isNull();
+        assertThat(claims.get(TokenService.CLAIM_VERSION_PERMISOS)).isNull();
+        assertThat(emitido.versionPermisos()).isNull();
+    }
+
+    @Test
+    @DisplayName("Emitir - Rechaza usuarios sin tipos de usuario en la aplicación")
+    void emitir_UsuarioSinRoles_DeberiaLanzarExcepcion() {
+        usuario.setId(UUID.randomUUID());
+
+        assertThatThrownBy(() -> tokenService.emitir(new EmisionTokenRequest(EMAIL, CONTRASENA, LLAVE, ModoToken.PERMISOS)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Emitir - Lanza excepción para una aplicación desconocida")
+    void emitir_AplicacionDesconocida_DeberiaLanzarExcepcion() {
+        assertThatThrownBy(() -> tokenService.emitir(new EmisionTokenRequest(EMAIL, CONTRASENA, "NO_EXISTE", ModoToken.BASICO)))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Emitir - Rechaza una contraseña incorrecta")
+    void emitir_ContrasenaIncorrecta_DeberiaLanzarExcepcion() {
+        assertThatThrownBy(() -> tokenService.emitir(new EmisionTokenRequest(EMAIL, "otra", LLAVE, ModoToken.PERMISOS)))
+            .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("Emitir - Rechaza un email desconocido")
+    void emitir_EmailDesconocido_DeberiaLanzarExcepcion() {
+        assertThatThrownBy(() -> tokenService.emitir(new EmisionTokenRequest("otro@test.com", CONTRASENA, LLAVE, ModoToken.BASICO)))
+            .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("Emitir - Rechaza un usuario inactivo aunque la contraseña sea correcta")
+    void emitir_UsuarioInactivo_DeberiaLanzarExcepcion() {
+        usuario.setEstado(EstadoUsuario.INACTIVO);
+
+        assertThatThrownBy(() -> tokenService.emitir(new EmisionTokenRequest(EMAIL, CONTRASENA, LLAVE, ModoToken.BASICO)))
+            .isInstanceOf(BadCredentialsException.class);
+    }
+}
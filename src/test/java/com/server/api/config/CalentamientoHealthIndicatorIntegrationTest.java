@@ -0,0 +1,62 @@
+package com.server.api.config;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.server.api.application.service.CalentamientoService;
+
+/**
+ * Tests de integración del indicador de calentamiento en los grupos de salud.
+ * Con el calentamiento en curso la readiness responde 503, pero el grupo principal
+ * que usa el healthcheck del contenedor sigue respondiendo 200.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CalentamientoHealthIndicatorIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CalentamientoService calentamientoService;
+
+    @Test
+    @DisplayName("GET /actuator/health/readiness - Debería responder 503 mientras el calentamiento no termina")
+    void readiness_CalentamientoEnCurso_DeberiaRetornarServiceUnavailable() throws Exception {
+        enCurso();
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.components.calentamiento.status").value("OUT_OF_SERVICE"));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/health - Debería responder 200 sin incluir el calentamiento")
+    void health_CalentamientoEnCurso_DeberiaRetornarOk() throws Exception {
+        enCurso();
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.calentamiento").doesNotExist());
+    }
+
+    private void enCurso() {
+        when(calentamientoService.listo()).thenReturn(false);
+        when(calentamientoService.estado()).thenReturn(CalentamientoService.Estado.EN_CURSO);
+        when(calentamientoService.tareas()).thenReturn(Map.of());
+    }
+}
@@ -0,0 +1,115 @@
+package com.server.api.domain.repository;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.server.api.application.service.OutboxPublicadorService;
+import com.server.api.domain.entity.RegionesCache;
+import com.server.api.domain.entity.Seccion;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Tests de integración de la caché de segundo nivel sobre SeccionRepository.
+ * Los datos se confirman en la base de datos: la caché de consultas no se usa para tablas
+ * modificadas por la transacción en curso. Antes de medir se publica el outbox, cuyos eventos
+ * desalojan la caché.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SeccionRepositoryIntegrationTest {
+
+    @Autowired
+    private SeccionRepository seccionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OutboxPublicadorService outboxPublicadorService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics estadisticas;
+    private UUID seccionId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        seccionId = transactionTemplate.execute(status -> {
+            Seccion seccion = new Seccion();
+            seccion.setNombre("Sección Cacheada");
+            entityManager.persist(seccion);
+            return seccion.getId();
+        });
+        outboxPublicadorService.publicarPendientes();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAll();
+        estadisticas = sessionFactory.getStatistics();
+        estadisticas.setStatisticsEnabled(true);
+        estadisticas.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        estadisticas.setStatisticsEnabled(false);
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("DELETE FROM Seccion").executeUpdate());
+    }
+
+    @Test
+    @DisplayName("findByIdAndActive - La segunda consulta se resuelve desde la caché de consultas")
+    void findByIdAndActive_ConsultaRepetida_DeberiaUsarCache() {
+        assertThat(seccionRepository.findByIdAndActive(seccionId)).isPresent();
+        assertThat(seccionRepository.findByIdAndActive(seccionId)).isPresent();
+
+        assertThat(estadisticas.getQueryRegionStatistics(RegionesCache.CONSULTAS_SECCIONES).getPutCount()).isEqualTo(1);
+        assertThat(estadisticas.getQueryRegionStatistics(RegionesCache.CONSULTAS_SECCIONES).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findById - La segunda carga se resuelve desde la caché de entidades")
+    void findById_CargaRepetida_DeberiaUsarCache() {
+        assertThat(seccionRepository.findById(seccionId)).isPresent();
+        assertThat(seccionRepository.findById(seccionId)).isPresent();
+
+        assertThat(estadisticas.getDomainDataRegionStatistics(RegionesCache.SECCIONES).getPutCount()).isEqualTo(1);
+        assertThat(estadisticas.getDomainDataRegionStatistics(RegionesCache.SECCIONES).getHitCount()).isEqualTo(1);
+        assertThat(estadisticas.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAllActive - Una modificación confirmada invalida los resultados cacheados")
+    void findAllActive_TrasModificar_DeberiaVolverALaBase() {
+        assertThat(seccionRepository.findAllActive()).hasSize(1);
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(Seccion.class, seccionId).setNombre("Sección Renombrada"));
+        outboxPublicadorService.publicarPendientes();
+        estadisticas.clear();
+
+        assertThat(seccionRepository.findAllActive()).singleElement()
+                .satisfies(seccion -> assertThat(seccion.getNombre()).isEqualTo("Sección Renombrada"));
+
+        assertThat(estadisticas.getQueryRegionStatistics(RegionesCache.CONSULTAS_SECCIONES).getHitCount()).isZero();
+        assertThat(estadisticas.getQueryRegionStatistics(RegionesCache.CONSULTAS_SECCIONES).getMissCount()).isEqualTo(1);
+    }
+}
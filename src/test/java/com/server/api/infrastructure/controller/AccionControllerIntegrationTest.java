@@ -3,12 +3,14 @@ package com.server.api.infrastructure.controller;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -19,6 +21,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.transaction.annotation.Transactional;
@@ -456,4 +459,49 @@ class AccionControllerIntegrationTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.data", hasSize(0)));
     }
+
+    @Test
+    @DisplayName("GET /api/acciones/{id} - Debería responder 304 con el ETag vigente")
+    void obtenerAccionPorId_ConEtagVigente_DeberiaRetornarNoModificado() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/acciones/{id}", accionIdPrueba))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/acciones/{id}", accionIdPrueba)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/acciones - Debería cambiar el ETag al modificar una acción")
+    void obtenerTodasLasAcciones_TrasActualizar_DeberiaCambiarEtag() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/acciones"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/acciones").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        AccionUpdateRequest request = new AccionUpdateRequest(
+            "Actualizar Usuario",
+            "Permite actualizar información de usuarios",
+            aplicacionIdPrueba,
+            seccionIdPrueba
+        );
+        mockMvc.perform(put("/api/acciones/{id}", accionIdPrueba)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/api/acciones").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data[0].nombre").value("Actualizar Usuario"));
+    }
 }
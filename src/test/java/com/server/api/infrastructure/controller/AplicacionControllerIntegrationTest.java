@@ -1,14 +1,17 @@
 package com.server.api.infrastructure.controller;
 
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -19,6 +22,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +34,9 @@ import com.server.api.domain.entity.Aplicacion;
 import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
 import com.server.api.domain.repository.AplicacionRepository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 /**
  * Tests de integración para AplicacionController.
  * Valida el funcionamiento completo del endpoint con base de datos real.
@@ -50,6 +57,9 @@ class AplicacionControllerIntegrationTest {
     @Autowired
     private AplicacionRepository aplicacionRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private Aplicacion aplicacionPrueba;
     private UUID aplicacionIdPrueba;
 
@@ -226,4 +236,103 @@ class AplicacionControllerIntegrationTest {
                 .andExpect(jsonPath("$.llaveIdentificadora").value("TEST_APP_INTEGRATION"))
                 .andExpect(jsonPath("$.nombre").value("Aplicación de Prueba"));
     }
+
+    @Test
+    @DisplayName("GET /api/aplicaciones/{id} - Debería responder 304 con el ETag vigente")
+    void obtenerAplicacionPorId_ConEtagVigente_DeberiaRetornarNoModificado() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/aplicaciones/{id}", aplicacionIdPrueba))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/aplicaciones/{id}", aplicacionIdPrueba)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/aplicaciones/llave/{llave} - Debería responder 304 con el ETag vigente")
+    void obtenerAplicacionPorLlave_ConEtagVigente_DeberiaRetornarNoModificado() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/aplicaciones/llave/{llave}", "TEST_APP_INTEGRATION"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/aplicaciones/llave/{llave}", "TEST_APP_INTEGRATION")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/aplicaciones - Debería cambiar el ETag al modificar una aplicación")
+    void obtenerTodasLasAplicaciones_TrasActualizar_DeberiaCambiarEtag() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/aplicaciones"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/aplicaciones").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        AplicacionUpdateRequest request = new AplicacionUpdateRequest(
+                "Aplicación Renombrada",
+                "Descripción de prueba para testing",
+                "https://test-app.example.com",
+                "TEST_APP_INTEGRATION",
+                "ACTIVO"
+        );
+        mockMvc.perform(put("/api/aplicaciones/{id}", aplicacionIdPrueba)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/api/aplicaciones").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data[0].nombre").value("Aplicación Renombrada"));
+    }
+
+    @Test
+    @DisplayName("GET /api/aplicaciones - Debería responder 200 a If-Modified-Since tras eliminar una aplicación que no es la más reciente")
+    void obtenerTodasLasAplicaciones_TrasEliminarAnterior_DeberiaIgnorarIfModifiedSince() throws Exception {
+        // Given
+        Aplicacion reciente = new Aplicacion();
+        reciente.setNombre("Aplicación Reciente");
+        reciente.setUrl("https://reciente.example.com");
+        reciente.setLlaveIdentificadora("TEST_APP_RECIENTE");
+        reciente.setEstado(EstadoAplicacion.ACTIVO);
+        UUID recienteId = aplicacionRepository.save(reciente).getId();
+        entityManager.flush();
+        // Fechas en el pasado: Last-Modified tiene resolución de segundos
+        actualizarFecha(aplicacionIdPrueba, OffsetDateTime.now().minusHours(2));
+        actualizarFecha(recienteId, OffsetDateTime.now().minusHours(1));
+
+        String ultimaModificacion = mockMvc.perform(get("/api/aplicaciones"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        mockMvc.perform(get("/api/aplicaciones").header(HttpHeaders.IF_MODIFIED_SINCE, ultimaModificacion))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete("/api/aplicaciones/{id}", aplicacionIdPrueba))
+                .andExpect(status().isNoContent());
+
+        // When & Then
+        mockMvc.perform(get("/api/aplicaciones").header(HttpHeaders.IF_MODIFIED_SINCE, ultimaModificacion))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, not(ultimaModificacion)));
+    }
+
+    private void actualizarFecha(UUID id, OffsetDateTime fecha) {
+        entityManager.createNativeQuery("UPDATE aplicaciones SET updated_at = :fecha WHERE id = :id")
+                .setParameter("fecha", fecha)
+                .setParameter("id", id)
+                .executeUpdate();
+        entityManager.clear();
+    }
 }
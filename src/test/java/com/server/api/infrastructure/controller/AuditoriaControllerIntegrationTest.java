@@ -0,0 +1,236 @@
+package com.server.api.infrastructure.controller;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.api.application.auditoria.EscritorAuditoria;
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.domain.dto.auditoria.ResumenAuditoriaHora;
+import com.server.api.domain.entity.Accion;
+import com.server.api.domain.entity.Aplicacion;
+import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+import com.server.api.domain.entity.Seccion;
+import com.server.api.domain.repository.AccionRepository;
+import com.server.api.domain.repository.AplicacionRepository;
+import com.server.api.domain.repository.AuditoriaResumenHorarioRepository;
+import com.server.api.domain.repository.SeccionRepository;
+
+/**
+ * Tests de integración para AuditoriaController.
+ * Valida la paginación por cursor, los filtros, el resumen horario y la validación de la exportación
+ * con base de datos real. La transmisión de la exportación se prueba en AuditoriaExportacionIntegrationTest.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(username = "user", roles = "USER")
+class AuditoriaControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AplicacionRepository aplicacionRepository;
+
+    @Autowired
+    private SeccionRepository seccionRepository;
+
+    @Autowired
+    private AccionRepository accionRepository;
+
+    @Autowired
+    private EscritorAuditoria escritorAuditoria;
+
+    @Autowired
+    private AuditoriaResumenHorarioRepository resumenRepository;
+
+    private final OffsetDateTime ahora = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+    private UUID aplicacionIdPrueba;
+    private UUID accionIdPrueba;
+    private List<EventoAuditoria> eventos;
+
+    @BeforeEach
+    void setUp() {
+        Aplicacion aplicacion = new Aplicacion();
+        aplicacion.setNombre("Sistema Auditado");
+        aplicacion.setDescripcion("Sistema para testing de auditoría");
+        aplicacion.setUrl("https://auditoria.example.com");
+        aplicacion.setLlaveIdentificadora("TEST_AUDITORIA");
+        aplicacion.setEstado(EstadoAplicacion.ACTIVO);
+        aplicacion = aplicacionRepository.saveAndFlush(aplicacion);
+        aplicacionIdPrueba = aplicacion.getId();
+
+        Seccion seccion = new Seccion();
+        seccion.setNombre("Sección Auditada");
+        seccion.setDescripcion("Sección para testing de auditoría");
+        seccion = seccionRepository.saveAndFlush(seccion);
+
+        Accion accion = new Accion();
+        accion.setNombre("Iniciar Sesión");
+        accion.setDescripcion("Acción auditada");
+        accion.setAplicacion(aplicacion);
+        accion.setSeccion(seccion);
+        accion = accionRepository.saveAndFlush(accion);
+        accionIdPrueba = accion.getId();
+
+        // Dos registros comparten fecha para verificar el desempate por ID entre páginas
+        eventos = List.of(
+                evento(ahora.minusMinutes(1), accion.getId(), EstadoAuditoria.EXITOSO),
+                evento(ahora.minusMinutes(2), accion.getId(), EstadoAuditoria.FALLIDO),
+                evento(ahora.minusMinutes(2), accion.getId(), EstadoAuditoria.EXITOSO),
+                evento(ahora.minusMinutes(3), accion.getId(), EstadoAuditoria.EXITOSO),
+                evento(ahora.minusMinutes(4), accion.getId(), EstadoAuditoria.EXITOSO),
+                evento(ahora.minusDays(3), accion.getId(), EstadoAuditoria.EXITOSO));
+        escritorAuditoria.escribir(eventos);
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria - Debería recorrer todas las páginas con el cursor sin repetir registros")
+    void consultar_ConCursor_DeberiaRecorrerTodasLasPaginas() throws Exception {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            MockHttpServletRequestBuilder peticion = consulta().param("limite", "2");
+            if (cursor != null) {
+                peticion.param("cursor", cursor);
+            }
+            String cuerpo = mockMvc.perform(peticion)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode pagina = objectMapper.readTree(cuerpo).path("data");
+            pagina.path("registros").forEach(registro -> ids.add(registro.path("id").asText()));
+            cursor = pagina.path("siguiente").isNull() || pagina.path("siguiente").isMissingNode()
+                    ? null
+                    : pagina.path("siguiente").asText();
+            paginas++;
+        } while (cursor != null && paginas < 10);
+
+        assertThat(paginas).isEqualTo(3);
+        assertThat(ids).hasSize(5).doesNotHaveDuplicates();
+        assertThat(ids.get(0)).isEqualTo(eventos.get(0).id().toString());
+        assertThat(ids.get(4)).isEqualTo(eventos.get(4).id().toString());
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria - Debería filtrar por aplicación y estado")
+    void consultar_PorEstado_DeberiaFiltrar() throws Exception {
+        mockMvc.perform(consulta().param("estado", "FALLIDO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.registros", hasSize(1)))
+                .andExpect(jsonPath("$.data.registros[0].id").value(eventos.get(1).id().toString()))
+                .andExpect(jsonPath("$.data.registros[0].estado").value("FALLIDO"))
+                .andExpect(jsonPath("$.data.siguiente").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria - Debería rechazar un rango de fechas demasiado amplio")
+    void consultar_RangoExcesivo_DeberiaRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/auditoria")
+                        .param("desde", ahora.minusDays(400).toString())
+                        .param("hasta", ahora.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria - Debería rechazar un cursor inválido")
+    void consultar_CursorInvalido_DeberiaRetornarBadRequest() throws Exception {
+        mockMvc.perform(consulta().param("cursor", "no-es-un-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria - Debería devolver las ocurrencias y la fecha del último acceso de un registro agrupado")
+    void consultar_RegistroAgrupado_DeberiaDevolverOcurrencias() throws Exception {
+        OffsetDateTime primera = ahora.minusMinutes(30);
+        EventoAuditoria agrupado = evento(primera, accionIdPrueba, EstadoAuditoria.EXITOSO)
+                .agrupar(evento(primera.plusSeconds(5), accionIdPrueba, EstadoAuditoria.EXITOSO))
+                .agrupar(evento(primera.plusSeconds(8), accionIdPrueba, EstadoAuditoria.EXITOSO));
+        escritorAuditoria.escribir(List.of(agrupado));
+
+        mockMvc.perform(get("/api/auditoria")
+                        .param("desde", primera.minusMinutes(1).toString())
+                        .param("hasta", primera.plusMinutes(1).toString())
+                        .param("aplicacionId", aplicacionIdPrueba.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.registros", hasSize(1)))
+                .andExpect(jsonPath("$.data.registros[0].id").value(agrupado.id().toString()))
+                .andExpect(jsonPath("$.data.registros[0].ocurrencias").value(3))
+                .andExpect(jsonPath("$.data.registros[0].fechaUltima").exists());
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria/resumen - Debería devolver los contadores sumados por hora")
+    void resumir_IncrementosSucesivos_DeberiaSumarContadores() throws Exception {
+        OffsetDateTime hora = ahora.truncatedTo(ChronoUnit.HOURS);
+        resumenRepository.sumar(List.of(new ResumenAuditoriaHora(hora, aplicacionIdPrueba, accionIdPrueba, 10, 1)));
+        resumenRepository.sumar(List.of(new ResumenAuditoriaHora(hora, aplicacionIdPrueba, accionIdPrueba, 5, 2)));
+
+        mockMvc.perform(get("/api/auditoria/resumen")
+                        .param("desde", hora.minusHours(1).toString())
+                        .param("hasta", hora.plusHours(1).toString())
+                        .param("aplicacionId", aplicacionIdPrueba.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].accionId").value(accionIdPrueba.toString()))
+                .andExpect(jsonPath("$.data[0].exitosos").value(15))
+                .andExpect(jsonPath("$.data[0].fallidos").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria/exportacion - Debería rechazar un formato desconocido")
+    void exportar_FormatoInvalido_DeberiaRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/auditoria/exportacion/xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria/exportacion - Debería rechazar un rango de fechas demasiado amplio")
+    void exportar_RangoExcesivo_DeberiaRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/api/auditoria/exportacion/ndjson")
+                        .param("desde", ahora.minusDays(400).toString())
+                        .param("hasta", ahora.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockHttpServletRequestBuilder consulta() {
+        return get("/api/auditoria")
+                .param("desde", ahora.minusHours(1).toString())
+                .param("hasta", ahora.plusMinutes(1).toString())
+                .param("aplicacionId", aplicacionIdPrueba.toString());
+    }
+
+    private EventoAuditoria evento(OffsetDateTime fecha, UUID accionId, EstadoAuditoria estado) {
+        return new EventoAuditoria(UUID.randomUUID(), fecha, null, "usuario@test.com", aplicacionIdPrueba, accionId,
+                "127.0.0.1", "test", "Acceso de prueba", estado);
+    }
+}
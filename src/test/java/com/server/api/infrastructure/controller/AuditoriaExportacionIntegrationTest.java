@@ -0,0 +1,242 @@
+package com.server.api.infrastructure.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.api.application.auditoria.EscritorAuditoria;
+import com.server.api.application.auditoria.EventoAuditoria;
+import com.server.api.application.auditoria.ExportacionAuditoria;
+import com.server.api.application.auditoria.FormatoExportacion;
+import com.server.api.application.service.ExportacionAuditoriaService;
+import com.server.api.domain.dto.auditoria.FiltroAuditoria;
+import com.server.api.domain.entity.Accion;
+import com.server.api.domain.entity.Aplicacion;
+import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+import com.server.api.domain.entity.AuditoriaAcceso.EstadoAuditoria;
+import com.server.api.domain.entity.Seccion;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Tests de integración de la exportación de AuditoriaController.
+ * La exportación se transmite desde otro hilo con su propia transacción, por lo que los datos
+ * se confirman en la base de datos y se eliminan al terminar cada test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "user", roles = "USER")
+class AuditoriaExportacionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EscritorAuditoria escritorAuditoria;
+
+    @Autowired
+    private ExportacionAuditoriaService exportacionAuditoriaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final OffsetDateTime ahora = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+    private TransactionTemplate transactionTemplate;
+    private UUID aplicacionIdPrueba;
+    private List<EventoAuditoria> eventos;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        UUID accionId = transactionTemplate.execute(status -> {
+            Aplicacion aplicacion = new Aplicacion();
+            aplicacion.setNombre("Sistema Exportado");
+            aplicacion.setUrl("https://exportacion.example.com");
+            aplicacion.setLlaveIdentificadora("TEST_EXPORTACION");
+            aplicacion.setEstado(EstadoAplicacion.ACTIVO);
+            entityManager.persist(aplicacion);
+
+            Seccion seccion = new Seccion();
+            seccion.setNombre("Sección Exportada");
+            entityManager.persist(seccion);
+
+            Accion accion = new Accion();
+            accion.setNombre("Iniciar Sesión");
+            accion.setAplicacion(aplicacion);
+            accion.setSeccion(seccion);
+            entityManager.persist(accion);
+
+            aplicacionIdPrueba = aplicacion.getId();
+            return accion.getId();
+        });
+
+        eventos = List.of(
+                evento(ahora.minusMinutes(1), accionId, EstadoAuditoria.EXITOSO),
+                evento(ahora.minusMinutes(2), accionId, EstadoAuditoria.FALLIDO),
+                evento(ahora.minusMinutes(3), accionId, EstadoAuditoria.EXITOSO),
+                evento(ahora.minusDays(3), accionId, EstadoAuditoria.EXITOSO));
+        escritorAuditoria.escribir(eventos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM auditoria_accesos");
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Accion").executeUpdate();
+            entityManager.createQuery("DELETE FROM Seccion").executeUpdate();
+            entityManager.createQuery("DELETE FROM Aplicacion").executeUpdate();
+            entityManager.createQuery("DELETE FROM CambioPermisosRegistro").executeUpdate();
+            entityManager.createQuery("DELETE FROM VersionPermisos").executeUpdate();
+            entityManager.createQuery("DELETE FROM OutboxEvento").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria/exportacion/csv - Debería transmitir el encabezado y los registros del más antiguo al más reciente")
+    void exportar_Csv_DeberiaTransmitirRegistrosEnOrden() throws Exception {
+        MvcResult resultado = mockMvc.perform(exportacion("csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String cuerpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString(".csv")))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lineas = cuerpo.lines().toList();
+        assertThat(lineas).hasSize(4);
+        assertThat(lineas.get(0)).startsWith("id,fecha,usuario_id,email_usuario");
+        assertThat(lineas.get(1)).startsWith(eventos.get(2).id() + ",");
+        assertThat(lineas.get(3)).startsWith(eventos.get(0).id() + ",")
+                .contains(",\"usuario@test.com\",")
+                .contains(",\"Acceso de prueba\",EXITOSO,1,");
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria/exportacion/ndjson - Debería transmitir un objeto JSON por registro")
+    void exportar_Ndjson_DeberiaTransmitirUnObjetoPorLinea() throws Exception {
+        MvcResult resultado = mockMvc.perform(exportacion("ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String cuerpo = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString(".ndjson")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lineas = cuerpo.lines().toList();
+        assertThat(lineas).hasSize(3);
+        JsonNode primero = objectMapper.readTree(lineas.get(0));
+        assertThat(primero.path("id").asText()).isEqualTo(eventos.get(2).id().toString());
+        assertThat(primero.path("estado").asText()).isEqualTo("EXITOSO");
+        assertThat(objectMapper.readTree(lineas.get(1)).path("estado").asText()).isEqualTo("FALLIDO");
+        assertThat(objectMapper.readTree(lineas.get(2)).path("id").asText()).isEqualTo(eventos.get(0).id().toString());
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria/exportacion/csv - Debería transmitir el archivo comprimido con gzip")
+    void exportar_AceptaGzip_DeberiaComprimirRespuesta() throws Exception {
+        MvcResult resultado = mockMvc.perform(exportacion("csv").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] comprimido = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+            List<String> lineas = new String(entrada.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            assertThat(lineas).hasSize(4);
+            assertThat(lineas.get(0)).startsWith("id,fecha,usuario_id,email_usuario");
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/auditoria/exportacion/csv - Debería responder 503 mientras se transmite el máximo de exportaciones")
+    void exportar_ConMaximoEnCurso_DeberiaRechazarHastaQueTermine() throws Exception {
+        FiltroAuditoria filtro = new FiltroAuditoria(ahora.minusHours(1), ahora.plusMinutes(1), null,
+                aplicacionIdPrueba, null);
+        List<ExportacionAuditoria> enCurso = new ArrayList<>();
+        try {
+            while (exportacionAuditoriaService.exportacionesDisponibles() > 0) {
+                enCurso.add(exportacionAuditoriaService.exportar(filtro, FormatoExportacion.CSV));
+            }
+            assertThat(enCurso).isNotEmpty();
+
+            mockMvc.perform(exportacion("csv"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        } finally {
+            for (ExportacionAuditoria exportacion : enCurso) {
+                exportacion.escribir(new ByteArrayOutputStream());
+            }
+        }
+
+        MvcResult resultado = mockMvc.perform(exportacion("csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk());
+    }
+
+    private MockHttpServletRequestBuilder exportacion(String formato) {
+        return get("/api/auditoria/exportacion/{formato}", formato)
+                .param("desde", ahora.minusHours(1).toString())
+                .param("hasta", ahora.plusMinutes(1).toString())
+                .param("aplicacionId", aplicacionIdPrueba.toString());
+    }
+
+    private EventoAuditoria evento(OffsetDateTime fecha, UUID accionId, EstadoAuditoria estado) {
+        return new EventoAuditoria(UUID.randomUUID(), fecha, null, "usuario@test.com", aplicacionIdPrueba, accionId,
+                "127.0.0.1", "test", "Acceso de prueba", estado);
+    }
+}
@@ -0,0 +1,474 @@
+package com.server.api.infrastructure.controller;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.api.application.service.AutorizacionService;
+import com.server.api.application.service.RegistroAccesosService;
+import com.server.api.domain.dto.autorizacion.VerificacionLoteRequest;
+import com.server.api.domain.entity.Accion;
+import com.server.api.domain.entity.Aplicacion;
+import com.server.api.domain.entity.Aplicacion.EstadoAplicacion;
+import com.server.api.domain.entity.PermisoTipoUsuario;
+import com.server.api.domain.entity.Seccion;
+import com.server.api.domain.entity.TipoUsuario;
+import com.server.api.domain.entity.Usuario;
+import com.server.api.domain.entity.UsuarioTipoUsuario;
+import com.server.api.domain.entity.VersionPermisos;
+import com.server.api.domain.event.CambioPermisos;
+import com.server.api.domain.event.CambioPermisos.Alcance;
+import com.server.api.domain.event.VersionadorPermisos;
+import com.server.api.domain.repository.CambioPermisosRegistroRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Tests de integración para AutorizacionController.
+ * Los datos se confirman en la base de datos para validar que el índice
+ * se actualiza después del commit de cada cambio de permisos. El registro de accesos se simula
+ * para que la auditoría no deje filas que impidan limpiar los datos.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "user", roles = "USER")
+class AutorizacionControllerIntegrationTest {
+
+    private static final String LLAVE = "AUTORIZACION_TEST";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AutorizacionService autorizacionService;
+
+    @MockitoBean
+    private RegistroAccesosService registroAccesosService;
+
+    @Autowired
+    private CambioPermisosRegistroRepository cambioPermisosRegistroRepository;
+
+    @Autowired
+    private VersionadorPermisos versionadorPermisos;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private UUID usuarioId;
+    private UUID tipoUsuarioId;
+    private UUID accionListarId;
+    private UUID accionEliminarId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            Aplicacion aplicacion = new Aplicacion();
+            aplicacion.setNombre("Aplicación de Autorización");
+            aplicacion.setUrl("https://autorizacion.example.com");
+            aplicacion.setLlaveIdentificadora(LLAVE);
+            aplicacion.setEstado(EstadoAplicacion.ACTIVO);
+            entityManager.persist(aplicacion);
+
+            Seccion seccion = new Seccion();
+            seccion.setNombre("Gestión de Autorización");
+            entityManager.persist(seccion);
+
+            Accion listar = nuevaAccion("Listar Registros", aplicacion, seccion);
+            Accion eliminar = nuevaAccion("Eliminar Registros", aplicacion, seccion);
+
+            TipoUsuario tipoUsuario = new TipoUsuario();
+            tipoUsuario.setNombre("Operador");
+            tipoUsuario.setAplicacion(aplicacion);
+            entityManager.persist(tipoUsuario);
+
+            PermisoTipoUsuario permiso = new PermisoTipoUsuario(tipoUsuario, listar);
+            entityManager.persist(permiso);
+
+            Usuario usuario = new Usuario();
+            usuario.setNombres("Ana");
+            usuario.setApellidos("Pérez");
+            usuario.setEmail("ana.autorizacion@example.com");
+            usuario.setContrasena("secreta");
+            entityManager.persist(usuario);
+
+            entityManager.persist(new UsuarioTipoUsuario(usuario, tipoUsuario));
+
+            usuarioId = usuario.getId();
+            tipoUsuarioId = tipoUsuario.getId();
+            accionListarId = listar.getId();
+            accionEliminarId = eliminar.getId();
+        });
+        autorizacionService.reconstruir();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM PermisoTipoUsuario").executeUpdate();
+            entityManager.createQuery("DELETE FROM UsuarioTipoUsuario").executeUpdate();
+            entityManager.createQuery("DELETE FROM Usuario").executeUpdate();
+            entityManager.createQuery("DELETE FROM TipoUsuario").executeUpdate();
+            entityManager.createQuery("DELETE FROM Accion").executeUpdate();
+            entityManager.createQuery("DELETE FROM Seccion").executeUpdate();
+            entityManager.createQuery("DELETE FROM Aplicacion").executeUpdate();
+            entityManager.createQuery("DELETE FROM CambioPermisosRegistro").executeUpdate();
+            entityManager.createQuery("DELETE FROM VersionPermisos").executeUpdate();
+            entityManager.createQuery("DELETE FROM OutboxEvento").executeUpdate();
+        });
+        autorizacionService.reconstruir();
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/verificar - Debería permitir acción concedida")
+    void verificar_AccionConcedida_DeberiaPermitir() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/verificar")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", LLAVE)
+                        .param("accion", accionListarId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.permitido").value(true));
+
+        mockMvc.perform(get("/api/autorizacion/verificar")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", LLAVE)
+                        .param("accion", "Listar Registros"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.permitido").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/verificar - Debería denegar acción no concedida")
+    void verificar_AccionNoConcedida_DeberiaDenegar() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/verificar")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", LLAVE)
+                        .param("accion", accionEliminarId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.permitido").value(false));
+
+        verify(registroAccesosService).registrarVerificacion(eq(usuarioId), eq(LLAVE),
+                eq(accionEliminarId.toString()), eq(false), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/verificar - Debería reflejar un permiso nuevo tras el commit")
+    void verificar_PermisoConcedidoDespuesDelCommit_DeberiaPermitir() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new PermisoTipoUsuario(
+                entityManager.getReference(TipoUsuario.class, tipoUsuarioId),
+                entityManager.getReference(Accion.class, accionEliminarId))));
+
+        mockMvc.perform(get("/api/autorizacion/verificar")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", LLAVE)
+                        .param("accion", "eliminar registros"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.permitido").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/verificar - Debería denegar en una aplicación desconocida")
+    void verificar_AplicacionDesconocida_DeberiaDenegar() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/verificar")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", "NO_EXISTE")
+                        .param("accion", accionListarId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.permitido").value(false));
+    }
+
+    @Test
+    @DisplayName("POST /api/autorizacion/verificar-lote - Debería devolver decisiones en el orden de la petición")
+    void verificarLote_Booleanos_DeberiaConservarOrden() throws Exception {
+        VerificacionLoteRequest request = new VerificacionLoteRequest(usuarioId, LLAVE,
+                List.of("Eliminar Registros", accionListarId.toString(), "Inexistente", "listar registros"));
+
+        mockMvc.perform(post("/api/autorizacion/verificar-lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total").value(4))
+                .andExpect(jsonPath("$.data.permitidas").value(2))
+                .andExpect(jsonPath("$.data.decisiones[0]").value(false))
+                .andExpect(jsonPath("$.data.decisiones[1]").value(true))
+                .andExpect(jsonPath("$.data.decisiones[2]").value(false))
+                .andExpect(jsonPath("$.data.decisiones[3]").value(true))
+                .andExpect(jsonPath("$.data.mapaBits").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/autorizacion/verificar-lote - Debería devolver un mapa de bits en base64")
+    void verificarLote_MapaBits_DeberiaCodificarDecisiones() throws Exception {
+        VerificacionLoteRequest request = new VerificacionLoteRequest(usuarioId, LLAVE,
+                List.of("Eliminar Registros", accionListarId.toString(), "Inexistente", "listar registros"));
+
+        mockMvc.perform(post("/api/autorizacion/verificar-lote")
+                        .param("formato", "MAPA_BITS")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.mapaBits").value(Base64.getEncoder().encodeToString(new byte[] {0b1010})))
+                .andExpect(jsonPath("$.data.decisiones").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/autorizacion/verificar-lote - Debería rechazar lotes demasiado grandes")
+    void verificarLote_DemasiadasAcciones_DeberiaRetornarBadRequest() throws Exception {
+        VerificacionLoteRequest request = new VerificacionLoteRequest(usuarioId, LLAVE,
+                Collections.nCopies(VerificacionLoteRequest.MAX_ACCIONES + 1, "Listar Registros"));
+
+        mockMvc.perform(post("/api/autorizacion/verificar-lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/arbol - Debería devolver solo las secciones y acciones permitidas")
+    void obtenerArbol_DeberiaAgruparAccionesPermitidasPorSeccion() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/arbol")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", LLAVE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.secciones.length()").value(1))
+                .andExpect(jsonPath("$.data.secciones[0].nombre").value("Gestión de Autorización"))
+                .andExpect(jsonPath("$.data.secciones[0].acciones.length()").value(1))
+                .andExpect(jsonPath("$.data.secciones[0].acciones[0].id").value(accionListarId.toString()));
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/arbol - Debería recalcular el árbol tras cambiar los permisos del tipo de usuario")
+    void obtenerArbol_PermisoNuevo_DeberiaInvalidarArbol() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/arbol")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", LLAVE))
+                .andExpect(jsonPath("$.data.secciones[0].acciones.length()").value(1));
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new PermisoTipoUsuario(
+                entityManager.getReference(TipoUsuario.class, tipoUsuarioId),
+                entityManager.getReference(Accion.class, accionEliminarId))));
+
+        mockMvc.perform(get("/api/autorizacion/arbol")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", LLAVE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.secciones[0].acciones.length()").value(2))
+                .andExpect(jsonPath("$.data.secciones[0].acciones[0].nombre").value("Eliminar Registros"));
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/arbol - Debería retornar 404 para una aplicación desconocida")
+    void obtenerArbol_AplicacionDesconocida_DeberiaRetornarNotFound() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/arbol")
+                        .param("usuarioId", usuarioId.toString())
+                        .param("llaveIdentificadora", "NO_EXISTE"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/permisos - Debería devolver todos los permisos con la versión en el ETag")
+    void sincronizarPermisos_SinVersion_DeberiaDevolverTodo() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/permisos")
+                        .param("llaveIdentificadora", LLAVE))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data.completo").value(true))
+                .andExpect(jsonPath("$.data.tiposUsuario.length()").value(1))
+                .andExpect(jsonPath("$.data.tiposUsuario[0].id").value(tipoUsuarioId.toString()))
+                .andExpect(jsonPath("$.data.tiposUsuario[0].acciones[0]").value(accionListarId.toString()));
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/permisos - Debería retornar 304 si la versión del cliente es la actual")
+    void sincronizarPermisos_VersionActual_DeberiaRetornarNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/autorizacion/permisos")
+                        .param("llaveIdentificadora", LLAVE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/autorizacion/permisos")
+                        .param("llaveIdentificadora", LLAVE)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/permisos - Debería devolver solo los tipos de usuario modificados desde la versión")
+    void sincronizarPermisos_DesdeVersion_DeberiaDevolverDelta() throws Exception {
+        String etag = mockMvc.perform(get("/api/autorizacion/permisos")
+                        .param("llaveIdentificadora", LLAVE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        long version = Long.parseLong(etag.replace("\"", ""));
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new PermisoTipoUsuario(
+                entityManager.getReference(TipoUsuario.class, tipoUsuarioId),
+                entityManager.getReference(Accion.class, accionEliminarId))));
+
+        mockMvc.perform(get("/api/autorizacion/permisos")
+                        .param("llaveIdentificadora", LLAVE)
+                        .param("since", String.valueOf(version)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+                .andExpect(jsonPath("$.data.completo").value(false))
+                .andExpect(jsonPath("$.data.desdeVersion").value(version))
+                .andExpect(jsonPath("$.data.tiposUsuario[0].id").value(tipoUsuarioId.toString()))
+                .andExpect(jsonPath("$.data.tiposUsuario[0].acciones.length()").value(2))
+                .andExpect(jsonPath("$.data.tiposUsuarioEliminados.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Registro de cambios - La depuración conserva solo las últimas versiones de la aplicación")
+    void depurarCambios_DeberiaConservarVersionesRetenidas() {
+        UUID aplicacionId = autorizacionService.indiceActual().catalogoPorLlave(LLAVE).aplicacionId();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new PermisoTipoUsuario(
+                entityManager.getReference(TipoUsuario.class, tipoUsuarioId),
+                entityManager.getReference(Accion.class, accionEliminarId))));
+        transactionTemplate.executeWithoutResult(status -> entityManager.createQuery(
+                        "SELECT p FROM PermisoTipoUsuario p WHERE p.accion.id = :accionId", PermisoTipoUsuario.class)
+                .setParameter("accionId", accionListarId)
+                .getResultList()
+                .forEach(entityManager::remove));
+        long version = transactionTemplate.execute(status ->
+                entityManager.find(VersionPermisos.class, aplicacionId).getVersion());
+
+        assertThat(cambioPermisosRegistroRepository.deleteFueraDeRetencion(1)).isPositive();
+
+        assertThat(cambioPermisosRegistroRepository.findTiposUsuarioModificados(aplicacionId, 0L, version - 1)).isEmpty();
+        assertThat(cambioPermisosRegistroRepository.findTiposUsuarioModificados(aplicacionId, version - 1, version))
+                .containsExactly(tipoUsuarioId);
+    }
+
+    @Test
+    @DisplayName("Versionado - Dos transacciones que versionan por primera vez una aplicación obtienen versiones consecutivas")
+    void versionar_PrimeraVezConcurrente_DeberiaAsignarVersionesConsecutivas() throws Exception {
+        UUID aplicacionId = UUID.randomUUID();
+        CambioPermisos cambio = new CambioPermisos(Alcance.APLICACION, aplicacionId);
+        CountDownLatch versionada = new CountDownLatch(1);
+        CountDownLatch confirmar = new CountDownLatch(1);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> primera = ejecutor.submit(() -> transactionTemplate.execute(status -> {
+                long version = versionadorPermisos.registrar(cambio, null).get(aplicacionId);
+                versionada.countDown();
+                esperar(confirmar);
+                return version;
+            }));
+            assertThat(versionada.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Long> segunda = ejecutor.submit(() -> transactionTemplate.execute(status ->
+                    versionadorPermisos.registrar(cambio, null).get(aplicacionId)));
+            // La segunda transacción queda bloqueada por la fila que insertó la primera
+            await().pollDelay(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> !segunda.isDone());
+            confirmar.countDown();
+
+            assertThat(primera.get(10, TimeUnit.SECONDS)).isEqualTo(1L);
+            assertThat(segunda.get(10, TimeUnit.SECONDS)).isEqualTo(2L);
+        } finally {
+            confirmar.countDown();
+            ejecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/autorizacion/permisos - Debería retornar 404 para una aplicación desconocida")
+    void sincronizarPermisos_AplicacionDesconocida_DeberiaRetornarNotFound() throws Exception {
+        mockMvc.perform(get("/api/autorizacion/permisos")
+                        .param("llaveIdentificadora", "NO_EXISTE"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/aplicaciones/{llave}/cambios - Debería agrupar una ráfaga de cambios en un solo evento")
+    void suscribirCambios_RafagaDeCambios_DeberiaEnviarUnEvento() throws Exception {
+        MvcResult suscripcion = mockMvc.perform(get("/api/aplicaciones/{llave}/cambios", LLAVE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        long version = autorizacionService.indiceActual()
+                .version(autorizacionService.indiceActual().catalogoPorLlave(LLAVE).aplicacionId());
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new PermisoTipoUsuario(
+                entityManager.getReference(TipoUsuario.class, tipoUsuarioId),
+                entityManager.getReference(Accion.class, accionEliminarId))));
+        transactionTemplate.executeWithoutResult(status -> entityManager.createQuery(
+                        "SELECT p FROM PermisoTipoUsuario p WHERE p.accion.id = :accionId", PermisoTipoUsuario.class)
+                .setParameter("accionId", accionListarId)
+                .getResultList()
+                .forEach(entityManager::remove));
+
+        // El evento agrupado llega al cerrar la ventana; uno por cambio habría enviado antes la versión intermedia
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> suscripcion.getResponse().getContentAsString().contains("id:" + (version + 2) + "\n"));
+        String contenido = suscripcion.getResponse().getContentAsString();
+        assertThat(contenido.split("event:permisos", -1)).hasSize(3);
+        assertThat(contenido).contains("id:" + version + "\n");
+    }
+
+    @Test
+    @DisplayName("GET /api/aplicaciones/{llave}/cambios - Debería retornar 404 para una aplicación desconocida")
+    void suscribirCambios_AplicacionDesconocida_DeberiaRetornarNotFound() throws Exception {
+        mockMvc.perform(get("/api/aplicaciones/{llave}/cambios", "NO_EXISTE"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Accion nuevaAccion(String nombre, Aplicacion aplicacion, Seccion seccion) {
+        Accion accion = new Accion();
+        accion.setNombre(nombre);
+        accion.setAplicacion(aplicacion);
+        accion.setSeccion(seccion);
+        entityManager.persist(accion);
+        return accion;
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -142,4 +143,44 @@ class SeccionControllerIntegrationTest {
                 .andDo(print())
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @DisplayName("GET /api/secciones/{id} - Debería responder 304 con el ETag vigente")
+    void obtenerSeccionPorId_ConEtagVigente_DeberiaRetornarNoModificado() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/secciones/{id}", seccionIdPrueba))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/secciones/{id}", seccionIdPrueba)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/secciones - Debería cambiar el ETag al modificar una sección")
+    void obtenerTodasLasSecciones_TrasActualizar_DeberiaCambiarEtag() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/secciones"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/secciones").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        SeccionUpdateRequest request = new SeccionUpdateRequest("Sección Renombrada", "Descripción actualizada");
+        mockMvc.perform(put("/api/secciones/{id}", seccionIdPrueba)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/api/secciones").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data[0].nombre").value("Sección Renombrada"));
+    }
 }
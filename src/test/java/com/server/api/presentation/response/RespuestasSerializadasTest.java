@@ -0,0 +1,134 @@
+package com.server.api.presentation.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.api.domain.dto.recurso.VersionRecurso;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests unitarios para RespuestasSerializadas.
+ * Verifica la reutilización de bytes por versión, la negociación de gzip, el ETag de cada
+ * codificación y la clave por parámetros.
+ */
+@DisplayName("RespuestasSerializadas - Tests Unitarios")
+class RespuestasSerializadasTest {
+
+    private static final RespuestasSerializadas.Clave CLAVE = RespuestasSerializadas.clave("secciones");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RespuestasSerializadas respuestas =
+            new RespuestasSerializadas(objectMapper, new SimpleMeterRegistry(), 1_000_000, 600);
+
+    @Test
+    @DisplayName("Responder - Reutiliza los bytes mientras la versión no cambie")
+    void responder_MismaVersion_DeberiaReutilizarBytes() {
+        AtomicInteger generaciones = new AtomicInteger();
+        VersionRecurso version = VersionRecurso.de(1, OffsetDateTime.now());
+
+        ResponseEntity<byte[]> primera = respuestas.responder(solicitud(null), CLAVE, version,
+                () -> cuerpo(generaciones));
+        ResponseEntity<byte[]> segunda = respuestas.responder(solicitud(null), CLAVE, version,
+                () -> cuerpo(generaciones));
+
+        assertThat(generaciones).hasValue(1);
+        assertThat(segunda.getBody()).isSameAs(primera.getBody());
+    }
+
+    @Test
+    @DisplayName("Responder - Regenera la respuesta cuando cambia la versión")
+    void responder_VersionNueva_DeberiaRegenerar() {
+        AtomicInteger generaciones = new AtomicInteger();
+
+        respuestas.responder(solicitud(null), CLAVE, VersionRecurso.de(1, OffsetDateTime.now()),
+                () -> cuerpo(generaciones));
+        respuestas.responder(solicitud(null), CLAVE, VersionRecurso.de(2, OffsetDateTime.now()),
+                () -> cuerpo(generaciones));
+
+        assertThat(generaciones).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Responder - Entrega gzip cuando el cliente lo acepta")
+    void responder_AceptaGzip_DeberiaComprimir() throws IOException {
+        VersionRecurso version = VersionRecurso.de(1, OffsetDateTime.now());
+
+        ResponseEntity<byte[]> comprimida = respuestas.responder(solicitud("gzip, deflate"), CLAVE, version,
+                () -> cuerpo(new AtomicInteger()));
+        ResponseEntity<byte[]> plana = respuestas.responder(solicitud("gzip;q=0"), CLAVE, version,
+                () -> cuerpo(new AtomicInteger()));
+
+        assertThat(comprimida.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(plana.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(comprimida.getBody()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(plana.getBody());
+        }
+    }
+
+    @Test
+    @DisplayName("Responder - Cada codificación tiene su propio ETag y se valida por separado")
+    void responder_AceptaGzip_DeberiaUsarEtagPropio() {
+        VersionRecurso version = VersionRecurso.de(1, OffsetDateTime.now());
+        ServletWebRequest comprimida = solicitud("gzip");
+        ServletWebRequest plana = solicitud(null);
+
+        respuestas.responder(comprimida, CLAVE, version, () -> cuerpo(new AtomicInteger()));
+        respuestas.responder(plana, CLAVE, version, () -> cuerpo(new AtomicInteger()));
+
+        String etagGzip = comprimida.getResponse().getHeader(HttpHeaders.ETAG);
+        String etagPlano = plana.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etagPlano).isEqualTo(version.etag());
+        assertThat(etagGzip).isNotEqualTo(etagPlano).endsWith("-gz\"");
+
+        ServletWebRequest revalidacionGzip = solicitud("gzip");
+        ((MockHttpServletRequest) revalidacionGzip.getRequest()).addHeader(HttpHeaders.IF_NONE_MATCH, etagGzip);
+        assertThat(respuestas.responder(revalidacionGzip, CLAVE, version, () -> cuerpo(new AtomicInteger()))
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        ServletWebRequest revalidacionPlana = solicitud(null);
+        ((MockHttpServletRequest) revalidacionPlana.getRequest()).addHeader(HttpHeaders.IF_NONE_MATCH, etagGzip);
+        assertThat(respuestas.responder(revalidacionPlana, CLAVE, version, () -> cuerpo(new AtomicInteger()))
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("Clave - Distingue parámetros que concatenados serían iguales")
+    void clave_ParametrosConSeparador_NoDeberianColisionar() {
+        assertThat(RespuestasSerializadas.clave("secciones", "a|b", null))
+                .isNotEqualTo(RespuestasSerializadas.clave("secciones", "a", "b"));
+        assertThat(RespuestasSerializadas.clave("secciones", null, "x"))
+                .isNotEqualTo(RespuestasSerializadas.clave("secciones", "", "x"));
+        assertThat(RespuestasSerializadas.clave("secciones", "a", null))
+                .isEqualTo(RespuestasSerializadas.clave("secciones", "a", null));
+    }
+
+    private ApiResponse<List<String>> cuerpo(AtomicInteger generaciones) {
+        generaciones.incrementAndGet();
+        return new ApiResponse<>("Lista obtenida exitosamente", Collections.nCopies(50, "sección repetida"));
+    }
+
+    private ServletWebRequest solicitud(String aceptaCodificacion) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/secciones");
+        if (aceptaCodificacion != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, aceptaCodificacion);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}